@@ -18,12 +18,19 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.ListPartition;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
+import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.partitions.RangePartition;
 
 /** Interface for tables that support partitions. */
@@ -44,6 +51,79 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List a page of the partition names of the table, ordered by name.
+   *
+   * <p>The filter is a list of equality predicates on the fields of identity partitions, in the
+   * form of {@code field1=value1/field2=value2}. Only the partitions which have all the given
+   * values are listed. The default implementation lists all the partitions and filters and pages
+   * them in memory, tables which can push the filter or the paging down should override it.
+   *
+   * @param filter The partition filter, or null to list all the partitions.
+   * @param pageToken The {@link PartitionPage#nextPageToken()} of the previous page, or null for
+   *     the first page.
+   * @param limit The maximum number of partition names of the page.
+   * @return The page of partition names.
+   */
+  default PartitionPage<String> listPartitionNames(
+      @Nullable String filter, @Nullable String pageToken, int limit) {
+    PartitionPage.checkLimit(limit);
+    List<String> names =
+        filter == null
+            ? Arrays.asList(listPartitionNames())
+            : Arrays.stream(listPartitions())
+                .filter(partition -> Partitions.matches(partition, filter))
+                .map(Partition::name)
+                .collect(Collectors.toList());
+    return PartitionPage.paginate(names, name -> name, pageToken, limit);
+  }
+
+  /**
+   * List a page of the partitions of the table, ordered by name. See {@link
+   * #listPartitionNames(String, String, int)} for the filter and the paging.
+   *
+   * @param filter The partition filter, or null to list all the partitions.
+   * @param pageToken The {@link PartitionPage#nextPageToken()} of the previous page, or null for
+   *     the first page.
+   * @param limit The maximum number of partitions of the page.
+   * @return The page of partitions.
+   */
+  default PartitionPage<Partition> listPartitions(
+      @Nullable String filter, @Nullable String pageToken, int limit) {
+    PartitionPage.checkLimit(limit);
+    List<Partition> partitions =
+        Arrays.stream(listPartitions())
+            .filter(partition -> filter == null || Partitions.matches(partition, filter))
+            .collect(Collectors.toList());
+    return PartitionPage.paginate(partitions, Partition::name, pageToken, limit);
+  }
+
+  /**
+   * Iterate over the partition names of the table, ordered by name. The names are loaded in pages
+   * of the given size while iterating.
+   *
+   * @param filter The partition filter, or null to iterate over all the partitions.
+   * @param pageSize The number of partition names loaded at once.
+   * @return The iterator over the partition names.
+   */
+  default Iterator<String> partitionNameIterator(@Nullable String filter, int pageSize) {
+    PartitionPage.checkLimit(pageSize);
+    return PartitionPage.iterator(token -> listPartitionNames(filter, token, pageSize));
+  }
+
+  /**
+   * Iterate over the partitions of the table, ordered by name. The partitions are loaded in pages
+   * of the given size while iterating.
+   *
+   * @param filter The partition filter, or null to iterate over all the partitions.
+   * @param pageSize The number of partitions loaded at once.
+   * @return The iterator over the partitions.
+   */
+  default Iterator<Partition> partitionIterator(@Nullable String filter, int pageSize) {
+    PartitionPage.checkLimit(pageSize);
+    return PartitionPage.iterator(token -> listPartitions(filter, token, pageSize));
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -20,6 +20,8 @@
 
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -60,6 +62,28 @@ public interface TableCatalog {
    */
   Table loadTable(NameIdentifier ident) throws NoSuchTableException;
 
+  /**
+   * List the tables with their metadata in a namespace from the catalog. The default
+   * implementation loads the listed tables one by one, catalogs which can fetch the metadata of
+   * many tables in one call should override it.
+   *
+   * @param namespace A namespace.
+   * @return An array of tables in the namespace, the tables dropped while listing are skipped.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier[] idents = listTables(namespace);
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.add(loadTable(ident));
+      } catch (NoSuchTableException e) {
+        // The table was dropped after listing.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Check if a table exists using an {@link NameIdentifier} from the catalog.
    *
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.partitions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A page of the partitions of a table or of their names. The partitions are ordered by name, and
+ * the next page starts after the last partition of this page.
+ *
+ * @param <T> The type of the items, a {@link Partition} or a partition name.
+ */
+@Evolving
+public final class PartitionPage<T> {
+
+  private final List<T> items;
+
+  @Nullable private final String nextPageToken;
+
+  private PartitionPage(List<T> items, @Nullable String nextPageToken) {
+    this.items = Collections.unmodifiableList(items);
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Creates a page of partitions.
+   *
+   * @param items The partitions or partition names of the page.
+   * @param nextPageToken The token of the next page, or null if this is the last page.
+   * @param <T> The type of the items.
+   * @return The created page.
+   */
+  public static <T> PartitionPage<T> of(List<T> items, @Nullable String nextPageToken) {
+    return new PartitionPage<>(items, nextPageToken);
+  }
+
+  /**
+   * Takes a page from all the partitions of a table. It is used by the tables which can not list
+   * their partitions in pages.
+   *
+   * @param items All the partitions or partition names, in any order.
+   * @param nameOf The function which returns the name of an item.
+   * @param pageToken The token of the page, or null for the first page.
+   * @param limit The maximum number of items of the page.
+   * @param <T> The type of the items.
+   * @return The page.
+   */
+  public static <T> PartitionPage<T> paginate(
+      List<T> items, Function<T, String> nameOf, @Nullable String pageToken, int limit) {
+    checkLimit(limit);
+    List<T> sorted = new ArrayList<>(items);
+    sorted.sort(Comparator.comparing(nameOf));
+    int from = 0;
+    if (pageToken != null) {
+      while (from < sorted.size() && nameOf.apply(sorted.get(from)).compareTo(pageToken) <= 0) {
+        from++;
+      }
+    }
+    int to = from + Math.min(limit, sorted.size() - from);
+    List<T> page = sorted.subList(from, to);
+    String next = to < sorted.size() ? nameOf.apply(sorted.get(to - 1)) : null;
+    return new PartitionPage<>(new ArrayList<>(page), next);
+  }
+
+  /**
+   * Iterates over all the pages, the next page is only loaded once the items of the current page
+   * are consumed.
+   *
+   * @param pageLoader The function which loads the page of a token, the token is null for the first
+   *     page.
+   * @param <T> The type of the items.
+   * @return The iterator over the items of all the pages.
+   */
+  public static <T> Iterator<T> iterator(Function<String, PartitionPage<T>> pageLoader) {
+    return new Iterator<T>() {
+      private PartitionPage<T> page = pageLoader.apply(null);
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        while (index >= page.items.size() && page.nextPageToken != null) {
+          page = pageLoader.apply(page.nextPageToken);
+          index = 0;
+        }
+        return index < page.items.size();
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return page.items.get(index++);
+      }
+    };
+  }
+
+  /**
+   * Checks the maximum number of items of a page.
+   *
+   * @param limit The maximum number of items of a page.
+   * @throws IllegalArgumentException If the limit is not positive.
+   */
+  public static void checkLimit(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException(
+          "The limit of a partition page must be positive, but got " + limit);
+    }
+  }
+
+  /** @return The partitions or partition names of this page. */
+  public List<T> items() {
+    return items;
+  }
+
+  /** @return The token of the next page, or null if this is the last page. */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+}
@@ -19,6 +19,8 @@
 package org.apache.gravitino.rel.partitions;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.gravitino.rel.expressions.literals.Literal;
@@ -83,6 +85,56 @@ public class Partitions {
     return identity(null, fieldNames, values, null);
   }
 
+  /**
+   * Parses a partition filter. The filter is a list of equality predicates on the fields of
+   * identity partitions, in the form of {@code field1=value1/field2=value2}.
+   *
+   * @param filter The partition filter.
+   * @return The values of the filter by field name, in the order of the filter.
+   * @throws IllegalArgumentException If the filter is malformed.
+   */
+  public static Map<String, String> parseFilter(String filter) {
+    Map<String, String> predicates = new LinkedHashMap<>();
+    for (String predicate : filter.split("/")) {
+      String[] fieldAndValue = predicate.split("=", 2);
+      if (fieldAndValue.length != 2 || fieldAndValue[0].isEmpty()) {
+        throw new IllegalArgumentException("Invalid partition filter: " + filter);
+      }
+      predicates.put(fieldAndValue[0], fieldAndValue[1]);
+    }
+    return predicates;
+  }
+
+  /**
+   * Checks whether a partition matches a filter, see {@link #parseFilter(String)}. Only identity
+   * partitions can match a filter, they match if all the fields of the filter have the given
+   * values.
+   *
+   * @param partition The partition.
+   * @param filter The partition filter.
+   * @return True if the partition matches the filter, false otherwise.
+   * @throws IllegalArgumentException If the filter is malformed.
+   */
+  public static boolean matches(Partition partition, String filter) {
+    if (!(partition instanceof IdentityPartition)) {
+      return false;
+    }
+    IdentityPartition identityPartition = (IdentityPartition) partition;
+    Map<String, String> values = new HashMap<>();
+    for (int i = 0; i < identityPartition.fieldNames().length; i++) {
+      Object value = identityPartition.values()[i].value();
+      values.put(
+          String.join(".", identityPartition.fieldNames()[i]),
+          value == null ? null : value.toString());
+    }
+    for (Map.Entry<String, String> predicate : parseFilter(filter).entrySet()) {
+      if (!predicate.getValue().equals(values.get(predicate.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /** Represents a result of range partitioning. */
   private static class RangePartitionImpl implements RangePartition {
     private final String name;
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import org.apache.gravitino.rel.expressions.literals.Literal;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
+import org.apache.gravitino.rel.partitions.Partitions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPartitionPage {
+
+  @Test
+  public void testPaginate() {
+    List<String> names = ImmutableList.of("p3", "p1", "p2");
+    PartitionPage<String> page = PartitionPage.paginate(names, name -> name, null, 2);
+    Assertions.assertEquals(ImmutableList.of("p1", "p2"), page.items());
+    Assertions.assertEquals("p2", page.nextPageToken());
+
+    page = PartitionPage.paginate(names, name -> name, page.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p3"), page.items());
+    Assertions.assertNull(page.nextPageToken());
+
+    // The partitions after the token are listed even if the token partition was dropped.
+    page = PartitionPage.paginate(names, name -> name, "p15", Integer.MAX_VALUE);
+    Assertions.assertEquals(ImmutableList.of("p2", "p3"), page.items());
+    Assertions.assertNull(page.nextPageToken());
+
+    page = PartitionPage.paginate(Collections.<String>emptyList(), name -> name, null, 2);
+    Assertions.assertTrue(page.items().isEmpty());
+    Assertions.assertNull(page.nextPageToken());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PartitionPage.paginate(names, name -> name, null, 0));
+  }
+
+  @Test
+  public void testIterator() {
+    List<String> names = ImmutableList.of("p1", "p2", "p3", "p4", "p5");
+    List<String> tokens = Lists.newArrayList();
+    List<String> iterated =
+        Lists.newArrayList(
+            PartitionPage.iterator(
+                token -> {
+                  tokens.add(token);
+                  return PartitionPage.paginate(names, name -> name, token, 2);
+                }));
+    Assertions.assertEquals(names, iterated);
+    Assertions.assertEquals(Lists.newArrayList(null, "p2", "p4"), tokens);
+  }
+
+  @Test
+  public void testMatchesFilter() {
+    Partition partition =
+        Partitions.identity(
+            "dt=2008-08-08/country=us",
+            new String[][] {{"dt"}, {"country"}},
+            new Literal[] {Literals.stringLiteral("2008-08-08"), Literals.stringLiteral("us")},
+            Collections.emptyMap());
+    Assertions.assertTrue(Partitions.matches(partition, "country=us"));
+    Assertions.assertTrue(Partitions.matches(partition, "dt=2008-08-08/country=us"));
+    Assertions.assertFalse(Partitions.matches(partition, "country=cn"));
+    Assertions.assertFalse(Partitions.matches(partition, "city=beijing"));
+
+    Partition rangePartition =
+        Partitions.range(
+            "p0", Literals.integerLiteral(6), Literals.integerLiteral(0), Collections.emptyMap());
+    Assertions.assertFalse(Partitions.matches(rangePartition, "country=us"));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Partitions.matches(partition, "country"));
+  }
+}
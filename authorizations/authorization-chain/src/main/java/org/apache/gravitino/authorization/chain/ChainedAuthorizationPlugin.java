@@ -149,6 +149,13 @@ public class ChainedAuthorizationPlugin implements AuthorizationPlugin {
     return chainedAction(plugin -> plugin.onRevokedRolesFromGroup(roles, group));
   }
 
+  @Override
+  public Boolean onGrantedRolesToUsersAndGroups(
+      Map<User, List<Role>> userRoles, Map<Group, List<Role>> groupRoles)
+      throws AuthorizationPluginException {
+    return chainedAction(plugin -> plugin.onGrantedRolesToUsersAndGroups(userRoles, groupRoles));
+  }
+
   @Override
   public Boolean onUserAdded(User user) throws AuthorizationPluginException {
     return chainedAction(plugin -> plugin.onUserAdded(user));
@@ -156,6 +156,12 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
     return preciseFindPolicy(authzMetadataObject, preciseFilters);
   }
 
+  /** The managed policies of the HDFS service are found by the path of the metadata object. */
+  @Override
+  protected Object policyKey(AuthorizationMetadataObject authzMetadataObject) {
+    return getAuthorizationPath((PathBasedMetadataObject) authzMetadataObject);
+  }
+
   @Override
   /** Wildcard search the Ranger policies in the different Ranger service. */
   protected List<RangerPolicy> wildcardSearchPolicies(
@@ -21,6 +21,8 @@ package org.apache.gravitino.authorization.ranger;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.sun.jersey.api.client.ClientResponse;
 import java.io.IOException;
 import java.time.Instant;
@@ -32,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.AuthorizationMetadataObject;
@@ -175,6 +178,22 @@ public abstract class RangerAuthorizationPlugin
   public abstract RangerPolicy findManagedPolicy(AuthorizationMetadataObject authzMetadataObject)
       throws AuthorizationPluginException;
 
+  /**
+   * The key of the managed policy of the metadata object, the metadata objects with the same key
+   * are managed by the same Ranger policy. It must match the precise filters of {@link
+   * #findManagedPolicy(AuthorizationMetadataObject)}.
+   *
+   * @param authzMetadataObject The authorization metadata object.
+   * @return The key of the managed policy.
+   */
+  protected Object policyKey(AuthorizationMetadataObject authzMetadataObject) {
+    return authzMetadataObject.names();
+  }
+
+  private RangerPolicyBatch newPolicyBatch() {
+    return new RangerPolicyBatch(rangerClient, this::policyKey, this::findManagedPolicy);
+  }
+
   protected abstract void updatePolicyByMetadataObject(
       MetadataObject.Type operationType,
       AuthorizationMetadataObject oldAuthzMetaobject,
@@ -315,6 +334,7 @@ public abstract class RangerAuthorizationPlugin
             .map(securableObject -> RoleChange.removeSecurableObject(role.name(), securableObject))
             .toArray(RoleChange[]::new));
     // Lastly, delete the role in the Ranger
+    rangerHelper.invalidateRangerRole(role.name());
     try {
       rangerClient.deleteRole(
           rangerHelper.generateGravitinoRoleName(role.name()), rangerAdminName, rangerServiceName);
@@ -330,9 +350,20 @@ public abstract class RangerAuthorizationPlugin
     return Boolean.TRUE;
   }
 
+  /**
+   * Update the role in the Ranger. The changes of all the Ranger policies are collected in a {@link
+   * RangerPolicyBatch}, so every policy is read and written at most once.
+   */
   @Override
   public Boolean onRoleUpdated(Role role, RoleChange... changes)
       throws AuthorizationPluginException {
+    RangerPolicyBatch batch = newPolicyBatch();
+    Boolean result = applyRoleChanges(role, batch, changes);
+    batch.flush();
+    return result;
+  }
+
+  private Boolean applyRoleChanges(Role role, RangerPolicyBatch batch, RoleChange... changes) {
     for (RoleChange change : changes) {
       if (change instanceof RoleChange.AddSecurableObject) {
         SecurableObject securableObject =
@@ -345,7 +376,7 @@ public abstract class RangerAuthorizationPlugin
             translatePrivilege(securableObject);
         authzSecurableObjects.forEach(
             authzSecurableObject -> {
-              if (!doAddSecurableObject(role.name(), authzSecurableObject)) {
+              if (!doAddSecurableObject(role.name(), authzSecurableObject, batch)) {
                 throw new AuthorizationPluginException(
                     "Failed to add the securable object to the Ranger policy!");
               }
@@ -362,7 +393,7 @@ public abstract class RangerAuthorizationPlugin
         authzSecurableObjects.stream()
             .forEach(
                 authzSecurableObject -> {
-                  if (!removeSecurableObject(role.name(), authzSecurableObject)) {
+                  if (!removeSecurableObject(role.name(), authzSecurableObject, batch)) {
                     throw new AuthorizationPluginException(
                         "Failed to add the securable object to the Ranger policy!");
                   }
@@ -389,11 +420,11 @@ public abstract class RangerAuthorizationPlugin
             translatePrivilege(newSecurableObject);
         rangerOldSecurableObjects.forEach(
             AuthorizationSecurableObject -> {
-              removeSecurableObject(role.name(), AuthorizationSecurableObject);
+              removeSecurableObject(role.name(), AuthorizationSecurableObject, batch);
             });
         rangerNewSecurableObjects.forEach(
             AuthorizationSecurableObject -> {
-              doAddSecurableObject(role.name(), AuthorizationSecurableObject);
+              doAddSecurableObject(role.name(), AuthorizationSecurableObject, batch);
             });
       } else {
         throw new IllegalArgumentException(
@@ -544,6 +575,7 @@ public abstract class RangerAuthorizationPlugin
           }
         } catch (RangerServiceException e) {
           // Ignore exception, support idempotent operation
+          rangerHelper.invalidateRangerRole(ownerRoleName);
           LOG.warn("Grant owner role: {} failed!", ownerRoleName, e);
         }
 
@@ -621,6 +653,7 @@ public abstract class RangerAuthorizationPlugin
               try {
                 rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
               } catch (RangerServiceException e) {
+                rangerHelper.invalidateRangerRole(role.name());
                 throw new AuthorizationPluginException(
                     "Fail to grant role %s to user %s, exception: %s",
                     role.name(), user.name(), e.getMessage());
@@ -657,6 +690,7 @@ public abstract class RangerAuthorizationPlugin
               try {
                 rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
               } catch (RangerServiceException e) {
+                rangerHelper.invalidateRangerRole(role.name());
                 throw new AuthorizationPluginException(
                     "Fail to revoke role %s from user %s, exception: %s",
                     role.name(), user.name(), e.getMessage());
@@ -693,6 +727,7 @@ public abstract class RangerAuthorizationPlugin
               try {
                 rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
               } catch (RangerServiceException e) {
+                rangerHelper.invalidateRangerRole(role.name());
                 throw new AuthorizationPluginException(
                     "Fail to grant role: %s to group %s, exception: %s.",
                     role, group, e.getMessage());
@@ -701,6 +736,66 @@ public abstract class RangerAuthorizationPlugin
     return Boolean.TRUE;
   }
 
+  /**
+   * Grant the roles to several users and groups at once. <br>
+   * 1. Create the users and groups in the Ranger if they do not exist. <br>
+   * 2. Create every role in the Ranger if it does not exist. <br>
+   * 3. Send one grant request per role which adds all its users and groups. <br>
+   *
+   * @param userRoles The roles to grant to every user.
+   * @param groupRoles The roles to grant to every group.
+   */
+  @Override
+  public Boolean onGrantedRolesToUsersAndGroups(
+      Map<User, List<Role>> userRoles, Map<Group, List<Role>> groupRoles)
+      throws AuthorizationPluginException {
+    boolean invalid =
+        Stream.concat(userRoles.values().stream(), groupRoles.values().stream())
+            .flatMap(List::stream)
+            .anyMatch(role -> !validAuthorizationOperation(role.securableObjects()));
+    if (invalid) {
+      return false;
+    }
+
+    Map<String, Set<String>> roleUsers = Maps.newLinkedHashMap();
+    Map<String, Set<String>> roleGroups = Maps.newLinkedHashMap();
+    userRoles.forEach(
+        (user, roles) -> {
+          onUserAdded(user);
+          roles.forEach(
+              role -> {
+                roleUsers.computeIfAbsent(role.name(), k -> Sets.newHashSet()).add(user.name());
+                roleGroups.computeIfAbsent(role.name(), k -> Sets.newHashSet());
+              });
+        });
+    groupRoles.forEach(
+        (group, roles) -> {
+          onGroupAdded(group);
+          roles.forEach(
+              role -> {
+                roleUsers.computeIfAbsent(role.name(), k -> Sets.newHashSet());
+                roleGroups.computeIfAbsent(role.name(), k -> Sets.newHashSet()).add(group.name());
+              });
+        });
+
+    for (Map.Entry<String, Set<String>> entry : roleUsers.entrySet()) {
+      String roleName = entry.getKey();
+      rangerHelper.createRangerRoleIfNotExists(roleName, false);
+      GrantRevokeRoleRequest grantRevokeRoleRequest =
+          rangerHelper.createGrantRevokeRoleRequest(
+              roleName, entry.getValue(), roleGroups.get(roleName));
+      try {
+        rangerClient.grantRole(rangerServiceName, grantRevokeRoleRequest);
+      } catch (RangerServiceException e) {
+        rangerHelper.invalidateRangerRole(roleName);
+        throw new AuthorizationPluginException(
+            "Fail to grant role: %s to users %s and groups %s, exception: %s.",
+            roleName, entry.getValue(), roleGroups.get(roleName), e.getMessage());
+      }
+    }
+    return Boolean.TRUE;
+  }
+
   /**
    * Revoke the roles from the group. <br>
    * 1. Create a group in the Ranger if the group does not exist. <br>
@@ -726,6 +821,7 @@ public abstract class RangerAuthorizationPlugin
               try {
                 rangerClient.revokeRole(rangerServiceName, grantRevokeRoleRequest);
               } catch (RangerServiceException e) {
+                rangerHelper.invalidateRangerRole(role.name());
                 throw new AuthorizationPluginException(
                     "Fail to revoke role %s from group %s, exception: %s",
                     role.name(), group.name(), e.getMessage());
@@ -838,8 +934,8 @@ public abstract class RangerAuthorizationPlugin
    * 3. If the policy does not exist, then create a new policy. <br>
    */
   private boolean doAddSecurableObject(
-      String roleName, AuthorizationSecurableObject securableObject) {
-    RangerPolicy policy = findManagedPolicy(securableObject);
+      String roleName, AuthorizationSecurableObject securableObject, RangerPolicyBatch batch) {
+    RangerPolicy policy = batch.findPolicy(securableObject);
     if (policy != null) {
       // Check the policy item's accesses and roles equal the Ranger securable object's privilege
       List<AuthorizationPrivilege> allowPrivileges =
@@ -890,17 +986,7 @@ public abstract class RangerAuthorizationPlugin
     }
 
     rangerHelper.addPolicyItem(policy, roleName, securableObject);
-    try {
-      if (policy.getId() == null) {
-        rangerClient.createPolicy(policy);
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      throw new AuthorizationPluginException(
-          e, "Failed to add the securable object to the Ranger!");
-    }
-
+    batch.changePolicy(securableObject, policy);
     return true;
   }
 
@@ -912,8 +998,8 @@ public abstract class RangerAuthorizationPlugin
    * 3. If policy does not contain any policy item, then delete this policy. <br>
    */
   private boolean removeSecurableObject(
-      String roleName, AuthorizationSecurableObject authzSecurableObject) {
-    RangerPolicy policy = findManagedPolicy(authzSecurableObject);
+      String roleName, AuthorizationSecurableObject authzSecurableObject, RangerPolicyBatch batch) {
+    RangerPolicy policy = batch.findPolicy(authzSecurableObject);
     if (policy == null) {
       LOG.warn(
           "Cannot find the Ranger policy for the Ranger securable object({})!",
@@ -960,17 +1046,8 @@ public abstract class RangerAuthorizationPlugin
                     && policyItem.getUsers().isEmpty()
                     && policyItem.getGroups().isEmpty());
 
-    try {
-      if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
-        rangerClient.deletePolicy(policy.getId());
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
-    } catch (RangerServiceException e) {
-      LOG.error("Failed to remove the policy item from the Ranger policy {}!", policy);
-      throw new AuthorizationPluginException(
-          e, "Failed to remove the securable object from Ranger!");
-    }
+    // The policy is deleted when the batch is flushed if it doesn't have any policy item left.
+    batch.changePolicy(authzSecurableObject, policy);
     return true;
   }
 
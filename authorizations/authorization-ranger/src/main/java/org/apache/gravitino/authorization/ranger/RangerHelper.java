@@ -19,9 +19,12 @@
 package org.apache.gravitino.authorization.ranger;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.StringUtils;
 import org.apache.gravitino.authorization.AuthorizationPrivilege;
@@ -56,6 +59,17 @@ public class RangerHelper {
   private final String rangerAdminName;
   private final String rangerServiceName;
 
+  /**
+   * The roles known to exist in the Ranger, so the role operations don't need to get the role from
+   * the Ranger first. The roles can also be deleted from the Ranger directly, so the entries
+   * expire, and the plugin invalidates a role if an operation on it fails.
+   */
+  private final Cache<String, RangerRole> rangerRoles =
+      CacheBuilder.newBuilder()
+          .maximumSize(ROLE_CACHE_MAX_SIZE)
+          .expireAfterWrite(ROLE_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
   public static final String GRAVITINO_ROLE_PREFIX = "GRAVITINO_";
   public static final String GRAVITINO_METALAKE_OWNER_ROLE =
       GRAVITINO_ROLE_PREFIX + "METALAKE_OWNER_ROLE";
@@ -64,6 +78,9 @@ public class RangerHelper {
   // marking owner policy items
   public static final String GRAVITINO_OWNER_ROLE = GRAVITINO_ROLE_PREFIX + "OWNER_ROLE";
 
+  private static final int ROLE_CACHE_MAX_SIZE = 10_000;
+  private static final long ROLE_CACHE_EXPIRE_MINUTES = 10;
+
   public RangerHelper(
       RangerClient rangerClient,
       String rangerAdminName,
@@ -212,8 +229,15 @@ public class RangerHelper {
 
   protected boolean checkRangerRole(String roleName) throws AuthorizationPluginException {
     roleName = generateGravitinoRoleName(roleName);
+    if (rangerRoles.getIfPresent(roleName) != null) {
+      return true;
+    }
+
     try {
-      rangerClient.getRole(roleName, rangerAdminName, rangerServiceName);
+      RangerRole rangerRole = rangerClient.getRole(roleName, rangerAdminName, rangerServiceName);
+      if (rangerRole != null) {
+        rangerRoles.put(roleName, rangerRole);
+      }
     } catch (RangerServiceException e) {
       throw new AuthorizationPluginException(
           e, "Failed to check the role(%s) in the Ranger", roleName);
@@ -230,12 +254,24 @@ public class RangerHelper {
 
   protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
       String roleName, String userName, String groupName) {
-    roleName = generateGravitinoRoleName(roleName);
     Set<String> users =
         StringUtils.isEmpty(userName) ? Sets.newHashSet() : Sets.newHashSet(userName);
     Set<String> groups =
         StringUtils.isEmpty(groupName) ? Sets.newHashSet() : Sets.newHashSet(groupName);
+    return createGrantRevokeRoleRequest(roleName, users, groups);
+  }
 
+  /**
+   * Create a request which grants or revokes a role for several users and groups at once.
+   *
+   * @param roleName The role name
+   * @param users The user names
+   * @param groups The group names
+   * @return The request of the role
+   */
+  protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
+      String roleName, Set<String> users, Set<String> groups) {
+    roleName = generateGravitinoRoleName(roleName);
     if (users.isEmpty() && groups.isEmpty()) {
       throw new AuthorizationPluginException("The user and group cannot be empty!");
     }
@@ -275,8 +311,12 @@ public class RangerHelper {
               GRAVITINO_METALAKE_OWNER_ROLE, GRAVITINO_CATALOG_OWNER_ROLE, GRAVITINO_OWNER_ROLE));
     }
 
-    RangerRole rangerRole = getRangerRole(roleName);
+    RangerRole rangerRole = rangerRoles.getIfPresent(roleName);
+    if (rangerRole != null) {
+      return rangerRole;
+    }
 
+    rangerRole = getRangerRole(roleName);
     try {
       if (rangerRole == null) {
         rangerRole = new RangerRole(roleName, RangerHelper.MANAGED_BY_GRAVITINO, null, null, null);
@@ -286,9 +326,20 @@ public class RangerHelper {
       throw new AuthorizationPluginException(
           e, "Failed to create the role(%s) in the Ranger", roleName);
     }
+    rangerRoles.put(roleName, rangerRole);
     return rangerRole;
   }
 
+  /**
+   * Invalidate the cached Ranger role, the next operation on the role gets it from the Ranger
+   * again. It must be called if the role is deleted, or an operation on the role fails.
+   *
+   * @param roleName The role name
+   */
+  public void invalidateRangerRole(String roleName) {
+    rangerRoles.invalidate(generateGravitinoRoleName(roleName));
+  }
+
   public RangerRole getRangerRole(String roleName) {
     RangerRole rangerRole = null;
     try {
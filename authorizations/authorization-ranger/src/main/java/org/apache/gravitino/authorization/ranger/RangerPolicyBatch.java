@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.gravitino.authorization.AuthorizationMetadataObject;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.model.RangerPolicy;
+
+/**
+ * Collects the changes of the Ranger policies made by one call of the authorization plugin. A role
+ * change is translated to several Ranger securable objects, and many of them are managed by the
+ * same policy, e.g. all the privileges of a role on one table. The batch reads every policy from
+ * the Ranger at most once, applies all the changes to it in memory, and writes it back once in
+ * {@link #flush()}.
+ *
+ * <p>The policies are not kept after the batch is flushed, because the policies can also be changed
+ * from the Ranger directly, and a stale copy would overwrite those changes. A batch is not thread
+ * safe, it belongs to a single call.
+ */
+class RangerPolicyBatch {
+  private final RangerClientExtension rangerClient;
+  private final Function<AuthorizationMetadataObject, Object> policyKey;
+  private final Function<AuthorizationMetadataObject, RangerPolicy> policyFinder;
+
+  // The policy of every key looked up, null if the policy doesn't exist yet.
+  private final Map<Object, RangerPolicy> policies = new LinkedHashMap<>();
+  private final Map<Object, RangerPolicy> changedPolicies = new LinkedHashMap<>();
+
+  RangerPolicyBatch(
+      RangerClientExtension rangerClient,
+      Function<AuthorizationMetadataObject, Object> policyKey,
+      Function<AuthorizationMetadataObject, RangerPolicy> policyFinder) {
+    this.rangerClient = rangerClient;
+    this.policyKey = policyKey;
+    this.policyFinder = policyFinder;
+  }
+
+  /**
+   * Finds the policy of the metadata object, including the changes made in this batch.
+   *
+   * @param authzMetadataObject The metadata object of the policy.
+   * @return The policy, or null if the policy doesn't exist.
+   */
+  RangerPolicy findPolicy(AuthorizationMetadataObject authzMetadataObject) {
+    Object key = policyKey.apply(authzMetadataObject);
+    if (policies.containsKey(key)) {
+      return policies.get(key);
+    }
+
+    RangerPolicy policy = policyFinder.apply(authzMetadataObject);
+    policies.put(key, policy);
+    return policy;
+  }
+
+  /**
+   * Records the changed policy of the metadata object. A policy without id is created when the
+   * batch is flushed.
+   *
+   * @param authzMetadataObject The metadata object of the policy.
+   * @param policy The changed policy.
+   */
+  void changePolicy(AuthorizationMetadataObject authzMetadataObject, RangerPolicy policy) {
+    Object key = policyKey.apply(authzMetadataObject);
+    policies.put(key, policy);
+    changedPolicies.put(key, policy);
+  }
+
+  /**
+   * Writes the changed policies to the Ranger. A policy is deleted if it doesn't have any allow or
+   * deny policy item left.
+   *
+   * @return The number of the policies written.
+   * @throws AuthorizationPluginException If a policy fails to be written.
+   */
+  int flush() throws AuthorizationPluginException {
+    int written = 0;
+    for (RangerPolicy policy : changedPolicies.values()) {
+      boolean empty = policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty();
+      try {
+        if (policy.getId() == null) {
+          // The policy was created and emptied in this batch, nothing to write.
+          if (empty) {
+            continue;
+          }
+          rangerClient.createPolicy(policy);
+        } else if (empty) {
+          rangerClient.deletePolicy(policy.getId());
+        } else {
+          rangerClient.updatePolicy(policy.getId(), policy);
+        }
+        written++;
+      } catch (RangerServiceException e) {
+        throw new AuthorizationPluginException(
+            e, "Failed to write the Ranger policy %s", policy.getName());
+      }
+    }
+    changedPolicies.clear();
+    policies.clear();
+    return written;
+  }
+}
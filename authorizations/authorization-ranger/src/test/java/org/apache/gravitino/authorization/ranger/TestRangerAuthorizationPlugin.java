@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.authorization.Group;
+import org.apache.gravitino.authorization.Role;
+import org.apache.gravitino.authorization.User;
+import org.apache.gravitino.authorization.common.RangerAuthorizationProperties;
+import org.apache.gravitino.authorization.ranger.reference.VXUserList;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.ranger.RangerServiceException;
+import org.apache.ranger.plugin.util.GrantRevokeRoleRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+
+public class TestRangerAuthorizationPlugin {
+  private static final String SERVICE_NAME = "hiveRepo";
+  private static final String ADMIN_NAME = "admin";
+
+  private RangerClientExtension rangerClient;
+  private RangerAuthorizationPlugin plugin;
+
+  @BeforeEach
+  void init() {
+    // The plugin checks its Ranger service when it's created, don't connect to a Ranger admin.
+    try (MockedConstruction<RangerClientExtension> ignored =
+        mockConstruction(RangerClientExtension.class)) {
+      plugin =
+          new RangerAuthorizationHadoopSQLPlugin(
+              "metalake",
+              ImmutableMap.of(
+                  RangerAuthorizationProperties.RANGER_ADMIN_URL,
+                  "http://localhost:6080",
+                  RangerAuthorizationProperties.RANGER_AUTH_TYPE,
+                  "simple",
+                  RangerAuthorizationProperties.RANGER_USERNAME,
+                  ADMIN_NAME,
+                  RangerAuthorizationProperties.RANGER_PASSWORD,
+                  "rangerR0cks!",
+                  RangerAuthorizationProperties.RANGER_SERVICE_TYPE,
+                  "HadoopSQL",
+                  RangerAuthorizationProperties.RANGER_SERVICE_NAME,
+                  SERVICE_NAME));
+    }
+
+    rangerClient = mock(RangerClientExtension.class);
+    when(rangerClient.searchUser(any())).thenReturn(new VXUserList());
+    plugin.setRangerClient(rangerClient);
+    plugin.setRangerHelper(
+        new RangerHelper(
+            rangerClient,
+            ADMIN_NAME,
+            SERVICE_NAME,
+            Collections.emptySet(),
+            Collections.emptyList()));
+  }
+
+  @Test
+  void testGrantRolesToUsersAndGroups() throws Exception {
+    Role role1 = mockRole("role1");
+    Role role2 = mockRole("role2");
+    Map<User, List<Role>> userRoles = Maps.newLinkedHashMap();
+    userRoles.put(mockUser("user1"), ImmutableList.of(role1, role2));
+    userRoles.put(mockUser("user2"), ImmutableList.of(role1));
+    Map<Group, List<Role>> groupRoles = Maps.newLinkedHashMap();
+    groupRoles.put(mockGroup("group1"), ImmutableList.of(role1));
+
+    Assertions.assertTrue(plugin.onGrantedRolesToUsersAndGroups(userRoles, groupRoles));
+    verify(rangerClient, times(2)).createUser(any());
+    verify(rangerClient, times(1)).createGroup(any());
+
+    // One request per role carries all the users and groups of the role.
+    ArgumentCaptor<GrantRevokeRoleRequest> requests =
+        ArgumentCaptor.forClass(GrantRevokeRoleRequest.class);
+    verify(rangerClient, times(2)).grantRole(eq(SERVICE_NAME), requests.capture());
+    GrantRevokeRoleRequest request1 = requests.getAllValues().get(0);
+    Assertions.assertEquals(
+        ImmutableSet.of(RangerHelper.GRAVITINO_ROLE_PREFIX + "role1"), request1.getTargetRoles());
+    Assertions.assertEquals(ImmutableSet.of("user1", "user2"), request1.getUsers());
+    Assertions.assertEquals(ImmutableSet.of("group1"), request1.getGroups());
+    Assertions.assertEquals(ADMIN_NAME, request1.getGrantor());
+    GrantRevokeRoleRequest request2 = requests.getAllValues().get(1);
+    Assertions.assertEquals(
+        ImmutableSet.of(RangerHelper.GRAVITINO_ROLE_PREFIX + "role2"), request2.getTargetRoles());
+    Assertions.assertEquals(ImmutableSet.of("user1"), request2.getUsers());
+    Assertions.assertTrue(request2.getGroups().isEmpty());
+  }
+
+  @Test
+  void testGrantRolesToUsersAndGroupsFailure() throws Exception {
+    Role role1 = mockRole("role1");
+    Role role2 = mockRole("role2");
+    Map<User, List<Role>> userRoles = Maps.newLinkedHashMap();
+    userRoles.put(mockUser("user1"), ImmutableList.of(role1, role2));
+    when(rangerClient.grantRole(eq(SERVICE_NAME), any()))
+        .thenThrow(new RangerServiceException(new Exception("test")));
+
+    AuthorizationPluginException exception =
+        Assertions.assertThrows(
+            AuthorizationPluginException.class,
+            () -> plugin.onGrantedRolesToUsersAndGroups(userRoles, Collections.emptyMap()));
+    Assertions.assertTrue(exception.getMessage().contains("role1"));
+    // The remaining roles are not granted after a failure.
+    verify(rangerClient, times(1)).grantRole(eq(SERVICE_NAME), any());
+    verify(rangerClient, never())
+        .getRole(eq(RangerHelper.GRAVITINO_ROLE_PREFIX + "role2"), anyString(), anyString());
+
+    // The failed role is not cached, it is got from the Ranger again by the next grant.
+    verify(rangerClient, times(1))
+        .getRole(RangerHelper.GRAVITINO_ROLE_PREFIX + "role1", ADMIN_NAME, SERVICE_NAME);
+    Assertions.assertThrows(
+        AuthorizationPluginException.class,
+        () -> plugin.onGrantedRolesToUsersAndGroups(userRoles, Collections.emptyMap()));
+    verify(rangerClient, times(2))
+        .getRole(RangerHelper.GRAVITINO_ROLE_PREFIX + "role1", ADMIN_NAME, SERVICE_NAME);
+  }
+
+  private static Role mockRole(String name) {
+    Role role = mock(Role.class);
+    when(role.name()).thenReturn(name);
+    when(role.securableObjects()).thenReturn(Collections.emptyList());
+    return role;
+  }
+
+  private static User mockUser(String name) {
+    User user = mock(User.class);
+    when(user.name()).thenReturn(name);
+    return user;
+  }
+
+  private static Group mockGroup(String name) {
+    Group group = mock(Group.class);
+    when(group.name()).thenReturn(name);
+    return group;
+  }
+}
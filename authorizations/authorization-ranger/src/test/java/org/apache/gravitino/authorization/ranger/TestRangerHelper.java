@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import org.apache.ranger.plugin.model.RangerRole;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRangerHelper {
+
+  @Test
+  void testRoleCache() throws Exception {
+    RangerClientExtension rangerClient = mock(RangerClientExtension.class);
+    RangerRole role = new RangerRole("GRAVITINO_role1", null, null, null, null);
+    when(rangerClient.getRole(anyString(), anyString(), anyString())).thenReturn(role);
+    RangerHelper helper =
+        new RangerHelper(
+            rangerClient, "admin", "service", Collections.emptySet(), Collections.emptyList());
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertSame(role, helper.createRangerRoleIfNotExists("role1", false));
+      Assertions.assertTrue(helper.checkRangerRole("role1"));
+    }
+    verify(rangerClient, times(1)).getRole("GRAVITINO_role1", "admin", "service");
+    verify(rangerClient, times(0)).createRole(anyString(), any());
+
+    helper.invalidateRangerRole("role1");
+    Assertions.assertTrue(helper.checkRangerRole("role1"));
+    verify(rangerClient, times(2)).getRole("GRAVITINO_role1", "admin", "service");
+  }
+}
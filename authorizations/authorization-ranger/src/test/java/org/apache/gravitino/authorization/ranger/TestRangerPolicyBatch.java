@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.authorization.AuthorizationMetadataObject;
+import org.apache.ranger.plugin.model.RangerPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestRangerPolicyBatch {
+  private static final AuthorizationMetadataObject TABLE =
+      new RangerHadoopSQLMetadataObject("db1", "tab1", RangerHadoopSQLMetadataObject.Type.TABLE);
+
+  private RangerClientExtension rangerClient;
+  private AtomicInteger finds;
+
+  @BeforeEach
+  void init() {
+    rangerClient = mock(RangerClientExtension.class);
+    finds = new AtomicInteger();
+  }
+
+  @Test
+  void testCoalesceChanges() throws Exception {
+    RangerPolicy existing = policy(1L);
+    RangerPolicyBatch batch = newBatch(existing);
+
+    // Several privileges of the same table are managed by one policy.
+    for (int i = 0; i < 5; i++) {
+      RangerPolicy policy = batch.findPolicy(TABLE);
+      Assertions.assertSame(existing, policy);
+      policy.getPolicyItems().add(policyItem("access" + i));
+      batch.changePolicy(TABLE, policy);
+    }
+
+    Assertions.assertEquals(1, batch.flush());
+    Assertions.assertEquals(1, finds.get());
+    Assertions.assertEquals(5, existing.getPolicyItems().size());
+    verify(rangerClient, times(1)).updatePolicy(1L, existing);
+    verify(rangerClient, never()).createPolicy(any());
+    verify(rangerClient, never()).deletePolicy(anyLong());
+  }
+
+  @Test
+  void testCreateAndDelete() throws Exception {
+    RangerPolicyBatch batch = newBatch(null);
+    Assertions.assertNull(batch.findPolicy(TABLE));
+    RangerPolicy created = policy(null);
+    created.getPolicyItems().add(policyItem("select"));
+    batch.changePolicy(TABLE, created);
+    // The created policy is found by the next change instead of being created twice.
+    Assertions.assertSame(created, batch.findPolicy(TABLE));
+    Assertions.assertEquals(1, batch.flush());
+    verify(rangerClient).createPolicy(created);
+
+    RangerPolicy existing = policy(2L);
+    existing.getPolicyItems().add(policyItem("select"));
+    batch = newBatch(existing);
+    batch.findPolicy(TABLE).getPolicyItems().clear();
+    batch.changePolicy(TABLE, existing);
+    Assertions.assertEquals(1, batch.flush());
+    verify(rangerClient).deletePolicy(2L);
+  }
+
+  @Test
+  void testSkipEmptyNewPolicy() throws Exception {
+    RangerPolicyBatch batch = newBatch(null);
+    batch.changePolicy(TABLE, policy(null));
+    Assertions.assertEquals(0, batch.flush());
+    verify(rangerClient, never()).createPolicy(any());
+    verify(rangerClient, never()).deletePolicy(anyLong());
+  }
+
+  private RangerPolicyBatch newBatch(RangerPolicy policy) {
+    return new RangerPolicyBatch(
+        rangerClient,
+        AuthorizationMetadataObject::names,
+        authzMetadataObject -> {
+          finds.incrementAndGet();
+          return policy;
+        });
+  }
+
+  private static RangerPolicy policy(Long id) {
+    RangerPolicy policy = new RangerPolicy();
+    policy.setId(id);
+    policy.setName("db1.tab1");
+    return policy;
+  }
+
+  private static RangerPolicy.RangerPolicyItem policyItem(String accessType) {
+    RangerPolicy.RangerPolicyItem policyItem = new RangerPolicy.RangerPolicyItem();
+    policyItem.getAccesses().add(new RangerPolicy.RangerPolicyItemAccess(accessType));
+    policyItem.getRoles().add(RangerHelper.GRAVITINO_ROLE_PREFIX + "role1");
+    return policyItem;
+  }
+}
@@ -24,12 +24,24 @@ public class HiveConstants {
   public static final String CLIENT_POOL_SIZE = "client.pool-size";
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       "client.pool-cache.eviction-interval-ms";
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUT_MS = "client.pool-acquire-timeout-ms";
+  public static final String CLIENT_POOL_IDLE_TIMEOUT_MS = "client.pool-idle-timeout-ms";
+  public static final String CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS =
+      "client.pool-health-check-interval-ms";
   public static final String IMPERSONATION_ENABLE = "impersonation-enable";
   public static final String KEY_TAB_URI = "kerberos.keytab-uri";
   public static final String PRINCIPAL = "kerberos.principal";
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String LIST_TABLES_BATCH_SIZE = "list-tables.batch-size";
+  public static final String NOTIFICATION_SYNC_ENABLED = "metastore.notification-sync.enabled";
+  public static final String NOTIFICATION_SYNC_INTERVAL_MS =
+      "metastore.notification-sync.interval-ms";
+  public static final String NOTIFICATION_SYNC_BATCH_SIZE =
+      "metastore.notification-sync.batch-size";
+  public static final String NOTIFICATION_SYNC_LAST_EVENT_ID =
+      "metastore.notification-sync.last-event-id";
 
   // table properties
   public static final String LOCATION = "location";
@@ -32,32 +32,43 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
@@ -116,6 +127,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  private int listTablesBatchSize = HiveCatalogPropertiesMetadata.DEFAULT_LIST_TABLES_BATCH_SIZE;
+  private int clientPoolSize;
+  // Fetches the batches of listTablesInfo in parallel, at most one per client of the pool.
+  private ThreadPoolExecutor listTablesExecutor;
+  private HiveNotificationSync notificationSync;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
@@ -173,9 +189,68 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     initKerberosIfNecessary(conf, hadoopConf);
 
-    this.clientPool = new CachedClientPool(hiveConf, conf);
+    this.clientPool =
+        new CachedClientPool(
+            hiveConf, conf, info == null ? null : info.namespace().level(0) + "." + info.name());
 
     this.listAllTables = enableListAllTables(conf);
+
+    this.listTablesBatchSize =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE);
+    Preconditions.checkArgument(
+        listTablesBatchSize > 0,
+        "%s must be positive",
+        HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE);
+    this.clientPoolSize =
+        (int)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(conf, HiveCatalogPropertiesMetadata.CLIENT_POOL_SIZE);
+
+    startNotificationSyncIfNecessary(conf);
+  }
+
+  private void startNotificationSyncIfNecessary(Map<String, String> conf) {
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    if (!(boolean)
+        catalogPropertiesMetadata.getOrDefault(
+            conf, HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_ENABLED)) {
+      return;
+    }
+
+    long intervalMs =
+        (long)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_INTERVAL_MS);
+    int batchSize =
+        (int)
+            catalogPropertiesMetadata.getOrDefault(
+                conf, HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_BATCH_SIZE);
+    Preconditions.checkArgument(
+        intervalMs > 0,
+        "%s must be positive",
+        HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_INTERVAL_MS);
+    Preconditions.checkArgument(
+        batchSize > 0,
+        "%s must be positive",
+        HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_BATCH_SIZE);
+
+    this.notificationSync =
+        new HiveNotificationSync(
+            NameIdentifier.of(info.namespace(), info.name()),
+            clientPool,
+            batchSize,
+            GravitinoEnv.getInstance().entityStore(),
+            ident -> {
+              CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+              if (catalogManager != null) {
+                catalogManager.invalidateCachedMetadata(ident);
+              }
+            });
+    notificationSync.start(intervalMs);
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -294,6 +369,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Hive catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (notificationSync != null) {
+      notificationSync.close();
+      notificationSync = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
@@ -304,6 +384,13 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       checkTgtExecutor = null;
     }
 
+    synchronized (this) {
+      if (listTablesExecutor != null) {
+        listTablesExecutor.shutdownNow();
+        listTablesExecutor = null;
+      }
+    }
+
     Path keytabPath = Paths.get(String.format(GRAVITINO_KEYTAB_FORMAT, info.id()));
     if (Files.exists(keytabPath)) {
       try {
@@ -557,7 +644,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
                 c ->
                     c.listTableNamesByFilter(
                         schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
-        allTables.removeAll(icebergAndPaimonTables);
+        Set<String> excludedTables = Sets.newHashSet(icebergAndPaimonTables);
 
         // filter out the Hudi tables
         String hudiFilter =
@@ -566,7 +653,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
         List<String> hudiTables =
             clientPool.run(
                 c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
-        removeHudiTables(allTables, hudiTables);
+        Set<String> hudiTableSet = Sets.newHashSet(hudiTables);
+        allTables.removeIf(t -> excludedTables.contains(t) || isHudiTable(t, hudiTableSet));
       }
       return allTables.stream()
           .map(tbName -> NameIdentifier.of(namespace, tbName))
@@ -595,14 +683,123 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
+  /**
+   * Whether the table is a Hudi table, or one of its read optimized ("_ro") or real time ("_rt")
+   * views, whose names start with the name of the Hudi table followed by the suffix.
+   */
+  @VisibleForTesting
+  static boolean isHudiTable(String tableName, Set<String> hudiTables) {
+    if (hudiTables.contains(tableName)) {
+      return true;
     }
+
+    for (int i = tableName.indexOf('_'); i > 0; i = tableName.indexOf('_', i + 1)) {
+      if ((tableName.startsWith("_ro", i) || tableName.startsWith("_rt", i))
+          && hudiTables.contains(tableName.substring(0, i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Lists the tables under the specified namespace with their metadata. The tables are fetched
+   * from the Hive Metastore with {@code getTableObjectsByName} in batches, and the batches are
+   * fetched in parallel with the clients of the pool.
+   *
+   * @param namespace The namespace to list tables for.
+   * @return An array of {@link HiveTable} in the namespace.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    List<String> tableNames =
+        Arrays.stream(listTables(namespace)).map(NameIdentifier::name).collect(Collectors.toList());
+    List<List<String>> batches = Lists.partition(tableNames, listTablesBatchSize);
+
+    List<org.apache.hadoop.hive.metastore.api.Table> hiveTables = Lists.newArrayList();
+    try {
+      if (batches.size() == 1) {
+        hiveTables.addAll(fetchTables(schemaIdent.name(), batches.get(0)));
+      } else if (batches.size() > 1) {
+        // The clients of the pool are cached by user, so the batches are fetched as the caller.
+        UserGroupInformation currentUser = UserGroupInformation.getCurrentUser();
+        List<Future<List<org.apache.hadoop.hive.metastore.api.Table>>> futures =
+            Lists.newArrayList();
+        try {
+          for (List<String> batch : batches) {
+            futures.add(
+                listTablesExecutor().submit(
+                    () ->
+                        currentUser.doAs(
+                            (PrivilegedExceptionAction<
+                                    List<org.apache.hadoop.hive.metastore.api.Table>>)
+                                () -> fetchTables(schemaIdent.name(), batch))));
+          }
+          for (Future<List<org.apache.hadoop.hive.metastore.api.Table>> future : futures) {
+            hiveTables.addAll(future.get());
+          }
+        } finally {
+          futures.forEach(f -> f.cancel(true));
+        }
+      }
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      // UserGroupInformation.doAs() wraps the checked exceptions other than IOException.
+      if (cause instanceof UndeclaredThrowableException) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof UnknownDBException) {
+        throw new NoSuchSchemaException(
+            "Schema (database) does not exist %s in Hive Metastore", namespace);
+      }
+      throw new RuntimeException(
+          "Failed to list tables under the namespace : " + namespace + " in Hive Metastore", cause);
+
+    } catch (UnknownDBException e) {
+      throw new NoSuchSchemaException(
+          "Schema (database) does not exist %s in Hive Metastore", namespace);
+
+    } catch (TException | IOException e) {
+      throw new RuntimeException(
+          "Failed to list tables under the namespace : " + namespace + " in Hive Metastore", e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+
+    return hiveTables.stream()
+        .map(
+            t ->
+                HiveTable.fromHiveTable(t)
+                    .withProxyPlugin(proxyPlugin)
+                    .withClientPool(clientPool)
+                    .build())
+        .toArray(Table[]::new);
+  }
+
+  private synchronized ThreadPoolExecutor listTablesExecutor() {
+    if (listTablesExecutor == null) {
+      listTablesExecutor =
+          new ThreadPoolExecutor(
+              clientPoolSize,
+              clientPoolSize,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              getThreadFactory("Hive-list-tables"));
+      listTablesExecutor.allowCoreThreadTimeOut(true);
+    }
+    return listTablesExecutor;
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> fetchTables(
+      String dbName, List<String> tableNames) throws TException, InterruptedException {
+    // The tables dropped after listing are absent from the result.
+    return clientPool.run(c -> c.getTableObjectsByName(dbName, tableNames));
   }
 
   /**
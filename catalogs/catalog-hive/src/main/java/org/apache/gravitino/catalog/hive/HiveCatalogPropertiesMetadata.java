@@ -33,6 +33,15 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
   public static final String CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       HiveConstants.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS;
 
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUT_MS =
+      HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS;
+
+  public static final String CLIENT_POOL_IDLE_TIMEOUT_MS =
+      HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS;
+
+  public static final String CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS =
+      HiveConstants.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS;
+
   public static final String IMPERSONATION_ENABLE = HiveConstants.IMPERSONATION_ENABLE;
 
   public static final boolean DEFAULT_IMPERSONATION_ENABLE = false;
@@ -49,6 +58,25 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String LIST_TABLES_BATCH_SIZE = HiveConstants.LIST_TABLES_BATCH_SIZE;
+
+  public static final int DEFAULT_LIST_TABLES_BATCH_SIZE = 100;
+
+  public static final String NOTIFICATION_SYNC_ENABLED = HiveConstants.NOTIFICATION_SYNC_ENABLED;
+
+  public static final String NOTIFICATION_SYNC_INTERVAL_MS =
+      HiveConstants.NOTIFICATION_SYNC_INTERVAL_MS;
+
+  public static final long DEFAULT_NOTIFICATION_SYNC_INTERVAL_MS = 5000L;
+
+  public static final String NOTIFICATION_SYNC_BATCH_SIZE =
+      HiveConstants.NOTIFICATION_SYNC_BATCH_SIZE;
+
+  public static final int DEFAULT_NOTIFICATION_SYNC_BATCH_SIZE = 1000;
+
+  public static final String NOTIFICATION_SYNC_LAST_EVENT_ID =
+      HiveConstants.NOTIFICATION_SYNC_LAST_EVENT_ID;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -109,6 +137,50 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              LIST_TABLES_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_BATCH_SIZE,
+                  "The number of tables fetched in one call when listing tables with details",
+                  false /* immutable */,
+                  DEFAULT_LIST_TABLES_BATCH_SIZE,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_ENABLED,
+              PropertyEntry.booleanPropertyEntry(
+                  NOTIFICATION_SYNC_ENABLED,
+                  "Whether to apply the changes in the notification log of the Hive metastore",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              NOTIFICATION_SYNC_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  NOTIFICATION_SYNC_INTERVAL_MS,
+                  "The interval in milliseconds to poll the notification log",
+                  false /* immutable */,
+                  DEFAULT_NOTIFICATION_SYNC_INTERVAL_MS,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  NOTIFICATION_SYNC_BATCH_SIZE,
+                  "The maximum number of notification events read in one call",
+                  false /* immutable */,
+                  DEFAULT_NOTIFICATION_SYNC_BATCH_SIZE,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_LAST_EVENT_ID,
+              PropertyEntry.longPropertyEntry(
+                  NOTIFICATION_SYNC_LAST_EVENT_ID,
+                  "The id of the last notification event applied, the sync resumes from it",
+                  false /* required */,
+                  true /* immutable */,
+                  -1L /* defaultValue */,
+                  true /* hidden */,
+                  true /* reserved */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
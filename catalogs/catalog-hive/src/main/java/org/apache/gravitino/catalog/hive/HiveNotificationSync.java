@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.messaging.AlterTableMessage;
+import org.apache.hadoop.hive.metastore.messaging.MessageFactory;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls the notification log of the Hive metastore and applies the changes made outside Gravitino.
+ * The changed schemas and tables are invalidated in the metadata cache of the catalog, and the
+ * dropped and renamed ones are dropped and renamed in the entity store.
+ *
+ * <p>The notification log is only written if the Hive metastore is configured with the {@code
+ * DbNotificationListener}. The id of the last applied event is persisted in the hidden {@link
+ * HiveConstants#NOTIFICATION_SYNC_LAST_EVENT_ID} property of the catalog entity after each batch,
+ * and the poller resumes from it when it is started, so the drops and renames made while no server
+ * was polling are still applied to the entity store. Without a persisted id, or if the events after
+ * it were cleaned up, the poller starts from the latest event, and the objects dropped or renamed
+ * meanwhile are left in the entity store until they are dropped through Gravitino.
+ */
+class HiveNotificationSync implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HiveNotificationSync.class);
+
+  // The message of the IllegalStateException thrown by the metastore clients since Hive 3 when the
+  // requested events are no longer in the notification log.
+  private static final String EVENTS_MISSING_MESSAGE = "Notification events are missing";
+
+  private final NameIdentifier catalogIdent;
+
+  private final CachedClientPool clientPool;
+
+  private final int batchSize;
+
+  @Nullable private final EntityStore store;
+
+  private final Consumer<NameIdentifier> cacheInvalidator;
+
+  private ScheduledThreadPoolExecutor executor;
+
+  // Only accessed by the polling thread.
+  private long lastEventId = -1;
+
+  // The last event id written to the catalog entity, only accessed by the polling thread.
+  private long persistedEventId = -1;
+
+  HiveNotificationSync(
+      NameIdentifier catalogIdent,
+      CachedClientPool clientPool,
+      int batchSize,
+      @Nullable EntityStore store,
+      Consumer<NameIdentifier> cacheInvalidator) {
+    this.catalogIdent = catalogIdent;
+    this.clientPool = clientPool;
+    this.batchSize = batchSize;
+    this.store = store;
+    this.cacheInvalidator = cacheInvalidator;
+  }
+
+  void start(long intervalMs) {
+    executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Hive-notification-sync-" + catalogIdent + "-%d")
+                .build());
+    executor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            poll();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (Exception e) {
+            LOG.warn("Failed to sync the notification events of catalog {}", catalogIdent, e);
+          }
+        },
+        0,
+        intervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Reads the events after the last applied one and applies them.
+   *
+   * @throws TException If reading the events fails.
+   * @throws InterruptedException If the thread is interrupted while waiting for a client.
+   */
+  @VisibleForTesting
+  void poll() throws TException, InterruptedException {
+    if (lastEventId < 0 && !resume()) {
+      return;
+    }
+
+    try {
+      pollEvents();
+    } finally {
+      persistLastEventId();
+    }
+  }
+
+  private void pollEvents() throws TException, InterruptedException {
+    while (true) {
+      long from = lastEventId;
+      List<NotificationEvent> events;
+      try {
+        NotificationEventResponse response =
+            clientPool.run(c -> c.getNextNotification(from, batchSize, null));
+        events = response.getEvents();
+      } catch (IllegalStateException e) {
+        // Newer clients fail if the events after the last applied one were already cleaned up.
+        // Any other failure is retried from the same event in the next poll.
+        if (e.getMessage() == null || !e.getMessage().contains(EVENTS_MISSING_MESSAGE)) {
+          throw e;
+        }
+        resync(e.getMessage());
+        return;
+      }
+      if (events == null || events.isEmpty()) {
+        return;
+      }
+
+      if (events.get(0).getEventId() > from + 1) {
+        resync("The events after " + from + " were cleaned up");
+        return;
+      }
+      for (NotificationEvent event : events) {
+        apply(event);
+        lastEventId = event.getEventId();
+      }
+      if (events.size() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Starts from the persisted event id if there is one, otherwise from the latest event.
+   *
+   * @return True if the events after the persisted id should be read.
+   */
+  private boolean resume() throws TException, InterruptedException {
+    long currentEventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+    long eventId = loadPersistedEventId();
+    if (eventId >= 0 && eventId <= currentEventId) {
+      LOG.info("Resume the notification sync of catalog {} from event {}", catalogIdent, eventId);
+      lastEventId = eventId;
+      persistedEventId = eventId;
+      return true;
+    }
+
+    // An id after the current one means the notification log was reset.
+    lastEventId = currentEventId;
+    persistLastEventId();
+    return false;
+  }
+
+  private long loadPersistedEventId() {
+    if (store == null) {
+      return -1;
+    }
+
+    Map<String, String> properties;
+    try {
+      properties =
+          store.get(catalogIdent, Entity.EntityType.CATALOG, CatalogEntity.class).getProperties();
+    } catch (IOException | NoSuchEntityException e) {
+      LOG.warn("Failed to load the notification event id of catalog {}", catalogIdent, e);
+      return -1;
+    }
+
+    String value =
+        properties == null ? null : properties.get(HiveConstants.NOTIFICATION_SYNC_LAST_EVENT_ID);
+    try {
+      return value == null ? -1 : Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid notification event id {} of catalog {}", value, catalogIdent);
+      return -1;
+    }
+  }
+
+  private void persistLastEventId() {
+    if (store == null || lastEventId < 0 || lastEventId == persistedEventId) {
+      return;
+    }
+
+    // The update fails if the catalog is altered concurrently, the id is persisted again in the
+    // next poll then.
+    long eventId = lastEventId;
+    try {
+      store.update(
+          catalogIdent,
+          CatalogEntity.class,
+          Entity.EntityType.CATALOG,
+          e -> {
+            Map<String, String> properties =
+                e.getProperties() == null ? Maps.newHashMap() : Maps.newHashMap(e.getProperties());
+            properties.put(HiveConstants.NOTIFICATION_SYNC_LAST_EVENT_ID, String.valueOf(eventId));
+            return CatalogEntity.builder()
+                .withId(e.id())
+                .withName(e.name())
+                .withNamespace(e.namespace())
+                .withType(e.getType())
+                .withProvider(e.getProvider())
+                .withComment(e.getComment())
+                .withProperties(properties)
+                .withAuditInfo(
+                    AuditInfo.builder()
+                        .withCreator(e.auditInfo().creator())
+                        .withCreateTime(e.auditInfo().createTime())
+                        .withLastModifier(e.auditInfo().lastModifier())
+                        .withLastModifiedTime(e.auditInfo().lastModifiedTime())
+                        .build())
+                .build();
+          });
+      persistedEventId = eventId;
+    } catch (IOException | NoSuchEntityException | EntityAlreadyExistsException e) {
+      LOG.warn("Failed to persist the notification event id of catalog {}", catalogIdent, e);
+    }
+  }
+
+  @VisibleForTesting
+  long lastEventId() {
+    return lastEventId;
+  }
+
+  @VisibleForTesting
+  void apply(NotificationEvent event) throws TException, InterruptedException {
+    String db = event.getDbName();
+    String table = event.getTableName();
+    if (db == null) {
+      return;
+    }
+    NameIdentifier schemaIdent =
+        NameIdentifierUtil.ofSchema(catalogIdent.namespace().level(0), catalogIdent.name(), db);
+
+    switch (event.getEventType()) {
+      case "CREATE_DATABASE":
+      case "ALTER_DATABASE":
+        cacheInvalidator.accept(schemaIdent);
+        break;
+
+      case "DROP_DATABASE":
+        cacheInvalidator.accept(schemaIdent);
+        if (!databaseExists(db)) {
+          deleteEntity(schemaIdent, schemaIdent, Entity.EntityType.SCHEMA);
+        }
+        break;
+
+      case "CREATE_TABLE":
+      case "ADD_PARTITION":
+      case "ALTER_PARTITION":
+      case "DROP_PARTITION":
+      case "INSERT":
+        cacheInvalidator.accept(NameIdentifier.of(schemaIdent, table));
+        break;
+
+      case "ALTER_TABLE":
+        applyAlterTable(event, schemaIdent);
+        break;
+
+      case "DROP_TABLE":
+        cacheInvalidator.accept(NameIdentifier.of(schemaIdent, table));
+        if (!clientPool.run(c -> c.tableExists(db, table))) {
+          deleteEntity(schemaIdent, NameIdentifier.of(schemaIdent, table), Entity.EntityType.TABLE);
+        }
+        break;
+
+      default:
+        // The other events, such as the function events, don't change the cached objects.
+        break;
+    }
+  }
+
+  private void applyAlterTable(NotificationEvent event, NameIdentifier schemaIdent)
+      throws TException, InterruptedException {
+    String db = event.getDbName();
+    NameIdentifier tableIdent = NameIdentifier.of(schemaIdent, event.getTableName());
+    cacheInvalidator.accept(tableIdent);
+
+    AlterTableMessage message;
+    try {
+      message =
+          MessageFactory.getInstance()
+              .getDeserializer()
+              .getAlterTableMessage(event.getMessage());
+    } catch (Exception e) {
+      // The message is encoded in a format this client doesn't know, the table may be renamed.
+      LOG.debug("Failed to deserialize the message of event {}", event.getEventId(), e);
+      cacheInvalidator.accept(schemaIdent);
+      return;
+    }
+
+    String oldName = message.getTable();
+    if (oldName == null || oldName.equals(tableIdent.name()) || !db.equals(message.getDB())) {
+      return;
+    }
+
+    NameIdentifier oldIdent = NameIdentifier.of(schemaIdent, oldName);
+    cacheInvalidator.accept(oldIdent);
+    if (store == null || clientPool.run(c -> c.tableExists(db, oldName))) {
+      return;
+    }
+
+    TreeLockUtils.doWithTreeLock(
+        schemaIdent,
+        LockType.WRITE,
+        () -> {
+          try {
+            store.update(
+                oldIdent,
+                TableEntity.class,
+                Entity.EntityType.TABLE,
+                e ->
+                    TableEntity.builder()
+                        .withId(e.id())
+                        .withName(tableIdent.name())
+                        .withNamespace(e.namespace())
+                        .withColumns(e.columns())
+                        .withAuditInfo(e.auditInfo())
+                        .build());
+          } catch (NoSuchEntityException e) {
+            // The table isn't imported, or it was renamed through Gravitino.
+          } catch (EntityAlreadyExistsException e) {
+            LOG.warn(
+                "Failed to rename table {} to {} in the entity store", oldIdent, tableIdent, e);
+          } catch (IOException e) {
+            LOG.warn("Failed to rename table {} in the entity store", oldIdent, e);
+          }
+          return null;
+        });
+  }
+
+  private boolean databaseExists(String db) throws TException, InterruptedException {
+    try {
+      clientPool.run(c -> c.getDatabase(db));
+      return true;
+    } catch (NoSuchObjectException e) {
+      return false;
+    }
+  }
+
+  private void deleteEntity(
+      NameIdentifier schemaIdent, NameIdentifier ident, Entity.EntityType type) {
+    if (store == null) {
+      return;
+    }
+
+    // Lock the same node as the dispatchers do to drop a schema or a table.
+    boolean isSchema = type == Entity.EntityType.SCHEMA;
+    NameIdentifier lockIdent =
+        isSchema ? NameIdentifierUtil.getCatalogIdentifier(ident) : schemaIdent;
+    TreeLockUtils.doWithTreeLock(
+        lockIdent,
+        LockType.WRITE,
+        () -> {
+          try {
+            store.delete(ident, type, isSchema /* cascade */);
+          } catch (IOException e) {
+            LOG.warn("Failed to delete {} {} from the entity store", type, ident, e);
+          }
+          return null;
+        });
+  }
+
+  private void resync(String reason) throws TException, InterruptedException {
+    LOG.warn(
+        "{}, invalidate the metadata cached by catalog {} and sync from the latest event",
+        reason,
+        catalogIdent);
+    lastEventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+    cacheInvalidator.accept(catalogIdent);
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+}
@@ -21,8 +21,11 @@ package org.apache.gravitino.catalog.hive;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -37,6 +40,7 @@ import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transforms;
 import org.apache.gravitino.rel.partitions.IdentityPartition;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
@@ -88,8 +92,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
     }
-    List<String> partCols =
-        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    List<String> partCols = partitionKeyNames();
 
     return partitions.stream()
         .map(
@@ -99,6 +102,111 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  @Override
+  public PartitionPage<String> listPartitionNames(String filter, String pageToken, int limit) {
+    PartitionPage.checkLimit(limit);
+    // Hive Metastore can't start a listing after a given partition, so the names matching the
+    // filter are listed and the page is taken from them. Only the names are loaded in full.
+    return PartitionPage.paginate(listPartitionNames(filter), name -> name, pageToken, limit);
+  }
+
+  @Override
+  public PartitionPage<Partition> listPartitions(String filter, String pageToken, int limit) {
+    PartitionPage<String> namePage = listPartitionNames(filter, pageToken, limit);
+    if (namePage.items().isEmpty()) {
+      return PartitionPage.of(Collections.emptyList(), namePage.nextPageToken());
+    }
+
+    List<org.apache.hadoop.hive.metastore.api.Partition> partitions;
+    try {
+      partitions =
+          table
+              .clientPool()
+              .run(
+                  c -> c.getPartitionsByNames(table.schemaName(), table.name(), namePage.items()));
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to get partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+    List<String> partCols = partitionKeyNames();
+    Map<String, Partition> partitionsByName = new HashMap<>();
+    for (org.apache.hadoop.hive.metastore.api.Partition partition : partitions) {
+      String partitionName = FileUtils.makePartName(partCols, partition.getValues());
+      partitionsByName.put(partitionName, fromHivePartition(partitionName, partition));
+    }
+
+    // The partitions dropped after their names were listed are skipped.
+    List<Partition> page =
+        namePage.items().stream()
+            .map(partitionsByName::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    return PartitionPage.of(page, namePage.nextPageToken());
+  }
+
+  private List<String> listPartitionNames(String filter) {
+    try {
+      if (filter == null) {
+        return table
+            .clientPool()
+            .run(c -> c.listPartitionNames(table.schemaName(), table.name(), (short) -1));
+      }
+
+      // The filter is pushed down as a partial partition spec, the absent fields match any value.
+      Map<String, String> predicates = Partitions.parseFilter(filter);
+      List<String> partitionKeys = partitionKeyNames();
+      if (!partitionKeys.containsAll(predicates.keySet())) {
+        return Collections.emptyList();
+      }
+      List<String> partitionValues =
+          partitionKeys.stream()
+              .map(key -> predicates.getOrDefault(key, ""))
+              .collect(Collectors.toList());
+      List<String> partitionNames =
+          table
+              .clientPool()
+              .run(
+                  c ->
+                      c.listPartitionNames(
+                          table.schemaName(), table.name(), partitionValues, (short) -1));
+
+      // Hive Metastore takes an empty value of the spec as any value, so the predicates on empty
+      // values are checked here, like Partitions#matches does.
+      Set<String> emptyFields =
+          predicates.entrySet().stream()
+              .filter(predicate -> predicate.getValue().isEmpty())
+              .map(Map.Entry::getKey)
+              .collect(Collectors.toSet());
+      if (emptyFields.isEmpty()) {
+        return partitionNames;
+      }
+      return partitionNames.stream()
+          .filter(name -> hasEmptyValues(name, emptyFields))
+          .collect(Collectors.toList());
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partition names of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  private List<String> partitionKeyNames() {
+    return table.buildPartitionKeys().stream()
+        .map(FieldSchema::getName)
+        .collect(Collectors.toList());
+  }
+
+  private static boolean hasEmptyValues(String partitionName, Set<String> fields) {
+    for (String field : partitionName.split(PARTITION_NAME_DELIMITER)) {
+      String[] fieldAndValue = field.split(PARTITION_VALUE_DELIMITER, 2);
+      if (fields.contains(FileUtils.unescapePathName(fieldAndValue[0]))
+          && fieldAndValue.length == 2
+          && !fieldAndValue[1].isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
@@ -24,13 +24,21 @@ import static org.apache.gravitino.Catalog.CLOUD_NAME;
 import static org.apache.gravitino.Catalog.CLOUD_REGION_CODE;
 import static org.apache.gravitino.Catalog.PROPERTY_IN_USE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CHECK_INTERVAL_SEC;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_ACQUIRE_TIMEOUT_MS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_IDLE_TIMEOUT_MS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_SIZE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.FETCH_TIMEOUT_SEC;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.IMPERSONATION_ENABLE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.KEY_TAB_URI;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_BATCH_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_ENABLED;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_LAST_EVENT_ID;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.TestHiveCatalog.HIVE_PROPERTIES_METADATA;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
@@ -39,8 +47,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.connector.BaseCatalog;
@@ -73,15 +83,24 @@ class TestHiveCatalogOperations {
     Map<String, PropertyEntry<?>> propertyEntryMap =
         HIVE_PROPERTIES_METADATA.catalogPropertiesMetadata().propertyEntries();
 
-    Assertions.assertEquals(16, propertyEntryMap.size());
+    Assertions.assertEquals(28, propertyEntryMap.size());
     Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_URIS));
     Assertions.assertTrue(propertyEntryMap.containsKey(Catalog.PROPERTY_PACKAGE));
     Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_OPERATION_IMPL));
     Assertions.assertTrue(propertyEntryMap.containsKey(PROPERTY_IN_USE));
     Assertions.assertTrue(propertyEntryMap.containsKey(AUTHORIZATION_PROVIDER));
     Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_SIZE));
+    Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_ACQUIRE_TIMEOUT_MS));
+    Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_IDLE_TIMEOUT_MS));
+    Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS));
     Assertions.assertTrue(propertyEntryMap.containsKey(IMPERSONATION_ENABLE));
     Assertions.assertTrue(propertyEntryMap.containsKey(LIST_ALL_TABLES));
+    Assertions.assertTrue(propertyEntryMap.containsKey(LIST_TABLES_BATCH_SIZE));
+    Assertions.assertTrue(propertyEntryMap.containsKey(NOTIFICATION_SYNC_ENABLED));
+    Assertions.assertTrue(propertyEntryMap.containsKey(NOTIFICATION_SYNC_INTERVAL_MS));
+    Assertions.assertTrue(propertyEntryMap.containsKey(NOTIFICATION_SYNC_BATCH_SIZE));
+    Assertions.assertTrue(propertyEntryMap.get(NOTIFICATION_SYNC_LAST_EVENT_ID).isHidden());
+    Assertions.assertTrue(propertyEntryMap.get(NOTIFICATION_SYNC_LAST_EVENT_ID).isReserved());
     Assertions.assertTrue(propertyEntryMap.get(METASTORE_URIS).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(Catalog.PROPERTY_PACKAGE).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(CLIENT_POOL_SIZE).isRequired());
@@ -98,6 +117,19 @@ class TestHiveCatalogOperations {
     Assertions.assertFalse(propertyEntryMap.get(CLOUD_REGION_CODE).isImmutable());
   }
 
+  @Test
+  void testIsHudiTable() {
+    Set<String> hudiTables = ImmutableSet.of("hudi", "hudi_ro_x");
+    Assertions.assertTrue(HiveCatalogOperations.isHudiTable("hudi", hudiTables));
+    Assertions.assertTrue(HiveCatalogOperations.isHudiTable("hudi_ro", hudiTables));
+    Assertions.assertTrue(HiveCatalogOperations.isHudiTable("hudi_rt", hudiTables));
+    Assertions.assertTrue(HiveCatalogOperations.isHudiTable("hudi_rt_1", hudiTables));
+    Assertions.assertTrue(HiveCatalogOperations.isHudiTable("hudi_ro_x_rt", hudiTables));
+    Assertions.assertFalse(HiveCatalogOperations.isHudiTable("hudi_1", hudiTables));
+    Assertions.assertFalse(HiveCatalogOperations.isHudiTable("hive_ro", hudiTables));
+    Assertions.assertFalse(HiveCatalogOperations.isHudiTable("_ro", hudiTables));
+  }
+
   @Test
   void testPropertyOverwrite() {
     Map<String, String> maps = Maps.newHashMap();
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.gravitino.utils.ClientPoolTimeoutException;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TestHiveNotificationSync {
+
+  private static final NameIdentifier CATALOG = NameIdentifier.of("metalake", "catalog");
+
+  private IMetaStoreClient client;
+
+  private CachedClientPool clientPool;
+
+  private List<NameIdentifier> invalidated;
+
+  private HiveNotificationSync sync;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws Exception {
+    client = mock(IMetaStoreClient.class);
+    clientPool = mock(CachedClientPool.class);
+    when(clientPool.run(any()))
+        .thenAnswer(
+            invocation ->
+                ((ClientPool.Action<Object, IMetaStoreClient, TException>)
+                        invocation.getArgument(0))
+                    .run(client));
+
+    invalidated = new ArrayList<>();
+    sync = new HiveNotificationSync(CATALOG, clientPool, 2, null, invalidated::add);
+  }
+
+  @Test
+  void testPoll() throws Exception {
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(10));
+    when(client.getNextNotification(eq(10L), anyInt(), any()))
+        .thenReturn(
+            new NotificationEventResponse(
+                ImmutableList.of(
+                    event(11, "CREATE_TABLE", "db1", "t1"),
+                    event(12, "ADD_PARTITION", "db1", "t2"))));
+    when(client.getNextNotification(eq(12L), anyInt(), any()))
+        .thenReturn(
+            new NotificationEventResponse(
+                ImmutableList.of(event(13, "DROP_DATABASE", "db2", null))));
+    when(client.getDatabase("db2")).thenThrow(new NoSuchObjectException());
+
+    // The first poll starts from the latest event.
+    sync.poll();
+    Assertions.assertEquals(10, sync.lastEventId());
+    Assertions.assertTrue(invalidated.isEmpty());
+
+    sync.poll();
+    Assertions.assertEquals(13, sync.lastEventId());
+    Assertions.assertEquals(
+        ImmutableList.of(
+            NameIdentifier.of("metalake", "catalog", "db1", "t1"),
+            NameIdentifier.of("metalake", "catalog", "db1", "t2"),
+            NameIdentifier.of("metalake", "catalog", "db2")),
+        invalidated);
+  }
+
+  @Test
+  void testPollMissingEvents() throws Exception {
+    when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(10), new CurrentNotificationEventId(20));
+    when(client.getNextNotification(anyLong(), anyInt(), any()))
+        .thenReturn(
+            new NotificationEventResponse(
+                ImmutableList.of(event(15, "CREATE_TABLE", "db1", "t1"))));
+
+    sync.poll();
+    sync.poll();
+    // The events 11 to 14 were cleaned up before they were read.
+    Assertions.assertEquals(20, sync.lastEventId());
+    Assertions.assertEquals(ImmutableList.of(CATALOG), invalidated);
+  }
+
+  @Test
+  void testPollEventsMissingInMetastore() throws Exception {
+    when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(10), new CurrentNotificationEventId(20));
+    when(client.getNextNotification(anyLong(), anyInt(), any()))
+        .thenThrow(
+            new IllegalStateException(
+                "Notification events are missing in the meta store. Requested event id is 11"));
+
+    sync.poll();
+    sync.poll();
+    Assertions.assertEquals(20, sync.lastEventId());
+    Assertions.assertEquals(ImmutableList.of(CATALOG), invalidated);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testPollClientPoolTimeout() throws Exception {
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(10));
+    sync.poll();
+
+    // All the clients are in use, the events are read again in the next poll.
+    when(clientPool.run(any()))
+        .thenThrow(new ClientPoolTimeoutException("Timed out waiting for a client"))
+        .thenAnswer(
+            invocation ->
+                ((ClientPool.Action<Object, IMetaStoreClient, TException>)
+                        invocation.getArgument(0))
+                    .run(client));
+    when(client.getNextNotification(eq(10L), anyInt(), any()))
+        .thenReturn(
+            new NotificationEventResponse(
+                ImmutableList.of(event(11, "CREATE_TABLE", "db1", "t1"))));
+
+    Assertions.assertThrows(ClientPoolTimeoutException.class, () -> sync.poll());
+    Assertions.assertEquals(10, sync.lastEventId());
+    Assertions.assertTrue(invalidated.isEmpty());
+
+    sync.poll();
+    Assertions.assertEquals(11, sync.lastEventId());
+    Assertions.assertEquals(
+        ImmutableList.of(NameIdentifier.of("metalake", "catalog", "db1", "t1")), invalidated);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testResumeFromPersistedEventId() throws Exception {
+    EntityStore store = mock(EntityStore.class);
+    CatalogEntity catalog = catalogEntity("15");
+    when(store.get(CATALOG, Entity.EntityType.CATALOG, CatalogEntity.class)).thenReturn(catalog);
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(20));
+    when(client.getNextNotification(eq(15L), anyInt(), any()))
+        .thenReturn(
+            new NotificationEventResponse(
+                ImmutableList.of(event(16, "CREATE_TABLE", "db1", "t1"))));
+    sync = new HiveNotificationSync(CATALOG, clientPool, 2, store, invalidated::add);
+
+    // The events applied before the restart are skipped, the later ones are applied.
+    sync.poll();
+    Assertions.assertEquals(16, sync.lastEventId());
+    Assertions.assertEquals(
+        ImmutableList.of(NameIdentifier.of("metalake", "catalog", "db1", "t1")), invalidated);
+
+    ArgumentCaptor<Function<CatalogEntity, CatalogEntity>> updater =
+        ArgumentCaptor.forClass(Function.class);
+    verify(store)
+        .update(
+            eq(CATALOG), eq(CatalogEntity.class), eq(Entity.EntityType.CATALOG), updater.capture());
+    CatalogEntity updated = updater.getValue().apply(catalog);
+    Assertions.assertEquals(
+        "16", updated.getProperties().get(HiveConstants.NOTIFICATION_SYNC_LAST_EVENT_ID));
+    Assertions.assertEquals("value", updated.getProperties().get("key"));
+    Assertions.assertEquals(catalog.id(), updated.id());
+  }
+
+  @Test
+  void testResumeAfterNotificationLogReset() throws Exception {
+    EntityStore store = mock(EntityStore.class);
+    when(store.get(CATALOG, Entity.EntityType.CATALOG, CatalogEntity.class))
+        .thenReturn(catalogEntity("30"));
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(20));
+    sync = new HiveNotificationSync(CATALOG, clientPool, 2, store, invalidated::add);
+
+    // The persisted id is after the current one, so the sync starts from the latest event.
+    sync.poll();
+    Assertions.assertEquals(20, sync.lastEventId());
+    verify(client, never()).getNextNotification(anyLong(), anyInt(), any());
+    verify(store)
+        .update(eq(CATALOG), eq(CatalogEntity.class), eq(Entity.EntityType.CATALOG), any());
+  }
+
+  @Test
+  void testApplyRenameTable() throws Exception {
+    NotificationEvent event = event(11, "ALTER_TABLE", "db1", "t2");
+    event.setMessage(
+        "{\"server\":\"\",\"servicePrincipal\":\"\",\"db\":\"db1\",\"table\":\"t1\","
+            + "\"timestamp\":0}");
+
+    sync.apply(event);
+    Assertions.assertEquals(
+        ImmutableList.of(
+            NameIdentifier.of("metalake", "catalog", "db1", "t2"),
+            NameIdentifier.of("metalake", "catalog", "db1", "t1")),
+        invalidated);
+  }
+
+  @Test
+  void testApplyUnknownMessage() throws Exception {
+    NotificationEvent event = event(11, "ALTER_TABLE", "db1", "t2");
+    event.setMessage("not a json message");
+
+    // The old name is unknown, so the whole schema is invalidated.
+    sync.apply(event);
+    Assertions.assertEquals(
+        ImmutableList.of(
+            NameIdentifier.of("metalake", "catalog", "db1", "t2"),
+            NameIdentifier.of("metalake", "catalog", "db1")),
+        invalidated);
+  }
+
+  private static CatalogEntity catalogEntity(String lastEventId) {
+    return CatalogEntity.builder()
+        .withId(1L)
+        .withName(CATALOG.name())
+        .withNamespace(CATALOG.namespace())
+        .withType(Catalog.Type.RELATIONAL)
+        .withProvider("hive")
+        .withProperties(
+            ImmutableMap.of(
+                "key", "value", HiveConstants.NOTIFICATION_SYNC_LAST_EVENT_ID, lastEventId))
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build())
+        .build();
+  }
+
+  private static NotificationEvent event(long id, String type, String db, String table) {
+    NotificationEvent event = new NotificationEvent(id, 0, type, "");
+    event.setDbName(db);
+    event.setTableName(table);
+    return event;
+  }
+}
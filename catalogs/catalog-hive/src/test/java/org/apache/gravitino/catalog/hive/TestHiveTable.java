@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.catalog.hive;
 
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
 import static org.apache.gravitino.catalog.hive.HiveTablePropertiesMetadata.TABLE_TYPE;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
@@ -26,11 +28,14 @@ import static org.apache.gravitino.rel.expressions.transforms.Transforms.identit
 import static org.apache.hadoop.hive.metastore.TableType.EXTERNAL_TABLE;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -96,6 +101,10 @@ public class TestHiveTable extends MiniHiveMetastoreService {
   }
 
   protected static HiveCatalog initHiveCatalog() {
+    return initHiveCatalog(ImmutableMap.of());
+  }
+
+  protected static HiveCatalog initHiveCatalog(Map<String, String> extraConf) {
     AuditInfo auditInfo =
         AuditInfo.builder().withCreator("testHiveUser").withCreateTime(Instant.now()).build();
 
@@ -124,6 +133,7 @@ public class TestHiveTable extends MiniHiveMetastoreService {
     conf.put(
         CATALOG_BYPASS_PREFIX + HiveConf.ConfVars.HIVE_IN_TEST.varname,
         hiveConf.get(HiveConf.ConfVars.HIVE_IN_TEST.varname));
+    conf.putAll(extraConf);
 
     return new HiveCatalog().withCatalogConf(conf).withCatalogEntity(entity);
   }
@@ -381,6 +391,43 @@ public class TestHiveTable extends MiniHiveMetastoreService {
     Assertions.assertTrue(exception.getMessage().contains("Schema (database) does not exist"));
   }
 
+  @Test
+  public void testListTablesInfo() throws IOException {
+    Namespace tableNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), hiveSchema.name());
+    Column[] columns =
+        new Column[] {
+          HiveColumn.builder().withName("col_1").withType(Types.ByteType.get()).build()
+        };
+    for (int i = 0; i < 5; i++) {
+      hiveCatalogOperations.createTable(
+          NameIdentifier.of(tableNs, "table_" + i), columns, HIVE_COMMENT, ImmutableMap.of());
+    }
+    hiveCatalogOperations.createTable(
+        NameIdentifier.of(tableNs, "iceberg_table"),
+        columns,
+        HIVE_COMMENT,
+        ImmutableMap.of("table_type", "ICEBERG"));
+
+    // Fetch the tables in 3 batches with 2 clients.
+    try (HiveCatalog batchedCatalog =
+        initHiveCatalog(ImmutableMap.of(LIST_TABLES_BATCH_SIZE, "2", CLIENT_POOL_SIZE, "2"))) {
+      HiveCatalogOperations ops = (HiveCatalogOperations) batchedCatalog.ops();
+      Table[] tables = ops.listTablesInfo(tableNs);
+
+      Assertions.assertEquals(
+          ImmutableSet.of("table_0", "table_1", "table_2", "table_3", "table_4"),
+          Arrays.stream(tables).map(Table::name).collect(Collectors.toSet()));
+      for (Table table : tables) {
+        Assertions.assertInstanceOf(HiveTable.class, table);
+        Assertions.assertEquals(HIVE_COMMENT, table.comment());
+        Assertions.assertEquals("col_1", table.columns()[0].name());
+      }
+
+      Namespace notExistNs = Namespace.of(META_LAKE_NAME, hiveCatalog.name(), "not_exist_db");
+      Assertions.assertThrows(NoSuchSchemaException.class, () -> ops.listTablesInfo(notExistNs));
+    }
+  }
+
   @Test
   public void testAlterHiveTable() {
     // create a table with random name
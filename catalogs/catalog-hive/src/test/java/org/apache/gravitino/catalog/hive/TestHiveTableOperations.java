@@ -26,6 +26,7 @@ import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveCatalog;
 import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveSchema;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.identity;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -39,6 +40,7 @@ import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.types.Types;
 import org.junit.jupiter.api.Assertions;
@@ -110,6 +112,28 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionPages() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    PartitionPage<String> namePage = partitions.listPartitionNames("city=0", null, 100);
+    Assertions.assertTrue(namePage.items().contains(existingPartition.name()));
+    Assertions.assertTrue(namePage.items().stream().allMatch(name -> name.startsWith("city=0/")));
+
+    PartitionPage<Partition> page = partitions.listPartitions("city=0", null, 100);
+    Assertions.assertTrue(page.items().contains(existingPartition));
+    Assertions.assertTrue(partitions.listPartitions("country=us", null, 100).items().isEmpty());
+    // An empty value only matches the partitions with an empty value, not any value.
+    Assertions.assertTrue(partitions.listPartitionNames("city=0/dt=", null, 100).items().isEmpty());
+    Assertions.assertTrue(partitions.listPartitions("dt=", null, 100).items().isEmpty());
+
+    // The pages of one partition cover all the partitions in the order of their names.
+    String[] partitionNames = partitions.listPartitionNames();
+    Arrays.sort(partitionNames);
+    Assertions.assertEquals(
+        Arrays.asList(partitionNames),
+        Lists.newArrayList(partitions.partitionNameIterator(null, 1)));
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
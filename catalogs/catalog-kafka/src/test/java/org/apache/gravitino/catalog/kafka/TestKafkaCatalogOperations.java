@@ -150,6 +150,10 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME))
+        .thenReturn(3_600_000L);
 
     File f = FileUtils.getFile(STORE_PATH);
     f.deleteOnExit();
@@ -159,11 +163,13 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     // Fix cache config for test
     Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_SYNC_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
     Mockito.when(config.get(Configs.CACHE_EXPIRATION_TIME)).thenReturn(3_600_000L);
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(64);
 
     // Mock
     MetalakeMetaService metalakeMetaService = MetalakeMetaService.getInstance();
@@ -71,14 +71,16 @@ public class HudiCatalogOperations implements CatalogOperations, SupportsSchemas
   public void initialize(
       Map<String, String> config, CatalogInfo info, HasPropertyMetadata propertiesMetadata)
       throws RuntimeException {
-    HudiCatalogBackend hudiCatalogBackend =
-        CatalogUtils.loadHudiCatalogBackend(
-            ImmutableMap.<String, String>builder()
-                .putAll(config)
-                .put(
-                    CatalogUtils.CATALOG_ID_KEY,
-                    (Objects.nonNull(info) ? String.valueOf(info.id()) : "0"))
-                .build());
+    ImmutableMap.Builder<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .putAll(config)
+            .put(
+                CatalogUtils.CATALOG_ID_KEY,
+                (Objects.nonNull(info) ? String.valueOf(info.id()) : "0"));
+    if (Objects.nonNull(info)) {
+      properties.put(CatalogUtils.CATALOG_NAME_KEY, info.namespace().level(0) + "." + info.name());
+    }
+    HudiCatalogBackend hudiCatalogBackend = CatalogUtils.loadHudiCatalogBackend(properties.build());
     hudiCatalogBackendOps = hudiCatalogBackend.backendOps();
   }
 
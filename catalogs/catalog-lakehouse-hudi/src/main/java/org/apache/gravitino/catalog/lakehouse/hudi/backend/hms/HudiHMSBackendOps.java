@@ -75,7 +75,8 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
   @Override
   public void initialize(Map<String, String> properties) {
     HiveConf hiveConf = buildHiveConfAndInitKerberosAuth(properties);
-    this.clientPool = new CachedClientPool(hiveConf, properties);
+    this.clientPool =
+        new CachedClientPool(hiveConf, properties, properties.get(CatalogUtils.CATALOG_NAME_KEY));
   }
 
   @Override
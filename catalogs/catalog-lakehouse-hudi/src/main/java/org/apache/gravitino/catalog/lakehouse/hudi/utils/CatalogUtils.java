@@ -30,6 +30,10 @@ public class CatalogUtils {
 
   public static final String CATALOG_ID_KEY = "catalogId";
 
+  // The name of the catalog in the form of `metalake.catalog`, used to name the client pool
+  // metrics.
+  public static final String CATALOG_NAME_KEY = "catalogName";
+
   private CatalogUtils() {}
 
   public static HudiCatalogBackend loadHudiCatalogBackend(Map<String, String> properties) {
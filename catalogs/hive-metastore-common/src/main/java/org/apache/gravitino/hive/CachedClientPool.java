@@ -32,7 +32,10 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.catalog.hive.HiveConstants;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.utils.ClientPool;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
@@ -58,9 +61,26 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final long acquireTimeoutMs;
+  private final long idleTimeoutMs;
+  private final long healthCheckIntervalMs;
   private final ScheduledThreadPoolExecutor scheduler;
+  @Nullable private final ClientPoolMetricsSource metricsSource;
 
   public CachedClientPool(Configuration hiveConf, Map<String, String> properties) {
+    this(hiveConf, properties, null);
+  }
+
+  /**
+   * Creates a CachedClientPool which exports the metrics of its pools.
+   *
+   * @param hiveConf The configuration used to initialize the Hive Metastore clients.
+   * @param properties The properties of the catalog.
+   * @param metricsName The name of the pool metrics, such as {@code metalake.catalog}, or null to
+   *     export no metrics.
+   */
+  public CachedClientPool(
+      Configuration hiveConf, Map<String, String> properties, @Nullable String metricsName) {
     int clientPoolSize =
         (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_SIZE);
     long evictionInterval =
@@ -70,6 +90,17 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
     this.conf = hiveConf;
     this.clientPoolSize = clientPoolSize;
+    this.acquireTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS);
+    this.idleTimeoutMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS);
+    this.healthCheckIntervalMs =
+        (long)
+            PROPERTIES_METADATA.getOrDefault(
+                properties, HiveConstants.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS);
     // Since Caffeine does not ensure that removalListener will be involved after expiration
     // We use a scheduler with one thread to clean up expired clients.
     scheduler = new ScheduledThreadPoolExecutor(1, newDaemonThreadFactory());
@@ -79,12 +110,38 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             .removalListener((ignored, value, cause) -> ((HiveClientPool) value).close())
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
+    if (idleTimeoutMs > 0) {
+      // The pools close the expired idle clients when handing out clients, the scheduler closes
+      // the ones of the pools which are not used anymore.
+      scheduler.scheduleWithFixedDelay(
+          () -> clientPoolCache.asMap().values().forEach(HiveClientPool::evictIdleClients),
+          idleTimeoutMs,
+          idleTimeoutMs,
+          TimeUnit.MILLISECONDS);
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsName != null && metricsSystem != null) {
+      this.metricsSource = new ClientPoolMetricsSource(metricsName);
+      metricsSystem.register(metricsSource);
+    } else {
+      this.metricsSource = null;
+    }
   }
 
   @VisibleForTesting
   public HiveClientPool clientPool() {
     Key key = extractKey();
-    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf));
+    return clientPoolCache.get(
+        key,
+        k ->
+            new HiveClientPool(
+                clientPoolSize,
+                conf,
+                acquireTimeoutMs,
+                idleTimeoutMs,
+                healthCheckIntervalMs,
+                metricsSource));
   }
 
   @VisibleForTesting
@@ -155,5 +212,10 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
     scheduler.shutdownNow();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 }
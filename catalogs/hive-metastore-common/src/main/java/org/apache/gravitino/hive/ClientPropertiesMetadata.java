@@ -29,6 +29,10 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
   private static final int DEFAULT_CLIENT_POOL_SIZE = 1;
   private static final long DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS =
       TimeUnit.MINUTES.toMillis(5);
+  private static final long DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+  private static final long DEFAULT_CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS =
+      TimeUnit.SECONDS.toMillis(30);
   private static final Map<String, PropertyEntry<?>> PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -47,6 +51,33 @@ public class ClientPropertiesMetadata implements PropertiesMetadata {
                   false /* immutable */,
                   DEFAULT_CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
                   false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  "The maximum time to wait for a Hive metastore client when all the clients of "
+                      + "the pool are in use, non-positive to wait forever",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_ACQUIRE_TIMEOUT_MS,
+                  false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  "The time after which an idle Hive metastore client is closed, non-positive to "
+                      + "keep the idle clients",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_IDLE_TIMEOUT_MS,
+                  false /* hidden */))
+          .put(
+              HiveConstants.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  HiveConstants.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS,
+                  "The idle time after which a Hive metastore client is checked before being "
+                      + "reused, non-positive to never check",
+                  false /* immutable */,
+                  DEFAULT_CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS,
+                  false /* hidden */))
           .build();
 
   @Override
@@ -19,8 +19,10 @@
 package org.apache.gravitino.hive;
 
 import com.google.common.annotations.VisibleForTesting;
+import javax.annotation.Nullable;
 import org.apache.gravitino.hive.dyn.DynMethods;
 import org.apache.gravitino.hive.dyn.DynMethods.StaticMethod;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.utils.ClientPoolImpl;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.conf.HiveConf;
@@ -63,8 +65,37 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
    * @param conf The configuration used to initialize the Hive Metastore clients.
    */
   public HiveClientPool(int poolSize, Configuration conf) {
+    this(poolSize, conf, 0L, 0L, 0L, null);
+  }
+
+  /**
+   * Creates a new HiveClientPool with the specified pool size, timeouts and configuration.
+   *
+   * @param poolSize The number of clients in the pool.
+   * @param conf The configuration used to initialize the Hive Metastore clients.
+   * @param acquireTimeoutMs The maximum time to wait for a client, non-positive to wait forever.
+   * @param idleTimeoutMs The time after which an idle client is closed, non-positive to keep the
+   *     idle clients.
+   * @param healthCheckIntervalMs The idle time after which a client is checked before being handed
+   *     out, non-positive to never check.
+   * @param metricsSource The metrics source to record the pool metrics to, may be null.
+   */
+  public HiveClientPool(
+      int poolSize,
+      Configuration conf,
+      long acquireTimeoutMs,
+      long idleTimeoutMs,
+      long healthCheckIntervalMs,
+      @Nullable ClientPoolMetricsSource metricsSource) {
     // Do not allow retry by default as we rely on RetryingHiveClient
-    super(poolSize, TTransportException.class, false);
+    super(
+        poolSize,
+        TTransportException.class,
+        false,
+        acquireTimeoutMs,
+        idleTimeoutMs,
+        healthCheckIntervalMs,
+        metricsSource);
     this.hiveConf = new HiveConf(conf, HiveClientPool.class);
     this.hiveConf.addResource(conf);
   }
@@ -118,6 +149,19 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
                 .contains("Got exception: org.apache.thrift.transport.TTransportException"));
   }
 
+  @Override
+  protected boolean isHealthy(IMetaStoreClient client) {
+    try {
+      // A cheap round trip to the metastore which doesn't touch its database.
+      client.getMetaConf(
+          HiveConf.ConfVars.METASTORE_DISALLOW_INCOMPATIBLE_COL_TYPE_CHANGES.varname);
+      return true;
+    } catch (TException e) {
+      LOG.warn("Hive Metastore client failed the health check", e);
+      return false;
+    }
+  }
+
   @Override
   protected void close(IMetaStoreClient client) {
     LOG.info("Closing Hive Metastore client");
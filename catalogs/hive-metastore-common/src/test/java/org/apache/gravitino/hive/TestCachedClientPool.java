@@ -56,6 +56,29 @@ public class TestCachedClientPool extends MiniHiveMetastoreService {
     Assertions.assertTrue(clientPool2.isClosed());
   }
 
+  @Test
+  public void testIdleClientHealthCheck() throws Exception {
+    Map<String, String> props =
+        ImmutableMap.of(
+            HiveConstants.CLIENT_POOL_SIZE,
+            "1",
+            HiveConstants.CLIENT_POOL_HEALTH_CHECK_INTERVAL_MS,
+            "1");
+    CachedClientPool clientPool = new CachedClientPool(MiniHiveMetastoreService.hiveConf, props);
+    try {
+      clientPool.run(client -> client.getAllDatabases());
+      TimeUnit.MILLISECONDS.sleep(10);
+      clientPool.run(client -> client.getAllDatabases());
+
+      // The idle client passes the health check and is reused.
+      HiveClientPool hiveClientPool = clientPool.clientPool();
+      Assertions.assertEquals(1L, hiveClientPool.createdClients());
+      Assertions.assertEquals(1, hiveClientPool.idleClients());
+    } finally {
+      clientPool.close();
+    }
+  }
+
   @Test
   public void testCacheKey() throws Exception {
     UserGroupInformation current = UserGroupInformation.getCurrentUser();
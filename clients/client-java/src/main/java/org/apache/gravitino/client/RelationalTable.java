@@ -52,6 +52,7 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.tag.SupportsTags;
 import org.apache.gravitino.tag.Tag;
@@ -211,6 +212,66 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.getPartitions();
   }
 
+  /**
+   * Lists a page of the partition names of the table, the filter and the paging are applied by the
+   * server. Use {@link #partitionNameIterator(String, int)} to iterate over all the pages.
+   *
+   * @param filter The partition filter, or null to list all the partitions.
+   * @param pageToken The token of the page, or null for the first page.
+   * @param limit The maximum number of partition names of the page.
+   * @return The page of partition names.
+   */
+  @Override
+  public PartitionPage<String> listPartitionNames(
+      @Nullable String filter, @Nullable String pageToken, int limit) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            pageParams(filter, pageToken, limit),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return PartitionPage.of(Arrays.asList(resp.partitionNames()), resp.nextPageToken());
+  }
+
+  /**
+   * Lists a page of the partitions of the table, the filter and the paging are applied by the
+   * server. Use {@link #partitionIterator(String, int)} to iterate over all the pages.
+   *
+   * @param filter The partition filter, or null to list all the partitions.
+   * @param pageToken The token of the page, or null for the first page.
+   * @param limit The maximum number of partitions of the page.
+   * @return The page of partitions.
+   */
+  @Override
+  public PartitionPage<Partition> listPartitions(
+      @Nullable String filter, @Nullable String pageToken, int limit) {
+    Map<String, String> params = pageParams(filter, pageToken, limit);
+    params.put("details", "true");
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            params,
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return PartitionPage.of(Arrays.asList(resp.getPartitions()), resp.getNextPageToken());
+  }
+
+  private static Map<String, String> pageParams(
+      @Nullable String filter, @Nullable String pageToken, int limit) {
+    PartitionPage.checkLimit(limit);
+    Map<String, String> params = new HashMap<>();
+    params.put("limit", String.valueOf(limit));
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params;
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -70,6 +70,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -747,6 +748,53 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertArrayEquals(expected.partitioning(), actual.partitioning());
   }
 
+  @Test
+  public void testListTablesInfo() throws JsonProcessingException {
+    Namespace fullNamespace = Namespace.of(metalakeName, catalogName, "schema1");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace));
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO table1 =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            new Partitioning[0],
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+    TableDTO table2 =
+        createMockTable(
+            "table2",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            new Partitioning[0],
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+
+    TableListResponse resp = new TableListResponse(new TableDTO[] {table1, table2});
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("details", "true"), null, resp, SC_OK);
+    Table[] tables = catalog.asTableCatalog().listTablesInfo(Namespace.of("schema1"));
+
+    Assertions.assertEquals(2, tables.length);
+    assertTableEquals(fromDTO(table1), tables[0]);
+    assertTableEquals(fromDTO(table2), tables[1]);
+
+    // Test throw NoSuchSchemaException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(
+        Method.GET, tablePath, ImmutableMap.of("details", "true"), null, errorResp, SC_NOT_FOUND);
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Namespace namespace1 = Namespace.of("schema1");
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchSchemaException.class, () -> tableCatalog.listTablesInfo(namespace1));
+    Assertions.assertTrue(ex.getMessage().contains("schema not found"));
+  }
+
   @Test
   public void testLoadTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
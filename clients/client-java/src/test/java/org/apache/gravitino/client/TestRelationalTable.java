@@ -26,8 +26,11 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.Iterator;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.SchemaDTO;
@@ -167,6 +170,32 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testIteratePartitionNames() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    String[] names = new String[] {"dt=2024-01-01/hr=00", "dt=2024-01-01/hr=01"};
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        ImmutableMap.of("filter", "dt=2024-01-01", "limit", "1"),
+        null,
+        new PartitionNameListResponse(new String[] {names[0]}, names[0]),
+        SC_OK);
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        ImmutableMap.of("filter", "dt=2024-01-01", "limit", "1", "pageToken", names[0]),
+        null,
+        new PartitionNameListResponse(new String[] {names[1]}, null),
+        SC_OK);
+
+    // The pages are loaded one by one while iterating.
+    Iterator<String> iterator =
+        partitionedTable.supportPartitions().partitionNameIterator("dt=2024-01-01", 1);
+    Assertions.assertEquals(ImmutableList.copyOf(names), ImmutableList.copyOf(iterator));
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
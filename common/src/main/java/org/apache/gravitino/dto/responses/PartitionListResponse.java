@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -33,14 +35,30 @@ public class PartitionListResponse extends BaseResponse {
   @JsonProperty("partitions")
   private final PartitionDTO[] partitions;
 
+  @JsonProperty("nextPageToken")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Nullable
+  private final String nextPageToken;
+
   /**
    * Creates a new PartitionListResponse.
    *
    * @param partitions The list of partitions.
    */
   public PartitionListResponse(PartitionDTO[] partitions) {
+    this(partitions, null);
+  }
+
+  /**
+   * Creates a new PartitionListResponse of a page of partitions.
+   *
+   * @param partitions The list of partitions.
+   * @param nextPageToken The token of the next page, or null if this is the last page.
+   */
+  public PartitionListResponse(PartitionDTO[] partitions, @Nullable String nextPageToken) {
     super(0);
     this.partitions = partitions;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -50,5 +68,6 @@ public class PartitionListResponse extends BaseResponse {
   public PartitionListResponse() {
     super();
     this.partitions = null;
+    this.nextPageToken = null;
   }
 }
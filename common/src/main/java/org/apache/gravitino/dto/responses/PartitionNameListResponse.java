@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -30,20 +32,37 @@ public class PartitionNameListResponse extends BaseResponse {
   @JsonProperty("names")
   private final String[] partitionNames;
 
+  @JsonProperty("nextPageToken")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Nullable
+  private final String nextPageToken;
+
   /**
    * Constructor for PartitionNameListResponse.
    *
    * @param partitionNames The array of partition names.
    */
   public PartitionNameListResponse(String[] partitionNames) {
+    this(partitionNames, null);
+  }
+
+  /**
+   * Constructor for PartitionNameListResponse of a page of partition names.
+   *
+   * @param partitionNames The array of partition names.
+   * @param nextPageToken The token of the next page, or null if this is the last page.
+   */
+  public PartitionNameListResponse(String[] partitionNames, @Nullable String nextPageToken) {
     super(0);
     this.partitionNames = partitionNames;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for PartitionNameListResponse. (Used for Jackson deserialization.) */
   public PartitionNameListResponse() {
     super();
     this.partitionNames = null;
+    this.nextPageToken = null;
   }
 
   /** @return The array of partition names. */
@@ -51,6 +70,12 @@ public class PartitionNameListResponse extends BaseResponse {
     return partitionNames;
   }
 
+  /** @return The token of the next page, or null if this is the last page. */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
@@ -27,6 +27,8 @@ import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.Namespace;
@@ -658,4 +660,107 @@ public class TestCaffeineEntityCacheCoherence {
       r.r1 = "SUCCESS";
     }
   }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "1",
+        expect = Expect.ACCEPTABLE,
+        desc = "The loader ran once; the second getOrLoad() observed the loaded entity."),
+    @Outcome(
+        id = "2",
+        expect = Expect.FORBIDDEN,
+        desc = "The loader ran twice; loads of the same key are not single-flight.")
+  })
+  @Description(
+      "Tests concurrent getOrLoad() on the same missing key. "
+          + "Only one loader should hit the store, the other caller must reuse its result.")
+  @State
+  public static class ConcurrentGetOrLoadSameKeyTest {
+    private final EntityCache cache;
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    public ConcurrentGetOrLoadSameKeyTest() {
+      this.cache = new CaffeineEntityCache(new Config() {});
+    }
+
+    @Actor
+    public void actor1() {
+      load();
+    }
+
+    @Actor
+    public void actor2() {
+      load();
+    }
+
+    @Arbiter
+    public void arbiter(I_Result r) {
+      r.r1 = loadCount.get();
+    }
+
+    private void load() {
+      cache.getOrLoad(
+          schemaEntity.nameIdentifier(),
+          schemaEntity.type(),
+          () -> {
+            loadCount.incrementAndGet();
+            return schemaEntity;
+          });
+    }
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(
+        id = "NULL",
+        expect = Expect.ACCEPTABLE,
+        desc = "The invalidation removed the loaded entity."),
+    @Outcome(
+        id = "NEW",
+        expect = Expect.ACCEPTABLE,
+        desc = "The load happened after the update and cached the new entity."),
+    @Outcome(
+        id = "OLD",
+        expect = Expect.FORBIDDEN,
+        desc = "A load that started before the update cached a stale entity.")
+  })
+  @Description(
+      "Tests getOrLoad() racing with an update followed by invalidate(), the order in which "
+          + "RelationalEntityStore updates and deletes entities. "
+          + "A stale entity loaded before the update must never survive the invalidation.")
+  @State
+  public static class GetOrLoadWithInvalidateCoherenceTest {
+    private static final SchemaEntity updatedSchemaEntity =
+        getTestSchemaEntity(
+            1L, "schema1", Namespace.of("metalake1", "catalog1"), "test_schema1_updated");
+    private final EntityCache cache;
+    private final AtomicReference<SchemaEntity> store = new AtomicReference<>(schemaEntity);
+
+    public GetOrLoadWithInvalidateCoherenceTest() {
+      this.cache = new CaffeineEntityCache(new Config() {});
+    }
+
+    @Actor
+    public void actor1() {
+      cache.getOrLoad(schemaEntity.nameIdentifier(), schemaEntity.type(), store::get);
+    }
+
+    @Actor
+    public void actor2() {
+      store.set(updatedSchemaEntity);
+      cache.invalidate(schemaEntity.nameIdentifier(), schemaEntity.type());
+    }
+
+    @Arbiter
+    public void arbiter(L_Result r) {
+      Optional<SchemaEntity> cached =
+          cache.getIfPresent(schemaEntity.nameIdentifier(), schemaEntity.type());
+      if (!cached.isPresent()) {
+        r.r1 = "NULL";
+      } else {
+        r.r1 = cached.get() == updatedSchemaEntity ? "NEW" : "OLD";
+      }
+    }
+  }
 }
@@ -289,6 +289,10 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(DB_DIR);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME))
+        .thenReturn(3_600_000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     // Fix cache config for test
@@ -298,6 +302,7 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(64);
 
     try {
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
@@ -309,6 +314,10 @@ public class AbstractEntityStorageBenchmark<E extends Entity & HasIdentifier> {
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+      Mockito.when(config.get(Configs.ENTITY_ID_CACHE_ENABLED)).thenReturn(true);
+      Mockito.when(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+      Mockito.when(config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME))
+          .thenReturn(3_600_000L);
 
       FieldUtils.writeStaticField(
           SQLExceptionConverterFactory.class, "converter", new H2ExceptionConverter(), true);
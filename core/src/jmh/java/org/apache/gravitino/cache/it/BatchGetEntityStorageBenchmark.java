@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache.it;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for loading all the users of a metalake with {@code EntityStore.batchGet()} compared
+ * with one {@code EntityStore.get()} call per user.
+ *
+ * <p>Before every invocation the users are evicted from the entity cache, so both methods measure
+ * the cache-miss path. The batch method resolves the users and their roles with a fixed number of
+ * queries, while the per-user method issues the same queries once for every user.
+ *
+ * @see org.apache.gravitino.EntityStore#batchGet(List, Entity.EntityType, Class)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class BatchGetEntityStorageBenchmark<E extends Entity & HasIdentifier>
+    extends AbstractEntityStorageBenchmark {
+
+  private EntityCache cache;
+  private List<NameIdentifier> userIdents;
+
+  @Setup(Level.Trial)
+  public void initIdents() throws IllegalAccessException {
+    this.cache = (EntityCache) FieldUtils.readField(store, "cache", true);
+    this.userIdents =
+        entitiesWithRelations.keySet().stream()
+            .map(UserEntity::nameIdentifier)
+            .collect(Collectors.toList());
+  }
+
+  @Setup(Level.Invocation)
+  public void evict() {
+    for (NameIdentifier ident : userIdents) {
+      cache.invalidate(ident, Entity.EntityType.USER);
+    }
+  }
+
+  /**
+   * Loads all the users with a single batch call.
+   *
+   * @return The users from store.
+   */
+  @Benchmark
+  public List<UserEntity> benchmarkBatchGet() {
+    try {
+      return validateSize(store.batchGet(userIdents, Entity.EntityType.USER, UserEntity.class));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Loads all the users one by one.
+   *
+   * @return The users from store.
+   */
+  @Benchmark
+  public List<UserEntity> benchmarkGetOneByOne() {
+    List<UserEntity> users = new ArrayList<>(userIdents.size());
+    try {
+      for (NameIdentifier ident : userIdents) {
+        users.add(store.get(ident, Entity.EntityType.USER, UserEntity.class));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return validateSize(users);
+  }
+
+  private List<UserEntity> validateSize(List<UserEntity> users) {
+    if (users.size() != userIdents.size()) {
+      throw new RuntimeException("Users size not equal");
+    }
+    return users;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache.it;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.cache.BenchmarkHelper;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.ModelEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for the cache-miss path of {@code EntityStore.get()} under an increasing number of
+ * threads.
+ *
+ * <p>All threads share one store. Before every invocation each thread evicts the entity it is about
+ * to read from the entity cache, so every measured {@code get} goes to the relational backend and
+ * loads the entity back into the cache. With per-key loading, throughput should grow with the
+ * thread count until the backend connection pool or the CPU is saturated, instead of staying flat
+ * as it would with a single cache-wide lock around backend reads.
+ *
+ * <p>The thread counts are fixed per method with {@code @Threads}. The {@code threads} option of
+ * the Gradle JMH plugin overrides these annotations, so unset it (or pass {@code -t} explicitly
+ * for each run) when comparing the methods.
+ *
+ * @see org.apache.gravitino.cache.EntityCache#getOrLoad(org.apache.gravitino.NameIdentifier,
+ *     Entity.EntityType, EntityCache.ThrowingSupplier)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentLoadEntityStorageBenchmark<E extends Entity & HasIdentifier>
+    extends AbstractEntityStorageBenchmark {
+
+  /** Per-thread state which picks the next entity and evicts it from the cache. */
+  @State(Scope.Thread)
+  public static class MissState {
+    private EntityCache cache;
+    private ModelEntity entity;
+
+    @Setup(Level.Trial)
+    public void init(ConcurrentLoadEntityStorageBenchmark<?> benchmark)
+        throws IllegalAccessException {
+      this.cache = (EntityCache) FieldUtils.readField(benchmark.store, "cache", true);
+    }
+
+    @Setup(Level.Invocation)
+    public void evict(ConcurrentLoadEntityStorageBenchmark<?> benchmark) {
+      int idx = ThreadLocalRandom.current().nextInt(benchmark.entities.size());
+      this.entity = (ModelEntity) benchmark.entities.get(idx);
+      cache.invalidate(entity.nameIdentifier(), entity.type());
+    }
+  }
+
+  /**
+   * Loads a missing entity with a single thread.
+   *
+   * @param state The per-thread state.
+   * @return The entity from store.
+   */
+  @Benchmark
+  @Threads(1)
+  public Entity benchmarkLoadWith1Thread(MissState state) {
+    return load(state);
+  }
+
+  /**
+   * Loads missing entities with 4 threads.
+   *
+   * @param state The per-thread state.
+   * @return The entity from store.
+   */
+  @Benchmark
+  @Threads(4)
+  public Entity benchmarkLoadWith4Threads(MissState state) {
+    return load(state);
+  }
+
+  /**
+   * Loads missing entities with 16 threads.
+   *
+   * @param state The per-thread state.
+   * @return The entity from store.
+   */
+  @Benchmark
+  @Threads(16)
+  public Entity benchmarkLoadWith16Threads(MissState state) {
+    return load(state);
+  }
+
+  /**
+   * Loads missing entities with 64 threads.
+   *
+   * @param state The per-thread state.
+   * @return The entity from store.
+   */
+  @Benchmark
+  @Threads(64)
+  public Entity benchmarkLoadWith64Threads(MissState state) {
+    return load(state);
+  }
+
+  private Entity load(MissState state) {
+    try {
+      ModelEntity entityFromStore =
+          store.get(
+              BenchmarkHelper.getIdentFromEntity(state.entity),
+              state.entity.type(),
+              ModelEntity.class);
+      return validateEntity(state.entity, entityFromStore);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
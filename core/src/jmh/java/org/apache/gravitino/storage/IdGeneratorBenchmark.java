@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for the throughput of {@link IdGenerator#nextId()} under an increasing number of
+ * threads.
+ *
+ * <p>All threads share one generator, as the server does. The random generator goes through the
+ * {@code SecureRandom} of {@code UUID.randomUUID()}, while the snowflake generator only does a CAS
+ * on a counter.
+ *
+ * <p>The thread counts are fixed per method with {@code @Threads}. The {@code threads} option of
+ * the Gradle JMH plugin overrides these annotations, so unset it (or pass {@code -t} explicitly
+ * for each run) when comparing the methods.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+  @Param({IdGeneratorFactory.RANDOM_ID_GENERATOR, IdGeneratorFactory.SNOWFLAKE_ID_GENERATOR})
+  public String generator;
+
+  private IdGenerator idGenerator;
+
+  @Setup(Level.Trial)
+  public void init() {
+    this.idGenerator =
+        IdGeneratorFactory.SNOWFLAKE_ID_GENERATOR.equals(generator)
+            ? new SnowflakeIdGenerator(1)
+            : new RandomIdGenerator();
+  }
+
+  /**
+   * Generates ids with a single thread.
+   *
+   * @return The generated id.
+   */
+  @Benchmark
+  @Threads(1)
+  public long benchmarkNextIdWith1Thread() {
+    return idGenerator.nextId();
+  }
+
+  /**
+   * Generates ids with 16 threads.
+   *
+   * @return The generated id.
+   */
+  @Benchmark
+  @Threads(16)
+  public long benchmarkNextIdWith16Threads() {
+    return idGenerator.nextId();
+  }
+
+  /**
+   * Generates ids with 64 threads.
+   *
+   * @return The generated id.
+   */
+  @Benchmark
+  @Threads(64)
+  public long benchmarkNextIdWith64Threads() {
+    return idGenerator.nextId();
+  }
+}
@@ -278,6 +278,16 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Long> TREE_LOCK_ACQUIRE_TIMEOUT =
+      new ConfigBuilder("gravitino.lock.acquireTimeoutMs")
+          .doc(
+              "The maximum time in milliseconds to wait for a tree lock before failing the "
+                  + "operation, 0 means waiting until the lock is acquired")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -304,6 +314,70 @@ public class Configs {
               ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
+  public static final ConfigEntry<Boolean> AUTHORIZATION_DECISION_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.authorization.decisionCache.enabled")
+          .doc(
+              "Whether the authorizer caches its decisions per user, metadata object and "
+                  + "privilege, instead of loading the roles and owners on every check")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Long> AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.authorization.decisionCache.maxEntries")
+          .doc("The maximum number of decisions in the authorization decision cache")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100_000L);
+
+  public static final ConfigEntry<Long> AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.authorization.decisionCache.expireTimeInMs")
+          .doc(
+              "Time-to-live of a cached authorization decision after it is written, in "
+                  + "milliseconds. 0 means decisions only expire when they are evicted or "
+                  + "invalidated.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000L);
+
+  public static final ConfigEntry<Boolean> AUTHORIZATION_POLICY_PRELOAD_ENABLED =
+      new ConfigBuilder("gravitino.authorization.policyPreload.enabled")
+          .doc(
+              "Whether the authorizer loads the policies of all the roles and the roles of all "
+                  + "the users in the background at startup. The server reports it is not ready "
+                  + "until the preload finishes")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> AUTHORIZATION_POLICY_PRELOAD_PAGE_SIZE =
+      new ConfigBuilder("gravitino.authorization.policyPreload.pageSize")
+          .doc("The number of roles loaded with their securable objects at once by the preload")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Integer> AUTHORIZATION_PLUGIN_CALL_THREADS =
+      new ConfigBuilder("gravitino.authorization.plugin.callThreads")
+          .doc(
+              "The number of threads which call the authorization plugins of the catalogs in "
+                  + "parallel, for example when a privilege on a metalake is granted")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Long> AUTHORIZATION_PLUGIN_CALL_TIMEOUT_MS =
+      new ConfigBuilder("gravitino.authorization.plugin.callTimeoutMs")
+          .doc("The time in milliseconds to wait for the authorization plugins of all catalogs")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
   public static final int DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS = 60;
   public static final ConfigEntry<Integer> METRICS_TIME_SLIDING_WINDOW_SECONDS =
       new ConfigBuilder("gravitino.metrics.timeSlidingWindowSecs")
@@ -407,6 +481,133 @@ public class Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .createWithDefault("caffeine");
 
+  // Number of lock segments used to load cache entries concurrently
+  public static final ConfigEntry<Integer> CACHE_LOCK_SEGMENTS =
+      new ConfigBuilder("gravitino.cache.lockSegments")
+          .doc(
+              "Number of lock segments used by the cache to load entries from the store. Loads of "
+                  + "keys in different segments run in parallel, loads of the same key are "
+                  + "deduplicated.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64);
+
+  // Whether to keep the caches of several servers sharing one relational store coherent
+  public static final ConfigEntry<Boolean> CACHE_SYNC_ENABLED =
+      new ConfigBuilder("gravitino.cache.sync.enabled")
+          .doc(
+              "Whether to record entity changes in the relational store and poll the changes "
+                  + "made by other servers to invalidate their entries in the local cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CACHE_SYNC_INTERVAL_MS =
+      new ConfigBuilder("gravitino.cache.sync.intervalInMs")
+          .doc(
+              "Interval in milliseconds to poll the changes made by other servers, it bounds how "
+                  + "long a changed entity can be read stale from the local cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> CACHE_SYNC_RETENTION_MS =
+      new ConfigBuilder("gravitino.cache.sync.retentionInMs")
+          .doc(
+              "Time in milliseconds to keep the recorded entity changes. A server which could not "
+                  + "poll the changes for about this long clears its whole cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3_600_000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_ID_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.enabled")
+          .doc(
+              "Whether to cache the ids of metalakes, catalogs and schemas resolved from their "
+                  + "names by the relational entity store.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> ENTITY_ID_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.maxEntries")
+          .doc("Maximum number of name to id mappings kept by the relational entity store.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100_000);
+
+  public static final ConfigEntry<Long> ENTITY_ID_CACHE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.expireTimeInMs")
+          .doc(
+              "Time-to-live of a cached name to id mapping after it is written, in milliseconds. "
+                  + "0 means mappings only expire when they are evicted or invalidated.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3_600_000L);
+
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.idGenerator")
+          .doc(
+              "The generator of entity ids, `random` for random ids, `snowflake` for time-ordered "
+                  + "ids which keep inserts into the entity store local.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("random");
+
+  public static final ConfigEntry<Integer> ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.entity.idGenerator.nodeId")
+          .doc(
+              "The node id of the `snowflake` id generator, it must be unique among the servers "
+                  + "sharing the entity store. It's required by the `snowflake` id generator, -1 "
+                  + "means unset.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(
+              value -> value >= -1 && value <= 1023, "The value must be between -1 and 1023")
+          .createWithDefault(-1);
+
+  public static final ConfigEntry<Boolean> TABLE_BULK_IMPORT_ENABLED =
+      new ConfigBuilder("gravitino.table.bulkImport.enabled")
+          .doc(
+              "Whether to import all the tables of a schema into the entity store in the "
+                  + "background when the schema is listed for the first time, instead of "
+                  + "importing every table when it is loaded for the first time.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> TABLE_BULK_IMPORT_BATCH_SIZE =
+      new ConfigBuilder("gravitino.table.bulkImport.batchSize")
+          .doc("The number of tables inserted into the entity store in one batch.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> TABLE_BULK_IMPORT_BATCH_INTERVAL_MS =
+      new ConfigBuilder("gravitino.table.bulkImport.batchIntervalMs")
+          .doc(
+              "The time in milliseconds to wait between two batches of the background import, "
+                  + "to limit the load on the entity store.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
+  public static final ConfigEntry<Integer> TABLE_BULK_IMPORT_THREADS =
+      new ConfigBuilder("gravitino.table.bulkImport.threads")
+          .doc("The number of schemas imported in parallel in the background.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
   public static final ConfigEntry<String> JOB_STAGING_DIR =
       new ConfigBuilder("gravitino.job.stagingDir")
           .doc("Directory for managing staging files when running jobs.")
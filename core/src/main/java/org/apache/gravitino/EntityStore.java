@@ -18,9 +18,12 @@
  */
 package org.apache.gravitino;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -122,6 +125,26 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store the new entities into the underlying storage in a batch. If any of the entities already
+   * exists, an {@link EntityAlreadyExistsException} is thrown.
+   *
+   * <p>Note. The default implementation stores the entities one by one, so the entities before the
+   * failed one may have been stored. The implementation should override it if the underlying
+   * storage can store them in one transaction.
+   *
+   * @param entities the entities to store
+   * @param <E> the type of the entities
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if any of the entities already exists
+   */
+  default <E extends Entity & HasIdentifier> void batchPut(List<E> entities)
+      throws IOException, EntityAlreadyExistsException {
+    for (E entity : entities) {
+      put(entity, false);
+    }
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
@@ -165,6 +188,52 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entities with the specified identifiers from the underlying storage in a batch.
+   *
+   * <p>Note. The default implementation gets the entities one by one, the implementation should
+   * override it if the underlying storage can retrieve them with fewer round trips.
+   *
+   * @param idents the unique identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the entities which exist, the identifiers of entities which don't exist are skipped,
+   *     and the order of the entities is not guaranteed
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = Lists.newArrayList();
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException ignored) {
+        // Skip the entity which doesn't exist
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Check which of the entities with the specified identifiers exist in a batch.
+   *
+   * @param idents the name identifiers of the entities
+   * @param entityType the general type of the entities
+   * @return the identifiers of the entities which exist
+   * @throws IOException if the check operation fails
+   */
+  default Set<NameIdentifier> batchExists(List<NameIdentifier> idents, EntityType entityType)
+      throws IOException {
+    Set<NameIdentifier> existing = Sets.newHashSet();
+    for (NameIdentifier ident : idents) {
+      if (exists(ident, entityType)) {
+        existing.add(ident);
+      }
+    }
+    return existing;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import org.apache.gravitino.audit.AuditLogManager;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AccessControlManager;
+import org.apache.gravitino.authorization.AuthorizationPluginExecutor;
 import org.apache.gravitino.authorization.FutureGrantManager;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.OwnerDispatcher;
@@ -44,6 +45,7 @@ import org.apache.gravitino.catalog.SchemaDispatcher;
 import org.apache.gravitino.catalog.SchemaNormalizeDispatcher;
 import org.apache.gravitino.catalog.SchemaOperationDispatcher;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.catalog.TableImporter;
 import org.apache.gravitino.catalog.TableNormalizeDispatcher;
 import org.apache.gravitino.catalog.TableOperationDispatcher;
 import org.apache.gravitino.catalog.TopicDispatcher;
@@ -79,7 +81,7 @@ import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.policy.PolicyDispatcher;
 import org.apache.gravitino.policy.PolicyManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -134,6 +136,8 @@ public class GravitinoEnv {
 
   private LockManager lockManager;
 
+  private TableImporter tableImporter;
+
   private EventListenerManager eventListenerManager;
 
   private AuditLogManager auditLogManager;
@@ -141,6 +145,7 @@ public class GravitinoEnv {
   private EventBus eventBus;
   private OwnerDispatcher ownerDispatcher;
   private FutureGrantManager futureGrantManager;
+  private AuthorizationPluginExecutor authorizationPluginExecutor;
   private GravitinoAuthorizer gravitinoAuthorizer;
 
   protected GravitinoEnv() {}
@@ -372,6 +377,15 @@ public class GravitinoEnv {
     return futureGrantManager;
   }
 
+  /**
+   * Get the AuthorizationPluginExecutor associated with the Gravitino environment.
+   *
+   * @return The AuthorizationPluginExecutor instance, null if the authorization is disabled.
+   */
+  public AuthorizationPluginExecutor authorizationPluginExecutor() {
+    return authorizationPluginExecutor;
+  }
+
   /**
    * Get the EventListenerManager associated with the Gravitino environment.
    *
@@ -419,6 +433,14 @@ public class GravitinoEnv {
       }
     }
 
+    if (tableImporter != null) {
+      tableImporter.close();
+    }
+
+    if (authorizationPluginExecutor != null) {
+      authorizationPluginExecutor.close();
+    }
+
     if (catalogManager != null) {
       catalogManager.close();
     }
@@ -464,8 +486,8 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create the id generator, random by default
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Tree lock
     this.lockManager = new LockManager(config);
@@ -498,8 +520,9 @@ public class GravitinoEnv {
         new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager);
     this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
 
+    this.tableImporter = new TableImporter(config);
     TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator, tableImporter);
     TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
@@ -547,10 +570,12 @@ public class GravitinoEnv {
       OwnerDispatcher ownerManager = new OwnerManager(entityStore);
       this.ownerDispatcher = new OwnerEventManager(eventBus, ownerManager);
       this.futureGrantManager = new FutureGrantManager(entityStore, ownerManager);
+      this.authorizationPluginExecutor = new AuthorizationPluginExecutor(config);
     } else {
       this.accessControlDispatcher = null;
       this.ownerDispatcher = null;
       this.futureGrantManager = null;
+      this.authorizationPluginExecutor = null;
     }
 
     this.auxServiceManager = new AuxiliaryServiceManager();
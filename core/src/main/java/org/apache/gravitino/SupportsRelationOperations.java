@@ -19,7 +19,9 @@
 package org.apache.gravitino;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is an extended interface. This is mainly used for strengthen the ability of querying
@@ -76,6 +78,28 @@ public interface SupportsRelationOperations {
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException;
 
+  /**
+   * List the entities according to several given entities in a specific relation. The default
+   * implementation lists them one by one, stores should override it if they can load them together.
+   *
+   * @param <E> The type of entities returned.
+   * @param relType The type of relation.
+   * @param nameIdentifiers The given entity identifiers.
+   * @param identType The type of the given entities.
+   * @return The list of entities by the identifier of every given entity.
+   * @throws IOException When occurs storage issues, it will throw IOException.
+   */
+  default <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    Map<NameIdentifier, List<E>> entities = new LinkedHashMap<>();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      entities.put(nameIdentifier, listEntitiesByRelation(relType, nameIdentifier, identType));
+    }
+    return entities;
+  }
+
   /**
    * insert a relation between two entities
    *
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Calls the authorization plugins of several catalogs in parallel. A privilege granted on a
+ * metalake must be applied to the plugin of every catalog, and every plugin call is a remote call
+ * to the underlying permission system, so calling them one after another is as slow as all of them
+ * together.
+ *
+ * <p>The calls run on a bounded pool, see {@link Configs#AUTHORIZATION_PLUGIN_CALL_THREADS}, and
+ * all of them are waited for at most {@link Configs#AUTHORIZATION_PLUGIN_CALL_TIMEOUT_MS} from the
+ * time they are submitted, including the time they wait for a free thread. A failing catalog
+ * doesn't stop the other catalogs from being called, the failures of all the catalogs are reported
+ * together after all the calls finished.
+ */
+public class AuthorizationPluginExecutor implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AuthorizationPluginExecutor.class);
+
+  private final long timeoutMs;
+
+  private final ThreadPoolExecutor executor;
+
+  public AuthorizationPluginExecutor(Config config) {
+    int threads = config.get(Configs.AUTHORIZATION_PLUGIN_CALL_THREADS);
+    this.timeoutMs = config.get(Configs.AUTHORIZATION_PLUGIN_CALL_TIMEOUT_MS);
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("authorization-plugin-%d")
+                .build());
+  }
+
+  /**
+   * Calls the authorization plugins and waits for all of them. The calls run as the current
+   * principal.
+   *
+   * @param plugins The authorization plugins by the names of their catalogs.
+   * @param call The call of a plugin with the name of its catalog.
+   * @throws AuthorizationPluginException If the calls of several catalogs failed or timed out. The
+   *     failure of a single catalog is rethrown as it is.
+   */
+  public void callAll(
+      Map<String, AuthorizationPlugin> plugins, BiConsumer<AuthorizationPlugin, String> call) {
+    if (plugins.size() <= 1 || executor.isShutdown()) {
+      plugins.forEach((catalogName, plugin) -> call.accept(plugin, catalogName));
+      return;
+    }
+
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    Map<String, Future<?>> futures = new LinkedHashMap<>();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    plugins.forEach(
+        (catalogName, plugin) ->
+            futures.put(
+                catalogName,
+                executor.submit(
+                    () -> callAs(principal, classLoader, () -> call.accept(plugin, catalogName)))));
+
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+      String catalogName = entry.getKey();
+      Future<?> future = entry.getValue();
+      try {
+        future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        failures.put(catalogName, e.getCause());
+      } catch (TimeoutException e) {
+        future.cancel(true);
+        failures.put(
+            catalogName,
+            new AuthorizationPluginException(
+                "The authorization plugin of catalog %s didn't finish in %d ms",
+                catalogName, timeoutMs));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.values().forEach(f -> f.cancel(true));
+        throw new AuthorizationPluginException(
+            e, "Interrupted while calling the authorization plugins");
+      }
+    }
+    throwFailures(failures);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private static Object callAs(Principal principal, ClassLoader classLoader, Runnable call)
+      throws Exception {
+    Thread thread = Thread.currentThread();
+    ClassLoader originalClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      return PrincipalUtils.doAs(
+          principal,
+          () -> {
+            call.run();
+            return null;
+          });
+    } finally {
+      thread.setContextClassLoader(originalClassLoader);
+    }
+  }
+
+  private static void throwFailures(Map<String, Throwable> failures) {
+    if (failures.isEmpty()) {
+      return;
+    }
+
+    if (failures.size() == 1) {
+      Map.Entry<String, Throwable> failure = failures.entrySet().iterator().next();
+      Throwables.throwIfUnchecked(failure.getValue());
+      throw new AuthorizationPluginException(
+          failure.getValue(),
+          "Failed to call the authorization plugin of catalog %s",
+          failure.getKey());
+    }
+
+    AuthorizationPluginException exception =
+        new AuthorizationPluginException(
+            "Failed to call the authorization plugins of catalogs %s", failures.keySet());
+    failures.forEach(
+        (catalogName, failure) -> {
+          LOG.warn("Failed to call the authorization plugin of catalog {}", catalogName, failure);
+          exception.addSuppressed(failure);
+        });
+    throw exception;
+  }
+}
@@ -20,10 +20,12 @@ package org.apache.gravitino.authorization;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -170,6 +172,7 @@ public class AuthorizationUtils {
       List<SecurableObject> securableObjects,
       BiConsumer<AuthorizationPlugin, String> consumer) {
     Set<String> catalogsAlreadySet = Sets.newHashSet();
+    Map<String, AuthorizationPlugin> plugins = Maps.newLinkedHashMap();
     CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
     for (SecurableObject securableObject : securableObjects) {
       if (needApplyAuthorizationPluginAllCatalogs(securableObject)) {
@@ -177,28 +180,30 @@ public class AuthorizationUtils {
         // ListCatalogsInfo return `CatalogInfo` instead of `BaseCatalog`, we need `BaseCatalog` to
         // call authorization plugin method.
         for (NameIdentifier catalog : catalogs) {
-          callAuthorizationPluginImpl(consumer, catalogManager.loadCatalog(catalog));
+          if (catalogsAlreadySet.add(catalog.name())) {
+            addAuthorizationPlugin(plugins, catalogManager.loadCatalog(catalog));
+          }
         }
 
       } else if (needApplyAuthorization(securableObject.type())) {
         NameIdentifier catalogIdent =
             NameIdentifierUtil.getCatalogIdentifier(
                 MetadataObjectUtil.toEntityIdent(metalake, securableObject));
-        Catalog catalog = catalogManager.loadCatalog(catalogIdent);
-        if (!catalogsAlreadySet.contains(catalog.name())) {
-          catalogsAlreadySet.add(catalog.name());
-          callAuthorizationPluginImpl(consumer, catalog);
+        if (catalogsAlreadySet.add(catalogIdent.name())) {
+          addAuthorizationPlugin(plugins, catalogManager.loadCatalog(catalogIdent));
         }
       }
     }
+    callAuthorizationPlugins(plugins, consumer);
   }
 
   public static void callAuthorizationPluginForMetadataObject(
       String metalake, MetadataObject metadataObject, Consumer<AuthorizationPlugin> consumer) {
-    List<Catalog> loadedCatalogs = loadMetadataObjectCatalog(metalake, metadataObject);
-    for (Catalog catalog : loadedCatalogs) {
-      callAuthorizationPluginImpl(consumer, catalog);
+    Map<String, AuthorizationPlugin> plugins = Maps.newLinkedHashMap();
+    for (Catalog catalog : loadMetadataObjectCatalog(metalake, metadataObject)) {
+      addAuthorizationPlugin(plugins, catalog);
     }
+    callAuthorizationPlugins(plugins, (plugin, catalogName) -> consumer.accept(plugin));
   }
 
   public static boolean needApplyAuthorizationPluginAllCatalogs(SecurableObject securableObject) {
@@ -360,13 +365,15 @@ public class AuthorizationUtils {
     return type != MetadataObject.Type.ROLE && type != MetadataObject.Type.METALAKE;
   }
 
-  private static void callAuthorizationPluginImpl(
-      BiConsumer<AuthorizationPlugin, String> consumer, Catalog catalog) {
+  // The catalogs are loaded by the calling thread, because loading a catalog takes the tree lock
+  // which the calling thread may already hold.
+  private static void addAuthorizationPlugin(
+      Map<String, AuthorizationPlugin> plugins, Catalog catalog) {
 
     if (catalog instanceof BaseCatalog) {
       BaseCatalog baseCatalog = (BaseCatalog) catalog;
       if (baseCatalog.getAuthorizationPlugin() != null) {
-        consumer.accept(baseCatalog.getAuthorizationPlugin(), catalog.name());
+        plugins.put(catalog.name(), baseCatalog.getAuthorizationPlugin());
       }
     } else {
       throw new IllegalArgumentException(
@@ -376,6 +383,17 @@ public class AuthorizationUtils {
     }
   }
 
+  private static void callAuthorizationPlugins(
+      Map<String, AuthorizationPlugin> plugins, BiConsumer<AuthorizationPlugin, String> consumer) {
+    AuthorizationPluginExecutor executor =
+        GravitinoEnv.getInstance().authorizationPluginExecutor();
+    if (executor == null) {
+      plugins.forEach((catalogName, plugin) -> consumer.accept(plugin, catalogName));
+    } else {
+      executor.callAll(plugins, consumer);
+    }
+  }
+
   private static void callAuthorizationPluginImpl(
       Consumer<AuthorizationPlugin> consumer, Catalog catalog) {
 
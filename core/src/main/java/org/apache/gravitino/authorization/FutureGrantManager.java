@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -80,66 +81,57 @@ public class FutureGrantManager {
               .map(entity -> (RoleEntity) entity)
               .collect(Collectors.toList());
 
-      for (RoleEntity role : roles) {
-
-        boolean supportsFutureGrant = false;
-        for (SecurableObject object : role.securableObjects()) {
-          if (AuthorizationUtils.needApplyAuthorizationPluginAllCatalogs(object)) {
-            supportsFutureGrant = true;
-            break;
-          }
-        }
-
-        if (!supportsFutureGrant) {
-          continue;
-        }
-
-        List<UserEntity> users =
+      List<RoleEntity> futureGrantRoles =
+          roles.stream()
+              .filter(
+                  role ->
+                      role.securableObjects().stream()
+                          .anyMatch(AuthorizationUtils::needApplyAuthorizationPluginAllCatalogs))
+              .collect(Collectors.toList());
+      if (!futureGrantRoles.isEmpty()) {
+        // Load the users and groups of all the roles together, the number of queries doesn't
+        // grow with the number of roles.
+        List<NameIdentifier> roleIdents =
+            futureGrantRoles.stream().map(RoleEntity::nameIdentifier).collect(Collectors.toList());
+        Map<NameIdentifier, List<UserEntity>> usersByRole =
             entityStore.relationOperations()
-                .listEntitiesByRelation(
+                .batchListEntitiesByRelation(
                     SupportsRelationOperations.Type.ROLE_USER_REL,
-                    role.nameIdentifier(),
-                    Entity.EntityType.ROLE)
-                .stream()
-                .map(entity -> (UserEntity) entity)
-                .collect(Collectors.toList());
-
-        for (UserEntity user : users) {
-          Set<RoleEntity> roleSet = userGrantRoles.computeIfAbsent(user, k -> Sets.newHashSet());
-          roleSet.add(role);
-        }
-
-        List<GroupEntity> groups =
+                    roleIdents,
+                    Entity.EntityType.ROLE);
+        Map<NameIdentifier, List<GroupEntity>> groupsByRole =
             entityStore.relationOperations()
-                .listEntitiesByRelation(
+                .batchListEntitiesByRelation(
                     SupportsRelationOperations.Type.ROLE_GROUP_REL,
-                    role.nameIdentifier(),
-                    Entity.EntityType.ROLE)
-                .stream()
-                .map(entity -> (GroupEntity) entity)
-                .collect(Collectors.toList());
+                    roleIdents,
+                    Entity.EntityType.ROLE);
 
-        for (GroupEntity group : groups) {
-          Set<RoleEntity> roleSet = groupGrantRoles.computeIfAbsent(group, k -> Sets.newHashSet());
-          roleSet.add(role);
-        }
-      }
+        for (RoleEntity role : futureGrantRoles) {
+          for (UserEntity user :
+              usersByRole.getOrDefault(role.nameIdentifier(), Collections.emptyList())) {
+            Set<RoleEntity> roleSet = userGrantRoles.computeIfAbsent(user, k -> Sets.newHashSet());
+            roleSet.add(role);
+          }
 
-      for (Map.Entry<UserEntity, Set<RoleEntity>> entry : userGrantRoles.entrySet()) {
-        AuthorizationPlugin authorizationPlugin = catalog.getAuthorizationPlugin();
-        if (authorizationPlugin != null) {
-          authorizationPlugin.onGrantedRolesToUser(
-              Lists.newArrayList(entry.getValue()), entry.getKey());
+          for (GroupEntity group :
+              groupsByRole.getOrDefault(role.nameIdentifier(), Collections.emptyList())) {
+            Set<RoleEntity> roleSet =
+                groupGrantRoles.computeIfAbsent(group, k -> Sets.newHashSet());
+            roleSet.add(role);
+          }
         }
       }
 
-      for (Map.Entry<GroupEntity, Set<RoleEntity>> entry : groupGrantRoles.entrySet()) {
-        AuthorizationPlugin authorizationPlugin = catalog.getAuthorizationPlugin();
-
-        if (authorizationPlugin != null) {
-          authorizationPlugin.onGrantedRolesToGroup(
-              Lists.newArrayList(entry.getValue()), entry.getKey());
-        }
+      AuthorizationPlugin authorizationPlugin = catalog.getAuthorizationPlugin();
+      if (authorizationPlugin != null
+          && (!userGrantRoles.isEmpty() || !groupGrantRoles.isEmpty())) {
+        Map<User, List<Role>> userRoles = Maps.newHashMap();
+        userGrantRoles.forEach(
+            (user, grantRoles) -> userRoles.put(user, Lists.newArrayList(grantRoles)));
+        Map<Group, List<Role>> groupRoles = Maps.newHashMap();
+        groupGrantRoles.forEach(
+            (group, grantRoles) -> groupRoles.put(group, Lists.newArrayList(grantRoles)));
+        authorizationPlugin.onGrantedRolesToUsersAndGroups(userRoles, groupRoles);
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -19,6 +19,7 @@ package org.apache.gravitino.authorization;
 
 import java.io.Closeable;
 import java.security.Principal;
+import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
@@ -35,6 +36,16 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   void initialize();
 
+  /**
+   * Whether the authorizer can serve requests without a slow start, for example after it finished
+   * preloading the privilege policies in the background.
+   *
+   * @return true if the authorizer is ready.
+   */
+  default boolean isReady() {
+    return true;
+  }
+
   /**
    * Perform authorization and return the authorization result.
    *
@@ -60,6 +71,71 @@ public interface GravitinoAuthorizer extends Closeable {
    */
   boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject);
 
+  /**
+   * Perform authorization for a list of metadata objects of one request, for example the items of
+   * a list endpoint. Implementations should resolve the principal, its roles and the metadata ids
+   * once for the whole list instead of once per item.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadataObjects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @return authorization results in the order of the metadataObjects.
+   */
+  default boolean[] batchAuthorize(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = authorize(principal, metalake, metadataObjects.get(i), privilege);
+    }
+    return results;
+  }
+
+  /**
+   * Determine whether the user is the Owner of each metadata object of a list.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadataObjects.
+   * @return authorization results in the order of the metadataObjects.
+   */
+  default boolean[] batchIsOwner(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = isOwner(principal, metalake, metadataObjects.get(i));
+    }
+    return results;
+  }
+
+  /**
+   * Perform authorization on the levels of one metadata hierarchy, for example the metalake, the
+   * catalog, the schema and the table of a request, and return true if the privilege is granted on
+   * any of them. Implementations should resolve the ids of all the levels at once instead of once
+   * per level.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadataObjects of the levels.
+   * @param privilege for example, USE_CATALOG, SELECT_TABLE, etc.
+   * @return authorization result.
+   */
+  default boolean authorizeAny(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    for (MetadataObject metadataObject : metadataObjects) {
+      if (authorize(principal, metalake, metadataObject, privilege)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Determine whether the user is the service admin.
    *
@@ -135,12 +211,22 @@ public interface GravitinoAuthorizer extends Closeable {
     }
   }
 
+  /**
+   * When roles are granted to or revoked from a user, it is necessary to notify the
+   * GravitinoAuthorizer in order to clear the cache.
+   *
+   * @param metalake The metalake name;
+   * @param userName The user name;
+   */
+  default void handleUserRoleChange(String metalake, String userName) {}
+
   /**
    * This method is called to clear the owner relationship in jcasbin when the owner of the metadata
-   * changes.
+   * changes. It is called on every owner change, so the cached decisions of the metadata can be
+   * cleared as well.
    *
    * @param metalake metalake;
-   * @param oldOwnerId The old owner id;
+   * @param oldOwnerId The old owner id, null if the old owner is not a user or there is none;
    * @param nameIdentifier The metadata name identifier;
    * @param type entity type
    */
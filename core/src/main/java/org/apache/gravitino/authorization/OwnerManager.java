@@ -21,6 +21,7 @@ package org.apache.gravitino.authorization;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -116,7 +117,7 @@ public class OwnerManager implements OwnerDispatcher {
           metadataObject,
           authorizationPlugin ->
               authorizationPlugin.onOwnerSet(metadataObject, originOwner.orElse(null), newOwner));
-      originOwner.ifPresent(owner -> notifyOwnerChange(owner, metalake, metadataObject));
+      notifyOwnerChange(originOwner.orElse(null), metalake, metadataObject);
     } catch (NoSuchEntityException nse) {
       LOG.warn(
           "Metadata object {} or owner {} is not found", metadataObject.fullName(), ownerName, nse);
@@ -132,31 +133,35 @@ public class OwnerManager implements OwnerDispatcher {
     }
   }
 
-  private void notifyOwnerChange(Owner oldOwner, String metalake, MetadataObject metadataObject) {
+  private void notifyOwnerChange(
+      @Nullable Owner oldOwner, String metalake, MetadataObject metadataObject) {
     GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
-    if (gravitinoAuthorizer != null) {
-      if (oldOwner.type() == Owner.Type.USER) {
-        try {
-          UserEntity userEntity =
-              GravitinoEnv.getInstance()
-                  .entityStore()
-                  .get(
-                      NameIdentifierUtil.ofUser(metalake, oldOwner.name()),
-                      Entity.EntityType.USER,
-                      UserEntity.class);
-          gravitinoAuthorizer.handleMetadataOwnerChange(
-              metalake,
-              userEntity.id(),
-              MetadataObjectUtil.toEntityIdent(metalake, metadataObject),
-              Entity.EntityType.valueOf(metadataObject.type().name()));
-        } catch (IOException e) {
-          LOG.warn(e.getMessage(), e);
-        }
-      } else {
-        throw new UnsupportedOperationException(
-            "Notification for Group Owner is not supported yet.");
+    if (gravitinoAuthorizer == null) {
+      return;
+    }
+
+    // The authorizer is notified of every owner change, also without an old user owner, since the
+    // decisions it cached for the metadata object depend on the owner.
+    Long oldOwnerId = null;
+    if (oldOwner != null && oldOwner.type() == Owner.Type.USER) {
+      try {
+        UserEntity userEntity =
+            GravitinoEnv.getInstance()
+                .entityStore()
+                .get(
+                    NameIdentifierUtil.ofUser(metalake, oldOwner.name()),
+                    Entity.EntityType.USER,
+                    UserEntity.class);
+        oldOwnerId = userEntity.id();
+      } catch (IOException e) {
+        LOG.warn(e.getMessage(), e);
       }
     }
+    gravitinoAuthorizer.handleMetadataOwnerChange(
+        metalake,
+        oldOwnerId,
+        MetadataObjectUtil.toEntityIdent(metalake, metadataObject),
+        Entity.EntityType.valueOf(metadataObject.type().name()));
   }
 
   @Override
@@ -26,12 +26,16 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Striped;
 import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
 import com.googlecode.concurrenttrees.radix.RadixTree;
 import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -41,7 +45,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
@@ -49,6 +54,7 @@ import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelVersionEntity;
 import org.slf4j.Logger;
@@ -76,7 +82,16 @@ public class CaffeineEntityCache extends BaseEntityCache {
           new ThreadPoolExecutor.CallerRunsPolicy());
 
   private static final Logger LOG = LoggerFactory.getLogger(CaffeineEntityCache.class.getName());
-  private final ReentrantLock opLock = new ReentrantLock();
+
+  /**
+   * Lock hierarchy of the cache. Loads of single keys hold the read lock plus the segment lock of
+   * their key, so loads of different keys run in parallel and loads of the same key are
+   * single-flight. Mutations that may touch many keys (put, invalidate, clear) hold the write lock,
+   * which waits for all in-flight loads and keeps them from caching stale entities.
+   */
+  private final ReentrantReadWriteLock opLock = new ReentrantReadWriteLock();
+
+  private final Striped<Lock> segmentLocks;
 
   /** Cache part */
   private final Cache<EntityCacheKey, List<Entity>> cacheData;
@@ -93,6 +108,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   public CaffeineEntityCache(Config cacheConfig) {
     super(cacheConfig);
+    this.segmentLocks = Striped.lock(cacheConfig.get(Configs.CACHE_LOCK_SEGMENTS));
     this.cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
 
     Caffeine<EntityCacheKey, List<Entity>> cacheDataBuilder = newBaseBuilder(cacheConfig);
@@ -150,6 +166,185 @@ public class CaffeineEntityCache extends BaseEntityCache {
         .map(entities -> convertEntity(entities.get(0)));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, ThrowingSupplier<E, X> loader) throws X {
+    checkArguments(ident, type);
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    EntityCacheKey key = EntityCacheKey.of(ident, type);
+    Optional<E> entityFromCache = getIfPresent(ident, type);
+    if (entityFromCache.isPresent()) {
+      return entityFromCache.get();
+    }
+
+    return withSegmentLockAndThrow(
+        key,
+        () -> {
+          Optional<E> loadedByOthers = getIfPresent(ident, type);
+          if (loadedByOthers.isPresent()) {
+            return loadedByOthers.get();
+          }
+
+          E entity = loader.get();
+          syncEntitiesToCache(key, Lists.newArrayList(entity));
+          return entity;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier ident,
+      Entity.EntityType type,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    checkArguments(ident, type, relType);
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    EntityCacheKey key = EntityCacheKey.of(ident, type, relType);
+    Optional<List<E>> entitiesFromCache = getIfPresent(relType, ident, type);
+    if (entitiesFromCache.isPresent()) {
+      return entitiesFromCache.get();
+    }
+
+    return withSegmentLockAndThrow(
+        key,
+        () -> {
+          Optional<List<E>> loadedByOthers = getIfPresent(relType, ident, type);
+          if (loadedByOthers.isPresent()) {
+            return loadedByOthers.get();
+          }
+
+          List<E> entities = loader.get();
+          if (!entities.isEmpty()) {
+            syncEntitiesToCache(
+                key, entities.stream().map(e -> (Entity) e).collect(Collectors.toList()));
+          }
+          return entities;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace, Entity.EntityType type, ThrowingSupplier<List<E>, X> loader) throws X {
+    Preconditions.checkArgument(
+        namespace != null && !namespace.isEmpty(), "Namespace cannot be null or empty");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    EntityCacheKey key = EntityCacheKey.ofListing(namespace, type);
+    List<Entity> entitiesFromCache = cacheData.getIfPresent(key);
+    if (entitiesFromCache != null) {
+      return convertEntities(entitiesFromCache);
+    }
+
+    return withSegmentLockAndThrow(
+        key,
+        () -> {
+          List<Entity> loadedByOthers = cacheData.getIfPresent(key);
+          if (loadedByOthers != null) {
+            return convertEntities(loadedByOthers);
+          }
+
+          List<E> entities = loader.get();
+          if (!entities.isEmpty()) {
+            syncEntitiesToCache(
+                key, entities.stream().map(e -> (Entity) e).collect(Collectors.toList()));
+          }
+          return entities;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getAllOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X {
+    Preconditions.checkArgument(idents != null, "NameIdentifiers cannot be null");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    List<E> entities = Lists.newArrayList();
+    List<NameIdentifier> missingIdents = Lists.newArrayList();
+    for (NameIdentifier ident : new LinkedHashSet<>(idents)) {
+      Optional<E> entityFromCache = getIfPresent(ident, type);
+      if (entityFromCache.isPresent()) {
+        entities.add(entityFromCache.get());
+      } else {
+        missingIdents.add(ident);
+      }
+    }
+    if (missingIdents.isEmpty()) {
+      return entities;
+    }
+
+    List<E> loadedEntities =
+        withReadLockAndThrow(
+            () -> {
+              List<E> loaded = loader.apply(missingIdents);
+              for (E entity : loaded) {
+                syncEntitiesToCache(
+                    EntityCacheKey.of(entity.nameIdentifier(), type), Lists.newArrayList(entity));
+              }
+              return loaded;
+            });
+    entities.addAll(loadedEntities);
+    return entities;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception>
+      Map<NameIdentifier, List<E>> getAllOrLoad(
+          SupportsRelationOperations.Type relType,
+          List<NameIdentifier> idents,
+          Entity.EntityType type,
+          ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+          throws X {
+    Preconditions.checkArgument(relType != null, "SupportsRelationOperations.Type cannot be null");
+    Preconditions.checkArgument(idents != null, "NameIdentifiers cannot be null");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+
+    Map<NameIdentifier, List<E>> entities = new LinkedHashMap<>();
+    List<NameIdentifier> missingIdents = Lists.newArrayList();
+    for (NameIdentifier ident : new LinkedHashSet<>(idents)) {
+      Optional<List<E>> entitiesFromCache = getIfPresent(relType, ident, type);
+      if (entitiesFromCache.isPresent()) {
+        entities.put(ident, entitiesFromCache.get());
+      } else {
+        missingIdents.add(ident);
+      }
+    }
+    if (missingIdents.isEmpty()) {
+      return entities;
+    }
+
+    Map<NameIdentifier, List<E>> loadedEntities =
+        withReadLockAndThrow(
+            () -> {
+              Map<NameIdentifier, List<E>> loaded = loader.apply(missingIdents);
+              loaded.forEach(
+                  (ident, related) -> {
+                    // Like single loads, empty relations are not cached.
+                    if (!related.isEmpty()) {
+                      syncEntitiesToCache(
+                          EntityCacheKey.of(ident, type, relType),
+                          related.stream().map(e -> (Entity) e).collect(Collectors.toList()));
+                    }
+                  });
+              return loaded;
+            });
+    entities.putAll(loadedEntities);
+    return entities;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidate(
@@ -164,7 +359,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    return withLock(() -> invalidateEntities(ident));
+    return withLock(
+        () -> {
+          boolean listingRemoved = invalidateListing(ident.namespace(), type);
+          return invalidateEntities(ident) || listingRemoved;
+        });
   }
 
   /** {@inheritDoc} */
@@ -228,6 +427,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
         () -> {
           invalidateOnKeyChange(entity);
           NameIdentifier identifier = getIdentFromEntity(entity);
+          invalidateListing(identifier.namespace(), entity.type());
           EntityCacheKey entityCacheKey = EntityCacheKey.of(identifier, entity.type());
 
           syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity));
@@ -266,13 +466,20 @@ public class CaffeineEntityCache extends BaseEntityCache {
    * Removes the expired entity from the cache. This method is a hook method for the Cache, when an
    * entry expires, it will call this method.
    *
+   * <p>The hook may run on a loading thread that already holds the read lock, so it only takes the
+   * read lock itself. A concurrent load may re-populate the key meanwhile, in which case the index
+   * entry is restored to keep the index a superset of the cached keys.
+   *
    * @param key The key of the expired entity
    */
   @Override
   protected void invalidateExpiredItem(EntityCacheKey key) {
-    withLock(
+    withReadLock(
         () -> {
           cacheIndex.remove(key.toString());
+          if (cacheData.policy().getIfPresentQuietly(key) != null) {
+            cacheIndex.put(key.toString(), key);
+          }
         });
   }
 
@@ -345,6 +552,23 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return !entityKeysToRemove.isEmpty();
   }
 
+  /**
+   * Invalidates the cached listing of the given entity type under the given namespace.
+   *
+   * @param namespace The namespace of the listing
+   * @param type The entity type of the listing
+   * @return {@code true} if the listing was cached, {@code false} otherwise
+   */
+  private boolean invalidateListing(Namespace namespace, Entity.EntityType type) {
+    if (namespace.isEmpty()) {
+      return false;
+    }
+
+    EntityCacheKey listingKey = EntityCacheKey.ofListing(namespace, type);
+    cacheData.invalidate(listingKey);
+    return cacheIndex.remove(listingKey.toString());
+  }
+
   /**
    * Runs the given action with the lock.
    *
@@ -352,11 +576,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   private void withLock(Runnable action) {
     try {
-      opLock.lockInterruptibly();
+      opLock.writeLock().lockInterruptibly();
       try {
         action.run();
       } finally {
-        opLock.unlock();
+        opLock.writeLock().unlock();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -373,11 +597,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   private <T> T withLock(Supplier<T> action) {
     try {
-      opLock.lockInterruptibly();
+      opLock.writeLock().lockInterruptibly();
       try {
         return action.get();
       } finally {
-        opLock.unlock();
+        opLock.writeLock().unlock();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -395,11 +619,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   private <T, E extends Exception> T withLockAndThrow(ThrowingSupplier<T, E> action) throws E {
     try {
-      opLock.lockInterruptibly();
+      opLock.writeLock().lockInterruptibly();
       try {
         return action.get();
       } finally {
-        opLock.unlock();
+        opLock.writeLock().unlock();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -416,11 +640,85 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   private <E extends Exception> void withLockAndThrow(ThrowingRunnable<E> action) throws E {
     try {
-      opLock.lockInterruptibly();
+      opLock.writeLock().lockInterruptibly();
+      try {
+        action.run();
+      } finally {
+        opLock.writeLock().unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+    }
+  }
+
+  /**
+   * Runs the given action with the read lock.
+   *
+   * @param action The action to run with the read lock
+   */
+  private void withReadLock(Runnable action) {
+    try {
+      opLock.readLock().lockInterruptibly();
       try {
         action.run();
       } finally {
-        opLock.unlock();
+        opLock.readLock().unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+    }
+  }
+
+  /**
+   * Runs the given action with the read lock, and throws the exception if it occurs.
+   *
+   * @param action The action to run with the read lock
+   * @param <T> The type of the result
+   * @param <E> The type of the exception
+   * @return The result of the action
+   * @throws E If an exception occurs during the action
+   */
+  private <T, E extends Exception> T withReadLockAndThrow(ThrowingSupplier<T, E> action) throws E {
+    try {
+      opLock.readLock().lockInterruptibly();
+      try {
+        return action.get();
+      } finally {
+        opLock.readLock().unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+    }
+  }
+
+  /**
+   * Runs the given action with the read lock and the segment lock of the given key, and throws the
+   * exception if it occurs.
+   *
+   * @param key The cache key the action loads
+   * @param action The action to run with the locks
+   * @param <T> The type of the result
+   * @param <E> The type of the exception
+   * @return The result of the action
+   * @throws E If an exception occurs during the action
+   */
+  private <T, E extends Exception> T withSegmentLockAndThrow(
+      EntityCacheKey key, ThrowingSupplier<T, E> action) throws E {
+    Lock segmentLock = segmentLocks.get(key);
+    try {
+      opLock.readLock().lockInterruptibly();
+      try {
+        segmentLock.lockInterruptibly();
+        try {
+          return action.get();
+        } finally {
+          segmentLock.unlock();
+        }
+      } finally {
+        opLock.readLock().unlock();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
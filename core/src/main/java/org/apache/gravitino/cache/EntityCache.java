@@ -19,7 +19,13 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
 
 /**
  * {@code EntityCache} is a cache interface in Gravitino designed to accelerate metadata access for
@@ -60,6 +66,106 @@ public interface EntityCache extends SupportsEntityStoreCache, SupportsRelationE
    */
   <T, E extends Exception> T withCacheLock(ThrowingSupplier<T, E> action) throws E;
 
+  /**
+   * Returns the cached entity for the given identifier, or loads it with the given loader and puts
+   * it into the cache on a miss. Concurrent callers for the same key share a single load, while
+   * loads for different keys run in parallel. Loads never overlap with invalidation, so an entity
+   * loaded before an invalidation can not be cached after it.
+   *
+   * @param ident The name identifier of the entity
+   * @param type The type of the entity
+   * @param loader The loader to call on a cache miss
+   * @return The cached or loaded entity
+   * @param <E> The class of the entity
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, ThrowingSupplier<E, X> loader) throws X;
+
+  /**
+   * Returns the cached related entities for the given identifier and relation type, or loads them
+   * with the given loader and puts them into the cache on a miss. It follows the same concurrency
+   * rules as {@link #getOrLoad(NameIdentifier, Entity.EntityType, ThrowingSupplier)}.
+   *
+   * @param relType The relation type
+   * @param ident The name identifier of the entity to find related entities for
+   * @param type The type of the entity to find related entities for
+   * @param loader The loader to call on a cache miss
+   * @return The cached or loaded related entities
+   * @param <E> The class of the related entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier ident,
+      Entity.EntityType type,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X;
+
+  /**
+   * Returns the cached listing of all entities of the given type under the given namespace, or
+   * loads it with the given loader and puts it into the cache on a miss. It follows the same
+   * concurrency rules as {@link #getOrLoad(NameIdentifier, Entity.EntityType, ThrowingSupplier)}.
+   *
+   * <p>The listing is invalidated when an entity of the given type under the namespace is put or
+   * invalidated, and together with the entity that owns the namespace.
+   *
+   * @param namespace The namespace to list, it can not be empty
+   * @param type The type of the listed entities
+   * @param loader The loader to call on a cache miss
+   * @return The cached or loaded entities
+   * @param <E> The class of the listed entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace, Entity.EntityType type, ThrowingSupplier<List<E>, X> loader) throws X;
+
+  /**
+   * Returns the cached entities for the given identifiers, and loads all the missing ones with a
+   * single call of the given loader and puts them into the cache. Like {@link
+   * #getOrLoad(NameIdentifier, Entity.EntityType, ThrowingSupplier)}, loads never overlap with
+   * invalidation, but concurrent batch loads of the same keys are not merged.
+   *
+   * @param idents The name identifiers of the entities
+   * @param type The type of the entities
+   * @param loader The loader to call with the identifiers missing in the cache, it returns the
+   *     entities which exist
+   * @return The cached or loaded entities, identifiers of entities which don't exist are skipped
+   * @param <E> The class of the entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception> List<E> getAllOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X;
+
+  /**
+   * Returns the cached related entities for the given identifiers and relation type, and loads the
+   * related entities of all the missing identifiers with a single call of the given loader. It
+   * follows the same rules as {@link #getAllOrLoad(List, Entity.EntityType, ThrowingFunction)}.
+   *
+   * @param relType The relation type
+   * @param idents The name identifiers of the entities to find related entities for
+   * @param type The type of the entities to find related entities for
+   * @param loader The loader to call with the identifiers missing in the cache
+   * @return The cached or loaded related entities by the identifier of every given entity
+   * @param <E> The class of the related entities
+   * @param <X> The type of exception that may be thrown by the loader
+   * @throws X if the loader throws an exception of type X
+   */
+  <E extends Entity & HasIdentifier, X extends Exception>
+      Map<NameIdentifier, List<E>> getAllOrLoad(
+          SupportsRelationOperations.Type relType,
+          List<NameIdentifier> idents,
+          Entity.EntityType type,
+          ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+          throws X;
+
   /**
    * A functional interface that represents a supplier that may throw an exception.
    *
@@ -72,6 +178,19 @@ public interface EntityCache extends SupportsEntityStoreCache, SupportsRelationE
     T get() throws E;
   }
 
+  /**
+   * A functional interface that represents a function that may throw an exception.
+   *
+   * @param <T> The type of the input to the function
+   * @param <R> The type of the result of the function
+   * @param <E> The type of exception that may be thrown
+   * @see java.util.function.Function
+   */
+  @FunctionalInterface
+  interface ThrowingFunction<T, R, E extends Exception> {
+    R apply(T t) throws E;
+  }
+
   /**
    * A functional interface that represents a runnable that may throw an exception.
    *
@@ -23,13 +23,17 @@ import com.google.common.base.Preconditions;
 import java.util.Objects;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 
 /** Key for Entity cache. */
 public class EntityCacheKey {
+  private static final String LISTING_SUFFIX = "LIST";
+
   private final NameIdentifier identifier;
   private final Entity.EntityType type;
   private final SupportsRelationOperations.Type relationType;
+  private final boolean listing;
 
   /**
    * Creates a new instance of {@link EntityCacheKey} with the given arguments.
@@ -41,7 +45,7 @@ public class EntityCacheKey {
    */
   public static EntityCacheKey of(
       NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relationType) {
-    return new EntityCacheKey(ident, type, relationType);
+    return new EntityCacheKey(ident, type, relationType, false);
   }
 
   /**
@@ -52,7 +56,22 @@ public class EntityCacheKey {
    * @return A new instance of {@link EntityCacheKey}.
    */
   public static EntityCacheKey of(NameIdentifier ident, Entity.EntityType type) {
-    return new EntityCacheKey(ident, type, null);
+    return new EntityCacheKey(ident, type, null, false);
+  }
+
+  /**
+   * Creates a new instance of {@link EntityCacheKey} for the listing of all entities of the given
+   * type under the given namespace. The identifier of the key is built from the namespace levels,
+   * so the listing is removed together with its parent entity by prefix invalidation.
+   *
+   * @param namespace The namespace of the listed entities, it can not be empty.
+   * @param type The type of the listed entities.
+   * @return A new instance of {@link EntityCacheKey}.
+   */
+  public static EntityCacheKey ofListing(Namespace namespace, Entity.EntityType type) {
+    Preconditions.checkArgument(
+        namespace != null && !namespace.isEmpty(), "namespace cannot be null or empty");
+    return new EntityCacheKey(NameIdentifier.of(namespace.levels()), type, null, true);
   }
 
   /**
@@ -61,17 +80,20 @@ public class EntityCacheKey {
    * @param identifier The identifier of the entity.
    * @param type The type of the entity.
    * @param relationType The type of the relation.
+   * @param listing Whether the key is for a namespace listing.
    */
   private EntityCacheKey(
       NameIdentifier identifier,
       Entity.EntityType type,
-      SupportsRelationOperations.Type relationType) {
+      SupportsRelationOperations.Type relationType,
+      boolean listing) {
     Preconditions.checkArgument(identifier != null, "identifier cannot be null");
     Preconditions.checkArgument(type != null, "type cannot be null");
 
     this.identifier = identifier;
     this.type = type;
     this.relationType = relationType;
+    this.listing = listing;
   }
 
   /**
@@ -101,9 +123,18 @@ public class EntityCacheKey {
     return relationType;
   }
 
+  /**
+   * Returns whether the key is for a namespace listing.
+   *
+   * @return {@code true} if the key is for a namespace listing, {@code false} otherwise.
+   */
+  public boolean isListing() {
+    return listing;
+  }
+
   /**
    * Compares two instances of {@link EntityCacheKey} for equality. The comparison is done by
-   * comparing the identifier, type, and relationType of the instances.
+   * comparing the identifier, type, relationType and listing flag of the instances.
    *
    * @param obj The object to compare to.
    * @return {@code true} if the objects are equal, {@code false} otherwise.
@@ -116,23 +147,24 @@ public class EntityCacheKey {
 
     return Objects.equals(identifier, other.identifier)
         && Objects.equals(type, other.type)
-        && Objects.equals(relationType, other.relationType);
+        && Objects.equals(relationType, other.relationType)
+        && listing == other.listing;
   }
 
   /**
    * Returns a hash code for this instance. The hash code is calculated by hashing the identifier,
-   * type, and relationType of the instance.
+   * type, relationType and listing flag of the instance.
    *
    * @return A hash code for this instance.
    */
   @Override
   public int hashCode() {
-    return Objects.hash(identifier, type, relationType);
+    return Objects.hash(identifier, type, relationType, listing);
   }
 
   /**
    * Returns a string representation of this instance. The string is formatted as
-   * "identifier:type:relationType".
+   * "identifier:type:relationType", or "identifier:type:LIST" for a namespace listing.
    *
    * @return A string representation of this instance.
    */
@@ -141,6 +173,8 @@ public class EntityCacheKey {
     String stringExpr = identifier.toString() + ":" + type.toString();
     if (relationType != null) {
       stringExpr += ":" + relationType.name();
+    } else if (listing) {
+      stringExpr += ":" + LISTING_SUFFIX;
     }
 
     return stringExpr;
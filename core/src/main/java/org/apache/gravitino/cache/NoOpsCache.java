@@ -20,12 +20,14 @@
 package org.apache.gravitino.cache;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 
 /** A cache implementation that does not cache anything. */
@@ -90,6 +92,54 @@ public class NoOpsCache extends BaseEntityCache {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> E getOrLoad(
+      NameIdentifier ident, Entity.EntityType type, ThrowingSupplier<E, X> loader) throws X {
+    // Nothing is cached, so there is no state to keep coherent with the loader.
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      SupportsRelationOperations.Type relType,
+      NameIdentifier ident,
+      Entity.EntityType type,
+      ThrowingSupplier<List<E>, X> loader)
+      throws X {
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getOrLoad(
+      Namespace namespace, Entity.EntityType type, ThrowingSupplier<List<E>, X> loader) throws X {
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception> List<E> getAllOrLoad(
+      List<NameIdentifier> idents,
+      Entity.EntityType type,
+      ThrowingFunction<List<NameIdentifier>, List<E>, X> loader)
+      throws X {
+    return loader.apply(idents);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, X extends Exception>
+      Map<NameIdentifier, List<E>> getAllOrLoad(
+          SupportsRelationOperations.Type relType,
+          List<NameIdentifier> idents,
+          Entity.EntityType type,
+          ThrowingFunction<List<NameIdentifier>, Map<NameIdentifier, List<E>>, X> loader)
+          throws X {
+    return loader.apply(idents);
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
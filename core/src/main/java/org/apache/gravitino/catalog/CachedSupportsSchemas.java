@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.Map;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NonEmptySchemaException;
+import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+
+/** The schema operations of a catalog which load the schemas through a metadata cache. */
+class CachedSupportsSchemas implements SupportsSchemas {
+
+  private final SupportsSchemas delegate;
+
+  private final CatalogMetadataCache cache;
+
+  CachedSupportsSchemas(SupportsSchemas delegate, CatalogMetadataCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
+    return delegate.listSchemas(namespace);
+  }
+
+  @Override
+  public boolean schemaExists(NameIdentifier ident) {
+    return delegate.schemaExists(ident);
+  }
+
+  @Override
+  public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
+      throws NoSuchCatalogException, SchemaAlreadyExistsException {
+    try {
+      return delegate.createSchema(ident, comment, properties);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    return cache.get(ident, Schema.class, () -> delegate.loadSchema(ident));
+  }
+
+  @Override
+  public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
+      throws NoSuchSchemaException {
+    try {
+      return delegate.alterSchema(ident, changes);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public boolean dropSchema(NameIdentifier ident, boolean cascade)
+      throws NonEmptySchemaException {
+    try {
+      return delegate.dropSchema(ident, cascade);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+}
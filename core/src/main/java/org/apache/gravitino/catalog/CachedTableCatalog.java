@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.Map;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.exceptions.TableAlreadyExistsException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Index;
+
+/** The table operations of a catalog which load the tables through a metadata cache. */
+class CachedTableCatalog implements TableCatalog {
+
+  private final TableCatalog delegate;
+
+  private final CatalogMetadataCache cache;
+
+  CachedTableCatalog(TableCatalog delegate, CatalogMetadataCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
+    return delegate.listTables(namespace);
+  }
+
+  @Override
+  public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    return cache.get(ident, Table.class, () -> delegate.loadTable(ident));
+  }
+
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return delegate.listTablesInfo(namespace);
+  }
+
+  @Override
+  public boolean tableExists(NameIdentifier ident) {
+    return delegate.tableExists(ident);
+  }
+
+  @Override
+  public Table createTable(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitions,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes)
+      throws NoSuchSchemaException, TableAlreadyExistsException {
+    try {
+      return delegate.createTable(
+          ident, columns, comment, properties, partitions, distribution, sortOrders, indexes);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public Table alterTable(NameIdentifier ident, TableChange... changes)
+      throws NoSuchTableException, IllegalArgumentException {
+    try {
+      return delegate.alterTable(ident, changes);
+    } finally {
+      cache.invalidate(ident);
+      for (TableChange change : changes) {
+        if (change instanceof TableChange.RenameTable) {
+          cache.invalidate(
+              NameIdentifier.of(
+                  ident.namespace(), ((TableChange.RenameTable) change).getNewName()));
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean dropTable(NameIdentifier ident) {
+    try {
+      return delegate.dropTable(ident);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
+    try {
+      return delegate.purgeTable(ident);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.Map;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTopicException;
+import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
+import org.apache.gravitino.messaging.DataLayout;
+import org.apache.gravitino.messaging.Topic;
+import org.apache.gravitino.messaging.TopicCatalog;
+import org.apache.gravitino.messaging.TopicChange;
+
+/** The topic operations of a catalog which load the topics through a metadata cache. */
+class CachedTopicCatalog implements TopicCatalog {
+
+  private final TopicCatalog delegate;
+
+  private final CatalogMetadataCache cache;
+
+  CachedTopicCatalog(TopicCatalog delegate, CatalogMetadataCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchSchemaException {
+    return delegate.listTopics(namespace);
+  }
+
+  @Override
+  public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
+    return cache.get(ident, Topic.class, () -> delegate.loadTopic(ident));
+  }
+
+  @Override
+  public boolean topicExists(NameIdentifier ident) {
+    return delegate.topicExists(ident);
+  }
+
+  @Override
+  public Topic createTopic(
+      NameIdentifier ident, String comment, DataLayout dataLayout, Map<String, String> properties)
+      throws NoSuchSchemaException, TopicAlreadyExistsException {
+    try {
+      return delegate.createTopic(ident, comment, dataLayout, properties);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public Topic alterTopic(NameIdentifier ident, TopicChange... changes)
+      throws NoSuchTopicException, IllegalArgumentException {
+    try {
+      return delegate.alterTopic(ident, changes);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+
+  @Override
+  public boolean dropTopic(NameIdentifier ident) {
+    try {
+      return delegate.dropTopic(ident);
+    } finally {
+      cache.invalidate(ident);
+    }
+  }
+}
@@ -103,6 +103,7 @@ import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.utils.IsolatedClassLoader;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
@@ -131,23 +132,37 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    private final CatalogMetadataCache metadataCache;
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, CatalogMetadataCache.DISABLED);
+    }
+
+    public CatalogWrapper(
+        BaseCatalog catalog, IsolatedClassLoader classLoader, CatalogMetadataCache metadataCache) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.metadataCache = metadataCache;
     }
 
     public BaseCatalog catalog() {
       return catalog;
     }
 
+    public CatalogMetadataCache metadataCache() {
+      return metadataCache;
+    }
+
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
       return classLoader.withClassLoader(
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
             }
-            return fn.apply(asSchemas());
+            return fn.apply(
+                metadataCache.isEnabled()
+                    ? new CachedSupportsSchemas(asSchemas(), metadataCache)
+                    : asSchemas());
           });
     }
 
@@ -157,7 +172,10 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
             }
-            return fn.apply(asTables());
+            return fn.apply(
+                metadataCache.isEnabled()
+                    ? new CachedTableCatalog(asTables(), metadataCache)
+                    : asTables());
           });
     }
 
@@ -193,7 +211,10 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
             }
-            return fn.apply(asTopics());
+            return fn.apply(
+                metadataCache.isEnabled()
+                    ? new CachedTopicCatalog(asTopics(), metadataCache)
+                    : asTopics());
           });
     }
 
@@ -235,6 +256,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public void close() {
+      metadataCache.invalidateAll();
       try {
         classLoader.withClassLoader(
             cl -> {
@@ -852,6 +874,22 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     return catalogEntity.getType().equals(FILESET);
   }
 
+  /**
+   * Invalidates the metadata of a schema, table or topic cached by its catalog, for example when
+   * the underlying source notifies that the object was changed outside Gravitino. It does nothing
+   * if the catalog is not loaded.
+   *
+   * @param ident The identifier of the changed object, or the identifier of a catalog to invalidate
+   *     all the metadata cached by the catalog.
+   */
+  public void invalidateCachedMetadata(NameIdentifier ident) {
+    CatalogWrapper wrapper =
+        catalogCache.getIfPresent(NameIdentifierUtil.getCatalogIdentifier(ident));
+    if (wrapper != null) {
+      wrapper.metadataCache().invalidate(ident);
+    }
+  }
+
   /**
    * Loads the catalog with the specified identifier, wraps it in a CatalogWrapper, and caches the
    * wrapper for reuse.
@@ -975,7 +1013,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     IsolatedClassLoader classLoader = createClassLoader(provider, conf);
     BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
 
-    CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
+    CatalogWrapper wrapper =
+        new CatalogWrapper(catalog, classLoader, CatalogMetadataCache.of(conf));
     // Validate catalog properties and initialize the config
     classLoader.withClassLoader(
         cl -> {
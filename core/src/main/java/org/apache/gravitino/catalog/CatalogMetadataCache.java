@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.connector.BaseCatalogPropertiesMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.exceptions.NotFoundException;
+
+/**
+ * A read-through cache of the metadata objects loaded from the underlying source of a catalog, such
+ * as the schemas and tables of a Hive Metastore or a JDBC database, or the topics of a Kafka
+ * cluster. It keeps the underlying source off the path of repeated loads of objects which rarely
+ * change.
+ *
+ * <p>The cache is configured by the catalog properties, and is disabled by default. Changes made
+ * through Gravitino invalidate the changed objects, changes made by external systems are visible
+ * after the entries expire or after they are refreshed explicitly.
+ */
+public class CatalogMetadataCache {
+
+  /** A cache which doesn't cache anything. */
+  public static final CatalogMetadataCache DISABLED = new CatalogMetadataCache(null, false);
+
+  // Bumped on every invalidation, loads only keep their result if it didn't change meanwhile.
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Cache<NameIdentifier, Object> cache;
+
+  private final boolean cacheNotFound;
+
+  private CatalogMetadataCache(Cache<NameIdentifier, Object> cache, boolean cacheNotFound) {
+    this.cache = cache;
+    this.cacheNotFound = cacheNotFound;
+  }
+
+  /**
+   * Creates the metadata cache of a catalog from its properties.
+   *
+   * @param properties The properties of the catalog.
+   * @return The metadata cache, or {@link #DISABLED} if the cache is not enabled.
+   */
+  public static CatalogMetadataCache of(Map<String, String> properties) {
+    PropertiesMetadata metadata = BaseCatalogPropertiesMetadata.BASIC_CATALOG_PROPERTIES_METADATA;
+    if (!(boolean) metadata.getOrDefault(properties, BaseCatalog.METADATA_CACHE_ENABLED)) {
+      return DISABLED;
+    }
+
+    long ttlMs = (long) metadata.getOrDefault(properties, BaseCatalog.METADATA_CACHE_TTL_MS);
+    long maxSize = (long) metadata.getOrDefault(properties, BaseCatalog.METADATA_CACHE_MAX_SIZE);
+    Preconditions.checkArgument(
+        ttlMs > 0, "%s must be positive", BaseCatalog.METADATA_CACHE_TTL_MS);
+    Preconditions.checkArgument(
+        maxSize > 0, "%s must be positive", BaseCatalog.METADATA_CACHE_MAX_SIZE);
+
+    Cache<NameIdentifier, Object> cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .build();
+    return new CatalogMetadataCache(
+        cache,
+        (boolean) metadata.getOrDefault(properties, BaseCatalog.METADATA_CACHE_NOT_FOUND_ENABLED));
+  }
+
+  /**
+   * Gets the metadata object of the identifier from the cache, or loads it with the loader if it
+   * isn't cached.
+   *
+   * @param ident The identifier of the metadata object.
+   * @param valueClass The class of the metadata object.
+   * @param loader The loader of the metadata object from the underlying source.
+   * @param <T> The type of the metadata object.
+   * @return The metadata object.
+   * @throws NotFoundException If the metadata object doesn't exist, the exception may be a cached
+   *     one if caching the objects not found is enabled.
+   */
+  public <T> T get(NameIdentifier ident, Class<T> valueClass, Supplier<T> loader) {
+    Cache<NameIdentifier, Object> current = cache;
+    if (current == null) {
+      return loader.get();
+    }
+
+    Object cached = current.getIfPresent(ident);
+    if (cached instanceof NotFound) {
+      throw ((NotFound) cached).exception;
+    } else if (valueClass.isInstance(cached)) {
+      return valueClass.cast(cached);
+    }
+
+    long startGeneration = generation.get();
+    T loaded;
+    try {
+      loaded = loader.get();
+    } catch (NotFoundException e) {
+      if (cacheNotFound) {
+        put(current, ident, new NotFound(e), startGeneration);
+      }
+      throw e;
+    }
+
+    if (loaded != null) {
+      put(current, ident, loaded, startGeneration);
+    }
+    return loaded;
+  }
+
+  /**
+   * Invalidates the cached metadata object of the identifier, and the ones under it if it is a
+   * schema.
+   *
+   * @param ident The identifier of the changed schema, table or topic.
+   */
+  public void invalidate(NameIdentifier ident) {
+    generation.incrementAndGet();
+    if (cache == null) {
+      return;
+    }
+
+    String[] levels = levelsOf(ident);
+    cache.asMap().keySet().removeIf(key -> startsWith(levelsOf(key), levels));
+  }
+
+  /** Invalidates all the cached metadata objects. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  /**
+   * Whether the cache is enabled.
+   *
+   * @return true if the cache is enabled.
+   */
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  @VisibleForTesting
+  long size() {
+    if (cache == null) {
+      return 0;
+    }
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private void put(
+      Cache<NameIdentifier, Object> current,
+      NameIdentifier ident,
+      Object value,
+      long startGeneration) {
+    current.put(ident, value);
+    // An invalidation happened while loading, the loaded object may already be stale.
+    if (generation.get() != startGeneration) {
+      current.invalidate(ident);
+    }
+  }
+
+  private static boolean startsWith(String[] levels, String[] prefix) {
+    return levels.length >= prefix.length
+        && Arrays.equals(Arrays.copyOf(levels, prefix.length), prefix);
+  }
+
+  private static String[] levelsOf(NameIdentifier ident) {
+    String[] namespaceLevels = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespaceLevels, namespaceLevels.length + 1);
+    levels[namespaceLevels.length] = ident.name();
+    return levels;
+  }
+
+  private static class NotFound {
+    private final NotFoundException exception;
+
+    private NotFound(NotFoundException exception) {
+      this.exception = exception;
+    }
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 
 /**
  * {@code PartitionDispatcher} interface is a wrapper around the {@link SupportsPartitions}
@@ -47,6 +48,32 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List a page of the partition names in the table, ordered by name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The partition filter, or null to list all the partitions. See {@link
+   *     SupportsPartitions#listPartitionNames(String, String, int)}.
+   * @param pageToken The token of the page, or null for the first page.
+   * @param limit The maximum number of partition names of the page.
+   * @return The page of partition names.
+   */
+  PartitionPage<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit);
+
+  /**
+   * List a page of the partitions in the table, ordered by name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The partition filter, or null to list all the partitions. See {@link
+   *     SupportsPartitions#listPartitionNames(String, String, int)}.
+   * @param pageToken The token of the page, or null for the first page.
+   * @param limit The maximum number of partitions of the page.
+   * @return The page of partitions.
+   */
+  PartitionPage<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit);
+
   /**
    * Get a partition by name from the table.
    *
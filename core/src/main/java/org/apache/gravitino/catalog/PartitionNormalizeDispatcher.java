@@ -23,11 +23,13 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveO
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 
 public class PartitionNormalizeDispatcher implements PartitionDispatcher {
   private final CatalogManager catalogManager;
@@ -61,6 +63,43 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public PartitionPage<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    PartitionPage<String> page =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken,
+            limit);
+    return PartitionPage.of(
+        page.items().stream()
+            .map(
+                partitionName ->
+                    applyCaseSensitiveOnName(
+                        Capability.Scope.PARTITION, partitionName, capabilities))
+            .collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
+  @Override
+  public PartitionPage<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    PartitionPage<Partition> page =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken,
+            limit);
+    return PartitionPage.of(
+        page.items().stream()
+            .map(partition -> applyCaseSensitive(partition, capabilities))
+            .collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -27,6 +27,7 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.storage.IdGenerator;
 
 public class PartitionOperationDispatcher extends OperationDispatcher
@@ -64,6 +65,32 @@ public class PartitionOperationDispatcher extends OperationDispatcher
                 tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class));
   }
 
+  @Override
+  public PartitionPage<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitionNames(filter, pageToken, limit),
+                NoSuchTableException.class));
+  }
+
+  @Override
+  public PartitionPage<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitions(filter, pageToken, limit),
+                NoSuchTableException.class));
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -19,7 +19,10 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.connector.SupportsSchemas;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 
 /**
  * {@code SchemaDispatcher} interface acts as a specialization of the {@link SupportsSchemas}
@@ -27,4 +30,17 @@ import org.apache.gravitino.connector.SupportsSchemas;
  * to dispatching or handling schema-related events or actions that are not covered by the standard
  * {@code SupportsSchemas} operations.
  */
-public interface SchemaDispatcher extends SupportsSchemas {}
+public interface SchemaDispatcher extends SupportsSchemas {
+
+  /**
+   * Refresh the schema by dropping the metadata of the schema and the objects under it cached by
+   * the catalog, and loading the schema again from the underlying source. The catalog may cache the
+   * metadata if the catalog property {@code metadata-cache.enabled} is true, changes made by
+   * external systems are otherwise visible only after the cached metadata expires.
+   *
+   * @param ident A schema identifier.
+   * @return The schema metadata loaded from the underlying source.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  Schema refreshSchema(NameIdentifier ident) throws NoSuchSchemaException;
+}
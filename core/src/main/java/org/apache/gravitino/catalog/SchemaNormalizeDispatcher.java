@@ -71,6 +71,13 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return dispatcher.loadSchema(normalizeCaseSensitive(ident));
   }
 
+  @Override
+  public Schema refreshSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.refreshSchema(normalizeCaseSensitive(ident));
+  }
+
   @Override
   public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
       throws NoSuchSchemaException {
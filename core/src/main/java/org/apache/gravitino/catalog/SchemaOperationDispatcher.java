@@ -175,6 +175,26 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         });
   }
 
+  /**
+   * Refreshes a schema by dropping the cached metadata of the schema and the objects under it in
+   * the catalog, and loading the schema again.
+   *
+   * @param ident The identifier of the schema to be refreshed.
+   * @return The reloaded Schema object.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Schema refreshSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> {
+          c.metadataCache().invalidate(ident);
+          return null;
+        },
+        NoSuchSchemaException.class);
+    return loadSchema(ident);
+  }
+
   /**
    * Loads and retrieves a schema.
    *
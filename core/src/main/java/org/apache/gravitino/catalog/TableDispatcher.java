@@ -19,6 +19,9 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 
 /**
@@ -27,4 +30,17 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * Refresh the table by dropping its metadata cached by the catalog and loading it again from the
+   * underlying source. The catalog may cache the metadata if the catalog property {@code
+   * metadata-cache.enabled} is true, changes made by external systems are otherwise visible only
+   * after the cached metadata expires.
+   *
+   * @param ident A table identifier.
+   * @return The table metadata loaded from the underlying source.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  Table refreshTable(NameIdentifier ident) throws NoSuchTableException;
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.TableImportMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the background imports of the tables created outside Gravitino. When a schema is listed for
+ * the first time, {@link TableOperationDispatcher} schedules the import of all its tables here, so
+ * the first loads of these tables don't need to import them one by one under the write lock of the
+ * schema.
+ *
+ * <p>Every schema is imported at most once by a server, unless its import failed. The imports run
+ * on a bounded pool and wait between batches, see {@link Configs#TABLE_BULK_IMPORT_THREADS} and
+ * {@link Configs#TABLE_BULK_IMPORT_BATCH_INTERVAL_MS}.
+ */
+public class TableImporter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(TableImporter.class);
+
+  private final boolean enabled;
+
+  private final int batchSize;
+
+  private final long batchIntervalMs;
+
+  private final Set<NameIdentifier> scheduledSchemas = ConcurrentHashMap.newKeySet();
+
+  private final ThreadPoolExecutor executor;
+
+  private final TableImportMetricsSource metricsSource;
+
+  private volatile boolean closed = false;
+
+  public TableImporter(Config config) {
+    this.enabled = config.get(Configs.TABLE_BULK_IMPORT_ENABLED);
+    this.batchSize = config.get(Configs.TABLE_BULK_IMPORT_BATCH_SIZE);
+    this.batchIntervalMs = config.get(Configs.TABLE_BULK_IMPORT_BATCH_INTERVAL_MS);
+    if (!enabled) {
+      this.executor = null;
+      this.metricsSource = null;
+      return;
+    }
+
+    int threads = config.get(Configs.TABLE_BULK_IMPORT_THREADS);
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("table-import-%d").build());
+    this.metricsSource = new TableImportMetricsSource(this);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Schedules the import of a schema if it was not scheduled before.
+   *
+   * @param schemaIdent The identifier of the schema.
+   * @param task The task which imports the tables of the schema.
+   * @return True if the import is scheduled by this call.
+   */
+  public boolean scheduleIfAbsent(NameIdentifier schemaIdent, Runnable task) {
+    if (!enabled || closed || !scheduledSchemas.add(schemaIdent)) {
+      return false;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              task.run();
+            } catch (Exception e) {
+              LOG.warn("Failed to import the tables of schema {}", schemaIdent, e);
+              // Allow the next listing to retry the import.
+              scheduledSchemas.remove(schemaIdent);
+            }
+          });
+      return true;
+    } catch (RejectedExecutionException e) {
+      scheduledSchemas.remove(schemaIdent);
+      return false;
+    }
+  }
+
+  /**
+   * Waits between two batches of an import.
+   *
+   * @return False if the importer is closed and the import should stop.
+   */
+  public boolean awaitNextBatch() {
+    if (closed) {
+      return false;
+    }
+    if (batchIntervalMs <= 0) {
+      return true;
+    }
+
+    try {
+      Thread.sleep(batchIntervalMs);
+      return !closed;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  public void recordImported(int count) {
+    metricsSource.getCounter(MetricNames.TABLE_IMPORT_IMPORTED_TABLES).inc(count);
+  }
+
+  public void recordSkipped(int count) {
+    metricsSource.getCounter(MetricNames.TABLE_IMPORT_SKIPPED_TABLES).inc(count);
+  }
+
+  public void recordFailed(int count) {
+    metricsSource.getCounter(MetricNames.TABLE_IMPORT_FAILED_TABLES).inc(count);
+  }
+
+  public int pendingSchemas() {
+    return executor == null ? 0 : executor.getQueue().size() + executor.getActiveCount();
+  }
+
+  @VisibleForTesting
+  TableImportMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+}
@@ -24,13 +24,18 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -71,6 +76,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  private final TableImporter tableImporter;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -80,7 +87,25 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(catalogManager, store, idGenerator, null);
+  }
+
+  /**
+   * Creates a new TableOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for table operations.
+   * @param store The EntityStore instance to be used for table operations.
+   * @param idGenerator The IdGenerator instance to be used for table operations.
+   * @param tableImporter The TableImporter to import the tables of listed schemas in the
+   *     background, or null to import every table when it is loaded.
+   */
+  public TableOperationDispatcher(
+      CatalogManager catalogManager,
+      EntityStore store,
+      IdGenerator idGenerator,
+      TableImporter tableImporter) {
     super(catalogManager, store, idGenerator);
+    this.tableImporter = tableImporter;
   }
 
   /**
@@ -93,14 +118,107 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    return TreeLockUtils.doWithTreeLock(
-        NameIdentifier.of(namespace.levels()),
-        LockType.READ,
-        () ->
-            doWithCatalog(
-                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
-                c -> c.doWithTableOps(t -> t.listTables(namespace)),
-                NoSuchSchemaException.class));
+    NameIdentifier[] tableIdents =
+        TreeLockUtils.doWithTreeLock(
+            NameIdentifier.of(namespace.levels()),
+            LockType.READ,
+            () ->
+                doWithCatalog(
+                    getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                    c -> c.doWithTableOps(t -> t.listTables(namespace)),
+                    NoSuchSchemaException.class));
+
+    if (tableImporter != null && tableImporter.isEnabled() && tableIdents.length > 0) {
+      tableImporter.scheduleIfAbsent(
+          NameIdentifier.of(namespace.levels()), () -> importTables(namespace, tableIdents));
+    }
+    return tableIdents;
+  }
+
+  /**
+   * Lists the tables within a schema with their metadata. The tables which are not imported yet
+   * are imported in the background if the table importer is enabled, otherwise they are imported
+   * when they are loaded.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @return An array of {@link Table} objects in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    NameIdentifier catalogIdent = getCatalogIdentifier(schemaIdent);
+    Table[] tables =
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent,
+            LockType.READ,
+            () ->
+                doWithCatalog(
+                    catalogIdent,
+                    c -> c.doWithTableOps(t -> t.listTablesInfo(namespace)),
+                    NoSuchSchemaException.class));
+
+    List<NameIdentifier> tableIdents =
+        Arrays.stream(tables)
+            .map(t -> NameIdentifier.of(namespace, t.name()))
+            .collect(Collectors.toList());
+    Map<NameIdentifier, TableEntity> tableEntities;
+    try {
+      tableEntities =
+          store.batchGet(tableIdents, TABLE, TableEntity.class).stream()
+              .collect(Collectors.toMap(TableEntity::nameIdentifier, Function.identity()));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the table entities of schema " + schemaIdent, e);
+    }
+
+    Table[] combinedTables = new Table[tables.length];
+    for (int i = 0; i < tables.length; i++) {
+      TableEntity tableEntity = tableEntities.get(tableIdents.get(i));
+      EntityCombinedTable combinedTable =
+          tableEntity == null
+              ? EntityCombinedTable.of(tables[i])
+              : EntityCombinedTable.of(tables[i], tableEntity);
+      combinedTables[i] =
+          combinedTable
+              .withHiddenProperties(
+                  getHiddenPropertyNames(
+                      catalogIdent,
+                      HasPropertyMetadata::tablePropertiesMetadata,
+                      tables[i].properties()))
+              .withImported(tableEntity != null);
+    }
+
+    if (tableImporter != null
+        && tableImporter.isEnabled()
+        && tableEntities.size() < tableIdents.size()) {
+      // The tables are fetched already, import them without loading them from the catalog again.
+      Table[] notImported =
+          IntStream.range(0, tables.length)
+              .filter(i -> !tableEntities.containsKey(tableIdents.get(i)))
+              .mapToObj(i -> tables[i])
+              .toArray(Table[]::new);
+      tableImporter.scheduleIfAbsent(schemaIdent, () -> importTables(namespace, notImported));
+    }
+    return combinedTables;
+  }
+
+  /**
+   * Refreshes a table by dropping its cached metadata in the catalog and loading it again.
+   *
+   * @param ident The identifier of the table to refresh.
+   * @return The reloaded {@link Table} object.
+   * @throws NoSuchTableException If the specified table does not exist.
+   */
+  @Override
+  public Table refreshTable(NameIdentifier ident) throws NoSuchTableException {
+    doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> {
+          c.metadataCache().invalidate(ident);
+          return null;
+        },
+        NoSuchTableException.class);
+    return loadTable(ident);
   }
 
   /**
@@ -419,23 +537,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       uid = idGenerator.nextId();
     }
 
-    AuditInfo audit =
-        AuditInfo.builder()
-            .withCreator(table.auditInfo().creator())
-            .withCreateTime(table.auditInfo().createTime())
-            .withLastModifier(table.auditInfo().lastModifier())
-            .withLastModifiedTime(table.auditInfo().lastModifiedTime())
-            .build();
-    List<ColumnEntity> columnEntityList =
-        toColumnEntities(table.tableFromCatalog().columns(), audit);
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withColumns(columnEntityList)
-            .withAuditInfo(audit)
-            .build();
+    TableEntity tableEntity = toImportedTableEntity(uid, identifier, table.tableFromCatalog());
     try {
       store.put(tableEntity, true);
     } catch (EntityAlreadyExistsException e) {
@@ -456,6 +558,172 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 table.tableFromCatalog().properties()));
   }
 
+  /**
+   * Imports the listed tables of a schema which don't exist in the store yet. The catalog can't
+   * fetch the metadata of a list of tables, so if any table is missing in the store, the tables of
+   * the schema are fetched with one {@code listTablesInfo()} call of the catalog instead of loading
+   * them one by one.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tableIdents The identifiers of the tables listed from the catalog.
+   */
+  @VisibleForTesting
+  void importTables(Namespace namespace, NameIdentifier[] tableIdents) {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    Set<NameIdentifier> missingIdents = Sets.newHashSet();
+    for (List<NameIdentifier> batch :
+        Lists.partition(Arrays.asList(tableIdents), tableImporter.batchSize())) {
+      Set<NameIdentifier> existingIdents;
+      try {
+        existingIdents = store.batchExists(batch, TABLE);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to check the existence of tables in " + schemaIdent, e);
+      }
+      batch.stream().filter(ident -> !existingIdents.contains(ident)).forEach(missingIdents::add);
+    }
+
+    if (missingIdents.isEmpty()) {
+      tableImporter.recordSkipped(tableIdents.length);
+      return;
+    }
+    tableImporter.recordSkipped(tableIdents.length - missingIdents.size());
+
+    Table[] tables =
+        doWithCatalog(
+            getCatalogIdentifier(schemaIdent),
+            c -> c.doWithTableOps(t -> t.listTablesInfo(namespace)),
+            NoSuchSchemaException.class);
+    importTables(
+        namespace,
+        Arrays.stream(tables)
+            .filter(t -> missingIdents.contains(NameIdentifier.of(namespace, t.name())))
+            .toArray(Table[]::new));
+  }
+
+  /**
+   * Imports the tables of a schema fetched from the catalog which don't exist in the store yet, in
+   * batches. Only the insert of each batch holds the write lock of the schema.
+   *
+   * @param namespace The namespace of the schema.
+   * @param tables The tables fetched from the catalog.
+   */
+  @VisibleForTesting
+  void importTables(Namespace namespace, Table[] tables) {
+    // Load the schema to make sure the schema is imported.
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    GravitinoEnv.getInstance().schemaDispatcher().loadSchema(schemaIdent);
+
+    for (List<Table> batch : Lists.partition(Arrays.asList(tables), tableImporter.batchSize())) {
+      importTableBatch(schemaIdent, namespace, batch);
+      if (!tableImporter.awaitNextBatch()) {
+        LOG.info("Stop importing the tables of schema {}", schemaIdent);
+        return;
+      }
+    }
+    LOG.info("Finished importing {} tables of schema {}", tables.length, schemaIdent);
+  }
+
+  private void importTableBatch(
+      NameIdentifier schemaIdent, Namespace namespace, List<Table> batch) {
+    List<NameIdentifier> idents =
+        batch.stream()
+            .map(t -> NameIdentifier.of(namespace, t.name()))
+            .collect(Collectors.toList());
+    Set<NameIdentifier> existingIdents;
+    try {
+      existingIdents = store.batchExists(idents, TABLE);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to check the existence of tables in " + schemaIdent, e);
+    }
+
+    List<TableEntity> tableEntities = Lists.newArrayList();
+    int skipped = existingIdents.size();
+    int failed = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      NameIdentifier ident = idents.get(i);
+      Table table = batch.get(i);
+      if (existingIdents.contains(ident)) {
+        continue;
+      }
+
+      // A table with a string identifier was created by Gravitino, leave it to loadTable() which
+      // handles the tables renamed by external systems.
+      if (getStringIdFromProperties(table.properties()) != null) {
+        skipped++;
+        continue;
+      }
+
+      try {
+        tableEntities.add(toImportedTableEntity(idGenerator.nextId(), ident, table));
+      } catch (Exception e) {
+        LOG.warn("Failed to convert table {} from the catalog for import", ident, e);
+        failed++;
+      }
+    }
+
+    int imported =
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent, LockType.WRITE, () -> insertImportedTables(tableEntities));
+    tableImporter.recordImported(imported);
+    tableImporter.recordSkipped(skipped + tableEntities.size() - imported);
+    tableImporter.recordFailed(failed);
+  }
+
+  private int insertImportedTables(List<TableEntity> tableEntities) {
+    if (tableEntities.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      // The tables may have been imported by loadTable() since the existence check.
+      Set<NameIdentifier> importedIdents =
+          store.batchExists(
+              tableEntities.stream().map(TableEntity::nameIdentifier).collect(Collectors.toList()),
+              TABLE);
+      List<TableEntity> toInsert =
+          tableEntities.stream()
+              .filter(t -> !importedIdents.contains(t.nameIdentifier()))
+              .collect(Collectors.toList());
+      store.batchPut(toInsert);
+      return toInsert.size();
+
+    } catch (EntityAlreadyExistsException e) {
+      // Fall back to insert the tables one by one, to skip the ones imported concurrently.
+      int imported = 0;
+      for (TableEntity tableEntity : tableEntities) {
+        try {
+          store.put(tableEntity, false);
+          imported++;
+        } catch (EntityAlreadyExistsException ignored) {
+          // Imported by others
+        } catch (IOException ioe) {
+          LOG.warn("Failed to import table {}", tableEntity.nameIdentifier(), ioe);
+        }
+      }
+      return imported;
+
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to import tables into the store", e);
+    }
+  }
+
+  private TableEntity toImportedTableEntity(long uid, NameIdentifier ident, Table table) {
+    AuditInfo audit =
+        AuditInfo.builder()
+            .withCreator(table.auditInfo().creator())
+            .withCreateTime(table.auditInfo().createTime())
+            .withLastModifier(table.auditInfo().lastModifier())
+            .withLastModifiedTime(table.auditInfo().lastModifiedTime())
+            .build();
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withColumns(toColumnEntities(table.columns(), audit))
+        .withAuditInfo(audit)
+        .build();
+  }
+
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
     NameIdentifier catalogIdentifier = getCatalogIdentifier(ident);
     Table table =
@@ -701,11 +969,22 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       }
     }
 
+    columnsToInsert.sort(Comparator.comparing(ColumnEntity::position));
     return Pair.of(columnsNeedsUpdate, columnsToInsert);
   }
 
   private TableEntity updateColumnsIfNecessaryWhenLoad(
       NameIdentifier tableIdent, EntityCombinedTable combinedTable) {
+    // The columns rarely change between loads, compare them in place first to skip the column by
+    // column diff, which builds a map of the stored columns.
+    Table tableFromCatalog = combinedTable.tableFromCatalog();
+    TableEntity tableFromGravitino = combinedTable.tableFromGravitino();
+    if (tableFromCatalog != null
+        && tableFromGravitino != null
+        && ColumnEntity.sameColumns(tableFromCatalog.columns(), tableFromGravitino.columns())) {
+      return tableFromGravitino;
+    }
+
     Pair<Boolean, List<ColumnEntity>> columnsUpdateResult =
         updateColumnsIfNecessary(
             combinedTable.tableFromCatalog(), combinedTable.tableFromGravitino());
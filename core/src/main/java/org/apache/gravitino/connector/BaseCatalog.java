@@ -61,6 +61,13 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // The keys of the properties to cache the metadata loaded from the underlying source of catalogs
+  // in Gravitino, see CatalogMetadataCache.
+  public static final String METADATA_CACHE_ENABLED = "metadata-cache.enabled";
+  public static final String METADATA_CACHE_TTL_MS = "metadata-cache.ttl-ms";
+  public static final String METADATA_CACHE_MAX_SIZE = "metadata-cache.max-size";
+  public static final String METADATA_CACHE_NOT_FOUND_ENABLED = "metadata-cache.not-found-enabled";
+
   // Underlying access control system plugin for this catalog.
   private volatile AuthorizationPlugin authorizationPlugin;
 
@@ -88,7 +88,35 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   PROPERTY_IN_USE,
                   "The property indicating the catalog is in use",
                   true /* default value */,
-                  false /* hidden */)),
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_ENABLED,
+                  "Whether to cache the schemas, tables and topics loaded from the catalog",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_TTL_MS,
+                  "The time in milliseconds a loaded metadata object is cached",
+                  false /* immutable */,
+                  60000L /* default value */,
+                  false /* hidden */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_MAX_SIZE,
+                  "The maximum number of cached metadata objects",
+                  false /* immutable */,
+                  10000L /* default value */,
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.METADATA_CACHE_NOT_FOUND_ENABLED,
+                  "Whether to cache the metadata objects which are not found in the catalog",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */)),
           PropertyEntry::getName);
 
   @Override
@@ -19,6 +19,7 @@
 package org.apache.gravitino.connector.authorization;
 
 import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.Role;
 import org.apache.gravitino.authorization.RoleChange;
@@ -116,4 +117,30 @@ interface RoleAuthorizationPlugin {
    */
   Boolean onRevokedRolesFromGroup(List<Role> roles, Group group)
       throws AuthorizationPluginException;
+
+  /**
+   * After granting roles to several users and groups at once from Gravitino, for example when the
+   * privileges of a metalake are applied to a newly created catalog, this method is called to
+   * grant the roles in the underlying system. <br>
+   * The default implementation calls {@link #onGrantedRolesToUser(List, User)} and {@link
+   * #onGrantedRolesToGroup(List, Group)} once per user and group. A plugin can override it to
+   * coalesce the updates of the underlying system.
+   *
+   * @param userRoles The entities of the Roles to grant to every User.
+   * @param groupRoles The entities of the Roles to grant to every Group.
+   * @return True if the roles are granted to all of them, False if some grant failed.
+   * @throws AuthorizationPluginException If granting the roles encounters storage issues.
+   */
+  default Boolean onGrantedRolesToUsersAndGroups(
+      Map<User, List<Role>> userRoles, Map<Group, List<Role>> groupRoles)
+      throws AuthorizationPluginException {
+    boolean granted = true;
+    for (Map.Entry<User, List<Role>> entry : userRoles.entrySet()) {
+      granted &= Boolean.TRUE.equals(onGrantedRolesToUser(entry.getValue(), entry.getKey()));
+    }
+    for (Map.Entry<Group, List<Role>> entry : groupRoles.entrySet()) {
+      granted &= Boolean.TRUE.equals(onGrantedRolesToGroup(entry.getValue(), entry.getKey()));
+    }
+    return granted;
+  }
 }
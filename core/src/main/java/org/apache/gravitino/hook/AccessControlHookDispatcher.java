@@ -120,6 +120,7 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
       throws NoSuchUserException, IllegalRoleException, NoSuchMetalakeException {
     User grantedUser = dispatcher.grantRolesToUser(metalake, roles, user);
     notifyRoleUserRelChange(metalake, roles);
+    notifyUserRoleChange(metalake, user);
     return grantedUser;
   }
 
@@ -140,6 +141,7 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
       throws NoSuchUserException, IllegalRoleException, NoSuchMetalakeException {
     User revokedUser = dispatcher.revokeRolesFromUser(metalake, roles, user);
     notifyRoleUserRelChange(metalake, roles);
+    notifyUserRoleChange(metalake, user);
     return revokedUser;
   }
 
@@ -239,6 +241,13 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     }
   }
 
+  private static void notifyUserRoleChange(String metalake, String user) {
+    GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
+    if (gravitinoAuthorizer != null) {
+      gravitinoAuthorizer.handleUserRoleChange(metalake, user);
+    }
+  }
+
   private static void notifyRoleUserRelChange(Long role) {
     GravitinoAuthorizer gravitinoAuthorizer = GravitinoEnv.getInstance().gravitinoAuthorizer();
     if (gravitinoAuthorizer != null) {
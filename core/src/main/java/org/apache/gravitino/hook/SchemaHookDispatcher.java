@@ -80,6 +80,11 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     return dispatcher.loadSchema(ident);
   }
 
+  @Override
+  public Schema refreshSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    return dispatcher.refreshSchema(ident);
+  }
+
   @Override
   public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
       throws NoSuchSchemaException {
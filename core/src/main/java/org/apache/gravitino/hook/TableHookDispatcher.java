@@ -58,11 +58,21 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.listTables(namespace);
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTablesInfo(namespace);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
   }
 
+  @Override
+  public Table refreshTable(NameIdentifier ident) throws NoSuchTableException {
+    return dispatcher.refreshTable(ident);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -45,6 +45,7 @@ import org.apache.gravitino.listener.api.event.PurgePartitionFailureEvent;
 import org.apache.gravitino.listener.api.event.PurgePartitionPreEvent;
 import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 /**
@@ -157,6 +158,38 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public PartitionPage<Partition> listPartitions(
+      NameIdentifier ident, String filter, String pageToken, int limit) {
+    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      PartitionPage<Partition> page = dispatcher.listPartitions(ident, filter, pageToken, limit);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public PartitionPage<String> listPartitionNames(
+      NameIdentifier ident, String filter, String pageToken, int limit) {
+    eventBus.dispatchEvent(
+        new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      PartitionPage<String> page = dispatcher.listPartitionNames(ident, filter, pageToken, limit);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
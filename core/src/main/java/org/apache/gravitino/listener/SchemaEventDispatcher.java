@@ -124,6 +124,21 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     }
   }
 
+  @Override
+  public Schema refreshSchema(NameIdentifier ident) throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new LoadSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Schema schema = dispatcher.refreshSchema(ident);
+      eventBus.dispatchEvent(
+          new LoadSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+      return schema;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new LoadSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
       throws NoSuchSchemaException {
@@ -92,6 +92,20 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      Table[] tables = dispatcher.listTablesInfo(namespace);
+      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return tables;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
@@ -107,6 +121,21 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table refreshTable(NameIdentifier ident) throws NoSuchTableException {
+    eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Table table = dispatcher.refreshTable(ident);
+      eventBus.dispatchEvent(
+          new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+      return table;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -35,7 +36,9 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +67,11 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The maximum time in milliseconds to wait for a tree lock, 0 means waiting until it's locked.
+  @VisibleForTesting long acquireTimeoutMs;
+
+  @VisibleForTesting final TreeLockMonitor monitor;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +107,15 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+
+    long acquireTimeout = config.get(TREE_LOCK_ACQUIRE_TIMEOUT);
+    if (acquireTimeout < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "The timeout in milliseconds to acquire a tree lock '%d' should not be negative",
+              acquireTimeout));
+    }
+    this.acquireTimeoutMs = acquireTimeout;
   }
 
   private void startDeadLockChecker() {
@@ -192,6 +209,19 @@ public class LockManager {
 
     // Start deadlock checker.
     startDeadLockChecker();
+
+    // Start to collect the metrics and expose the tree lock nodes through JMX.
+    this.monitor = new TreeLockMonitor(this);
+    startMonitor();
+  }
+
+  private void startMonitor() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(monitor.metricsSource());
+    }
+    monitor.registerMBean();
   }
 
   /**
@@ -212,21 +242,17 @@ public class LockManager {
     // Handle from leaf nodes first.
     treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
 
-    // Handle self node.
-    if (treeNode.getReference() == 0) {
-      synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
-          parent.removeChild(treeNode.getName());
-          long leftNodeCount = totalNodeCount.decrementAndGet();
-          if (LOG.isTraceEnabled()) {
-            LOG.trace(
-                "Evict stale tree lock node '{}', current left nodes '{}'",
-                treeNode.getName(),
-                leftNodeCount);
-          }
-        }
+    // Handle self node. Once the node is marked as evicted, it can't be referenced by any tree lock
+    // again, so it can be removed from the parent without blocking the threads creating tree locks.
+    if (treeNode.tryEvict()) {
+      parent.removeChild(treeNode);
+      // The children created after they had been checked above are unreachable as well.
+      long leftNodeCount = totalNodeCount.addAndGet(-treeNode.evictDescendants());
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Evict stale tree lock node '{}', current left nodes '{}'",
+            treeNode.getName(),
+            leftNodeCount);
       }
     }
   }
@@ -243,35 +269,35 @@ public class LockManager {
 
     List<TreeLockNode> treeLockNodes = Lists.newArrayList();
     try {
+      // The root node is never evicted.
       TreeLockNode lockNode = treeLockRootNode;
-      lockNode.addReference();
+      lockNode.tryAddReference();
       treeLockNodes.add(lockNode);
 
       // Avoid to use value equality instead of reference equality here.
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, acquireTimeoutMs, monitor);
       }
 
       String[] levels = identifier.namespace().levels();
       levels = ArrayUtils.add(levels, identifier.name());
 
-      TreeLockNode child;
+      // No lock is needed on the ancestors, each of them has been referenced before looking up its
+      // child, so it can't be evicted meanwhile.
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
-          }
+        Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+        TreeLockNode child = pair.getKey();
+        // If the child node is newly created, we should increase the total node counts.
+        if (pair.getValue()) {
+          totalNodeCount.incrementAndGet();
         }
         treeLockNodes.add(child);
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, acquireTimeoutMs, monitor);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
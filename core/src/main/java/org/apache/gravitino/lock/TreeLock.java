@@ -19,10 +19,8 @@
 
 package org.apache.gravitino.lock;
 
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,10 +33,10 @@ import org.slf4j.LoggerFactory;
  * the following
  *
  * <pre>
- *   /                                    readLock
- *   /metalake                            readLock
- *   /metalake/catalog                    readLock
- *   /metalake/catalog/db1                readLock
+ *   /                                    intentionLock
+ *   /metalake                            intentionLock
+ *   /metalake/catalog                    intentionLock
+ *   /metalake/catalog/db1                intentionLock
  *   /metalake/catalog/db/table1          readLock
  * </pre>
  *
@@ -46,10 +44,10 @@ import org.slf4j.LoggerFactory;
  * lock manager will lock the following:
  *
  * <pre>
- *   /                                    readLock
- *   /metalake                            readLock
- *   /metalake/catalog                    readLock
- *   /metalake/catalog/db1                readLock
+ *   /                                    intentionLock
+ *   /metalake                            intentionLock
+ *   /metalake/catalog                    intentionLock
+ *   /metalake/catalog/db1                intentionLock
  *   /metalake/catalog/db/table1          writeLock
  * </pre>
  *
@@ -57,12 +55,17 @@ import org.slf4j.LoggerFactory;
  * will lock the following:
  *
  * <pre>
- *   /                                    readLock
- *   /metalake                            readLock
- *   /metalake/catalog                    readLock
+ *   /                                    intentionLock
+ *   /metalake                            intentionLock
+ *   /metalake/catalog                    intentionLock
  *   /metalake/catalog/db1                writeLock
  * </pre>
  *
+ * An intention lock only conflicts with a write lock on the same node, it's a counter which doesn't
+ * touch the read-write lock of the node, so the threads working on different resources don't
+ * contend on the shared ancestors. A write lock waits until all the intentions on its node are
+ * released, that is, until no tree lock under it is held.
+ *
  * If the lock manager fails to lock the resource path, it will release all the locks that have been
  * locked in the inverse sequences it locks the resource path.
  *
@@ -77,45 +80,66 @@ public class TreeLock {
   private final NameIdentifier identifier;
   // TreeLockNode to be locked
   private final List<TreeLockNode> lockNodes;
+  // The maximum time in milliseconds to wait for the whole path, 0 means waiting until it's locked.
+  private final long acquireTimeoutMs;
+  // The monitor to record the wait and hold time, null if it's not monitored.
+  private final TreeLockMonitor monitor;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // The number of the TreeLockNodes that have been locked, from the root.
+  private int heldLocks;
   private LockType lockType;
+  private long lockedNanos;
 
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, 0L, null);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      long acquireTimeoutMs,
+      TreeLockMonitor monitor) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.monitor = monitor;
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * root to the leaf. The leaf is locked with the given lock type, and the other nodes with an
+   * intention lock. If an exception occurs or the timeout elapses during the locking process, it
+   * will unlock all nodes that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
+   * @throws TreeLockTimeoutException If the nodes can't be locked in the configured timeout.
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
 
+    long startNanos = System.nanoTime();
+    long timeoutNanos =
+        acquireTimeoutMs > 0
+            ? TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs)
+            : TreeLockNode.NO_TIMEOUT;
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
-      LockType type = i == length - 1 ? lockType : LockType.READ;
+      boolean isLeaf = i == length - 1;
+      boolean locked;
+      long beginNanos = System.nanoTime();
+      if (monitor != null) {
+        monitor.beginAcquire(i);
+      }
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
-
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
-              this,
-              lockType,
-              Thread.currentThread(),
-              identifier,
-              System.currentTimeMillis());
-        }
+        long remainingNanos =
+            timeoutNanos == TreeLockNode.NO_TIMEOUT
+                ? TreeLockNode.NO_TIMEOUT
+                : Math.max(0, timeoutNanos - (beginNanos - startNanos));
+        locked =
+            isLeaf
+                ? treeLockNode.lock(lockType, remainingNanos)
+                : treeLockNode.lockIntention(remainingNanos);
       } catch (Exception e) {
         LOG.error(
             "Failed to lock the treeNode, identifier: {}, node {} of lockNodes: [{}]",
@@ -124,11 +148,38 @@ public class TreeLock {
             lockNodes,
             e);
         // unlock all nodes that have been locked when an exception occurs.
+        releaseUnlockedNodes(i);
         unlock();
         throw e;
+      } finally {
+        if (monitor != null) {
+          monitor.endAcquire(
+              i, isLeaf ? lockType : null, identifier, System.nanoTime() - beginNanos);
+        }
+      }
+
+      if (!locked) {
+        LOG.warn(
+            "Failed to lock the treeNode in {} ms, identifier: {}, node {} of lockNodes: [{}]",
+            acquireTimeoutMs,
+            identifier,
+            treeLockNode,
+            lockNodes);
+        releaseUnlockedNodes(i);
+        unlock();
+        throw new TreeLockTimeoutException(
+            "Failed to acquire the %s lock of '%s' in %d ms, please retry later",
+            lockType, identifier, acquireTimeoutMs);
       }
+      heldLocks++;
     }
+    lockedNanos = System.nanoTime();
 
+    // Only the leaf records the holding thread, it's enough for the dead lock checker to find the
+    // resource and the thread, and the ancestors stay free of shared writes.
+    lockNodes
+        .get(length - 1)
+        .addHoldingThreadTimestamp(Thread.currentThread(), identifier, System.currentTimeMillis());
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
@@ -144,17 +195,17 @@ public class TreeLock {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
-      current.unlock(type);
-
-      long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
+    int length = lockNodes.size();
+    if (heldLocks == length) {
+      if (monitor != null) {
+        monitor.recordHoldTime(length - 1, lockType, System.nanoTime() - lockedNanos);
+      }
+      TreeLockNode leaf = lockNodes.get(length - 1);
+      long holdStartTime = leaf.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
             "Node {} has been unlock with '{}' lock, hold by {} with ident '{}' for {} ms",
-            this,
+            leaf,
             lockType,
             Thread.currentThread(),
             identifier,
@@ -162,6 +213,16 @@ public class TreeLock {
       }
     }
 
+    while (heldLocks > 0) {
+      heldLocks--;
+      TreeLockNode current = lockNodes.get(heldLocks);
+      if (heldLocks == length - 1) {
+        current.unlock(lockType);
+      } else {
+        current.unlockIntention();
+      }
+    }
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Unlocked the tree lock, identifier: {}, lockNodes: [{}], lock type: {}",
@@ -170,4 +231,11 @@ public class TreeLock {
           lockType);
     }
   }
+
+  // The nodes which are not locked still hold the references taken when creating this tree lock.
+  private void releaseUnlockedNodes(int from) {
+    for (int i = from; i < lockNodes.size(); i++) {
+      lockNodes.get(i).decReference();
+    }
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TreeLockMonitor collects the metrics of the tree locks created by a {@link LockManager}, tracks
+ * the most contended resources, and exposes the holders and the waiters of the tree lock nodes
+ * through JMX as {@value #MBEAN_NAME}.
+ */
+class TreeLockMonitor implements TreeLockMonitorMXBean {
+  private static final Logger LOG = LoggerFactory.getLogger(TreeLockMonitor.class);
+
+  static final String MBEAN_NAME = "org.apache.gravitino:type=TreeLock";
+
+  // Acquisitions which wait shorter than this are treated as uncontended, they are not recorded to
+  // keep the fast path cheap.
+  @VisibleForTesting static final long CONTENDED_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final int MAX_CONTENDED_IDENTIFIERS = 1000;
+
+  private final LockManager lockManager;
+  private final TreeLockMetricsSource metricsSource;
+  // The resources which are frequently contended are kept when the cache is full.
+  private final Cache<NameIdentifier, Contention> contentions =
+      Caffeine.newBuilder().maximumSize(MAX_CONTENDED_IDENTIFIERS).build();
+
+  private static class Contention {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    private void record(long nanos) {
+      count.increment();
+      waitNanos.add(nanos);
+    }
+  }
+
+  TreeLockMonitor(LockManager lockManager) {
+    this.lockManager = lockManager;
+    this.metricsSource =
+        new TreeLockMetricsSource(() -> Math.toIntExact(contentions.estimatedSize()));
+  }
+
+  TreeLockMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Mark the start of the acquisition of a tree lock node.
+   *
+   * @param depth The depth of the node, 0 for the root node.
+   */
+  void beginAcquire(int depth) {
+    metricsSource.acquiringThreads(depth).increment();
+  }
+
+  /**
+   * Mark the end of the acquisition of a tree lock node, whether it succeeded or not.
+   *
+   * @param depth The depth of the node, 0 for the root node.
+   * @param lockType The lock type, or null for the intention of an ancestor.
+   * @param identifier The identifier of the tree lock.
+   * @param waitNanos The time spent on the acquisition.
+   */
+  void endAcquire(int depth, LockType lockType, NameIdentifier identifier, long waitNanos) {
+    metricsSource.acquiringThreads(depth).decrement();
+    if (waitNanos < CONTENDED_WAIT_NANOS) {
+      return;
+    }
+
+    metricsSource.recordWaitTime(depth, lockType, waitNanos);
+    contentions.get(pathOf(identifier, depth), k -> new Contention()).record(waitNanos);
+  }
+
+  /**
+   * Record the time a tree lock was held.
+   *
+   * @param depth The depth of the locked node, 0 for the root node.
+   * @param lockType The lock type of the tree lock.
+   * @param holdNanos The time between the lock and the unlock.
+   */
+  void recordHoldTime(int depth, LockType lockType, long holdNanos) {
+    metricsSource.recordHoldTime(depth, lockType, holdNanos);
+  }
+
+  @Override
+  public String dumpLocks() {
+    StringBuilder sb = new StringBuilder();
+    dumpNode(lockManager.treeLockRootNode, "/", System.currentTimeMillis(), sb);
+    return sb.toString();
+  }
+
+  @Override
+  public String[] topContendedIdentifiers(int limit) {
+    return contentions.asMap().entrySet().stream()
+        .sorted(
+            Comparator.comparingLong(
+                    (Map.Entry<NameIdentifier, Contention> e) -> e.getValue().waitNanos.sum())
+                .reversed())
+        .limit(Math.max(limit, 0))
+        .map(
+            e ->
+                String.format(
+                    "%s contended=%d, waitTimeMs=%d",
+                    e.getKey(),
+                    e.getValue().count.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(e.getValue().waitNanos.sum())))
+        .toArray(String[]::new);
+  }
+
+  void registerMBean() {
+    try {
+      MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+      ObjectName objectName = new ObjectName(MBEAN_NAME);
+      // The latest lock manager replaces the former one, like what MetricsSystem does.
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+      mBeanServer.registerMBean(this, objectName);
+    } catch (JMException e) {
+      LOG.warn("Failed to register the tree lock MBean {}", MBEAN_NAME, e);
+    }
+  }
+
+  private void dumpNode(TreeLockNode node, String path, long now, StringBuilder sb) {
+    long intentions = node.getIntentionCount();
+    int readLocks = node.getReadLockCount();
+    boolean writeLocked = node.isWriteLocked();
+    Map<TreeLockNode.ThreadIdentifier, Long> holders = node.getHoldingThreadTimestamp();
+    Map<Thread, Pair<String, Long>> waiters = node.getWaitingThreads();
+    boolean inUse = intentions > 0 || readLocks > 0 || writeLocked;
+    if (inUse || !holders.isEmpty() || !waiters.isEmpty()) {
+      sb.append(
+          String.format(
+              "%s intentions=%d, readLocks=%d, writeLocked=%s%n",
+              path, intentions, readLocks, writeLocked));
+      holders.forEach(
+          (holder, since) ->
+              sb.append(String.format("  holder: %s for %d ms%n", holder, now - since)));
+      waiters.forEach(
+          (thread, modeAndSince) ->
+              sb.append(
+                  String.format(
+                      "  waiter: %s for %s lock for %d ms%n",
+                      thread, modeAndSince.getLeft(), now - modeAndSince.getRight())));
+    }
+
+    String childPrefix = path.endsWith("/") ? path : path + "/";
+    node.getAllChildren().forEach(child -> dumpNode(child, childPrefix + child.getName(), now, sb));
+  }
+
+  private static NameIdentifier pathOf(NameIdentifier identifier, int depth) {
+    if (depth == 0) {
+      return LockManager.ROOT;
+    }
+
+    String[] levels = ArrayUtils.add(identifier.namespace().levels(), identifier.name());
+    return depth >= levels.length ? identifier : NameIdentifier.of(Arrays.copyOf(levels, depth));
+  }
+}
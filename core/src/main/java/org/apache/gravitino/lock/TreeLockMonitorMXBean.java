@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+/** The JMX interface to inspect the tree locks of a Gravitino server. */
+public interface TreeLockMonitorMXBean {
+
+  /**
+   * Dump the tree lock nodes which are in use, along with the threads holding and waiting for them.
+   *
+   * @return The text dump of the tree lock nodes, one node per line followed by its threads.
+   */
+  String dumpLocks();
+
+  /**
+   * Get the resources which threads waited for the longest, since the server started.
+   *
+   * @param limit The maximum number of the resources to return.
+   * @return The resources with the number of the contended acquisitions and the total wait time,
+   *     in the descending order of the total wait time.
+   */
+  String[] topContendedIdentifiers(int limit);
+}
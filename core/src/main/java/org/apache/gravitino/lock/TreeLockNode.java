@@ -23,10 +23,15 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
@@ -37,22 +42,53 @@ import org.slf4j.LoggerFactory;
  * TreeLockNode is a node in the tree lock; all tree lock nodes will be assembled to a tree
  * structure, which corresponds to the resource path like name identifier space.
  *
- * <p>Each node will have a read-write lock to protect the node. The node will also have a map to
- * store the children. For more, please refer to {@link TreeLock}.
+ * <p>Each node will have a read-write lock to protect the node, and an intention counter for the
+ * tree locks on its descendants. The node will also have a map to store the children. For more,
+ * please refer to {@link TreeLock}.
  */
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
+
+  /** The timeout value to wait until a lock is acquired. */
+  static final long NO_TIMEOUT = -1L;
+
+  /** The lock mode of the threads waiting for an intention on this node. */
+  static final String INTENTION = "INTENTION";
+
+  private static final long EVICTED = -1L;
+  private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  // The intentions held by the current thread on each node, indexed by INTENTION_HOLDS and
+  // READ_HOLDS. A thread may lock a node again under a tree lock it already holds, it must not back
+  // off for a writer which is waiting for this very thread to release its intentions.
+  private static final ThreadLocal<Map<TreeLockNode, int[]>> HELD_INTENTIONS =
+      ThreadLocal.withInitial(IdentityHashMap::new);
+  // The intentions acquired by lockIntention().
+  private static final int INTENTION_HOLDS = 0;
+  // The read locks taken as intentions by a thread which already holds an intention on the node.
+  private static final int READ_HOLDS = 1;
+
   private final String name;
   private final ReentrantReadWriteLock readWriteLock;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
   private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
+  // The threads blocked on this node, along with the lock mode and the time they started to wait.
+  private final Map<Thread, Pair<String, Long>> waitingThreads = new ConcurrentHashMap<>();
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
+  // using this node, and this node can be removed from the tree. It's set to EVICTED once the node
+  // is removed, so the node can not be referenced again.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // The number of the tree locks holding a lock on the descendants of this node.
+  private final LongAdder intentionCount = new LongAdder();
+  // Whether a thread holds the write lock and is waiting for or holding exclusive access to the
+  // subtree, new intentions have to wait until it's released.
+  private volatile boolean writeLocked;
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -122,50 +158,128 @@ public class TreeLockNode {
   }
 
   /**
-   * Increase the reference count of this node. The reference count should always be greater than or
-   * equal to 0.
+   * Increase the reference count of this node if it's still in the tree.
+   *
+   * @return false if the node has been evicted from the tree, the caller should look it up from
+   *     its parent again.
    */
-  synchronized void addReference() {
-    referenceCount.getAndIncrement();
+  boolean tryAddReference() {
+    long current;
+    do {
+      current = referenceCount.get();
+      if (current < 0) {
+        return false;
+      }
+    } while (!referenceCount.compareAndSet(current, current + 1));
+    return true;
   }
 
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
-    referenceCount.getAndDecrement();
+  void decReference() {
+    referenceCount.decrementAndGet();
   }
 
   long getReference() {
     return referenceCount.get();
   }
 
+  /**
+   * Mark this node as evicted if no tree lock references it. An evicted node can not be referenced
+   * anymore, so it's safe to remove it from its parent without locking the parent.
+   *
+   * @return true if the node is marked as evicted by this call.
+   */
+  boolean tryEvict() {
+    return referenceCount.compareAndSet(0, EVICTED);
+  }
+
   /**
    * Lock the node with the given lock type. This method should be followed by {@link
-   * #unlock(LockType)}.
+   * #unlock(LockType)} if it succeeds.
+   *
+   * <p>A write lock also waits for the intentions held on this node, that is, for all the tree
+   * locks on the descendants of this node to be released.
    *
    * @param lockType The lock type to lock the node.
+   * @param timeoutNanos The maximum time to wait, {@link #NO_TIMEOUT} to wait until the lock is
+   *     acquired.
+   * @return true if the lock is acquired, false if the timeout elapsed or the thread was
+   *     interrupted.
    */
-  void lock(LockType lockType) {
+  boolean lock(LockType lockType, long timeoutNanos) {
     if (lockType == LockType.READ) {
-      readWriteLock.readLock().lock();
-    } else {
-      readWriteLock.writeLock().lock();
+      // A read lock only excludes the writers, and so does an intention as a writer waits for all
+      // the intentions to be released. A thread holding an intention on this node takes the read
+      // lock as another intention, the read-write lock may be held by a writer waiting for it.
+      if (holdsIntention()) {
+        intentionCount.increment();
+        addHold(READ_HOLDS);
+        return true;
+      }
+
+      // Only the readers which are likely to block are recorded as waiters, so the uncontended
+      // path doesn't write any shared state.
+      if (!readWriteLock.isWriteLocked() && !readWriteLock.hasQueuedThreads()) {
+        return acquire(readWriteLock.readLock(), timeoutNanos);
+      }
+
+      addWaitingThread(LockType.READ.name());
+      try {
+        return acquire(readWriteLock.readLock(), timeoutNanos);
+      } finally {
+        removeWaitingThread();
+      }
+    }
+
+    addWaitingThread(LockType.WRITE.name());
+    try {
+      return lockWrite(timeoutNanos);
+    } finally {
+      removeWaitingThread();
     }
   }
 
+  private boolean lockWrite(long timeoutNanos) {
+    long startNanos = System.nanoTime();
+    if (!acquire(readWriteLock.writeLock(), timeoutNanos)) {
+      return false;
+    }
+
+    // A reentrant write lock has already waited for the intentions.
+    if (readWriteLock.getWriteHoldCount() > 1) {
+      return true;
+    }
+
+    writeLocked = true;
+    if (!awaitNoIntentions(remaining(startNanos, timeoutNanos))) {
+      writeLocked = false;
+      readWriteLock.writeLock().unlock();
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Unlock the node with the given lock type. This method should be called after {@link
-   * #lock(LockType)}, and the lock type should be the same as the lock type in {@link
-   * #lock(LockType)}.
+   * #lock(LockType, long)}, and the lock type should be the same as the lock type in {@link
+   * #lock(LockType, long)}.
    *
    * @param lockType The lock type to unlock the node.
    */
   void unlock(LockType lockType) {
     if (lockType == LockType.READ) {
-      readWriteLock.readLock().unlock();
+      if (releaseHold(READ_HOLDS)) {
+        intentionCount.decrement();
+      } else {
+        readWriteLock.readLock().unlock();
+      }
     } else {
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        writeLocked = false;
+      }
       readWriteLock.writeLock().unlock();
     }
 
@@ -173,30 +287,173 @@ public class TreeLockNode {
   }
 
   /**
-   * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
+   * Declare the intention to lock a descendant of this node. The intention conflicts only with a
+   * write lock on this node, so acquiring it neither touches the read-write lock nor contends with
+   * the other threads working under this node. This method should be followed by {@link
+   * #unlockIntention()} if it succeeds.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * @param timeoutNanos The maximum time to wait, {@link #NO_TIMEOUT} to wait until the intention
+   *     is acquired.
+   * @return true if the intention is acquired, false if the timeout elapsed or the thread was
+   *     interrupted.
+   */
+  boolean lockIntention(long timeoutNanos) {
+    // A writer on this node is waiting for the intentions or the read locks this thread already
+    // holds, backing off would wait for that writer forever.
+    if (holdsIntention() || readWriteLock.getReadHoldCount() > 0) {
+      intentionCount.increment();
+      addHold(INTENTION_HOLDS);
+      return true;
+    }
+
+    long startNanos = System.nanoTime();
+    while (true) {
+      intentionCount.increment();
+      // The increment and the read of the flag pair with the write of the flag and the read of the
+      // count in lock(), either this thread sees the writer or the writer sees this intention.
+      if (!writeLocked || readWriteLock.isWriteLockedByCurrentThread()) {
+        addHold(INTENTION_HOLDS);
+        return true;
+      }
+
+      // Back off and queue behind the writer on the read lock, then try again.
+      intentionCount.decrement();
+      addWaitingThread(INTENTION);
+      try {
+        if (!acquire(readWriteLock.readLock(), remaining(startNanos, timeoutNanos))) {
+          return false;
+        }
+      } finally {
+        removeWaitingThread();
+      }
+      readWriteLock.readLock().unlock();
+    }
+  }
+
+  /** Release the intention acquired by {@link #lockIntention(long)}. */
+  void unlockIntention() {
+    releaseHold(INTENTION_HOLDS);
+    intentionCount.decrement();
+    this.referenceCount.decrementAndGet();
+  }
+
+  private boolean holdsIntention() {
+    return HELD_INTENTIONS.get().containsKey(this);
+  }
+
+  private void addHold(int kind) {
+    HELD_INTENTIONS.get().computeIfAbsent(this, k -> new int[2])[kind]++;
+  }
+
+  private boolean releaseHold(int kind) {
+    Map<TreeLockNode, int[]> holds = HELD_INTENTIONS.get();
+    int[] counts = holds.get(this);
+    if (counts == null || counts[kind] == 0) {
+      return false;
+    }
+
+    counts[kind]--;
+    if (counts[INTENTION_HOLDS] == 0 && counts[READ_HOLDS] == 0) {
+      holds.remove(this);
+    }
+    return true;
+  }
+
+  long getIntentionCount() {
+    return intentionCount.sum();
+  }
+
+  int getReadLockCount() {
+    return readWriteLock.getReadLockCount();
+  }
+
+  boolean isWriteLocked() {
+    return readWriteLock.isWriteLocked();
+  }
+
+  Map<Thread, Pair<String, Long>> getWaitingThreads() {
+    return waitingThreads;
+  }
+
+  private void addWaitingThread(String lockMode) {
+    waitingThreads.put(Thread.currentThread(), Pair.of(lockMode, System.currentTimeMillis()));
+  }
+
+  private void removeWaitingThread() {
+    waitingThreads.remove(Thread.currentThread());
+  }
+
+  private boolean awaitNoIntentions(long timeoutNanos) {
+    long startNanos = System.nanoTime();
+    long parkNanos = MIN_PARK_NANOS;
+    // Writers are rare compared to the readers, so polling with a backoff is cheaper than making
+    // every intention release signal a condition.
+    while (intentionCount.sum() > 0) {
+      if (Thread.currentThread().isInterrupted()
+          || (timeoutNanos != NO_TIMEOUT && System.nanoTime() - startNanos >= timeoutNanos)) {
+        return false;
+      }
+      LockSupport.parkNanos(this, parkNanos);
+      parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+    }
+    return true;
+  }
+
+  private static boolean acquire(Lock lock, long timeoutNanos) {
+    if (timeoutNanos == NO_TIMEOUT) {
+      lock.lock();
+      return true;
+    }
+
+    try {
+      return lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static long remaining(long startNanos, long timeoutNanos) {
+    if (timeoutNanos == NO_TIMEOUT) {
+      return NO_TIMEOUT;
+    }
+    return Math.max(0, timeoutNanos - (System.nanoTime() - startNanos));
+  }
+
+  /**
+   * Get the tree lock node by the given name and increase its reference count. If the node doesn't
+   * exist, create a new TreeNode.
+   *
+   * <p>Note: The caller should hold a reference of this node, so this node can't be evicted while
+   * creating the child.
    *
    * @param name The name of a resource such as entity or others.
    * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
    *     created.
    */
   Pair<TreeLockNode, Boolean> getOrCreateChild(String name) {
-    boolean[] newCreated = new boolean[] {false};
-    TreeLockNode childNode =
-        childMap.computeIfAbsent(
-            name,
-            k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
-              if (LOG.isTraceEnabled()) {
-                LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
-              }
-              newCreated[0] = true;
-              return newNode;
-            });
-
-    childNode.addReference();
-    return Pair.of(childNode, newCreated[0]);
+    while (true) {
+      TreeLockNode childNode = childMap.get(name);
+      if (childNode == null) {
+        // The new node is referenced before it's visible to the cleaner.
+        TreeLockNode newNode = new TreeLockNode(name);
+        newNode.referenceCount.set(1);
+        childNode = childMap.putIfAbsent(name, newNode);
+        if (childNode == null) {
+          if (LOG.isTraceEnabled()) {
+            LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
+          }
+          return Pair.of(newNode, true);
+        }
+      }
+
+      if (childNode.tryAddReference()) {
+        return Pair.of(childNode, false);
+      }
+
+      // The child has just been evicted, remove it if the cleaner hasn't done it yet and retry.
+      childMap.remove(name, childNode);
+    }
   }
 
   /**
@@ -208,21 +465,36 @@ public class TreeLockNode {
    *
    * @return The list of all the children of this node.
    */
-  synchronized List<TreeLockNode> getAllChildren() {
+  List<TreeLockNode> getAllChildren() {
     List<TreeLockNode> children = Lists.newArrayList(childMap.values());
     Collections.shuffle(children);
     return Collections.unmodifiableList(children);
   }
 
   /**
-   * Remove the child node by the given name identifier.
+   * Remove the given evicted child node.
    *
-   * <p>Note: This method should be guarded by object lock.
+   * @param child The child node to remove.
+   */
+  void removeChild(TreeLockNode child) {
+    childMap.remove(child.getName(), child);
+  }
+
+  /**
+   * Evict the remaining descendants of this node after it has been evicted by {@link #tryEvict()},
+   * they are unreachable together with this node.
    *
-   * @param name The name of a resource such as entity or others.
+   * @return The number of the nodes evicted by this call, including this node.
    */
-  void removeChild(String name) {
-    childMap.remove(name);
+  long evictDescendants() {
+    long count = 1;
+    for (TreeLockNode child : childMap.values()) {
+      // A child evicted by another thread is counted by that thread.
+      if (child.tryEvict()) {
+        count += child.evictDescendants();
+      }
+    }
+    return count;
   }
 
   @Override
@@ -22,6 +22,7 @@ package org.apache.gravitino.meta;
 import com.google.common.base.Objects;
 import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import lombok.ToString;
 import org.apache.gravitino.Audit;
@@ -175,6 +176,43 @@ public class ColumnEntity implements Entity, Auditable {
         .build();
   }
 
+  /**
+   * Checks whether the columns from the underlying catalog are the same as the column entities,
+   * that is the entity at every index has this index as its position, and the same name, data
+   * type, comment, nullability, auto increment and default value as the column at this index.
+   *
+   * <p>The comparison doesn't allocate, so it's cheap enough to run on every load of a table. It
+   * only accepts the entities in the order of their positions, entities in another order are
+   * reported as different and should be compared by name.
+   *
+   * @param columns The columns from the underlying catalog, may be null.
+   * @param entities The column entities, may be null.
+   * @return True if the columns are the same as the column entities, false otherwise.
+   */
+  public static boolean sameColumns(Column[] columns, List<ColumnEntity> entities) {
+    int columnCount = columns == null ? 0 : columns.length;
+    int entityCount = entities == null ? 0 : entities.size();
+    if (columnCount != entityCount) {
+      return false;
+    }
+
+    for (int i = 0; i < entityCount; i++) {
+      ColumnEntity entity = entities.get(i);
+      Column column = columns[i];
+      if (entity.position == null
+          || entity.position != i
+          || !Objects.equal(column.name(), entity.name)
+          || !Objects.equal(column.dataType(), entity.dataType)
+          || !Objects.equal(column.comment(), entity.comment)
+          || column.nullable() != entity.nullable
+          || column.autoIncrement() != entity.autoIncrement
+          || !Objects.equal(column.defaultValue(), entity.defaultValue)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public static class Builder {
     private final ColumnEntity columnEntity;
 
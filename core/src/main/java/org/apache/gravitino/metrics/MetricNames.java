@@ -28,6 +28,29 @@ public class MetricNames {
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String ENTITY_ID_CACHE_HIT_COUNT = "hit-count";
+  public static final String ENTITY_ID_CACHE_MISS_COUNT = "miss-count";
+  public static final String ENTITY_ID_CACHE_HIT_RATE = "hit-rate";
+  public static final String ENTITY_ID_CACHE_EVICTION_COUNT = "eviction-count";
+  public static final String ENTITY_ID_CACHE_SIZE = "size";
+  public static final String TABLE_IMPORT_IMPORTED_TABLES = "imported-tables";
+  public static final String TABLE_IMPORT_SKIPPED_TABLES = "skipped-tables";
+  public static final String TABLE_IMPORT_FAILED_TABLES = "failed-tables";
+  public static final String TABLE_IMPORT_PENDING_SCHEMAS = "pending-schemas";
+  public static final String TREE_LOCK_WAIT_TIME = "wait-time";
+  public static final String TREE_LOCK_HOLD_TIME = "hold-time";
+  public static final String TREE_LOCK_ACQUIRING_THREADS = "acquiring-threads";
+  public static final String TREE_LOCK_CONTENDED_IDENTIFIERS = "contended-identifiers";
+  public static final String AUTHORIZATION_DECISION_CACHE_HIT_COUNT = "hit-count";
+  public static final String AUTHORIZATION_DECISION_CACHE_MISS_COUNT = "miss-count";
+  public static final String AUTHORIZATION_DECISION_CACHE_HIT_RATE = "hit-rate";
+  public static final String AUTHORIZATION_DECISION_CACHE_EVICTION_COUNT = "eviction-count";
+  public static final String AUTHORIZATION_DECISION_CACHE_SIZE = "size";
+  public static final String CLIENT_POOL_WAIT_TIME = "wait-time";
+  public static final String CLIENT_POOL_ACTIVE_CLIENTS = "active-clients";
+  public static final String CLIENT_POOL_IDLE_CLIENTS = "idle-clients";
+  public static final String CLIENT_POOL_CREATED_CLIENTS = "created-clients";
+  public static final String CLIENT_POOL_ACQUIRE_TIMEOUTS = "acquire-timeouts";
 
   private MetricNames() {}
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the client pools of a catalog, such as the Hive metastore client pools. A catalog may
+ * own several pools, for example one per user, the metrics are the sums over all of them.
+ */
+public class ClientPoolMetricsSource extends MetricsSource {
+
+  private final Timer waitTimer;
+  private final Counter createdClients;
+  private final Counter acquireTimeouts;
+  private final LongAdder activeClients = new LongAdder();
+  private final LongAdder idleClients = new LongAdder();
+
+  /**
+   * Create the metrics source of the client pools of a catalog.
+   *
+   * @param name The name of the pools, such as {@code metalake.catalog}.
+   */
+  public ClientPoolMetricsSource(String name) {
+    super(MetricsSource.CLIENT_POOL_METRIC_NAME + "." + name);
+    this.waitTimer = getTimer(MetricNames.CLIENT_POOL_WAIT_TIME);
+    this.createdClients = getCounter(MetricNames.CLIENT_POOL_CREATED_CLIENTS);
+    this.acquireTimeouts = getCounter(MetricNames.CLIENT_POOL_ACQUIRE_TIMEOUTS);
+    registerGauge(MetricNames.CLIENT_POOL_ACTIVE_CLIENTS, (Gauge<Long>) activeClients::sum);
+    registerGauge(MetricNames.CLIENT_POOL_IDLE_CLIENTS, (Gauge<Long>) idleClients::sum);
+  }
+
+  public void recordWaitTime(long waitNanos) {
+    waitTimer.update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordClientCreated() {
+    createdClients.inc();
+  }
+
+  public void recordAcquireTimeout() {
+    acquireTimeouts.inc();
+  }
+
+  /**
+   * Get the number of the clients handed out by the pools and not released yet.
+   *
+   * @return The number of the active clients.
+   */
+  public LongAdder activeClients() {
+    return activeClients;
+  }
+
+  /**
+   * Get the number of the clients kept in the pools for reuse.
+   *
+   * @return The number of the idle clients.
+   */
+  public LongAdder idleClients() {
+    return idleClients;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+
+public class EntityIdCacheMetricsSource extends MetricsSource {
+
+  public EntityIdCacheMetricsSource(EntityIdCache entityIdCache) {
+    super(MetricsSource.ENTITY_ID_CACHE_METRIC_NAME);
+    registerGauge(
+        MetricNames.ENTITY_ID_CACHE_HIT_COUNT,
+        (Gauge<Long>) () -> entityIdCache.stats().hitCount());
+    registerGauge(
+        MetricNames.ENTITY_ID_CACHE_MISS_COUNT,
+        (Gauge<Long>) () -> entityIdCache.stats().missCount());
+    registerGauge(
+        MetricNames.ENTITY_ID_CACHE_HIT_RATE,
+        (Gauge<Double>) () -> entityIdCache.stats().hitRate());
+    registerGauge(
+        MetricNames.ENTITY_ID_CACHE_EVICTION_COUNT,
+        (Gauge<Long>) () -> entityIdCache.stats().evictionCount());
+    registerGauge(MetricNames.ENTITY_ID_CACHE_SIZE, (Gauge<Long>) entityIdCache::size);
+  }
+}
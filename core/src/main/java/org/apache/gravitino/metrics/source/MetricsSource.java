@@ -41,6 +41,12 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_ID_CACHE_METRIC_NAME = "entity-id-cache";
+  public static final String TABLE_IMPORT_METRIC_NAME = "table-import";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String AUTHORIZATION_DECISION_CACHE_METRIC_NAME =
+      "authorization-decision-cache";
+  public static final String CLIENT_POOL_METRIC_NAME = "client-pool";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the tree locks, grouped by the level of the locked node and the lock mode. The nodes
+ * under schemas, such as tables, filesets, topics and models, share the {@code entity} level. The
+ * ancestors of a locked node are locked in the {@code intention} mode.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  private static final String[] LEVELS = {"root", "metalake", "catalog", "schema", "entity"};
+  private static final String[] MODES = {"intention", "read", "write"};
+
+  private final Timer[][] waitTimers = new Timer[LEVELS.length][MODES.length];
+  private final Timer[][] holdTimers = new Timer[LEVELS.length][MODES.length];
+  private final LongAdder[] acquiringThreads = new LongAdder[LEVELS.length];
+
+  public TreeLockMetricsSource(Supplier<Integer> contendedIdentifiers) {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (int level = 0; level < LEVELS.length; level++) {
+      for (int mode = 0; mode < MODES.length; mode++) {
+        String suffix = "." + LEVELS[level] + "." + MODES[mode];
+        waitTimers[level][mode] = getTimer(MetricNames.TREE_LOCK_WAIT_TIME + suffix);
+        // The intentions are held as long as the leaf lock, only the leaf hold time is recorded.
+        if (mode > 0) {
+          holdTimers[level][mode] = getTimer(MetricNames.TREE_LOCK_HOLD_TIME + suffix);
+        }
+      }
+
+      LongAdder acquiring = new LongAdder();
+      acquiringThreads[level] = acquiring;
+      registerGauge(
+          MetricNames.TREE_LOCK_ACQUIRING_THREADS + "." + LEVELS[level],
+          (Gauge<Long>) acquiring::sum);
+    }
+    registerGauge(
+        MetricNames.TREE_LOCK_CONTENDED_IDENTIFIERS, (Gauge<Integer>) contendedIdentifiers::get);
+  }
+
+  /**
+   * Get the number of the threads acquiring a lock on the given level, it's increased before and
+   * decreased after the acquisition.
+   *
+   * @param depth The depth of the node, 0 for the root node.
+   * @return The number of the acquiring threads.
+   */
+  public LongAdder acquiringThreads(int depth) {
+    return acquiringThreads[levelIndex(depth)];
+  }
+
+  public void recordWaitTime(int depth, LockType lockType, long waitNanos) {
+    waitTimers[levelIndex(depth)][modeIndex(lockType)].update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordHoldTime(int depth, LockType lockType, long holdNanos) {
+    holdTimers[levelIndex(depth)][modeIndex(lockType)].update(holdNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static int levelIndex(int depth) {
+    return Math.min(depth, LEVELS.length - 1);
+  }
+
+  private static int modeIndex(LockType lockType) {
+    return lockType == null ? 0 : lockType.ordinal() + 1;
+  }
+}
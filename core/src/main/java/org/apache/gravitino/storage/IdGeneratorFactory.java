@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.util.Locale;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Creates the {@link IdGenerator} configured by {@link Configs#ID_GENERATOR}. */
+public class IdGeneratorFactory {
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorFactory.class);
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
+  private IdGeneratorFactory() {}
+
+  public static IdGenerator createIdGenerator(Config config) {
+    String name = config.get(Configs.ID_GENERATOR).toLowerCase(Locale.ROOT);
+    switch (name) {
+      case RANDOM_ID_GENERATOR:
+        return new RandomIdGenerator();
+
+      case SNOWFLAKE_ID_GENERATOR:
+        int nodeId = config.get(Configs.ID_GENERATOR_NODE_ID);
+        // A derived node id may be the same on two servers and make them generate the same ids.
+        if (nodeId < 0) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "%s must be set to a value unique among the servers sharing the entity store "
+                      + "to use the snowflake id generator",
+                  Configs.ID_GENERATOR_NODE_ID.getKey()));
+        }
+        LOG.info("Creating snowflake id generator with node id {}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+
+      default:
+        throw new IllegalArgumentException("Unsupported id generator: " + name);
+    }
+  }
+}
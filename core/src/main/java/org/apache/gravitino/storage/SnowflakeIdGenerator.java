@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered id generator. Each id is composed of, from the most significant bit:
+ *
+ * <ul>
+ *   <li>1 sign bit, always 0 so ids are positive.
+ *   <li>41 bits of milliseconds since {@link #EPOCH_MS}, which last until the year 2093.
+ *   <li>10 bits of node id, which must be unique across the servers sharing one entity store.
+ *   <li>12 bits of sequence within the same millisecond.
+ * </ul>
+ *
+ * <p>Ids generated by one instance are strictly increasing, so rows inserted by one server are
+ * appended to the end of the primary key indexes instead of landing on random pages. When more
+ * than 4096 ids are requested in one millisecond, or the system clock goes backwards, the generator
+ * waits for the clock instead of using the timestamps ahead of it. So the ids never run ahead of
+ * the clock, and a restarted server doesn't generate the ids of its previous run unless the clock
+ * is set back across the restart. A clock going backwards by more than {@link
+ * #MAX_CLOCK_BACKWARDS_MS} fails the generation instead of blocking it.
+ *
+ * <p>The sequence is shared by all the threads of the instance and advanced with a single CAS,
+ * rather than kept per thread, since the ids of different threads would collide unless the thread
+ * was encoded in the id as well, which leaves fewer bits to the sequence or the node id.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  /** 2024-01-01T00:00:00Z, the timestamp of ids is relative to it. */
+  public static final long EPOCH_MS = 1704067200000L;
+
+  public static final int NODE_ID_BITS = 10;
+
+  public static final int SEQUENCE_BITS = 12;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private static final int TIMESTAMP_BITS = 63 - NODE_ID_BITS - SEQUENCE_BITS;
+
+  private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  /** The longest backwards jump of the clock the generator waits out. */
+  public static final long MAX_CLOCK_BACKWARDS_MS = 5_000L;
+
+  private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final long nodeIdBits;
+
+  private final LongSupplier clock;
+
+  // The timestamp and sequence of the last id, as (timestamp << SEQUENCE_BITS) | sequence.
+  private final AtomicLong lastState = new AtomicLong();
+
+  public SnowflakeIdGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "Node id must be between 0 and %s, but got %s",
+        MAX_NODE_ID,
+        nodeId);
+    this.nodeIdBits = ((long) nodeId) << SEQUENCE_BITS;
+    this.clock = clock;
+  }
+
+  @Override
+  public long nextId() {
+    while (true) {
+      long last = lastState.get();
+      long now = clock.getAsLong() - EPOCH_MS;
+      // An overflowed sequence carries into the timestamp.
+      long state = Math.max(last + 1, now << SEQUENCE_BITS);
+      long timestamp = state >>> SEQUENCE_BITS;
+      if (timestamp > now) {
+        // The sequence of this millisecond is exhausted, or the clock went backwards.
+        waitForClock(timestamp, now);
+        continue;
+      }
+
+      if (lastState.compareAndSet(last, state)) {
+        if (timestamp > MAX_TIMESTAMP) {
+          throw new IllegalStateException("The timestamp of the id generator is exhausted");
+        }
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | nodeIdBits | (state & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  private static void waitForClock(long timestamp, long now) {
+    // The timestamp is at most one millisecond ahead unless the clock went backwards.
+    if (timestamp - now > MAX_CLOCK_BACKWARDS_MS) {
+      throw new IllegalStateException(
+          String.format(
+              "The clock moved backwards by %d ms, refuse to generate ids", timestamp - now));
+    }
+    LockSupport.parkNanos(WAIT_NANOS);
+  }
+
+  /**
+   * Returns the milliseconds since the Unix epoch encoded in an id of this generator.
+   *
+   * @param id The id generated by this generator.
+   * @return The timestamp of the id.
+   */
+  public static long timestampOf(long id) {
+    return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+  }
+
+  /**
+   * Returns the node id encoded in an id of this generator.
+   *
+   * @param id The id generated by this generator.
+   * @return The node id of the id.
+   */
+  public static int nodeIdOf(long id) {
+    return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+  }
+}
@@ -23,10 +23,14 @@ import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIM
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -53,6 +57,7 @@ import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
@@ -95,6 +100,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    EntityIdCache.getInstance().initialize(config);
   }
 
   @Override
@@ -184,6 +190,22 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchInsert(List<E> entities)
+      throws EntityAlreadyExistsException, IOException {
+    if (entities.stream().allMatch(e -> e instanceof TableEntity)) {
+      TableMetaService.getInstance()
+          .batchInsertTables(
+              entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList()));
+      return;
+    }
+
+    // The other types don't have a batch insert yet, insert them one by one.
+    for (E entity : entities) {
+      insert(entity, false);
+    }
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -258,6 +280,47 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> identifiers, Entity.EntityType entityType) throws IOException {
+    switch (entityType) {
+      case TABLE:
+        return (List<E>) TableMetaService.getInstance().batchGetTablesByIdentifiers(identifiers);
+      case USER:
+        return (List<E>) UserMetaService.getInstance().batchGetUsersByIdentifiers(identifiers);
+      case ROLE:
+        return (List<E>) RoleMetaService.getInstance().batchGetRolesByIdentifiers(identifiers);
+      default:
+        // The other types don't have a batch query yet, get them one by one.
+        List<E> entities = Lists.newArrayList();
+        for (NameIdentifier ident : identifiers) {
+          try {
+            entities.add(get(ident, entityType));
+          } catch (NoSuchEntityException e) {
+            // Skip the entity which doesn't exist
+          }
+        }
+        return entities;
+    }
+  }
+
+  @Override
+  public Set<NameIdentifier> batchExists(
+      List<NameIdentifier> identifiers, Entity.EntityType entityType) throws IOException {
+    if (entityType == Entity.EntityType.TABLE) {
+      return TableMetaService.getInstance().batchExistTablesByIdentifiers(identifiers);
+    }
+
+    // The other types don't have a batch query yet, check them one by one.
+    Set<NameIdentifier> existingIdents = Sets.newHashSet();
+    for (NameIdentifier ident : identifiers) {
+      if (exists(ident, entityType)) {
+        existingIdents.add(ident);
+      }
+    }
+    return existingIdents;
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -409,6 +472,7 @@ public class JDBCBackend implements RelationalBackend {
 
   @Override
   public void close() throws IOException {
+    EntityIdCache.getInstance().close();
     SqlSessionFactoryHelper.getInstance().close();
     SQLExceptionConverterFactory.close();
 
@@ -484,6 +548,29 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    Map<NameIdentifier, ? extends List<? extends Entity>> relatedEntities;
+    if (relType == Type.ROLE_USER_REL && identType == Entity.EntityType.ROLE) {
+      relatedEntities = UserMetaService.getInstance().listUsersByRoleIdents(nameIdentifiers);
+    } else if (relType == Type.ROLE_GROUP_REL && identType == Entity.EntityType.ROLE) {
+      relatedEntities = GroupMetaService.getInstance().listGroupsByRoleIdents(nameIdentifiers);
+    } else if (relType == Type.OWNER_REL) {
+      relatedEntities = OwnerMetaService.getInstance().batchGetOwners(nameIdentifiers, identType);
+    } else {
+      return RelationalBackend.super.batchListEntitiesByRelation(
+          relType, nameIdentifiers, identType);
+    }
+
+    Map<NameIdentifier, List<E>> entities = Maps.newLinkedHashMap();
+    relatedEntities.forEach((ident, related) -> entities.put(ident, (List<E>) related));
+    return entities;
+  }
+
   @Override
   public void insertRelation(
       SupportsRelationOperations.Type relType,
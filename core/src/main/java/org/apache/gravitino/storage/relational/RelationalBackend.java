@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
@@ -85,6 +86,17 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException;
 
+  /**
+   * Stores the new entities in a batch.
+   *
+   * @param <E> The type of the entities.
+   * @param entities The entities which need be stored.
+   * @throws EntityAlreadyExistsException If any of the entities already exists.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> void batchInsert(List<E> entities)
+      throws EntityAlreadyExistsException, IOException;
+
   /**
    * Updates the entity.
    *
@@ -114,6 +126,30 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type in a batch.
+   *
+   * @param <E> The type of the entities returned.
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The entities which exist, identifiers of entities which don't exist are skipped.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException;
+
+  /**
+   * Checks which of the entities associated with the identifiers and the entity type exist in a
+   * batch, without loading the entities.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The identifiers of the entities which exist.
+   * @throws IOException If an I/O exception occurs during the check.
+   */
+  Set<NameIdentifier> batchExists(List<NameIdentifier> idents, Entity.EntityType entityType)
+      throws IOException;
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_SYNC_INTERVAL_MS;
+import static org.apache.gravitino.Configs.CACHE_SYNC_RETENTION_MS;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the caches of the servers sharing one relational store coherent.
+ *
+ * <p>Every change made through the local {@link RelationalEntityStore} is recorded in the entity
+ * change log after it is committed. A background thread polls the changes recorded by the other
+ * servers since the last polled change id, and invalidates the changed entities in the local {@link
+ * EntityCache} and {@link EntityIdCache}. An entity changed on one server is read stale from the
+ * cache of another one for about one poll interval at most.
+ *
+ * <p>Change ids are allocated before the insert is committed, so a change with a smaller id may
+ * become visible after a larger one was polled. Skipped ids are polled again until they show up or
+ * {@link #GAP_TIMEOUT_MS} passes, the ids of rolled back inserts never show up.
+ */
+public final class RelationalCacheSyncer implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RelationalCacheSyncer.class);
+
+  private static final int POLL_BATCH_SIZE = 1000;
+
+  @VisibleForTesting static final long GAP_TIMEOUT_MS = 60_000L;
+
+  private final EntityCache cache;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final long intervalMs;
+  private final long retentionMs;
+
+  // Skipped change ids and the time until which they are polled again, guarded by this.
+  private final Map<Long, Long> gaps = new HashMap<>();
+  private long cursor;
+  private long lastPollMs;
+
+  @VisibleForTesting
+  final ScheduledExecutorService syncPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Cache-Syncer");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  public RelationalCacheSyncer(EntityCache cache, Config config) {
+    this.cache = cache;
+    this.intervalMs = config.get(CACHE_SYNC_INTERVAL_MS);
+    this.retentionMs = config.get(CACHE_SYNC_RETENTION_MS);
+  }
+
+  public void start() {
+    synchronized (this) {
+      // Changes made before this server started can not be in its cache.
+      cursor = EntityChangeLogService.getInstance().getMaxChangeId();
+      lastPollMs = System.currentTimeMillis();
+    }
+
+    syncPool.scheduleWithFixedDelay(
+        this::pollChanges, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    syncPool.scheduleWithFixedDelay(
+        this::deleteExpiredChanges, retentionMs, retentionMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records a committed change of an entity, so the other servers invalidate it in their caches.
+   *
+   * @param ident The identifier of the changed entity.
+   * @param type The type of the changed entity.
+   * @param relType The type of the changed relation of the entity, or null if the entity itself
+   *     changed.
+   */
+  public void recordChange(
+      NameIdentifier ident,
+      Entity.EntityType type,
+      @Nullable SupportsRelationOperations.Type relType) {
+    try {
+      EntityChangePO entityChangePO =
+          EntityChangePO.builder()
+              .withNodeId(nodeId)
+              .withEntityType(type.name())
+              .withEntityIdent(toJson(ident))
+              .withRelationType(relType == null ? null : relType.name())
+              .withCreatedAt(System.currentTimeMillis())
+              .build();
+      EntityChangeLogService.getInstance().insertEntityChange(entityChangePO);
+    } catch (Exception e) {
+      // The change itself is committed already, failing it here would only mislead the caller.
+      LOG.warn(
+          "Failed to record the change of {} {}, other servers may read it from their cache "
+              + "until it expires",
+          type,
+          ident,
+          e);
+    }
+  }
+
+  @VisibleForTesting
+  void pollChanges() {
+    try {
+      poll();
+    } catch (Exception e) {
+      LOG.warn("Failed to poll the entity changes made by other servers", e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void poll() {
+    EntityChangeLogService changeLogService = EntityChangeLogService.getInstance();
+    long now = System.currentTimeMillis();
+    if (now - lastPollMs >= retentionMs) {
+      // Changes which were not polled in time may have been deleted already.
+      LOG.warn(
+          "Entity changes were not polled for {} ms, clearing the whole cache", now - lastPollMs);
+      cursor = changeLogService.getMaxChangeId();
+      gaps.clear();
+      cache.clear();
+      EntityIdCache.getInstance().invalidateAll();
+      lastPollMs = now;
+      return;
+    }
+
+    List<EntityChangePO> changes = Lists.newArrayList();
+    gaps.values().removeIf(deadline -> deadline < now);
+    if (!gaps.isEmpty()) {
+      List<EntityChangePO> filled =
+          changeLogService.listEntityChangesByIds(Lists.newArrayList(gaps.keySet()));
+      filled.forEach(change -> gaps.remove(change.getId()));
+      changes.addAll(filled);
+    }
+
+    List<EntityChangePO> batch;
+    do {
+      batch = changeLogService.listEntityChangesAfterId(cursor, POLL_BATCH_SIZE);
+      for (EntityChangePO change : batch) {
+        // Ids jump far ahead after a restart of some databases, nothing is in flight then.
+        if (change.getId() - cursor <= POLL_BATCH_SIZE) {
+          for (long id = cursor + 1; id < change.getId(); id++) {
+            gaps.put(id, now + GAP_TIMEOUT_MS);
+          }
+        }
+        cursor = change.getId();
+      }
+      changes.addAll(batch);
+    } while (batch.size() == POLL_BATCH_SIZE);
+
+    for (EntityChangePO change : changes) {
+      if (nodeId.equals(change.getNodeId())) {
+        continue;
+      }
+
+      try {
+        apply(change);
+      } catch (Exception e) {
+        LOG.warn("Failed to apply the entity change {}", change.getId(), e);
+      }
+    }
+    lastPollMs = now;
+  }
+
+  private void apply(EntityChangePO change) throws IOException {
+    Entity.EntityType type = Entity.EntityType.valueOf(change.getEntityType());
+    NameIdentifier ident =
+        NameIdentifier.of(
+            JsonUtils.anyFieldMapper().readValue(change.getEntityIdent(), String[].class));
+    if (change.getRelationType() != null) {
+      cache.invalidate(
+          ident, type, SupportsRelationOperations.Type.valueOf(change.getRelationType()));
+      return;
+    }
+
+    cache.invalidate(ident, type);
+    switch (type) {
+      case MODEL_VERSION:
+        // A new version changes the latest version of its model.
+        cache.invalidate(NameIdentifier.of(ident.namespace().levels()), Entity.EntityType.MODEL);
+        break;
+      case METALAKE:
+      case CATALOG:
+      case SCHEMA:
+        EntityIdCache.getInstance().invalidate(ident);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void deleteExpiredChanges() {
+    long expireTimeline = System.currentTimeMillis() - retentionMs;
+    try {
+      int deletedCount;
+      do {
+        deletedCount =
+            EntityChangeLogService.getInstance()
+                .deleteEntityChangesByCreatedAt(
+                    expireTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+      } while (deletedCount > 0);
+    } catch (Exception e) {
+      LOG.warn("Failed to delete the entity changes created before {}", expireTimeline, e);
+    }
+  }
+
+  private static String toJson(NameIdentifier ident) throws IOException {
+    String[] levels = ident.namespace().levels();
+    String[] names = new String[levels.length + 1];
+    System.arraycopy(levels, 0, names, 0, levels.length);
+    names[levels.length] = ident.name();
+    return JsonUtils.anyFieldMapper().writeValueAsString(names);
+  }
+
+  @Override
+  public void close() throws IOException {
+    syncPool.shutdown();
+    try {
+      if (!syncPool.awaitTermination(5, TimeUnit.SECONDS)) {
+        syncPool.shutdownNow();
+      }
+    } catch (InterruptedException ex) {
+      syncPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
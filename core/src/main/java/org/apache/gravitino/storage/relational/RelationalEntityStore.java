@@ -21,9 +21,13 @@ package org.apache.gravitino.storage.relational;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -56,9 +60,22 @@ public class RelationalEntityStore
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
+
+  // Entity types whose listings are cached. Their listings do not depend on the allFields flag or
+  // on relations, so they only change when a child entity is put, updated or deleted.
+  private static final Set<Entity.EntityType> CACHEABLE_LISTING_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL);
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityCache cache;
+  // Null unless the caches of the servers sharing the store are kept coherent.
+  private RelationalCacheSyncer cacheSyncer;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
@@ -69,6 +86,10 @@ public class RelationalEntityStore
         config.get(Configs.CACHE_ENABLED)
             ? CacheFactory.getEntityCache(config)
             : new NoOpsCache(config);
+    if (config.get(Configs.CACHE_SYNC_ENABLED)) {
+      this.cacheSyncer = new RelationalCacheSyncer(cache, config);
+      this.cacheSyncer.start();
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -92,14 +113,19 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (!CACHEABLE_LISTING_TYPES.contains(entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
+
+    return cache.getOrLoad(
+        namespace, entityType, () -> backend.list(namespace, entityType, allFields));
   }
 
   @Override
@@ -113,41 +139,79 @@ public class RelationalEntityStore
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
     cache.put(e);
+    recordChange(e.nameIdentifier(), e.type(), null);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities)
+      throws IOException, EntityAlreadyExistsException {
+    backend.batchInsert(entities);
+    entities.forEach(cache::put);
+    entities.forEach(e -> recordChange(e.nameIdentifier(), e.type(), null));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    try {
+      E updatedEntity = backend.update(ident, entityType, updater);
+      recordChange(ident, entityType, null);
+      return updatedEntity;
+    } finally {
+      // Invalidate after the write, a load racing with it may have cached the old entity.
+      cache.invalidate(ident, entityType);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return cache.withCacheLock(
-        () -> {
-          Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
-          if (entityFromCache.isPresent()) {
-            return entityFromCache.get();
-          }
+    return cache.getOrLoad(ident, entityType, () -> backend.get(ident, entityType));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    return cache.getAllOrLoad(
+        idents, entityType, missingIdents -> backend.batchGet(missingIdents, entityType));
+  }
+
+  @Override
+  public Set<NameIdentifier> batchExists(List<NameIdentifier> idents, Entity.EntityType entityType)
+      throws IOException {
+    // The entities are only checked, so the ones missing in the cache are not loaded into it.
+    Set<NameIdentifier> existingIdents = Sets.newHashSet();
+    List<NameIdentifier> missingIdents = Lists.newArrayList();
+    for (NameIdentifier ident : idents) {
+      if (cache.contains(ident, entityType)) {
+        existingIdents.add(ident);
+      } else {
+        missingIdents.add(ident);
+      }
+    }
 
-          E entity = backend.get(ident, entityType);
-          cache.put(entity);
-          return entity;
-        });
+    if (!missingIdents.isEmpty()) {
+      existingIdents.addAll(backend.batchExists(missingIdents, entityType));
+    }
+    return existingIdents;
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
     try {
-      cache.invalidate(ident, entityType);
-      return backend.delete(ident, entityType, cascade);
+      boolean deleted = backend.delete(ident, entityType, cascade);
+      if (deleted) {
+        recordChange(ident, entityType, null);
+      }
+      return deleted;
     } catch (NoSuchEntityException e) {
       return false;
+    } finally {
+      // Invalidate after the write, a load racing with it may have cached the deleted entity.
+      cache.invalidate(ident, entityType);
     }
   }
 
@@ -158,6 +222,9 @@ public class RelationalEntityStore
 
   @Override
   public void close() throws IOException {
+    if (cacheSyncer != null) {
+      cacheSyncer.close();
+    }
     cache.clear();
     garbageCollector.close();
     backend.close();
@@ -208,20 +275,23 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
-    return cache.withCacheLock(
-        () -> {
-          Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
-          if (entities.isPresent()) {
-            return entities.get();
-          }
-
-          List<E> backendEntities =
-              backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields);
-
-          cache.put(nameIdentifier, identType, relType, backendEntities);
+    return cache.getOrLoad(
+        relType,
+        nameIdentifier,
+        identType,
+        () -> backend.listEntitiesByRelation(relType, nameIdentifier, identType, allFields));
+  }
 
-          return backendEntities;
-        });
+  @Override
+  public <E extends Entity & HasIdentifier>
+      Map<NameIdentifier, List<E>> batchListEntitiesByRelation(
+          Type relType, List<NameIdentifier> nameIdentifiers, Entity.EntityType identType)
+          throws IOException {
+    return cache.getAllOrLoad(
+        relType,
+        nameIdentifiers,
+        identType,
+        missing -> backend.batchListEntitiesByRelation(relType, missing, identType));
   }
 
   @Override
@@ -233,7 +303,19 @@ public class RelationalEntityStore
       Entity.EntityType dstType,
       boolean override)
       throws IOException {
-    cache.invalidate(srcIdentifier, srcType, relType);
-    backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+    try {
+      backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, override);
+      recordChange(srcIdentifier, srcType, relType);
+    } finally {
+      // Invalidate after the write, a load racing with it may have cached the old relation.
+      cache.invalidate(srcIdentifier, srcType, relType);
+    }
+  }
+
+  private void recordChange(
+      NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
+    if (cacheSyncer != null) {
+      cacheSyncer.recordChange(ident, type, relType);
+    }
   }
 }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.helper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityIdCacheMetricsSource;
+
+/**
+ * A bounded cache which resolves the names of metalakes, catalogs and schemas to their ids, so the
+ * relational services don't need a join query before every operation on a child entity.
+ *
+ * <p>The cache is disabled until {@link #initialize(Config)} is called, and every lookup goes to
+ * the loader. Renames and drops must call {@link #invalidate(NameIdentifier)} after they are
+ * committed. A lookup that raced with such an invalidation does not keep its result, so an id read
+ * before the change can not outlive it.
+ */
+public class EntityIdCache {
+  private static final EntityIdCache INSTANCE = new EntityIdCache();
+
+  // Bumped on every invalidation, lookups only keep their result if it didn't change meanwhile.
+  private final AtomicLong generation = new AtomicLong();
+
+  private volatile Cache<NameIdentifier, Object> cache;
+
+  private EntityIdCacheMetricsSource metricsSource;
+
+  public static EntityIdCache getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityIdCache() {}
+
+  public synchronized void initialize(Config config) {
+    close();
+    if (!config.get(Configs.ENTITY_ID_CACHE_ENABLED)) {
+      return;
+    }
+
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder()
+            .maximumSize(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES))
+            .recordStats();
+    long expireTimeMs = config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME);
+    if (expireTimeMs > 0) {
+      builder.expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS);
+    }
+    this.cache = builder.build();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      this.metricsSource = new EntityIdCacheMetricsSource(this);
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  public synchronized void close() {
+    if (cache != null) {
+      cache.invalidateAll();
+      cache = null;
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+    metricsSource = null;
+  }
+
+  public Long getMetalakeId(String metalakeName, Supplier<Long> loader) {
+    return get(NameIdentifier.of(metalakeName), Long.class, loader);
+  }
+
+  public CatalogIds getCatalogIds(
+      String metalakeName, String catalogName, Supplier<CatalogIds> loader) {
+    return get(NameIdentifier.of(metalakeName, catalogName), CatalogIds.class, loader);
+  }
+
+  public SchemaIds getSchemaIds(
+      String metalakeName, String catalogName, String schemaName, Supplier<SchemaIds> loader) {
+    return get(NameIdentifier.of(metalakeName, catalogName, schemaName), SchemaIds.class, loader);
+  }
+
+  /**
+   * Invalidates the ids of the given metalake, catalog or schema, and the ids of all entities under
+   * it.
+   *
+   * @param ident The identifier of the renamed or dropped metalake, catalog or schema.
+   */
+  public void invalidate(NameIdentifier ident) {
+    generation.incrementAndGet();
+    Cache<NameIdentifier, Object> current = cache;
+    if (current == null) {
+      return;
+    }
+
+    String[] levels = levelsOf(ident);
+    // Schemas are the deepest cached level, nothing else can be under them.
+    if (levels.length >= 3) {
+      current.invalidate(ident);
+      return;
+    }
+    current.asMap().keySet().removeIf(key -> startsWith(levelsOf(key), levels));
+  }
+
+  /** Invalidates all the cached ids. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    Cache<NameIdentifier, Object> current = cache;
+    if (current != null) {
+      current.invalidateAll();
+    }
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  public long size() {
+    Cache<NameIdentifier, Object> current = cache;
+    return current == null ? 0 : current.estimatedSize();
+  }
+
+  public CacheStats stats() {
+    Cache<NameIdentifier, Object> current = cache;
+    return current == null ? CacheStats.empty() : current.stats();
+  }
+
+  private <T> T get(NameIdentifier key, Class<T> valueClass, Supplier<T> loader) {
+    Cache<NameIdentifier, Object> current = cache;
+    if (current == null) {
+      return loader.get();
+    }
+
+    Object cached = current.getIfPresent(key);
+    if (cached != null) {
+      return valueClass.cast(cached);
+    }
+
+    long startGeneration = generation.get();
+    T loaded = loader.get();
+    // Names that can not be resolved are not cached, they would be created soon in most cases.
+    if (loaded == null) {
+      return null;
+    }
+
+    current.put(key, loaded);
+    // An invalidation happened while loading, the loaded id may already be stale.
+    if (generation.get() != startGeneration) {
+      current.invalidate(key);
+    }
+    return loaded;
+  }
+
+  @VisibleForTesting
+  static boolean startsWith(String[] levels, String[] prefix) {
+    return levels.length >= prefix.length
+        && Arrays.equals(Arrays.copyOf(levels, prefix.length), prefix);
+  }
+
+  private static String[] levelsOf(NameIdentifier ident) {
+    String[] namespaceLevels = ident.namespace().levels();
+    String[] levels = Arrays.copyOf(namespaceLevels, namespaceLevels.length + 1);
+    levels[namespaceLevels.length] = ident.name();
+    return levels;
+  }
+}
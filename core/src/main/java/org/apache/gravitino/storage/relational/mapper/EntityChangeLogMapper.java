@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for the entity change log, which the servers sharing one relational store use to
+ * invalidate the entities changed by each other in their caches.
+ */
+public interface EntityChangeLogMapper {
+  String TABLE_NAME = "entity_change_log";
+
+  @InsertProvider(type = EntityChangeLogSQLProviderFactory.class, method = "insertEntityChange")
+  void insertEntityChange(@Param("entityChange") EntityChangePO entityChangePO);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "listEntityChangesAfterId")
+  List<EntityChangePO> listEntityChangesAfterId(
+      @Param("afterId") long afterId, @Param("limit") int limit);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "listEntityChangesByIds")
+  List<EntityChangePO> listEntityChangesByIds(@Param("ids") List<Long> ids);
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "selectMaxChangeId")
+  Long selectMaxChangeId();
+
+  @DeleteProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "deleteEntityChangesByCreatedAt")
+  Integer deleteEntityChangesByCreatedAt(
+      @Param("createdAt") long createdAt, @Param("limit") int limit);
+}
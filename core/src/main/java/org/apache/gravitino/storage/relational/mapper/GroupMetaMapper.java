@@ -52,6 +52,9 @@ public interface GroupMetaMapper {
   GroupPO selectGroupMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("groupName") String name);
 
+  @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsByGroupIds")
+  List<GroupPO> listGroupPOsByGroupIds(@Param("groupIds") List<Long> groupIds);
+
   @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsByMetalake")
   List<GroupPO> listGroupPOsByMetalake(@Param("metalakeName") String metalakeName);
 
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.GroupMetaBaseSQLProvider;
@@ -58,6 +59,10 @@ public class GroupMetaSQLProviderFactory {
     return getProvider().selectGroupMetaByMetalakeIdAndName(metalakeId, name);
   }
 
+  public static String listGroupPOsByGroupIds(@Param("groupIds") List<Long> groupIds) {
+    return getProvider().listGroupPOsByGroupIds(groupIds);
+  }
+
   public static String insertGroupMeta(@Param("groupMeta") GroupPO groupPO) {
     return getProvider().insertGroupMeta(groupPO);
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.gravitino.storage.relational.po.GroupRoleRelPO;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
 import org.apache.ibatis.annotations.UpdateProvider;
 
 /**
@@ -46,6 +47,11 @@ public interface GroupRoleRelMapper {
   void batchInsertGroupRoleRelOnDuplicateKeyUpdate(
       @Param("groupRoleRels") List<GroupRoleRelPO> groupRoleRelPOS);
 
+  @SelectProvider(
+      type = GroupRoleRelSQLProviderFactory.class,
+      method = "listGroupRoleRelsByRoleIds")
+  List<GroupRoleRelPO> listGroupRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds);
+
   @UpdateProvider(
       type = GroupRoleRelSQLProviderFactory.class,
       method = "softDeleteGroupRoleRelByGroupId")
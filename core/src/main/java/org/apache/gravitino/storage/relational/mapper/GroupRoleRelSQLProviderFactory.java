@@ -62,6 +62,10 @@ public class GroupRoleRelSQLProviderFactory {
     return getProvider().batchInsertGroupRoleRelOnDuplicateKeyUpdate(groupRoleRelPOS);
   }
 
+  public static String listGroupRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return getProvider().listGroupRoleRelsByRoleIds(roleIds);
+  }
+
   public static String softDeleteGroupRoleRelByGroupId(@Param("groupId") Long groupId) {
     return getProvider().softDeleteGroupRoleRelByGroupId(groupId);
   }
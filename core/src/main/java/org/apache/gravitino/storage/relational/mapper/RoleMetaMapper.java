@@ -46,6 +46,15 @@ public interface RoleMetaMapper {
   RolePO selectRoleMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("roleName") String roleName);
 
+  @SelectProvider(
+      type = RoleMetaSQLProviderFactory.class,
+      method = "listRolePOsByMetalakeIdAndNames")
+  List<RolePO> listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames);
+
+  @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "listRolePOsByRoleIds")
+  List<RolePO> listRolePOsByRoleIds(@Param("roleIds") List<Long> roleIds);
+
   @SelectProvider(
       type = RoleMetaSQLProviderFactory.class,
       method = "selectRoleIdByMetalakeIdAndName")
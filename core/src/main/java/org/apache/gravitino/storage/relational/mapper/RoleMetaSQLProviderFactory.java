@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.RoleMetaBaseSQLProvider;
@@ -54,6 +55,15 @@ public class RoleMetaSQLProviderFactory {
     return getProvider().selectRoleMetaByMetalakeIdAndName(metalakeId, roleName);
   }
 
+  public static String listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return getProvider().listRolePOsByMetalakeIdAndNames(metalakeId, roleNames);
+  }
+
+  public static String listRolePOsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return getProvider().listRolePOsByRoleIds(roleIds);
+  }
+
   public static String selectRoleIdByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("roleName") String name) {
     return getProvider().selectRoleIdByMetalakeIdAndName(metalakeId, name);
@@ -25,6 +25,7 @@ import org.apache.gravitino.storage.relational.JDBCBackend;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
 import org.apache.gravitino.storage.relational.mapper.provider.postgresql.TableColumnPostgreSQLProvider;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.ibatis.annotations.Param;
 
@@ -57,6 +58,10 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String listColumnPOsByTablePOs(@Param("tablePOs") List<TablePO> tablePOs) {
+    return getProvider().listColumnPOsByTablePOs(tablePOs);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
@@ -56,12 +56,27 @@ public interface TableMetaMapper {
   TablePO selectTableMetaBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAndNames")
+  List<TablePO> listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTableNamesBySchemaIdAndNames")
+  List<String> listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "selectTableMetaById")
   TablePO selectTableMetaById(@Param("tableId") Long tableId);
 
   @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "insertTableMeta")
   void insertTableMeta(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
   @InsertProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "insertTableMetaOnDuplicateKeyUpdate")
@@ -69,6 +69,16 @@ public class TableMetaSQLProviderFactory {
     return getProvider().selectTableMetaBySchemaIdAndName(schemaId, name);
   }
 
+  public static String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTablePOsBySchemaIdAndNames(schemaId, tableNames);
+  }
+
+  public static String listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTableNamesBySchemaIdAndNames(schemaId, tableNames);
+  }
+
   public static String selectTableMetaById(@Param("tableId") Long tableId) {
     return getProvider().selectTableMetaById(tableId);
   }
@@ -77,6 +87,10 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMeta(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
   public static String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
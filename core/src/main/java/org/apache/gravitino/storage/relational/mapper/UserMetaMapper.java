@@ -52,6 +52,15 @@ public interface UserMetaMapper {
   UserPO selectUserMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("userName") String name);
 
+  @SelectProvider(
+      type = UserMetaSQLProviderFactory.class,
+      method = "listUserPOsByMetalakeIdAndNames")
+  List<UserPO> listUserPOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("userNames") List<String> userNames);
+
+  @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsByUserIds")
+  List<UserPO> listUserPOsByUserIds(@Param("userIds") List<Long> userIds);
+
   @InsertProvider(type = UserMetaSQLProviderFactory.class, method = "insertUserMeta")
   void insertUserMeta(@Param("userMeta") UserPO userPO);
 
@@ -60,6 +60,15 @@ public class UserMetaSQLProviderFactory {
     return getProvider().selectUserMetaByMetalakeIdAndName(metalakeId, name);
   }
 
+  public static String listUserPOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("userNames") List<String> userNames) {
+    return getProvider().listUserPOsByMetalakeIdAndNames(metalakeId, userNames);
+  }
+
+  public static String listUserPOsByUserIds(@Param("userIds") List<Long> userIds) {
+    return getProvider().listUserPOsByUserIds(userIds);
+  }
+
   public static String insertUserMeta(@Param("userMeta") UserPO userPO) {
     return getProvider().insertUserMeta(userPO);
   }
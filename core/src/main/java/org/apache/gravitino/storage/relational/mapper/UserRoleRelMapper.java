@@ -24,6 +24,7 @@ import org.apache.gravitino.storage.relational.po.UserRoleRelPO;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
 import org.apache.ibatis.annotations.UpdateProvider;
 
 /**
@@ -47,6 +48,12 @@ public interface UserRoleRelMapper {
   void batchInsertUserRoleRelOnDuplicateKeyUpdate(
       @Param("userRoleRels") List<UserRoleRelPO> userRoleRelPOs);
 
+  @SelectProvider(type = UserRoleRelSQLProviderFactory.class, method = "listUserRoleRelsByUserIds")
+  List<UserRoleRelPO> listUserRoleRelsByUserIds(@Param("userIds") List<Long> userIds);
+
+  @SelectProvider(type = UserRoleRelSQLProviderFactory.class, method = "listUserRoleRelsByRoleIds")
+  List<UserRoleRelPO> listUserRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds);
+
   @UpdateProvider(
       type = UserRoleRelSQLProviderFactory.class,
       method = "softDeleteUserRoleRelByUserId")
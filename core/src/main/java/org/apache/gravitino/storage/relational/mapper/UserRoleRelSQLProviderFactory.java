@@ -63,6 +63,14 @@ public class UserRoleRelSQLProviderFactory {
     return getProvider().batchInsertUserRoleRelOnDuplicateKeyUpdate(userRoleRelPOs);
   }
 
+  public static String listUserRoleRelsByUserIds(@Param("userIds") List<Long> userIds) {
+    return getProvider().listUserRoleRelsByUserIds(userIds);
+  }
+
+  public static String listUserRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return getProvider().listUserRoleRelsByRoleIds(roleIds);
+  }
+
   public static String softDeleteUserRoleRelByUserId(@Param("userId") Long userId) {
     return getProvider().softDeleteUserRoleRelByUserId(userId);
   }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper.TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogBaseSQLProvider {
+
+  private static final String SELECT_COLUMNS =
+      "SELECT id, node_id as nodeId, entity_type as entityType, entity_ident as entityIdent,"
+          + " relation_type as relationType, created_at as createdAt FROM ";
+
+  public String insertEntityChange(@Param("entityChange") EntityChangePO entityChangePO) {
+    return "INSERT INTO "
+        + TABLE_NAME
+        + " (node_id, entity_type, entity_ident, relation_type, created_at)"
+        + " VALUES (#{entityChange.nodeId}, #{entityChange.entityType},"
+        + " #{entityChange.entityIdent}, #{entityChange.relationType}, #{entityChange.createdAt})";
+  }
+
+  public String listEntityChangesAfterId(
+      @Param("afterId") long afterId, @Param("limit") int limit) {
+    return SELECT_COLUMNS + TABLE_NAME + " WHERE id > #{afterId} ORDER BY id LIMIT #{limit}";
+  }
+
+  public String listEntityChangesByIds(@Param("ids") List<Long> ids) {
+    return "<script>"
+        + SELECT_COLUMNS
+        + TABLE_NAME
+        + " WHERE id IN ("
+        + "<foreach collection='ids' item='id' separator=','>"
+        + "#{id}"
+        + "</foreach>"
+        + ") ORDER BY id"
+        + "</script>";
+  }
+
+  public String selectMaxChangeId() {
+    return "SELECT MAX(id) FROM " + TABLE_NAME;
+  }
+
+  public String deleteEntityChangesByCreatedAt(
+      @Param("createdAt") long createdAt, @Param("limit") int limit) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE created_at < #{createdAt} LIMIT #{limit}";
+  }
+}
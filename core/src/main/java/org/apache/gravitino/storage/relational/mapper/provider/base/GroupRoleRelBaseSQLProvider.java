@@ -73,6 +73,22 @@ public class GroupRoleRelBaseSQLProvider {
         + "</script>";
   }
 
+  public String listGroupRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return "<script>"
+        + " SELECT group_id as groupId, role_id as roleId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + GROUP_ROLE_RELATION_TABLE_NAME
+        + " WHERE role_id IN ("
+        + "<foreach collection='roleIds' item='roleId' separator=','>"
+        + "#{roleId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeleteGroupRoleRelByGroupId(@Param("groupId") Long groupId) {
     return "UPDATE "
         + GROUP_ROLE_RELATION_TABLE_NAME
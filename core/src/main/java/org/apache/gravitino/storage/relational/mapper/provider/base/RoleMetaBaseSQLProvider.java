@@ -22,6 +22,7 @@ import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.GROU
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.ROLE_TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.USER_ROLE_RELATION_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.po.RolePO;
@@ -41,6 +42,39 @@ public class RoleMetaBaseSQLProvider {
         + " AND deleted_at = 0";
   }
 
+  public String listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return "<script>"
+        + " SELECT role_id as roleId, role_name as roleName,"
+        + " metalake_id as metalakeId, properties as properties,"
+        + " audit_info as auditInfo, current_version as currentVersion,"
+        + " last_version as lastVersion, deleted_at as deletedAt"
+        + " FROM "
+        + ROLE_TABLE_NAME
+        + " WHERE metalake_id = #{metalakeId} AND role_name IN ("
+        + "<foreach collection='roleNames' item='roleName' separator=','>"
+        + "#{roleName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
+  public String listRolePOsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return "<script>"
+        + " SELECT role_id as roleId, role_name as roleName,"
+        + " metalake_id as metalakeId, properties as properties,"
+        + " audit_info as auditInfo, current_version as currentVersion,"
+        + " last_version as lastVersion, deleted_at as deletedAt"
+        + " FROM "
+        + ROLE_TABLE_NAME
+        + " WHERE role_id IN ("
+        + "<foreach collection='roleIds' item='roleId' separator=','>"
+        + "#{roleId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectRoleIdByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("roleName") String name) {
     return "SELECT role_id as roleId FROM "
@@ -75,6 +75,38 @@ public class TableMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND table_name = #{tableName} AND deleted_at = 0";
   }
 
+  public String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return "<script>"
+        + " SELECT table_id as tableId, table_name as tableName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND table_name IN ("
+        + "<foreach collection='tableNames' item='tableName' separator=','>"
+        + "#{tableName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
+  public String listTableNamesBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return "<script>"
+        + " SELECT table_name as tableName"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND table_name IN ("
+        + "<foreach collection='tableNames' item='tableName' separator=','>"
+        + "#{tableName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectTableMetaById(@Param("tableId") Long tableId) {
     return "SELECT table_id as tableId, table_name as tableName,"
         + " metalake_id as metalakeId, catalog_id as catalogId,"
@@ -105,6 +137,22 @@ public class TableMetaBaseSQLProvider {
         + " )";
   }
 
+  public String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + "(#{item.tableId}, #{item.tableName}, #{item.metalakeId},"
+        + " #{item.catalogId}, #{item.schemaId}, #{item.auditInfo},"
+        + " #{item.currentVersion}, #{item.lastVersion}, #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
   public String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return "INSERT INTO "
         + TABLE_NAME
@@ -23,6 +23,7 @@ import static org.apache.gravitino.storage.relational.mapper.RoleMetaMapper.ROLE
 import static org.apache.gravitino.storage.relational.mapper.UserMetaMapper.USER_ROLE_RELATION_TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.UserRoleRelMapper.USER_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.UserPO;
 import org.apache.ibatis.annotations.Param;
@@ -37,6 +38,41 @@ public class UserMetaBaseSQLProvider {
         + " AND deleted_at = 0";
   }
 
+  public String listUserPOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("userNames") List<String> userNames) {
+    return "<script>"
+        + " SELECT user_id as userId, user_name as userName,"
+        + " metalake_id as metalakeId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + USER_TABLE_NAME
+        + " WHERE metalake_id = #{metalakeId} AND user_name IN ("
+        + "<foreach collection='userNames' item='userName' separator=','>"
+        + "#{userName}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
+  public String listUserPOsByUserIds(@Param("userIds") List<Long> userIds) {
+    return "<script>"
+        + " SELECT user_id as userId, user_name as userName,"
+        + " metalake_id as metalakeId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + USER_TABLE_NAME
+        + " WHERE user_id IN ("
+        + "<foreach collection='userIds' item='userId' separator=','>"
+        + "#{userId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String selectUserMetaByMetalakeIdAndName(
       @Param("metalakeId") Long metalakeId, @Param("userName") String name) {
     return "SELECT user_id as userId, user_name as userName,"
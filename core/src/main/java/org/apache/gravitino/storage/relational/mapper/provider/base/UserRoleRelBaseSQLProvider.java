@@ -74,6 +74,38 @@ public class UserRoleRelBaseSQLProvider {
         + "</script>";
   }
 
+  public String listUserRoleRelsByUserIds(@Param("userIds") List<Long> userIds) {
+    return "<script>"
+        + " SELECT user_id as userId, role_id as roleId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + USER_ROLE_RELATION_TABLE_NAME
+        + " WHERE user_id IN ("
+        + "<foreach collection='userIds' item='userId' separator=','>"
+        + "#{userId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
+  public String listUserRoleRelsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return "<script>"
+        + " SELECT user_id as userId, role_id as roleId,"
+        + " audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + USER_ROLE_RELATION_TABLE_NAME
+        + " WHERE role_id IN ("
+        + "<foreach collection='roleIds' item='roleId' separator=','>"
+        + "#{roleId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeleteUserRoleRelByUserId(@Param("userId") Long userId) {
     return "UPDATE "
         + USER_ROLE_RELATION_TABLE_NAME
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of an entity change record. */
+@Getter
+public class EntityChangePO {
+
+  private Long id;
+  private String nodeId;
+  private String entityType;
+  private String entityIdent;
+  private String relationType;
+  private Long createdAt;
+
+  private EntityChangePO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final EntityChangePO entityChangePO;
+
+    private Builder() {
+      this.entityChangePO = new EntityChangePO();
+    }
+
+    public Builder withId(Long id) {
+      entityChangePO.id = id;
+      return this;
+    }
+
+    public Builder withNodeId(String nodeId) {
+      entityChangePO.nodeId = nodeId;
+      return this;
+    }
+
+    public Builder withEntityType(String entityType) {
+      entityChangePO.entityType = entityType;
+      return this;
+    }
+
+    public Builder withEntityIdent(String entityIdent) {
+      entityChangePO.entityIdent = entityIdent;
+      return this;
+    }
+
+    public Builder withRelationType(String relationType) {
+      entityChangePO.relationType = relationType;
+      return this;
+    }
+
+    public Builder withCreatedAt(Long createdAt) {
+      entityChangePO.createdAt = createdAt;
+      return this;
+    }
+
+    public EntityChangePO build() {
+      validate();
+      return entityChangePO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.nodeId), "Node id is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.entityType), "Entity type is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.entityIdent), "Entity identifier is required");
+      Preconditions.checkArgument(entityChangePO.createdAt != null, "Created at is required");
+    }
+  }
+}
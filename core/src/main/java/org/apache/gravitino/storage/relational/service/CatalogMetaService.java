@@ -34,6 +34,7 @@ import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.storage.relational.helper.CatalogIds;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
@@ -82,9 +83,16 @@ public class CatalogMetaService {
   }
 
   public CatalogIds getCatalogIdByMetalakeAndCatalogName(String metalakeName, String catalogName) {
-    return SessionUtils.getWithoutCommit(
-        CatalogMetaMapper.class,
-        mapper -> mapper.selectCatalogIdByMetalakeNameAndCatalogName(metalakeName, catalogName));
+    return EntityIdCache.getInstance()
+        .getCatalogIds(
+            metalakeName,
+            catalogName,
+            () ->
+                SessionUtils.getWithoutCommit(
+                    CatalogMetaMapper.class,
+                    mapper ->
+                        mapper.selectCatalogIdByMetalakeNameAndCatalogName(
+                            metalakeName, catalogName)));
   }
 
   // Catalog may be deleted, so the CatalogPO may be null.
@@ -163,6 +171,9 @@ public class CatalogMetaService {
               mapper.insertCatalogMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(catalogEntity.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.CATALOG, catalogEntity.nameIdentifier().toString());
@@ -203,6 +214,7 @@ public class CatalogMetaService {
       throw re;
     }
 
+    EntityIdCache.getInstance().invalidate(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -304,6 +316,7 @@ public class CatalogMetaService {
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
 
+    EntityIdCache.getInstance().invalidate(identifier);
     return true;
   }
 
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/** The service class for the entity change log. It provides the basic database operations. */
+public class EntityChangeLogService {
+
+  private static final EntityChangeLogService INSTANCE = new EntityChangeLogService();
+
+  public static EntityChangeLogService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityChangeLogService() {}
+
+  public void insertEntityChange(EntityChangePO entityChangePO) {
+    SessionUtils.doWithCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.insertEntityChange(entityChangePO));
+  }
+
+  public List<EntityChangePO> listEntityChangesAfterId(long afterId, int limit) {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.listEntityChangesAfterId(afterId, limit));
+  }
+
+  public List<EntityChangePO> listEntityChangesByIds(List<Long> ids) {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.listEntityChangesByIds(ids));
+  }
+
+  public long getMaxChangeId() {
+    Long maxId =
+        SessionUtils.getWithoutCommit(
+            EntityChangeLogMapper.class, EntityChangeLogMapper::selectMaxChangeId);
+    return maxId == null ? 0L : maxId;
+  }
+
+  public int deleteEntityChangesByCreatedAt(long createdAt, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.deleteEntityChangesByCreatedAt(createdAt, limit));
+  }
+}
@@ -20,10 +20,12 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -114,6 +116,66 @@ public class GroupMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Lists the groups of several roles with a fixed number of queries, instead of one query per
+   * role.
+   *
+   * @param roleIdents The identifiers of the roles.
+   * @return The groups of every role by the identifier of the role, roles without groups or which
+   *     don't exist map to an empty list. The role names and ids of the groups are not loaded.
+   */
+  public Map<NameIdentifier, List<GroupEntity>> listGroupsByRoleIdents(
+      List<NameIdentifier> roleIdents) {
+    Map<NameIdentifier, List<GroupEntity>> groupsByRole = Maps.newLinkedHashMap();
+    roleIdents.forEach(roleIdent -> groupsByRole.put(roleIdent, Lists.newArrayList()));
+
+    Map<Long, NameIdentifier> roleIdentsById =
+        RoleMetaService.getInstance().batchGetRoleIdsByIdentifiers(roleIdents);
+    if (roleIdentsById.isEmpty()) {
+      return groupsByRole;
+    }
+
+    List<GroupRoleRelPO> groupRoleRelPOs =
+        SessionUtils.getWithoutCommit(
+            GroupRoleRelMapper.class,
+            mapper ->
+                mapper.listGroupRoleRelsByRoleIds(Lists.newArrayList(roleIdentsById.keySet())));
+    if (groupRoleRelPOs.isEmpty()) {
+      return groupsByRole;
+    }
+
+    List<Long> groupIds =
+        groupRoleRelPOs.stream()
+            .map(GroupRoleRelPO::getGroupId)
+            .distinct()
+            .collect(Collectors.toList());
+    Map<Long, GroupPO> groupPOs =
+        SessionUtils.getWithoutCommit(
+                GroupMetaMapper.class, mapper -> mapper.listGroupPOsByGroupIds(groupIds))
+            .stream()
+            .collect(Collectors.toMap(GroupPO::getGroupId, Function.identity()));
+
+    Map<Long, GroupEntity> groups = Maps.newHashMap();
+    for (GroupRoleRelPO groupRoleRelPO : groupRoleRelPOs) {
+      GroupPO groupPO = groupPOs.get(groupRoleRelPO.getGroupId());
+      if (groupPO == null) {
+        continue;
+      }
+
+      NameIdentifier roleIdent = roleIdentsById.get(groupRoleRelPO.getRoleId());
+      GroupEntity group =
+          groups.computeIfAbsent(
+              groupPO.getGroupId(),
+              id ->
+                  POConverters.fromGroupPO(
+                      groupPO,
+                      Collections.emptyList(),
+                      AuthorizationUtils.ofGroupNamespace(roleIdent.namespace().level(0))));
+      groupsByRole.get(roleIdent).add(group);
+    }
+    return groupsByRole;
+  }
+
   public void insertGroup(GroupEntity groupEntity, boolean overwritten) throws IOException {
     try {
       AuthorizationUtils.checkGroup(groupEntity.nameIdentifier());
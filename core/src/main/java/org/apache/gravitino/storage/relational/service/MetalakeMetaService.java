@@ -31,6 +31,7 @@ import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
@@ -81,8 +82,13 @@ public class MetalakeMetaService {
 
   public Long getMetalakeIdByName(String metalakeName) {
     Long metalakeId =
-        SessionUtils.getWithoutCommit(
-            MetalakeMetaMapper.class, mapper -> mapper.selectMetalakeIdMetaByName(metalakeName));
+        EntityIdCache.getInstance()
+            .getMetalakeId(
+                metalakeName,
+                () ->
+                    SessionUtils.getWithoutCommit(
+                        MetalakeMetaMapper.class,
+                        mapper -> mapper.selectMetalakeIdMetaByName(metalakeName)));
     if (metalakeId == null) {
       throw new NoSuchEntityException(
           NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
@@ -127,6 +133,9 @@ public class MetalakeMetaService {
               mapper.insertMetalakeMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(baseMetalake.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.METALAKE, baseMetalake.nameIdentifier().toString());
@@ -168,6 +177,7 @@ public class MetalakeMetaService {
       throw re;
     }
 
+    EntityIdCache.getInstance().invalidate(ident);
     if (updateResult > 0) {
       return newMetalakeEntity;
     } else {
@@ -320,6 +330,7 @@ public class MetalakeMetaService {
                     mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
       }
     }
+    EntityIdCache.getInstance().invalidate(ident);
     return true;
   }
 
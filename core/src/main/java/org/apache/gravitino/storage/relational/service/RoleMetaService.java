@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
@@ -276,6 +277,96 @@ public class RoleMetaService {
     return POConverters.fromRolePO(rolePO, securableObjects, identifier.namespace());
   }
 
+  public List<RoleEntity> batchGetRolesByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkRole);
+
+    List<RoleEntity> roleEntities = Lists.newArrayList();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long metalakeId;
+      try {
+        metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+      } catch (NoSuchEntityException e) {
+        // None of the roles exist if the metalake doesn't.
+        continue;
+      }
+
+      List<RolePO> rolePOs =
+          SessionUtils.getWithoutCommit(
+              RoleMetaMapper.class,
+              mapper -> mapper.listRolePOsByMetalakeIdAndNames(metalakeId, entry.getValue()));
+      if (rolePOs.isEmpty()) {
+        continue;
+      }
+
+      List<Long> roleIds = rolePOs.stream().map(RolePO::getRoleId).collect(Collectors.toList());
+      Map<Long, List<SecurableObject>> securableObjects =
+          toSecurableObjectsByRoleId(
+              SessionUtils.getWithoutCommit(
+                  SecurableObjectMapper.class,
+                  mapper -> mapper.listSecurableObjectsByRoleIds(roleIds)));
+      for (RolePO rolePO : rolePOs) {
+        roleEntities.add(
+            POConverters.fromRolePO(
+                rolePO,
+                securableObjects.getOrDefault(rolePO.getRoleId(), Collections.emptyList()),
+                namespace));
+      }
+    }
+    return roleEntities;
+  }
+
+  /**
+   * Resolves the ids of several roles with one query per metalake.
+   *
+   * @param identifiers The identifiers of the roles.
+   * @return The identifiers of the roles by their ids, roles which don't exist are skipped.
+   */
+  public Map<Long, NameIdentifier> batchGetRoleIdsByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkRole);
+
+    Map<Long, NameIdentifier> roleIdents = Maps.newHashMap();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long metalakeId;
+      try {
+        metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+      } catch (NoSuchEntityException e) {
+        // None of the roles exist if the metalake doesn't.
+        continue;
+      }
+
+      SessionUtils.getWithoutCommit(
+              RoleMetaMapper.class,
+              mapper -> mapper.listRolePOsByMetalakeIdAndNames(metalakeId, entry.getValue()))
+          .forEach(
+              rolePO ->
+                  roleIdents.put(
+                      rolePO.getRoleId(), NameIdentifier.of(namespace, rolePO.getRoleName())));
+    }
+    return roleIdents;
+  }
+
+  public List<RolePO> listRolePOsByRoleIds(List<Long> roleIds) {
+    if (roleIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return SessionUtils.getWithoutCommit(
+        RoleMetaMapper.class, mapper -> mapper.listRolePOsByRoleIds(roleIds));
+  }
+
   public boolean deleteRole(NameIdentifier identifier) {
     AuthorizationUtils.checkRole(identifier);
 
@@ -365,7 +456,13 @@ public class RoleMetaService {
 
   private static List<SecurableObject> listSecurableObjects(RolePO po) {
     List<SecurableObjectPO> securableObjectPOs = listSecurableObjectsByRoleId(po.getRoleId());
-    List<SecurableObject> securableObjects = Lists.newArrayList();
+    return toSecurableObjectsByRoleId(securableObjectPOs)
+        .getOrDefault(po.getRoleId(), Lists.newArrayList());
+  }
+
+  private static Map<Long, List<SecurableObject>> toSecurableObjectsByRoleId(
+      List<SecurableObjectPO> securableObjectPOs) {
+    Map<Long, List<SecurableObject>> securableObjects = Maps.newHashMap();
 
     securableObjectPOs.stream()
         .collect(Collectors.groupingBy(SecurableObjectPO::getType))
@@ -374,6 +471,7 @@ public class RoleMetaService {
               List<Long> objectIds =
                   objects.stream()
                       .map(SecurableObjectPO::getMetadataObjectId)
+                      .distinct()
                       .collect(Collectors.toList());
 
               // dynamically calling getter function based on type
@@ -390,9 +488,11 @@ public class RoleMetaService {
               for (SecurableObjectPO securableObjectPO : objects) {
                 String fullName = objectIdAndNameMap.get(securableObjectPO.getMetadataObjectId());
                 if (fullName != null) {
-                  securableObjects.add(
-                      POConverters.fromSecurableObjectPO(
-                          fullName, securableObjectPO, getType(securableObjectPO.getType())));
+                  securableObjects
+                      .computeIfAbsent(securableObjectPO.getRoleId(), k -> Lists.newArrayList())
+                      .add(
+                          POConverters.fromSecurableObjectPO(
+                              fullName, securableObjectPO, getType(securableObjectPO.getType())));
                 } else {
                   LOG.warn(
                       "The securable object {} {} may be deleted",
@@ -34,6 +34,7 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.helper.EntityIdCache;
 import org.apache.gravitino.storage.relational.helper.SchemaIds;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
@@ -81,11 +82,17 @@ public class SchemaMetaService {
 
   public SchemaIds getSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
       String metalakeName, String catalogName, String schemaName) {
-    return SessionUtils.getWithoutCommit(
-        SchemaMetaMapper.class,
-        mapper ->
-            mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
-                metalakeName, catalogName, schemaName));
+    return EntityIdCache.getInstance()
+        .getSchemaIds(
+            metalakeName,
+            catalogName,
+            schemaName,
+            () ->
+                SessionUtils.getWithoutCommit(
+                    SchemaMetaMapper.class,
+                    mapper ->
+                        mapper.selectSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+                            metalakeName, catalogName, schemaName)));
   }
 
   // Schema may be deleted, so the SchemaPO may be null.
@@ -149,6 +156,9 @@ public class SchemaMetaService {
               mapper.insertSchemaMeta(po);
             }
           });
+      if (overwrite) {
+        EntityIdCache.getInstance().invalidate(schemaEntity.nameIdentifier());
+      }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.SCHEMA, schemaEntity.nameIdentifier().toString());
@@ -188,6 +198,7 @@ public class SchemaMetaService {
       throw re;
     }
 
+    EntityIdCache.getInstance().invalidate(identifier);
     if (updateResult > 0) {
       return newEntity;
     } else {
@@ -313,6 +324,7 @@ public class SchemaMetaService {
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
     }
+    EntityIdCache.getInstance().invalidate(identifier);
     return true;
   }
 
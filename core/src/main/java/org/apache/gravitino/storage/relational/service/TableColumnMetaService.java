@@ -57,6 +57,17 @@ public class TableColumnMetaService {
         .collect(Collectors.toList());
   }
 
+  Map<Long, List<ColumnPO>> getColumnsByTablePOs(List<TablePO> tablePOs) {
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class, mapper -> mapper.listColumnPOsByTablePOs(tablePOs));
+
+    // Filter out the deleted columns
+    return columnPOs.stream()
+        .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
+        .collect(Collectors.groupingBy(ColumnPO::getTableId));
+  }
+
   Long getColumnIdByTableIdAndName(Long tableId, String columnName) {
     Long columnId =
         SessionUtils.getWithoutCommit(
@@ -97,6 +108,13 @@ public class TableColumnMetaService {
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
   }
 
+  void batchInsertColumnPOs(List<ColumnPO> columnPOs) {
+    // batchInsertColumnPOs will be done in batchInsertTables transaction, so we don't do commit
+    // here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+  }
+
   boolean deleteColumnsByTableId(Long tableId) {
     // deleteColumns will be done in deleteTable transaction, so we don't do commit here.
     Integer result =
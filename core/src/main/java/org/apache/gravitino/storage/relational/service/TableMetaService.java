@@ -19,12 +19,18 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
@@ -91,6 +97,83 @@ public class TableMetaService {
     return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
   }
 
+  public List<TableEntity> batchGetTablesByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkTable);
+
+    List<TableEntity> tableEntities = Lists.newArrayList();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long schemaId;
+      try {
+        schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      } catch (NoSuchEntityException e) {
+        // None of the tables exist if the schema doesn't.
+        continue;
+      }
+
+      List<TablePO> tablePOs =
+          SessionUtils.getWithoutCommit(
+              TableMetaMapper.class,
+              mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, entry.getValue()));
+      if (tablePOs.isEmpty()) {
+        continue;
+      }
+
+      Map<Long, List<ColumnPO>> columnPOs =
+          TableColumnMetaService.getInstance().getColumnsByTablePOs(tablePOs);
+      for (TablePO tablePO : tablePOs) {
+        tableEntities.add(
+            POConverters.fromTableAndColumnPOs(
+                tablePO,
+                columnPOs.getOrDefault(tablePO.getTableId(), Collections.emptyList()),
+                namespace));
+      }
+    }
+    return tableEntities;
+  }
+
+  /**
+   * Checks which of the tables exist in a batch. Only the names of the tables are queried, neither
+   * their metadata nor their columns are loaded.
+   *
+   * @param identifiers The identifiers of the tables.
+   * @return The identifiers of the tables which exist.
+   */
+  public Set<NameIdentifier> batchExistTablesByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(NameIdentifierUtil::checkTable);
+
+    Set<NameIdentifier> existingIdents = Sets.newHashSet();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long schemaId;
+      try {
+        schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+      } catch (NoSuchEntityException e) {
+        // None of the tables exist if the schema doesn't.
+        continue;
+      }
+
+      List<String> tableNames =
+          SessionUtils.getWithoutCommit(
+              TableMetaMapper.class,
+              mapper -> mapper.listTableNamesBySchemaIdAndNames(schemaId, entry.getValue()));
+      tableNames.forEach(name -> existingIdents.add(NameIdentifier.of(namespace, name)));
+    }
+    return existingIdents;
+  }
+
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
     NamespaceUtil.checkTable(namespace);
 
@@ -145,6 +228,49 @@ public class TableMetaService {
     }
   }
 
+  public void batchInsertTables(List<TableEntity> tableEntities) throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<TablePO> tablePOs = Lists.newArrayListWithCapacity(tableEntities.size());
+      List<ColumnPO> columnPOs = Lists.newArrayList();
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+
+        TablePO.Builder builder = TablePO.builder();
+        fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
+        TablePO tablePO = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+        tablePOs.add(tablePO);
+        if (tableEntity.columns() != null && !tableEntity.columns().isEmpty()) {
+          columnPOs.addAll(
+              POConverters.initializeColumnPOs(
+                  tablePO, tableEntity.columns(), ColumnPO.ColumnOpType.CREATE));
+        }
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class, mapper -> mapper.batchInsertTableMetas(tablePOs)),
+          () -> {
+            if (!columnPOs.isEmpty()) {
+              TableColumnMetaService.getInstance().batchInsertColumnPOs(columnPOs);
+            }
+          });
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(
+          re,
+          Entity.EntityType.TABLE,
+          tableEntities.stream()
+              .map(t -> t.nameIdentifier().toString())
+              .collect(Collectors.joining(",")));
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -20,10 +20,12 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -99,6 +101,67 @@ public class UserMetaService {
     return POConverters.fromUserPO(userPO, rolePOs, identifier.namespace());
   }
 
+  public List<UserEntity> batchGetUsersByIdentifiers(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkUser);
+
+    List<UserEntity> userEntities = Lists.newArrayList();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    NameIdentifier::namespace,
+                    Collectors.mapping(NameIdentifier::name, Collectors.toList())));
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      Namespace namespace = entry.getKey();
+      Long metalakeId;
+      try {
+        metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+      } catch (NoSuchEntityException e) {
+        // None of the users exist if the metalake doesn't.
+        continue;
+      }
+
+      List<UserPO> userPOs =
+          SessionUtils.getWithoutCommit(
+              UserMetaMapper.class,
+              mapper -> mapper.listUserPOsByMetalakeIdAndNames(metalakeId, entry.getValue()));
+      if (userPOs.isEmpty()) {
+        continue;
+      }
+
+      List<Long> userIds = userPOs.stream().map(UserPO::getUserId).collect(Collectors.toList());
+      List<UserRoleRelPO> userRoleRelPOs =
+          SessionUtils.getWithoutCommit(
+              UserRoleRelMapper.class, mapper -> mapper.listUserRoleRelsByUserIds(userIds));
+      Map<Long, RolePO> rolePOs =
+          RoleMetaService.getInstance()
+              .listRolePOsByRoleIds(
+                  userRoleRelPOs.stream()
+                      .map(UserRoleRelPO::getRoleId)
+                      .distinct()
+                      .collect(Collectors.toList()))
+              .stream()
+              .collect(Collectors.toMap(RolePO::getRoleId, Function.identity()));
+      Map<Long, List<RolePO>> rolePOsByUserId =
+          userRoleRelPOs.stream()
+              .filter(rel -> rolePOs.containsKey(rel.getRoleId()))
+              .collect(
+                  Collectors.groupingBy(
+                      UserRoleRelPO::getUserId,
+                      Collectors.mapping(
+                          rel -> rolePOs.get(rel.getRoleId()), Collectors.toList())));
+
+      for (UserPO userPO : userPOs) {
+        userEntities.add(
+            POConverters.fromUserPO(
+                userPO,
+                rolePOsByUserId.getOrDefault(userPO.getUserId(), Collections.emptyList()),
+                namespace));
+      }
+    }
+    return userEntities;
+  }
+
   public List<UserEntity> listUsersByRoleIdent(NameIdentifier roleIdent) {
     RoleEntity roleEntity = RoleMetaService.getInstance().getRoleByIdentifier(roleIdent);
     List<UserPO> userPOs =
@@ -114,6 +177,66 @@ public class UserMetaService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Lists the users of several roles with a fixed number of queries, instead of one query per
+   * role.
+   *
+   * @param roleIdents The identifiers of the roles.
+   * @return The users of every role by the identifier of the role, roles without users or which
+   *     don't exist map to an empty list. The role names and ids of the users are not loaded.
+   */
+  public Map<NameIdentifier, List<UserEntity>> listUsersByRoleIdents(
+      List<NameIdentifier> roleIdents) {
+    Map<NameIdentifier, List<UserEntity>> usersByRole = Maps.newLinkedHashMap();
+    roleIdents.forEach(roleIdent -> usersByRole.put(roleIdent, Lists.newArrayList()));
+
+    Map<Long, NameIdentifier> roleIdentsById =
+        RoleMetaService.getInstance().batchGetRoleIdsByIdentifiers(roleIdents);
+    if (roleIdentsById.isEmpty()) {
+      return usersByRole;
+    }
+
+    List<UserRoleRelPO> userRoleRelPOs =
+        SessionUtils.getWithoutCommit(
+            UserRoleRelMapper.class,
+            mapper ->
+                mapper.listUserRoleRelsByRoleIds(Lists.newArrayList(roleIdentsById.keySet())));
+    if (userRoleRelPOs.isEmpty()) {
+      return usersByRole;
+    }
+
+    List<Long> userIds =
+        userRoleRelPOs.stream()
+            .map(UserRoleRelPO::getUserId)
+            .distinct()
+            .collect(Collectors.toList());
+    Map<Long, UserPO> userPOs =
+        SessionUtils.getWithoutCommit(
+                UserMetaMapper.class, mapper -> mapper.listUserPOsByUserIds(userIds))
+            .stream()
+            .collect(Collectors.toMap(UserPO::getUserId, Function.identity()));
+
+    Map<Long, UserEntity> users = Maps.newHashMap();
+    for (UserRoleRelPO userRoleRelPO : userRoleRelPOs) {
+      UserPO userPO = userPOs.get(userRoleRelPO.getUserId());
+      if (userPO == null) {
+        continue;
+      }
+
+      NameIdentifier roleIdent = roleIdentsById.get(userRoleRelPO.getRoleId());
+      UserEntity user =
+          users.computeIfAbsent(
+              userPO.getUserId(),
+              id ->
+                  POConverters.fromUserPO(
+                      userPO,
+                      Collections.emptyList(),
+                      AuthorizationUtils.ofUserNamespace(roleIdent.namespace().level(0))));
+      usersByRole.get(roleIdent).add(user);
+    }
+    return usersByRole;
+  }
+
   public void insertUser(UserEntity userEntity, boolean overwritten) throws IOException {
     try {
       AuthorizationUtils.checkUser(userEntity.nameIdentifier());
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -496,7 +497,12 @@ public class POConverters {
   }
 
   public static List<ColumnEntity> fromColumnPOs(List<ColumnPO> columnPOs) {
-    return columnPOs.stream().map(POConverters::fromColumnPO).collect(Collectors.toList());
+    // Keep the columns in position order, so they can be compared with the columns of a catalog
+    // table in place.
+    return columnPOs.stream()
+        .sorted(Comparator.comparing(ColumnPO::getColumnPosition))
+        .map(POConverters::fromColumnPO)
+        .collect(Collectors.toList());
   }
 
   public static ColumnPO initializeColumnPO(
@@ -18,33 +18,82 @@
  */
 package org.apache.gravitino.utils;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.io.Closeable;
-import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // core/src/main/java/org/apache/iceberg/ClientPoolImpl.java
+//
+// The clients are handed out under a fair semaphore, so the threads waiting for a client are
+// served in FIFO order as soon as a client is released instead of polling the pool. The idle
+// clients are reused from the most recently released one, which lets the rarely used ones age
+// out and get evicted.
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
 
   private final int poolSize;
-  private final Deque<C> clients;
+  private final Semaphore permits;
+  private final Deque<IdleClient<C>> idleClients;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
   private final boolean retryByDefault;
-  private volatile int currentSize;
+  private final long acquireTimeoutMs;
+  private final long idleTimeoutNanos;
+  private final long healthCheckIntervalNanos;
+  @Nullable private final ClientPoolMetricsSource metricsSource;
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicLong createdCount = new AtomicLong();
   private volatile boolean closed;
 
   protected ClientPoolImpl(int poolSize, Class<? extends E> reconnectExc, boolean retryByDefault) {
+    this(poolSize, reconnectExc, retryByDefault, 0L, 0L, 0L, null);
+  }
+
+  /**
+   * Create a client pool.
+   *
+   * @param poolSize The maximum number of the clients in the pool.
+   * @param reconnectExc The exception type which indicates the connection of a client is broken.
+   * @param retryByDefault Whether to reconnect and retry an action on a connection exception.
+   * @param acquireTimeoutMs The maximum time to wait for a client, non-positive to wait forever. A
+   *     {@link ClientPoolTimeoutException} is thrown if no client is released in time.
+   * @param idleTimeoutMs The time after which an idle client is closed, non-positive to keep the
+   *     idle clients.
+   * @param healthCheckIntervalMs The idle time after which a client is checked with {@link
+   *     #isHealthy(Object)} before being handed out, non-positive to never check.
+   * @param metricsSource The metrics source to record the pool metrics to, may be null.
+   */
+  protected ClientPoolImpl(
+      int poolSize,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      long acquireTimeoutMs,
+      long idleTimeoutMs,
+      long healthCheckIntervalMs,
+      @Nullable ClientPoolMetricsSource metricsSource) {
+    Preconditions.checkArgument(poolSize > 0, "The pool size must be positive");
     this.poolSize = poolSize;
+    this.permits = new Semaphore(poolSize, true /* fair */);
+    this.idleClients = new LinkedBlockingDeque<>();
     this.reconnectExc = reconnectExc;
-    this.clients = new ArrayDeque<>(poolSize);
-    this.currentSize = 0;
-    this.closed = false;
     this.retryByDefault = retryByDefault;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(idleTimeoutMs, 0L));
+    this.healthCheckIntervalNanos =
+        TimeUnit.MILLISECONDS.toNanos(Math.max(healthCheckIntervalMs, 0L));
+    this.metricsSource = metricsSource;
+    this.closed = false;
   }
 
   @Override
@@ -85,8 +134,24 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return reconnectExc.isInstance(exc);
   }
 
+  /**
+   * Check whether a client which has been idle for a while can still be used, the unhealthy ones
+   * are closed and replaced by new clients. The default implementation assumes all the clients
+   * are healthy.
+   *
+   * @param client The idle client.
+   * @return true if the client can be handed out.
+   */
+  protected boolean isHealthy(C client) {
+    return true;
+  }
+
   protected abstract void close(C client);
 
+  /**
+   * Close the pool. The idle clients are closed at once, the clients in use are closed when they
+   * are released.
+   */
   @Override
   public void close() {
     // To avoid closing it repeatedly, we add a judgment that if it has been closed,
@@ -96,58 +161,145 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     }
 
     this.closed = true;
-    try {
-      while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
-        }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
-        }
-      }
+    closeIdleClients();
+  }
+
+  /** Close the clients which have been idle for longer than the idle timeout. */
+  public void evictIdleClients() {
+    if (idleTimeoutNanos <= 0) {
+      return;
+    }
 
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
+    // The least recently released clients are at the tail of the deque.
+    long now = System.nanoTime();
+    IdleClient<C> oldest;
+    while ((oldest = idleClients.peekLast()) != null
+        && now - oldest.idleSinceNanos >= idleTimeoutNanos) {
+      if (idleClients.removeLastOccurrence(oldest)) {
+        updateIdleCount(-1);
+        closeQuietly(oldest.client);
+      }
     }
   }
 
   private C get() throws InterruptedException {
     Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
+    long startNanos = System.nanoTime();
+    if (acquireTimeoutMs > 0) {
+      if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+        if (metricsSource != null) {
+          metricsSource.recordAcquireTimeout();
+        }
+        throw new ClientPoolTimeoutException(
+            "Timed out after %d ms waiting for a client, all the %d clients are in use",
+            acquireTimeoutMs, poolSize);
+      }
+    } else {
+      permits.acquire();
+    }
+    if (metricsSource != null) {
+      metricsSource.recordWaitTime(System.nanoTime() - startNanos);
+    }
+
+    try {
+      Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      C client = takeIdleClient();
+      if (client == null) {
+        client = newClient();
+        createdCount.incrementAndGet();
+        if (metricsSource != null) {
+          metricsSource.recordClientCreated();
         }
       }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
+      updateActiveCount(1);
+      return client;
+
+    } catch (RuntimeException | Error e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Nullable
+  private C takeIdleClient() {
+    IdleClient<C> idle;
+    while ((idle = idleClients.pollFirst()) != null) {
+      updateIdleCount(-1);
+      long idleNanos = System.nanoTime() - idle.idleSinceNanos;
+      if (idleTimeoutNanos > 0 && idleNanos >= idleTimeoutNanos) {
+        closeQuietly(idle.client);
+        continue;
+      }
+
+      if (healthCheckIntervalNanos > 0
+          && idleNanos >= healthCheckIntervalNanos
+          && !checkHealth(idle.client)) {
+        LOG.warn("Closing an unhealthy client idle for {} ms", idleNanos / 1_000_000);
+        closeQuietly(idle.client);
+        continue;
       }
+
+      return idle.client;
     }
+
+    return null;
   }
 
   private void release(C client) {
-    synchronized (this) {
-      clients.addFirst(client);
+    updateActiveCount(-1);
+    if (closed) {
+      permits.release();
+      closeQuietly(client);
+      return;
     }
-    synchronized (signal) {
-      signal.notifyAll();
+
+    idleClients.addFirst(new IdleClient<>(client, System.nanoTime()));
+    updateIdleCount(1);
+    permits.release();
+
+    // The pool may be closed after the client is pushed back, close it here in case close() has
+    // drained the idle clients already.
+    if (closed) {
+      closeIdleClients();
+    }
+  }
+
+  private void closeIdleClients() {
+    IdleClient<C> idle;
+    while ((idle = idleClients.pollFirst()) != null) {
+      updateIdleCount(-1);
+      closeQuietly(idle.client);
+    }
+  }
+
+  private boolean checkHealth(C client) {
+    try {
+      return isHealthy(client);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to check the health of a client", e);
+      return false;
+    }
+  }
+
+  private void closeQuietly(C client) {
+    try {
+      close(client);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to close a client", e);
+    }
+  }
+
+  private void updateActiveCount(int delta) {
+    activeCount.addAndGet(delta);
+    if (metricsSource != null) {
+      metricsSource.activeClients().add(delta);
+    }
+  }
+
+  private void updateIdleCount(int delta) {
+    idleCount.addAndGet(delta);
+    if (metricsSource != null) {
+      metricsSource.idleClients().add(delta);
     }
   }
 
@@ -158,4 +310,46 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   public boolean isClosed() {
     return closed;
   }
+
+  /**
+   * Get the number of the clients handed out and not released yet.
+   *
+   * @return The number of the active clients.
+   */
+  public int activeClients() {
+    return activeCount.get();
+  }
+
+  /**
+   * Get the number of the clients kept in the pool for reuse.
+   *
+   * @return The number of the idle clients.
+   */
+  public int idleClients() {
+    return idleCount.get();
+  }
+
+  /**
+   * Get the number of the clients created by the pool, including the closed ones.
+   *
+   * @return The number of the created clients.
+   */
+  public long createdClients() {
+    return createdCount.get();
+  }
+
+  @VisibleForTesting
+  int waitingThreads() {
+    return permits.getQueueLength();
+  }
+
+  private static final class IdleClient<C> {
+    private final C client;
+    private final long idleSinceNanos;
+
+    private IdleClient(C client, long idleSinceNanos) {
+      this.client = client;
+      this.idleSinceNanos = idleSinceNanos;
+    }
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAuthorizationPluginExecutor {
+  private final Map<String, AuthorizationPlugin> plugins =
+      ImmutableMap.of(
+          "catalog1", mock(AuthorizationPlugin.class),
+          "catalog2", mock(AuthorizationPlugin.class),
+          "catalog3", mock(AuthorizationPlugin.class));
+
+  private AuthorizationPluginExecutor executor;
+
+  @BeforeEach
+  void init() {
+    Config config = new Config(false) {};
+    config.set(Configs.AUTHORIZATION_PLUGIN_CALL_THREADS, 3);
+    config.set(Configs.AUTHORIZATION_PLUGIN_CALL_TIMEOUT_MS, 500L);
+    executor = new AuthorizationPluginExecutor(config);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    executor.close();
+  }
+
+  @Test
+  void testCallAllInParallel() throws Exception {
+    // Every call waits for all the others, so they only finish if they run at the same time.
+    CountDownLatch latch = new CountDownLatch(plugins.size());
+    Set<String> users = ConcurrentHashMap.newKeySet();
+    Set<String> catalogs = ConcurrentHashMap.newKeySet();
+    PrincipalUtils.doAs(
+        new UserPrincipal("user1"),
+        () -> {
+          executor.callAll(
+              plugins,
+              (plugin, catalogName) -> {
+                latch.countDown();
+                try {
+                  Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                  throw new RuntimeException(e);
+                }
+                Assertions.assertSame(plugins.get(catalogName), plugin);
+                users.add(PrincipalUtils.getCurrentUserName());
+                catalogs.add(catalogName);
+              });
+          return null;
+        });
+
+    Assertions.assertEquals(plugins.keySet(), catalogs);
+    Assertions.assertEquals(ImmutableSet.of("user1"), users);
+  }
+
+  @Test
+  void testSingleFailure() {
+    Set<String> catalogs = ConcurrentHashMap.newKeySet();
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                executor.callAll(
+                    plugins,
+                    (plugin, catalogName) -> {
+                      catalogs.add(catalogName);
+                      if (catalogName.equals("catalog2")) {
+                        throw new IllegalArgumentException("mock error");
+                      }
+                    }));
+    Assertions.assertEquals("mock error", exception.getMessage());
+    // The other catalogs are still called.
+    Assertions.assertEquals(plugins.keySet(), catalogs);
+  }
+
+  @Test
+  void testMultipleFailures() {
+    AuthorizationPluginException exception =
+        Assertions.assertThrows(
+            AuthorizationPluginException.class,
+            () ->
+                executor.callAll(
+                    plugins,
+                    (plugin, catalogName) -> {
+                      if (!catalogName.equals("catalog1")) {
+                        throw new IllegalStateException(catalogName);
+                      }
+                    }));
+    Assertions.assertTrue(exception.getMessage().contains("catalog2"));
+    Assertions.assertTrue(exception.getMessage().contains("catalog3"));
+    Assertions.assertEquals(2, exception.getSuppressed().length);
+  }
+
+  @Test
+  void testTimeout() {
+    AuthorizationPluginException exception =
+        Assertions.assertThrows(
+            AuthorizationPluginException.class,
+            () ->
+                executor.callAll(
+                    plugins,
+                    (plugin, catalogName) -> {
+                      if (catalogName.equals("catalog3")) {
+                        try {
+                          Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                      }
+                    }));
+    Assertions.assertTrue(exception.getMessage().contains("catalog3"));
+  }
+
+  @Test
+  void testTimeoutOfAllCalls() {
+    long start = System.nanoTime();
+    AuthorizationPluginException exception =
+        Assertions.assertThrows(
+            AuthorizationPluginException.class,
+            () ->
+                executor.callAll(
+                    plugins,
+                    (plugin, catalogName) -> {
+                      try {
+                        Thread.sleep(10_000);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                    }));
+    // The calls share one timeout instead of waiting for a timeout per catalog.
+    Assertions.assertTrue(
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500L,
+        "The calls should time out together");
+    Assertions.assertEquals(plugins.size(), exception.getSuppressed().length);
+  }
+}
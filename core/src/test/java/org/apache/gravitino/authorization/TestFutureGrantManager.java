@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.authorization;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -26,10 +29,14 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -68,7 +75,7 @@ public class TestFutureGrantManager {
     entityStore.put(metalakeEntity, true);
 
     catalog = mock(BaseCatalog.class);
-    authorizationPlugin = mock(AuthorizationPlugin.class);
+    authorizationPlugin = mock(AuthorizationPlugin.class, CALLS_REAL_METHODS);
     when(catalog.getAuthorizationPlugin()).thenReturn(authorizationPlugin);
   }
 
@@ -76,7 +83,9 @@ public class TestFutureGrantManager {
   void testGrantNormally() throws IOException {
     FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager);
 
-    SupportsRelationOperations relationOperations = mock(SupportsRelationOperations.class);
+    // Batch listings fall back to the single listings stubbed below.
+    SupportsRelationOperations relationOperations =
+        mock(SupportsRelationOperations.class, CALLS_REAL_METHODS);
     when(entityStore.relationOperations()).thenReturn(relationOperations);
     when(ownerManager.getOwner(any(), any())).thenReturn(Optional.empty());
 
@@ -103,6 +112,7 @@ public class TestFutureGrantManager {
     manager.grantNewlyCreatedCatalog(METALAKE, catalog);
     verify(authorizationPlugin, never()).onGrantedRolesToUser(any(), any());
     verify(authorizationPlugin, never()).onGrantedRolesToGroup(any(), any());
+    verify(authorizationPlugin, never()).onGrantedRolesToUsersAndGroups(any(), any());
     verify(authorizationPlugin, never()).onOwnerSet(any(), any(), any());
 
     // test only grant users
@@ -168,6 +178,7 @@ public class TestFutureGrantManager {
     verify(authorizationPlugin).onOwnerSet(any(), any(), any());
     verify(authorizationPlugin).onGrantedRolesToUser(any(), any());
     verify(authorizationPlugin).onGrantedRolesToGroup(any(), any());
+    verify(authorizationPlugin).onGrantedRolesToUsersAndGroups(any(), any());
 
     // test to skip unnecessary roles
     reset(authorizationPlugin);
@@ -179,6 +190,63 @@ public class TestFutureGrantManager {
     verify(authorizationPlugin, never()).onGrantedRolesToGroup(any(), any());
   }
 
+  @Test
+  void testGrantRolesInBatch() throws IOException {
+    FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager);
+    SupportsRelationOperations relationOperations = mock(SupportsRelationOperations.class);
+    when(entityStore.relationOperations()).thenReturn(relationOperations);
+    when(ownerManager.getOwner(any(), any())).thenReturn(Optional.empty());
+    reset(authorizationPlugin);
+
+    SecurableObject securableObject = mock(SecurableObject.class);
+    when(securableObject.type()).thenReturn(MetadataObject.Type.METALAKE);
+    when(securableObject.privileges())
+        .thenReturn(Lists.newArrayList(Privileges.CreateTable.allow()));
+    NameIdentifier role1Ident = AuthorizationUtils.ofRole(METALAKE, "role1");
+    NameIdentifier role2Ident = AuthorizationUtils.ofRole(METALAKE, "role2");
+    RoleEntity role1 = mock(RoleEntity.class);
+    when(role1.nameIdentifier()).thenReturn(role1Ident);
+    when(role1.securableObjects()).thenReturn(Lists.newArrayList(securableObject));
+    RoleEntity role2 = mock(RoleEntity.class);
+    when(role2.nameIdentifier()).thenReturn(role2Ident);
+    when(role2.securableObjects()).thenReturn(Lists.newArrayList(securableObject));
+    when(relationOperations.listEntitiesByRelation(
+            SupportsRelationOperations.Type.METADATA_OBJECT_ROLE_REL,
+            NameIdentifier.of(METALAKE),
+            Entity.EntityType.METALAKE))
+        .thenReturn(Lists.newArrayList(role1, role2));
+
+    UserEntity userEntity = mock(UserEntity.class);
+    GroupEntity groupEntity = mock(GroupEntity.class);
+    List<NameIdentifier> roleIdents = Lists.newArrayList(role1Ident, role2Ident);
+    when(relationOperations.batchListEntitiesByRelation(
+            SupportsRelationOperations.Type.ROLE_USER_REL, roleIdents, Entity.EntityType.ROLE))
+        .thenReturn(
+            ImmutableMap.of(
+                role1Ident, Lists.newArrayList(userEntity),
+                role2Ident, Lists.newArrayList(userEntity)));
+    when(relationOperations.batchListEntitiesByRelation(
+            SupportsRelationOperations.Type.ROLE_GROUP_REL, roleIdents, Entity.EntityType.ROLE))
+        .thenReturn(ImmutableMap.of(role2Ident, Lists.newArrayList(groupEntity)));
+
+    manager.grantNewlyCreatedCatalog(METALAKE, catalog);
+    verify(relationOperations, never())
+        .listEntitiesByRelation(eq(SupportsRelationOperations.Type.ROLE_USER_REL), any(), any());
+    verify(relationOperations, never())
+        .listEntitiesByRelation(eq(SupportsRelationOperations.Type.ROLE_GROUP_REL), any(), any());
+    verify(authorizationPlugin)
+        .onGrantedRolesToUsersAndGroups(
+            argThat(
+                userRoles ->
+                    userRoles.size() == 1
+                        && new HashSet<>(userRoles.get(userEntity))
+                            .equals(ImmutableSet.of(role1, role2))),
+            argThat(
+                groupRoles ->
+                    groupRoles.size() == 1
+                        && groupRoles.get(groupEntity).equals(Lists.newArrayList(role2))));
+  }
+
   @Test
   void testGrantWithException() throws IOException {
     FutureGrantManager manager = new FutureGrantManager(entityStore, ownerManager);
@@ -29,6 +29,7 @@ import static org.apache.gravitino.Configs.ENTITY_STORE;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -45,6 +46,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.EntityStoreFactory;
 import org.apache.gravitino.GravitinoEnv;
@@ -100,21 +102,28 @@ public class TestOwnerManager {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME))
+        .thenReturn(3_600_000L);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     Mockito.when(config.get(CATALOG_CACHE_EVICTION_INTERVAL_MS)).thenReturn(1000L);
     // Fix the cache config for testing
     Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_SYNC_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
     Mockito.when(config.get(Configs.CACHE_EXPIRATION_TIME)).thenReturn(3_600_000L);
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(64);
 
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
 
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "catalogManager", catalogManager, true);
@@ -175,7 +184,19 @@ public class TestOwnerManager {
   }
 
   @Test
-  public void testOwner() {
+  public void testOwner() throws IllegalAccessException, IOException {
+    GravitinoAuthorizer gravitinoAuthorizer = Mockito.mock(GravitinoAuthorizer.class);
+    GravitinoEnv.getInstance().setGravitinoAuthorizer(gravitinoAuthorizer);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", entityStore, true);
+    try {
+      checkOwner(gravitinoAuthorizer);
+    } finally {
+      GravitinoEnv.getInstance().setGravitinoAuthorizer(null);
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", null, true);
+    }
+  }
+
+  private void checkOwner(GravitinoAuthorizer gravitinoAuthorizer) throws IOException {
     // Test no owner
     MetadataObject metalakeObject =
         MetadataObjects.of(Lists.newArrayList(METALAKE), MetadataObject.Type.METALAKE);
@@ -192,6 +213,10 @@ public class TestOwnerManager {
     // Test to set the user as the owner
     ownerManager.setOwner(METALAKE, metalakeObject, USER, Owner.Type.USER);
     Mockito.verify(authorizationPlugin).onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+    // The authorizer is notified also if there was no owner before.
+    NameIdentifier metalakeIdent = NameIdentifier.of(METALAKE);
+    Mockito.verify(gravitinoAuthorizer)
+        .handleMetadataOwnerChange(METALAKE, null, metalakeIdent, Entity.EntityType.METALAKE);
 
     Owner owner = ownerManager.getOwner(METALAKE, metalakeObject).get();
     Assertions.assertEquals(USER, owner.name());
@@ -201,6 +226,18 @@ public class TestOwnerManager {
     Mockito.reset(authorizationPlugin);
     ownerManager.setOwner(METALAKE, metalakeObject, GROUP, Owner.Type.GROUP);
     Mockito.verify(authorizationPlugin).onOwnerSet(Mockito.any(), Mockito.any(), Mockito.any());
+    Long userId =
+        entityStore
+            .get(
+                AuthorizationUtils.ofUser(METALAKE, USER), Entity.EntityType.USER, UserEntity.class)
+            .id();
+    Mockito.verify(gravitinoAuthorizer)
+        .handleMetadataOwnerChange(METALAKE, userId, metalakeIdent, Entity.EntityType.METALAKE);
+
+    // A group owner has no owner policy in the authorizer, but it is notified still.
+    ownerManager.setOwner(METALAKE, metalakeObject, GROUP, Owner.Type.GROUP);
+    Mockito.verify(gravitinoAuthorizer, Mockito.times(2))
+        .handleMetadataOwnerChange(METALAKE, null, metalakeIdent, Entity.EntityType.METALAKE);
 
     // Test not-existed metadata object
     Assertions.assertThrows(
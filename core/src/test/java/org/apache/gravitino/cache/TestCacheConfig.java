@@ -35,6 +35,7 @@ public class TestCacheConfig {
     Assertions.assertEquals(3_600_000L, config.get(Configs.CACHE_EXPIRATION_TIME));
     Assertions.assertEquals(200_302_000L, EntityCacheWeigher.getMaxWeight());
     Assertions.assertEquals("caffeine", config.get(Configs.CACHE_IMPLEMENTATION));
+    Assertions.assertEquals(64, config.get(Configs.CACHE_LOCK_SEGMENTS));
   }
 
   @Test
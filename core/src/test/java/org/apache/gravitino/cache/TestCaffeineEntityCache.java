@@ -27,12 +27,21 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -1058,6 +1067,239 @@ public class TestCaffeineEntityCache {
                 null));
   }
 
+  @Test
+  void testGetOrLoad() {
+    EntityCache cache = getNormalCache();
+    AtomicInteger loadCount = new AtomicInteger();
+
+    SchemaEntity loaded =
+        cache.getOrLoad(
+            entity1.nameIdentifier(),
+            Entity.EntityType.SCHEMA,
+            () -> {
+              loadCount.incrementAndGet();
+              return entity1;
+            });
+    Assertions.assertEquals(entity1, loaded);
+    Assertions.assertEquals(1, cache.size());
+
+    SchemaEntity cached =
+        cache.getOrLoad(
+            entity1.nameIdentifier(),
+            Entity.EntityType.SCHEMA,
+            () -> {
+              loadCount.incrementAndGet();
+              return entity1;
+            });
+    Assertions.assertEquals(entity1, cached);
+    Assertions.assertEquals(1, loadCount.get());
+
+    List<UserEntity> users =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            entity12.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            () -> ImmutableList.of(entity8, entity9));
+    Assertions.assertEquals(ImmutableList.of(entity8, entity9), users);
+    Assertions.assertTrue(
+        cache.contains(
+            entity12.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    List<GroupEntity> groups =
+        cache.getOrLoad(
+            SupportsRelationOperations.Type.ROLE_GROUP_REL,
+            entity12.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            ImmutableList::of);
+    Assertions.assertTrue(groups.isEmpty());
+    Assertions.assertFalse(
+        cache.contains(
+            entity12.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            SupportsRelationOperations.Type.ROLE_GROUP_REL));
+  }
+
+  @Test
+  void testGetOrLoadConcurrently() throws Exception {
+    EntityCache cache = getNormalCache();
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      Future<SchemaEntity> first =
+          executor.submit(
+              () ->
+                  cache.getOrLoad(
+                      entity1.nameIdentifier(),
+                      Entity.EntityType.SCHEMA,
+                      () -> {
+                        loadCount.incrementAndGet();
+                        loading.countDown();
+                        release.await();
+                        return entity1;
+                      }));
+      loading.await();
+
+      Future<SchemaEntity> second =
+          executor.submit(
+              () ->
+                  cache.getOrLoad(
+                      entity1.nameIdentifier(),
+                      Entity.EntityType.SCHEMA,
+                      () -> {
+                        loadCount.incrementAndGet();
+                        return entity1;
+                      }));
+      release.countDown();
+
+      Assertions.assertEquals(entity1, first.get(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(entity1, second.get(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(1, loadCount.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testGetOrLoadListing() {
+    EntityCache cache = getNormalCache();
+    Namespace schemaNamespace = Namespace.of("metalake1", "catalog1");
+    AtomicInteger loadCount = new AtomicInteger();
+    EntityCache.ThrowingSupplier<List<SchemaEntity>, RuntimeException> loader =
+        () -> {
+          loadCount.incrementAndGet();
+          return ImmutableList.of(entity1);
+        };
+
+    List<SchemaEntity> schemas =
+        cache.getOrLoad(schemaNamespace, Entity.EntityType.SCHEMA, loader);
+    Assertions.assertEquals(ImmutableList.of(entity1), schemas);
+    cache.getOrLoad(schemaNamespace, Entity.EntityType.SCHEMA, loader);
+    Assertions.assertEquals(1, loadCount.get());
+    Assertions.assertFalse(cache.contains(entity1.nameIdentifier(), Entity.EntityType.SCHEMA));
+
+    // Putting a child invalidates the listing of its namespace.
+    cache.put(entity1);
+    cache.getOrLoad(schemaNamespace, Entity.EntityType.SCHEMA, loader);
+    Assertions.assertEquals(2, loadCount.get());
+
+    // Invalidating a child invalidates the listing of its namespace.
+    Assertions.assertTrue(cache.invalidate(entity1.nameIdentifier(), Entity.EntityType.SCHEMA));
+    cache.getOrLoad(schemaNamespace, Entity.EntityType.SCHEMA, loader);
+    Assertions.assertEquals(3, loadCount.get());
+
+    // Invalidating the parent removes the listing by prefix.
+    Assertions.assertTrue(cache.invalidate(entity6.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertEquals(0, cache.size());
+    cache.getOrLoad(schemaNamespace, Entity.EntityType.SCHEMA, loader);
+    Assertions.assertEquals(4, loadCount.get());
+  }
+
+  @Test
+  void testGetAllOrLoad() {
+    EntityCache cache = getNormalCache();
+    cache.put(entity3);
+
+    List<List<NameIdentifier>> loadedIdents = new ArrayList<>();
+    EntityCache.ThrowingFunction<List<NameIdentifier>, List<TableEntity>, RuntimeException>
+        loader =
+            idents -> {
+              loadedIdents.add(idents);
+              // The third table doesn't exist in the store.
+              return idents.contains(entity4.nameIdentifier())
+                  ? ImmutableList.of(entity4)
+                  : ImmutableList.of();
+            };
+
+    List<TableEntity> tables =
+        cache.getAllOrLoad(
+            ImmutableList.of(
+                entity3.nameIdentifier(),
+                entity4.nameIdentifier(),
+                entity5.nameIdentifier(),
+                entity4.nameIdentifier()),
+            Entity.EntityType.TABLE,
+            loader);
+    Assertions.assertEquals(Sets.newHashSet(entity3, entity4), Sets.newHashSet(tables));
+    Assertions.assertEquals(
+        ImmutableList.of(ImmutableList.of(entity4.nameIdentifier(), entity5.nameIdentifier())),
+        loadedIdents);
+    Assertions.assertTrue(cache.contains(entity4.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(entity5.nameIdentifier(), Entity.EntityType.TABLE));
+
+    // All the identifiers are cached now, the loader is not called.
+    loadedIdents.clear();
+    tables =
+        cache.getAllOrLoad(
+            ImmutableList.of(entity3.nameIdentifier(), entity4.nameIdentifier()),
+            Entity.EntityType.TABLE,
+            loader);
+    Assertions.assertEquals(2, tables.size());
+    Assertions.assertTrue(loadedIdents.isEmpty());
+  }
+
+  @Test
+  void testGetAllOrLoadRelations() {
+    EntityCache cache = getNormalCache();
+    cache.put(
+        entity12.nameIdentifier(),
+        Entity.EntityType.ROLE,
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        ImmutableList.of(entity8));
+
+    List<List<NameIdentifier>> loadedIdents = new ArrayList<>();
+    EntityCache.ThrowingFunction<
+            List<NameIdentifier>, Map<NameIdentifier, List<UserEntity>>, RuntimeException>
+        loader =
+            idents -> {
+              loadedIdents.add(idents);
+              // The second role has no users.
+              Map<NameIdentifier, List<UserEntity>> users = new HashMap<>();
+              idents.forEach(ident -> users.put(ident, ImmutableList.of()));
+              return users;
+            };
+
+    Map<NameIdentifier, List<UserEntity>> usersByRole =
+        cache.getAllOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            ImmutableList.of(entity12.nameIdentifier(), entity13.nameIdentifier()),
+            Entity.EntityType.ROLE,
+            loader);
+    Assertions.assertEquals(ImmutableList.of(entity8), usersByRole.get(entity12.nameIdentifier()));
+    Assertions.assertTrue(usersByRole.get(entity13.nameIdentifier()).isEmpty());
+    Assertions.assertEquals(
+        ImmutableList.of(ImmutableList.of(entity13.nameIdentifier())), loadedIdents);
+    // Like single loads, empty relations are not cached.
+    Assertions.assertFalse(
+        cache.contains(
+            entity13.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+
+    loadedIdents.clear();
+    loader =
+        idents -> {
+          loadedIdents.add(idents);
+          return ImmutableMap.of(entity13.nameIdentifier(), ImmutableList.of(entity9));
+        };
+    usersByRole =
+        cache.getAllOrLoad(
+            SupportsRelationOperations.Type.ROLE_USER_REL,
+            ImmutableList.of(entity13.nameIdentifier()),
+            Entity.EntityType.ROLE,
+            loader);
+    Assertions.assertEquals(ImmutableList.of(entity9), usersByRole.get(entity13.nameIdentifier()));
+    Assertions.assertTrue(
+        cache.contains(
+            entity13.nameIdentifier(),
+            Entity.EntityType.ROLE,
+            SupportsRelationOperations.Type.ROLE_USER_REL));
+  }
+
   private EntityCache getNormalCache() {
     Config config = new Config() {};
     config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.TableChange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogMetadataCache {
+
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+
+  private static final NameIdentifier TABLE =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  @Test
+  public void testDisabledByDefault() {
+    CatalogMetadataCache cache = CatalogMetadataCache.of(Collections.emptyMap());
+    Assertions.assertSame(CatalogMetadataCache.DISABLED, cache);
+    Assertions.assertFalse(cache.isEnabled());
+
+    AtomicInteger loads = new AtomicInteger();
+    cache.get(TABLE, String.class, () -> "v" + loads.incrementAndGet());
+    cache.get(TABLE, String.class, () -> "v" + loads.incrementAndGet());
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testInvalidProperties() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CatalogMetadataCache.of(
+                ImmutableMap.of(
+                    BaseCatalog.METADATA_CACHE_ENABLED,
+                    "true",
+                    BaseCatalog.METADATA_CACHE_TTL_MS,
+                    "0")));
+  }
+
+  @Test
+  public void testExpire() {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.of(
+            ImmutableMap.of(
+                BaseCatalog.METADATA_CACHE_ENABLED,
+                "true",
+                BaseCatalog.METADATA_CACHE_TTL_MS,
+                "200"));
+
+    AtomicInteger loads = new AtomicInteger();
+    Assertions.assertEquals(
+        "v1", cache.get(TABLE, String.class, () -> "v" + loads.incrementAndGet()));
+    Assertions.assertEquals(
+        "v1", cache.get(TABLE, String.class, () -> "v" + loads.incrementAndGet()));
+
+    await().atMost(Duration.ofSeconds(5)).until(() -> cache.size() == 0);
+    Assertions.assertEquals(
+        "v2", cache.get(TABLE, String.class, () -> "v" + loads.incrementAndGet()));
+  }
+
+  @Test
+  public void testCacheNotFound() {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.of(
+            ImmutableMap.of(
+                BaseCatalog.METADATA_CACHE_ENABLED,
+                "true",
+                BaseCatalog.METADATA_CACHE_NOT_FOUND_ENABLED,
+                "true"));
+
+    AtomicInteger loads = new AtomicInteger();
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(
+          NoSuchTableException.class,
+          () ->
+              cache.get(
+                  TABLE,
+                  String.class,
+                  () -> {
+                    loads.incrementAndGet();
+                    throw new NoSuchTableException("Table %s does not exist", TABLE);
+                  }));
+    }
+    Assertions.assertEquals(1, loads.get());
+
+    cache.invalidate(TABLE);
+    Assertions.assertEquals("v", cache.get(TABLE, String.class, () -> "v"));
+
+    // The objects not found are not cached by default.
+    CatalogMetadataCache noNegativeCache =
+        CatalogMetadataCache.of(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () ->
+            noNegativeCache.get(
+                TABLE,
+                String.class,
+                () -> {
+                  throw new NoSuchTableException("Table %s does not exist", TABLE);
+                }));
+    Assertions.assertEquals("v", noNegativeCache.get(TABLE, String.class, () -> "v"));
+  }
+
+  @Test
+  public void testInvalidateSchema() {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.of(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+    NameIdentifier otherTable = NameIdentifier.of("metalake", "catalog", "schema2", "table");
+
+    cache.get(SCHEMA, String.class, () -> "schema");
+    cache.get(TABLE, String.class, () -> "table");
+    cache.get(otherTable, String.class, () -> "table");
+    Assertions.assertEquals(3, cache.size());
+
+    cache.invalidate(SCHEMA);
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals("table", cache.get(otherTable, String.class, () -> "reloaded"));
+  }
+
+  @Test
+  public void testInvalidateWhileLoading() {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.of(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+
+    String loaded =
+        cache.get(
+            TABLE,
+            String.class,
+            () -> {
+              // The table is altered while the stale metadata is being loaded.
+              cache.invalidate(TABLE);
+              return "stale";
+            });
+    Assertions.assertEquals("stale", loaded);
+    Assertions.assertEquals("fresh", cache.get(TABLE, String.class, () -> "fresh"));
+  }
+
+  @Test
+  public void testCachedTableCatalog() {
+    CatalogMetadataCache cache =
+        CatalogMetadataCache.of(ImmutableMap.of(BaseCatalog.METADATA_CACHE_ENABLED, "true"));
+    TableCatalog delegate = mock(TableCatalog.class);
+    Table table = mock(Table.class);
+    when(delegate.loadTable(any())).thenReturn(table);
+    TableCatalog tableCatalog = new CachedTableCatalog(delegate, cache);
+
+    Assertions.assertSame(table, tableCatalog.loadTable(TABLE));
+    Assertions.assertSame(table, tableCatalog.loadTable(TABLE));
+    verify(delegate, times(1)).loadTable(TABLE);
+
+    // Altering the table through Gravitino invalidates both the old and the new name.
+    NameIdentifier renamed = NameIdentifier.of(TABLE.namespace(), "renamed");
+    tableCatalog.loadTable(renamed);
+    tableCatalog.alterTable(TABLE, TableChange.rename("renamed"));
+    Assertions.assertEquals(0, cache.size());
+
+    tableCatalog.loadTable(TABLE);
+    verify(delegate, times(2)).loadTable(TABLE);
+
+    tableCatalog.dropTable(TABLE);
+    tableCatalog.loadTable(TABLE);
+    verify(delegate, times(3)).loadTable(TABLE);
+  }
+}
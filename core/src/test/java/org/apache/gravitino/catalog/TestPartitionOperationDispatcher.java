@@ -18,12 +18,14 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -35,6 +37,7 @@ import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.utils.IsolatedClassLoader;
@@ -88,6 +91,7 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(
         GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
@@ -113,6 +117,21 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(Arrays.asList(partitions).contains(PARTITION));
   }
 
+  @Test
+  public void testListPartitionPages() {
+    PartitionPage<String> namePage =
+        partitionOperationDispatcher.listPartitionNames(TABLE_IDENT, "col1=v1", null, 10);
+    Assertions.assertEquals(ImmutableList.of(PARTITION.name()), namePage.items());
+    Assertions.assertNull(namePage.nextPageToken());
+
+    PartitionPage<Partition> page =
+        partitionOperationDispatcher.listPartitions(TABLE_IDENT, "col1=v1", null, 10);
+    Assertions.assertEquals(ImmutableList.of(PARTITION), page.items());
+
+    page = partitionOperationDispatcher.listPartitions(TABLE_IDENT, "col1=v9", null, 10);
+    Assertions.assertTrue(page.items().isEmpty());
+  }
+
   @Test
   public void testGetPartition() {
     Partition p = partitionOperationDispatcher.getPartition(TABLE_IDENT, PARTITION.name());
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -25,6 +26,7 @@ import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
@@ -34,6 +36,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
@@ -42,10 +46,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -59,6 +65,7 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
@@ -84,6 +91,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(
         GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
@@ -396,6 +404,178 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertTrue(entityStore.exists(tableIdent, TABLE));
   }
 
+  @Test
+  public void testImportTablesInBackground() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema191");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+
+    // The first table is created by Gravitino, the others are created outside Gravitino.
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table1");
+    tableOperationDispatcher.createTable(tableIdent1, columns, "comment", props);
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    List<NameIdentifier> externalTableIdents = Lists.newArrayList();
+    for (int i = 2; i <= 6; i++) {
+      NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table" + i);
+      testCatalogOperations.createTable(tableIdent, columns, "comment", Collections.emptyMap());
+      externalTableIdents.add(tableIdent);
+    }
+
+    Config config = mock(Config.class);
+    doReturn(true).when(config).get(Configs.TABLE_BULK_IMPORT_ENABLED);
+    doReturn(2).when(config).get(Configs.TABLE_BULK_IMPORT_BATCH_SIZE);
+    doReturn(0L).when(config).get(Configs.TABLE_BULK_IMPORT_BATCH_INTERVAL_MS);
+    doReturn(1).when(config).get(Configs.TABLE_BULK_IMPORT_THREADS);
+    try (TableImporter tableImporter = new TableImporter(config)) {
+      TableOperationDispatcher dispatcher =
+          new TableOperationDispatcher(catalogManager, entityStore, idGenerator, tableImporter);
+      Assertions.assertEquals(6, dispatcher.listTables(tableNs).length);
+
+      await()
+          .atMost(30, TimeUnit.SECONDS)
+          .until(
+              () ->
+                  tableImporter
+                          .metricsSource()
+                          .getCounter(MetricNames.TABLE_IMPORT_IMPORTED_TABLES)
+                          .getCount()
+                      == 5);
+      for (NameIdentifier tableIdent : externalTableIdents) {
+        TableEntity tableEntity = entityStore.get(tableIdent, TABLE, TableEntity.class);
+        Assertions.assertEquals("test", tableEntity.auditInfo().creator());
+        Assertions.assertEquals(1, tableEntity.columns().size());
+      }
+      Assertions.assertEquals(
+          1,
+          tableImporter
+              .metricsSource()
+              .getCounter(MetricNames.TABLE_IMPORT_SKIPPED_TABLES)
+              .getCount());
+
+      // The schema is only imported once.
+      dispatcher.listTables(tableNs);
+      Assertions.assertEquals(
+          5,
+          tableImporter
+              .metricsSource()
+              .getCounter(MetricNames.TABLE_IMPORT_IMPORTED_TABLES)
+              .getCount());
+
+      // The imported tables are loaded without importing them again.
+      Table table = dispatcher.loadTable(externalTableIdents.get(0));
+      Assertions.assertEquals("test", table.auditInfo().creator());
+    }
+  }
+
+  @Test
+  public void testListTablesInfo() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema201");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+
+    // The first table is created by Gravitino, the second one is created outside Gravitino.
+    tableOperationDispatcher.createTable(
+        NameIdentifier.of(tableNs, "table1"), columns, "comment", props);
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    testCatalogOperations.createTable(
+        NameIdentifier.of(tableNs, "table2"), columns, "comment", Collections.emptyMap());
+
+    Map<String, Table> tables =
+        Arrays.stream(tableOperationDispatcher.listTablesInfo(tableNs))
+            .collect(Collectors.toMap(Table::name, t -> t));
+    Assertions.assertEquals(ImmutableSet.of("table1", "table2"), tables.keySet());
+
+    EntityCombinedTable table1 = (EntityCombinedTable) tables.get("table1");
+    Assertions.assertTrue(table1.imported());
+    Assertions.assertFalse(table1.properties().containsKey(ID_KEY));
+    testProperties(props, table1.properties());
+    Assertions.assertArrayEquals(columns, table1.columns());
+
+    EntityCombinedTable table2 = (EntityCombinedTable) tables.get("table2");
+    Assertions.assertFalse(table2.imported());
+    Assertions.assertEquals("test", table2.auditInfo().creator());
+    Assertions.assertFalse(entityStore.exists(NameIdentifier.of(tableNs, "table2"), TABLE));
+  }
+
+  @Test
+  public void testImportFetchedTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema202");
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(tableNs.levels()), "comment", Collections.emptyMap());
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table1");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table2");
+    testCatalogOperations.createTable(tableIdent1, columns, "comment", Collections.emptyMap());
+    testCatalogOperations.createTable(tableIdent2, columns, "comment", Collections.emptyMap());
+
+    Config config = mock(Config.class);
+    doReturn(true).when(config).get(Configs.TABLE_BULK_IMPORT_ENABLED);
+    doReturn(2).when(config).get(Configs.TABLE_BULK_IMPORT_BATCH_SIZE);
+    doReturn(0L).when(config).get(Configs.TABLE_BULK_IMPORT_BATCH_INTERVAL_MS);
+    doReturn(1).when(config).get(Configs.TABLE_BULK_IMPORT_THREADS);
+    try (TableImporter tableImporter = new TableImporter(config)) {
+      TableOperationDispatcher dispatcher =
+          new TableOperationDispatcher(catalogManager, entityStore, idGenerator, tableImporter);
+
+      // The tables fetched by the listing are imported without loading them from the catalog.
+      Table[] tables = dispatcher.listTablesInfo(tableNs);
+      Assertions.assertEquals(2, tables.length);
+      await()
+          .atMost(30, TimeUnit.SECONDS)
+          .until(
+              () ->
+                  tableImporter
+                          .metricsSource()
+                          .getCounter(MetricNames.TABLE_IMPORT_IMPORTED_TABLES)
+                          .getCount()
+                      == 2);
+      Assertions.assertTrue(entityStore.exists(tableIdent1, TABLE));
+      Assertions.assertTrue(entityStore.exists(tableIdent2, TABLE));
+
+      // A fetched table is imported even if it's not in the catalog anymore, the catalog is not
+      // asked for it again.
+      NameIdentifier tableIdent3 = NameIdentifier.of(tableNs, "table3");
+      Table table3 =
+          testCatalogOperations.createTable(
+              tableIdent3, columns, "comment", Collections.emptyMap());
+      testCatalogOperations.dropTable(tableIdent3);
+      dispatcher.importTables(tableNs, new Table[] {table3});
+      TableEntity tableEntity = entityStore.get(tableIdent3, TABLE, TableEntity.class);
+      Assertions.assertEquals("test", tableEntity.auditInfo().creator());
+      Assertions.assertEquals(1, tableEntity.columns().size());
+    }
+  }
+
   @Test
   public void testCreateAndLoadTableWithColumn() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema91");
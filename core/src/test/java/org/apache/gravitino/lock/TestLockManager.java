@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -72,6 +73,7 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(60L);
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(0L);
     return config;
   }
 
@@ -571,11 +573,13 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(20000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(2000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(2000L);
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(3000L);
 
     LockManager manager = new LockManager(config);
     Assertions.assertEquals(20000L, manager.maxTreeNodeInMemory);
     Assertions.assertEquals(2000L, manager.minTreeNodeInMemory);
     Assertions.assertEquals(2000L, manager.cleanTreeNodeIntervalInSecs);
+    Assertions.assertEquals(3000L, manager.acquireTimeoutMs);
   }
 
   @Test
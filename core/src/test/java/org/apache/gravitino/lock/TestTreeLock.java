@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.lock.TestLockManager.getConfig;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,15 @@ import static org.mockito.Mockito.doThrow;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -83,9 +93,12 @@ class TestTreeLock {
     TreeLockNode mockNode1 = Mockito.mock(TreeLockNode.class);
     TreeLockNode mockNode2 = Mockito.mock(TreeLockNode.class);
     TreeLockNode mockNode3 = Mockito.mock(TreeLockNode.class);
+    Mockito.when(mockNode1.lockIntention(Mockito.anyLong())).thenReturn(true);
 
     // Mock the lock method of the second node to throw an exception
-    doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
+    doThrow(new RuntimeException("Mock exception"))
+        .when(mockNode2)
+        .lockIntention(Mockito.anyLong());
 
     List<TreeLockNode> lockNodes = Arrays.asList(mockNode1, mockNode2, mockNode3);
     TreeLock treeLock = new TreeLock(lockNodes, TestLockManager.randomNameIdentifier());
@@ -96,10 +109,163 @@ class TestTreeLock {
         "Expected lock to throw, but it didn't");
 
     // Verify that the first node was unlocked
-    Mockito.verify(mockNode1, Mockito.times(1)).unlock(Mockito.any());
+    Mockito.verify(mockNode1, Mockito.times(1)).unlockIntention();
 
-    // Verify that the second and third nodes were not unlocked
-    Mockito.verify(mockNode2, Mockito.never()).unlock(Mockito.any());
+    // Verify that the second and third nodes were not unlocked, but their references are released
+    Mockito.verify(mockNode2, Mockito.never()).unlockIntention();
     Mockito.verify(mockNode3, Mockito.never()).unlock(Mockito.any());
+    Mockito.verify(mockNode2, Mockito.times(1)).decReference();
+    Mockito.verify(mockNode3, Mockito.times(1)).decReference();
+  }
+
+  @Test
+  void testLockTimeout() {
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(100L);
+    LockManager timedLockManager = new LockManager(config);
+    TreeLock writeLock = timedLockManager.createTreeLock(schema);
+    writeLock.lock(LockType.WRITE);
+
+    TreeLock blocked = timedLockManager.createTreeLock(table);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> future = executor.submit(() -> blocked.lock(LockType.READ));
+      ExecutionException e = assertThrows(ExecutionException.class, future::get);
+      Assertions.assertInstanceOf(TreeLockTimeoutException.class, e.getCause());
+    } finally {
+      executor.shutdownNow();
+      writeLock.unlock();
+    }
+
+    // The references of the nodes which were not locked are released as well.
+    TreeLock readLock = timedLockManager.createTreeLock(table);
+    readLock.lock(LockType.READ);
+    readLock.unlock();
+    Assertions.assertEquals(0, timedLockManager.treeLockRootNode.getReference());
+    Assertions.assertEquals(
+        0,
+        timedLockManager
+            .treeLockRootNode
+            .childMap
+            .get("metalake")
+            .childMap
+            .get("catalog")
+            .childMap
+            .get("schema")
+            .getReference());
+  }
+
+  @Test
+  void testWriteLockWaitsForDescendants() throws Exception {
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLock tableLock = lockManager.createTreeLock(table);
+    tableLock.lock(LockType.READ);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch schemaLocked = new CountDownLatch(1);
+    try {
+      Future<?> future =
+          executor.submit(
+              () -> {
+                TreeLock schemaLock = lockManager.createTreeLock(schema);
+                schemaLock.lock(LockType.WRITE);
+                schemaLocked.countDown();
+                schemaLock.unlock();
+              });
+
+      // The schema can't be write locked while a table under it is locked.
+      Assertions.assertFalse(schemaLocked.await(200, TimeUnit.MILLISECONDS));
+      tableLock.unlock();
+      future.get(10, TimeUnit.SECONDS);
+      Assertions.assertEquals(0, schemaLocked.getCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testReentrantLockUnderWriteLock() {
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLock schemaLock = lockManager.createTreeLock(schema);
+    schemaLock.lock(LockType.WRITE);
+    try {
+      // The thread holding the write lock of the schema can still lock the resources under it.
+      assertDoesNotThrow(
+          () -> {
+            TreeLock tableLock = lockManager.createTreeLock(table);
+            tableLock.lock(LockType.WRITE);
+            TreeLock nestedSchemaLock = lockManager.createTreeLock(schema);
+            nestedSchemaLock.lock(LockType.WRITE);
+            nestedSchemaLock.unlock();
+            tableLock.unlock();
+          });
+    } finally {
+      schemaLock.unlock();
+    }
+  }
+
+  @Test
+  void testNestedLockUnderPendingWriter() throws Exception {
+    NameIdentifier metalake = NameIdentifier.of("metalake");
+    NameIdentifier user = NameIdentifier.of("metalake", "system", "user", "user1");
+    NameIdentifier role = NameIdentifier.of("metalake", "system", "role", "role1");
+    NameIdentifier catalog = NameIdentifier.of("metalake", "catalog");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    CountDownLatch userLocked = new CountDownLatch(1);
+    CountDownLatch writerPending = new CountDownLatch(1);
+    try {
+      Future<?> nested =
+          executor.submit(
+              () -> {
+                TreeLock userLock = lockManager.createTreeLock(user);
+                userLock.lock(LockType.WRITE);
+                try {
+                  userLocked.countDown();
+                  writerPending.await();
+
+                  // The writer of the metalake waits for the intentions of this thread, the
+                  // nested locks on the shared ancestors must not wait for the writer.
+                  TreeLock roleLock = lockManager.createTreeLock(role);
+                  roleLock.lock(LockType.READ);
+                  TreeLock catalogLock = lockManager.createTreeLock(catalog);
+                  catalogLock.lock(LockType.READ);
+                  TreeLock metalakeLock = lockManager.createTreeLock(metalake);
+                  metalakeLock.lock(LockType.READ);
+                  metalakeLock.unlock();
+                  catalogLock.unlock();
+                  roleLock.unlock();
+                } finally {
+                  userLock.unlock();
+                }
+                return null;
+              });
+      userLocked.await();
+
+      Future<?> writer =
+          executor.submit(
+              () -> {
+                TreeLock metalakeLock = lockManager.createTreeLock(metalake);
+                metalakeLock.lock(LockType.WRITE);
+                metalakeLock.unlock();
+              });
+      TreeLockNode metalakeNode = lockManager.treeLockRootNode.childMap.get("metalake");
+      while (!metalakeNode.isWriteLocked()) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+      writerPending.countDown();
+
+      nested.get(10, TimeUnit.SECONDS);
+      writer.get(10, TimeUnit.SECONDS);
+      Assertions.assertEquals(0, metalakeNode.getIntentionCount());
+      Assertions.assertEquals(0, metalakeNode.getReadLockCount());
+      Assertions.assertFalse(metalakeNode.isWriteLocked());
+    } finally {
+      writerPending.countDown();
+      executor.shutdownNow();
+    }
   }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.lock.TestLockManager.getConfig;
+
+import com.codahale.metrics.Timer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTreeLockMonitor {
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+  private static final NameIdentifier TABLE =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  @Test
+  void testHoldTime() {
+    LockManager lockManager = new LockManager(getConfig());
+    TreeLock lock = lockManager.createTreeLock(TABLE);
+    lock.lock(LockType.READ);
+    lock.unlock();
+
+    Assertions.assertEquals(1, timer(lockManager, "hold-time.entity.read").getCount());
+    Assertions.assertEquals(0, timer(lockManager, "hold-time.entity.write").getCount());
+    // Uncontended acquisitions are not recorded.
+    Assertions.assertEquals(0, timer(lockManager, "wait-time.entity.read").getCount());
+    Assertions.assertEquals(0, lockManager.monitor.topContendedIdentifiers(10).length);
+    Assertions.assertEquals("", lockManager.monitor.dumpLocks());
+  }
+
+  @Test
+  void testContendedLock() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    TreeLock schemaLock = lockManager.createTreeLock(SCHEMA);
+    schemaLock.lock(LockType.WRITE);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> future =
+          executor.submit(
+              () -> {
+                TreeLock tableLock = lockManager.createTreeLock(TABLE);
+                tableLock.lock(LockType.READ);
+                tableLock.unlock();
+              });
+
+      // The reader waits for the intention on the schema held by the writer.
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> lockManager.monitor.dumpLocks().contains("INTENTION"));
+      String dump = lockManager.monitor.dumpLocks();
+      Assertions.assertTrue(dump.contains("/metalake/catalog/schema"), dump);
+      Assertions.assertTrue(dump.contains("writeLocked=true"), dump);
+      Assertions.assertTrue(dump.contains("holder: "), dump);
+      Assertions.assertEquals(
+          1, lockManager.monitor.metricsSource().acquiringThreads(3).sum(), dump);
+
+      Thread.sleep(TimeUnit.NANOSECONDS.toMillis(TreeLockMonitor.CONTENDED_WAIT_NANOS) + 10);
+      schemaLock.unlock();
+      future.get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(1, timer(lockManager, "wait-time.schema.intention").getCount());
+    Assertions.assertEquals(1, timer(lockManager, "hold-time.schema.write").getCount());
+    Assertions.assertEquals(0, lockManager.monitor.metricsSource().acquiringThreads(3).sum());
+
+    String[] contended = lockManager.monitor.topContendedIdentifiers(10);
+    Assertions.assertEquals(1, contended.length);
+    Assertions.assertTrue(contended[0].startsWith(SCHEMA + " contended=1"), contended[0]);
+    Assertions.assertEquals("", lockManager.monitor.dumpLocks());
+  }
+
+  private static Timer timer(LockManager lockManager, String name) {
+    return lockManager.monitor.metricsSource().getMetricRegistry().getTimers().get(name);
+  }
+}
@@ -205,4 +205,73 @@ public class TestColumnEntity {
     Assertions.assertEquals(columns, tableEntity.columns());
     Assertions.assertEquals(3, tableEntity.columns().size());
   }
+
+  @Test
+  public void testSameColumns() {
+    Column[] columns =
+        new Column[] {
+          Column.of("col1", Types.IntegerType.get(), "comment1"),
+          Column.of(
+              "col2", Types.StringType.get(), null, false, false, Literals.stringLiteral("v")),
+          Column.of("col3", Types.DecimalType.of(10, 2), "comment3")
+        };
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+    List<ColumnEntity> columnEntities =
+        Arrays.asList(
+            ColumnEntity.toColumnEntity(columns[0], 0, 1L, auditInfo),
+            ColumnEntity.toColumnEntity(columns[1], 1, 2L, auditInfo),
+            ColumnEntity.toColumnEntity(columns[2], 2, 3L, auditInfo));
+
+    // The ids and audit info of the column entities don't matter.
+    Assertions.assertTrue(ColumnEntity.sameColumns(columns, columnEntities));
+    Assertions.assertTrue(ColumnEntity.sameColumns(new Column[0], null));
+
+    Column[] columnsWithNewComment = columns.clone();
+    columnsWithNewComment[0] = Column.of("col1", Types.IntegerType.get(), "new comment");
+    Assertions.assertFalse(ColumnEntity.sameColumns(columnsWithNewComment, columnEntities));
+
+    Column[] columnsWithNewType = columns.clone();
+    columnsWithNewType[2] = Column.of("col3", Types.DecimalType.of(12, 2), "comment3");
+    Assertions.assertFalse(ColumnEntity.sameColumns(columnsWithNewType, columnEntities));
+
+    Column[] reorderedColumns = new Column[] {columns[1], columns[0], columns[2]};
+    Assertions.assertFalse(ColumnEntity.sameColumns(reorderedColumns, columnEntities));
+
+    Column[] droppedColumns = new Column[] {columns[0], columns[1]};
+    Assertions.assertFalse(ColumnEntity.sameColumns(droppedColumns, columnEntities));
+
+    // The entities are expected in position order, other orders are reported as different.
+    List<ColumnEntity> unorderedEntities =
+        Arrays.asList(columnEntities.get(2), columnEntities.get(0), columnEntities.get(1));
+    Assertions.assertFalse(ColumnEntity.sameColumns(columns, unorderedEntities));
+  }
+
+  @Test
+  public void testColumnsWithSameLengthTypes() {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+    Column[] columns = new Column[] {Column.of("col1", Types.VarCharType.of(10), "comment1")};
+    List<ColumnEntity> columnEntities =
+        Arrays.asList(ColumnEntity.toColumnEntity(columns[0], 0, 1L, auditInfo));
+    Assertions.assertTrue(ColumnEntity.sameColumns(columns, columnEntities));
+    Assertions.assertTrue(ColumnEntity.sameColumns(null, null));
+
+    // Only the kind of the type changes, the length stays the same.
+    Column[] fixedCharColumns =
+        new Column[] {Column.of("col1", Types.FixedCharType.of(10), "comment1")};
+    Column[] fixedColumns = new Column[] {Column.of("col1", Types.FixedType.of(10), "comment1")};
+    Assertions.assertFalse(ColumnEntity.sameColumns(fixedCharColumns, columnEntities));
+    Assertions.assertFalse(ColumnEntity.sameColumns(fixedColumns, columnEntities));
+
+    // Positions must map one to one onto the columns.
+    Column[] twoColumns =
+        new Column[] {columns[0], Column.of("col2", Types.IntegerType.get(), "comment2")};
+    List<ColumnEntity> duplicatedPositions =
+        Arrays.asList(
+            ColumnEntity.toColumnEntity(twoColumns[0], 0, 1L, auditInfo),
+            ColumnEntity.toColumnEntity(twoColumns[0], 0, 2L, auditInfo));
+    Assertions.assertFalse(ColumnEntity.sameColumns(twoColumns, duplicatedPositions));
+    Assertions.assertFalse(ColumnEntity.sameColumns(twoColumns, columnEntities));
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  @Test
+  void testIdLayout() {
+    long now = System.currentTimeMillis();
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, () -> now);
+
+    long id1 = generator.nextId();
+    long id2 = generator.nextId();
+    Assertions.assertTrue(id1 > 0);
+    Assertions.assertEquals(id1 + 1, id2);
+    Assertions.assertEquals(now, SnowflakeIdGenerator.timestampOf(id1));
+    Assertions.assertEquals(5, SnowflakeIdGenerator.nodeIdOf(id1));
+  }
+
+  @Test
+  void testInvalidNodeId() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  @Test
+  void testDifferentNodesDoNotConflict() {
+    long now = System.currentTimeMillis();
+    SnowflakeIdGenerator generator1 = new SnowflakeIdGenerator(1, () -> now);
+    SnowflakeIdGenerator generator2 = new SnowflakeIdGenerator(2, () -> now);
+    for (int i = 0; i < 10_000; i++) {
+      Assertions.assertNotEquals(generator1.nextId(), generator2.nextId());
+    }
+  }
+
+  @Test
+  void testSequenceOverflow() throws Exception {
+    AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+    long last = 0;
+    for (int i = 0; i < 1 << SnowflakeIdGenerator.SEQUENCE_BITS; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > last);
+      Assertions.assertEquals(clock.get(), SnowflakeIdGenerator.timestampOf(id));
+      last = id;
+    }
+
+    // The sequence of the millisecond is exhausted, the next id waits for the clock instead of
+    // using the next millisecond ahead of it.
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Long> next = executor.submit(generator::nextId);
+      Thread.sleep(100);
+      Assertions.assertFalse(next.isDone());
+
+      clock.incrementAndGet();
+      long id = next.get();
+      Assertions.assertTrue(id > last);
+      Assertions.assertEquals(clock.get(), SnowflakeIdGenerator.timestampOf(id));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testClockBackwards() {
+    long start = System.currentTimeMillis();
+    AtomicLong clock = new AtomicLong(start);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::getAndIncrement);
+    long last = generator.nextId();
+
+    // The generator waits until the clock catches up with the last id.
+    clock.set(start - 100);
+    long id = generator.nextId();
+    Assertions.assertTrue(id > last);
+    Assertions.assertTrue(SnowflakeIdGenerator.timestampOf(id) <= clock.get());
+
+    // A clock going too far backwards fails the generation.
+    clock.set(start - SnowflakeIdGenerator.MAX_CLOCK_BACKWARDS_MS - 1_000);
+    Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+  }
+
+  @Test
+  void testConcurrentNextId() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    int threads = 8;
+    int idsPerThread = 50_000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  long last = 0;
+                  for (int j = 0; j < idsPerThread; j++) {
+                    long id = generator.nextId();
+                    Assertions.assertTrue(id > last);
+                    ids.add(id);
+                    last = id;
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assertions.assertEquals(threads * idsPerThread, ids.size());
+  }
+
+  @Test
+  void testCreateIdGenerator() {
+    Config config = new Config(false) {};
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    // The node id is required by the snowflake id generator.
+    config.set(Configs.ID_GENERATOR, "snowflake");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> IdGeneratorFactory.createIdGenerator(config));
+
+    config.set(Configs.ID_GENERATOR_NODE_ID, 7);
+    IdGenerator idGenerator = IdGeneratorFactory.createIdGenerator(config);
+    Assertions.assertInstanceOf(SnowflakeIdGenerator.class, idGenerator);
+    long id = idGenerator.nextId();
+    Assertions.assertEquals(7, SnowflakeIdGenerator.nodeIdOf(id));
+
+    config.set(Configs.ID_GENERATOR, "unknown");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> IdGeneratorFactory.createIdGenerator(config));
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.apache.gravitino.storage.TestEntityStorage.createBaseMakeLake;
+import static org.apache.gravitino.storage.TestEntityStorage.createCatalog;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Two entity stores sharing one H2 database, as two servers sharing one relational store. */
+public class TestRelationalCacheSyncer {
+
+  private static final String JDBC_STORE_PATH =
+      "/tmp/gravitino_jdbc_entityStore_" + UUID.randomUUID().toString().replace("-", "");
+  private static final String DB_DIR = JDBC_STORE_PATH + "/testdb";
+  private static final Config config = Mockito.mock(Config.class);
+
+  private static final String METALAKE = "metalake_for_cache_sync_test";
+  private static final Namespace CATALOG_NAMESPACE = Namespace.of(METALAKE);
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+  private static final RandomIdGenerator ID_GENERATOR = new RandomIdGenerator();
+
+  private static RelationalEntityStore storeA;
+  private static RelationalEntityStore storeB;
+  private static RelationalCacheSyncer syncerA;
+  private static RelationalCacheSyncer syncerB;
+  private static EntityCache cacheA;
+  private static EntityCache cacheB;
+
+  @BeforeAll
+  public static void setUp() throws IOException, IllegalAccessException {
+    File dbDir = new File(DB_DIR);
+    dbDir.mkdirs();
+
+    Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", DB_DIR));
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_MAX_ENTRIES)).thenReturn(100_000);
+    Mockito.when(config.get(Configs.ENTITY_ID_CACHE_EXPIRATION_TIME)).thenReturn(3_600_000L);
+    Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_MAX_ENTRIES)).thenReturn(10_000);
+    Mockito.when(config.get(Configs.CACHE_EXPIRATION_TIME)).thenReturn(3_600_000L);
+    Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_SEGMENTS)).thenReturn(64);
+    // The tests poll the changes themselves.
+    Mockito.when(config.get(Configs.CACHE_SYNC_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.CACHE_SYNC_INTERVAL_MS)).thenReturn(3_600_000L);
+    Mockito.when(config.get(Configs.CACHE_SYNC_RETENTION_MS)).thenReturn(3_600_000L);
+
+    storeA = new RelationalEntityStore();
+    storeA.initialize(config);
+    storeB = new RelationalEntityStore();
+    storeB.initialize(config);
+    syncerA = (RelationalCacheSyncer) FieldUtils.readField(storeA, "cacheSyncer", true);
+    syncerB = (RelationalCacheSyncer) FieldUtils.readField(storeB, "cacheSyncer", true);
+    cacheA = (EntityCache) FieldUtils.readField(storeA, "cache", true);
+    cacheB = (EntityCache) FieldUtils.readField(storeB, "cache", true);
+
+    storeA.put(createBaseMakeLake(ID_GENERATOR.nextId(), METALAKE, AUDIT_INFO), false);
+  }
+
+  @AfterAll
+  public static void tearDown() throws IOException {
+    if (storeB != null) {
+      storeB.close();
+      storeB = null;
+    }
+    if (storeA != null) {
+      storeA.close();
+      storeA = null;
+    }
+
+    FileUtils.deleteDirectory(new File(JDBC_STORE_PATH));
+  }
+
+  @Test
+  public void testUpdateOnPeer() throws IOException {
+    CatalogEntity catalog = putCatalog("catalog_update");
+    NameIdentifier ident = catalog.nameIdentifier();
+    syncerB.poll();
+    Assertions.assertEquals("", getCatalogFromB(ident).getComment());
+
+    storeA.update(
+        ident,
+        CatalogEntity.class,
+        Entity.EntityType.CATALOG,
+        e ->
+            CatalogEntity.builder()
+                .withId(e.id())
+                .withName(e.name())
+                .withNamespace(e.namespace())
+                .withType(e.getType())
+                .withProvider(e.getProvider())
+                .withComment("updated")
+                .withProperties(e.getProperties())
+                .withAuditInfo(AUDIT_INFO)
+                .build());
+    // Store B serves the entity from its cache until it polls the change.
+    Assertions.assertEquals("", getCatalogFromB(ident).getComment());
+
+    syncerB.poll();
+    Assertions.assertFalse(cacheB.contains(ident, Entity.EntityType.CATALOG));
+    Assertions.assertEquals("updated", getCatalogFromB(ident).getComment());
+  }
+
+  @Test
+  public void testListingAndDeleteOnPeer() throws IOException {
+    putCatalog("catalog_listed");
+    syncerB.poll();
+    Assertions.assertTrue(listCatalogNamesFromB().contains("catalog_listed"));
+
+    CatalogEntity added = putCatalog("catalog_added");
+    Assertions.assertFalse(listCatalogNamesFromB().contains("catalog_added"));
+    syncerB.poll();
+    Assertions.assertTrue(listCatalogNamesFromB().contains("catalog_added"));
+
+    Assertions.assertTrue(storeA.delete(added.nameIdentifier(), Entity.EntityType.CATALOG, true));
+    syncerB.poll();
+    Assertions.assertFalse(listCatalogNamesFromB().contains("catalog_added"));
+    Assertions.assertFalse(storeB.exists(added.nameIdentifier(), Entity.EntityType.CATALOG));
+  }
+
+  @Test
+  public void testOwnChangesAreSkipped() throws IOException {
+    CatalogEntity catalog = putCatalog("catalog_own");
+    Assertions.assertTrue(cacheA.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+
+    syncerA.poll();
+    Assertions.assertTrue(cacheA.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+  }
+
+  @Test
+  public void testSkippedChangeIsPolledAgain() throws IOException, SQLException {
+    CatalogEntity catalog = putCatalog("catalog_gap");
+    NameIdentifier ident = catalog.nameIdentifier();
+    syncerB.poll();
+    getCatalogFromB(ident);
+
+    long lastId = EntityChangeLogService.getInstance().getMaxChangeId();
+    syncerA.recordChange(ident, Entity.EntityType.CATALOG, null);
+    syncerA.recordChange(NameIdentifier.of(METALAKE, "not_exist"), Entity.EntityType.CATALOG, null);
+    Assertions.assertEquals(lastId + 2, EntityChangeLogService.getInstance().getMaxChangeId());
+
+    // Hide the first change, as if its insert was not committed when store B polled.
+    executeUpdate(
+        String.format(
+            "DELETE FROM %s WHERE id = %d", EntityChangeLogMapper.TABLE_NAME, lastId + 1));
+    syncerB.poll();
+    Assertions.assertTrue(cacheB.contains(ident, Entity.EntityType.CATALOG));
+
+    executeUpdate(
+        String.format(
+            "INSERT INTO %s (id, node_id, entity_type, entity_ident, relation_type, created_at)"
+                + " VALUES (%d, 'another_node', 'CATALOG', '[\"%s\",\"%s\"]', NULL, %d)",
+            EntityChangeLogMapper.TABLE_NAME,
+            lastId + 1,
+            METALAKE,
+            ident.name(),
+            System.currentTimeMillis()));
+    syncerB.poll();
+    Assertions.assertFalse(cacheB.contains(ident, Entity.EntityType.CATALOG));
+  }
+
+  private static CatalogEntity putCatalog(String name) throws IOException {
+    CatalogEntity catalog =
+        createCatalog(ID_GENERATOR.nextId(), CATALOG_NAMESPACE, name, AUDIT_INFO);
+    storeA.put(catalog, false);
+    return catalog;
+  }
+
+  private static CatalogEntity getCatalogFromB(NameIdentifier ident) throws IOException {
+    return storeB.get(ident, Entity.EntityType.CATALOG, CatalogEntity.class);
+  }
+
+  private static Set<String> listCatalogNamesFromB() throws IOException {
+    return storeB.list(CATALOG_NAMESPACE, CatalogEntity.class, Entity.EntityType.CATALOG).stream()
+        .map(CatalogEntity::name)
+        .collect(Collectors.toSet());
+  }
+
+  private static void executeUpdate(String sql) throws SQLException {
+    try (SqlSession sqlSession =
+            SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
+        Connection connection = sqlSession.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate(sql);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.helper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityIdCache {
+  private final EntityIdCache cache = EntityIdCache.getInstance();
+
+  @BeforeEach
+  void init() {
+    cache.initialize(new Config(false) {});
+  }
+
+  @AfterEach
+  void cleanUp() {
+    cache.close();
+  }
+
+  @Test
+  void testDisabled() {
+    Config config = new Config(false) {};
+    config.set(Configs.ENTITY_ID_CACHE_ENABLED, false);
+    cache.initialize(config);
+    Assertions.assertFalse(cache.isEnabled());
+
+    AtomicInteger loads = new AtomicInteger();
+    cache.getMetalakeId("m1", () -> (long) loads.incrementAndGet());
+    cache.getMetalakeId("m1", () -> (long) loads.incrementAndGet());
+    Assertions.assertEquals(2, loads.get());
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testCachedLookups() {
+    AtomicInteger loads = new AtomicInteger();
+    Assertions.assertEquals(1L, cache.getMetalakeId("m1", () -> count(loads, 1L)));
+    Assertions.assertEquals(1L, cache.getMetalakeId("m1", () -> count(loads, 2L)));
+
+    CatalogIds catalogIds = new CatalogIds(1L, 2L);
+    Assertions.assertSame(
+        catalogIds, cache.getCatalogIds("m1", "c1", () -> count(loads, catalogIds)));
+    Assertions.assertSame(catalogIds, cache.getCatalogIds("m1", "c1", () -> count(loads, null)));
+
+    SchemaIds schemaIds = new SchemaIds(1L, 2L, 3L);
+    Assertions.assertSame(
+        schemaIds, cache.getSchemaIds("m1", "c1", "s1", () -> count(loads, schemaIds)));
+    Assertions.assertSame(
+        schemaIds, cache.getSchemaIds("m1", "c1", "s1", () -> count(loads, null)));
+
+    Assertions.assertEquals(3, loads.get());
+    Assertions.assertEquals(3, cache.size());
+  }
+
+  @Test
+  void testMissingNameIsNotCached() {
+    AtomicInteger loads = new AtomicInteger();
+    Assertions.assertNull(cache.getMetalakeId("m1", () -> count(loads, null)));
+    Assertions.assertEquals(5L, cache.getMetalakeId("m1", () -> count(loads, 5L)));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidateChildren() {
+    cache.getMetalakeId("m1", () -> 1L);
+    cache.getMetalakeId("m2", () -> 10L);
+    cache.getCatalogIds("m1", "c1", () -> new CatalogIds(1L, 2L));
+    cache.getCatalogIds("m1", "c2", () -> new CatalogIds(1L, 4L));
+    cache.getSchemaIds("m1", "c1", "s1", () -> new SchemaIds(1L, 2L, 3L));
+    cache.getSchemaIds("m1", "c2", "s1", () -> new SchemaIds(1L, 4L, 5L));
+
+    cache.invalidate(NameIdentifier.of("m1", "c1", "s1"));
+    Assertions.assertNull(cache.getSchemaIds("m1", "c1", "s1", () -> null));
+    Assertions.assertNotNull(cache.getSchemaIds("m1", "c2", "s1", () -> null));
+
+    cache.invalidate(NameIdentifier.of("m1", "c2"));
+    Assertions.assertNull(cache.getCatalogIds("m1", "c2", () -> null));
+    Assertions.assertNull(cache.getSchemaIds("m1", "c2", "s1", () -> null));
+    Assertions.assertNotNull(cache.getCatalogIds("m1", "c1", () -> null));
+
+    cache.invalidate(NameIdentifier.of("m1"));
+    Assertions.assertNull(cache.getMetalakeId("m1", () -> null));
+    Assertions.assertNull(cache.getCatalogIds("m1", "c1", () -> null));
+    Assertions.assertEquals(10L, cache.getMetalakeId("m2", () -> null));
+  }
+
+  @Test
+  void testInvalidateWhileLoading() {
+    // The metalake is renamed after its id was read but before the id is put into the cache.
+    Long id =
+        cache.getMetalakeId(
+            "m1",
+            () -> {
+              cache.invalidate(NameIdentifier.of("m1"));
+              return 1L;
+            });
+    Assertions.assertEquals(1L, id);
+    Assertions.assertNull(cache.getMetalakeId("m1", () -> null));
+  }
+
+  @Test
+  void testStartsWith() {
+    Assertions.assertTrue(EntityIdCache.startsWith(new String[] {"m1", "c1"}, new String[] {"m1"}));
+    Assertions.assertTrue(
+        EntityIdCache.startsWith(new String[] {"m1", "c1"}, new String[] {"m1", "c1"}));
+    Assertions.assertFalse(
+        EntityIdCache.startsWith(new String[] {"m1", "c1"}, new String[] {"m1", "c2"}));
+    Assertions.assertFalse(
+        EntityIdCache.startsWith(new String[] {"m1"}, new String[] {"m1", "c1"}));
+  }
+
+  private static <T> T count(AtomicInteger loads, T value) {
+    loads.incrementAndGet();
+    return value;
+  }
+}
@@ -30,10 +30,13 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -121,6 +124,87 @@ class TestGroupMetaService extends TestJDBCBackend {
         Sets.newHashSet(group2.roleNames()), Sets.newHashSet(actualGroup.roleNames()));
   }
 
+  @Test
+  void listGroupsByRoleIdents() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    GroupMetaService groupMetaService = GroupMetaService.getInstance();
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            "catalog");
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            "catalog");
+    RoleEntity role3 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role3",
+            auditInfo,
+            "catalog");
+    roleMetaService.insertRole(role1, false);
+    roleMetaService.insertRole(role2, false);
+    roleMetaService.insertRole(role3, false);
+
+    GroupEntity group1 =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group1",
+            auditInfo,
+            Lists.newArrayList(role1.name(), role2.name()),
+            Lists.newArrayList(role1.id(), role2.id()));
+    GroupEntity group2 =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group2",
+            auditInfo,
+            Lists.newArrayList(role1.name()),
+            Lists.newArrayList(role1.id()));
+    groupMetaService.insertGroup(group1, false);
+    groupMetaService.insertGroup(group2, false);
+
+    NameIdentifier notExistRole = AuthorizationUtils.ofRole(metalakeName, "not_exist");
+    Map<NameIdentifier, List<GroupEntity>> groupsByRole =
+        groupMetaService.listGroupsByRoleIdents(
+            Lists.newArrayList(
+                role1.nameIdentifier(),
+                role2.nameIdentifier(),
+                role3.nameIdentifier(),
+                notExistRole));
+    Assertions.assertEquals(4, groupsByRole.size());
+    for (RoleEntity role : Lists.newArrayList(role1, role2, role3)) {
+      List<GroupEntity> expectedGroups =
+          groupMetaService.listGroupsByRoleIdent(role.nameIdentifier());
+      Assertions.assertEquals(
+          expectedGroups.stream().map(GroupEntity::id).collect(Collectors.toSet()),
+          groupsByRole.get(role.nameIdentifier()).stream()
+              .map(GroupEntity::id)
+              .collect(Collectors.toSet()));
+    }
+    Assertions.assertEquals(2, groupsByRole.get(role1.nameIdentifier()).size());
+    Assertions.assertTrue(groupsByRole.get(role3.nameIdentifier()).isEmpty());
+    Assertions.assertTrue(groupsByRole.get(notExistRole).isEmpty());
+  }
+
   @Test
   void testListGroups() throws IOException {
     AuditInfo auditInfo =
@@ -18,9 +18,13 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.meta.AuditInfo;
@@ -517,4 +521,81 @@ class TestOwnerMetaService extends TestJDBCBackend {
     Assertions.assertEquals(25, countAllOwnerRel(user.id()));
     Assertions.assertEquals(0, countActiveOwnerRel(user.id()));
   }
+
+  @Test
+  void testBatchGetOwners() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(metalakeName, "catalog"),
+            "schema",
+            auditInfo);
+    backend.insert(schema, false);
+    Namespace tableNamespace = Namespace.of(metalakeName, "catalog", "schema");
+    TableEntity table1 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table1", auditInfo);
+    backend.insert(table1, false);
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table2", auditInfo);
+    backend.insert(table2, false);
+    TableEntity table3 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table3", auditInfo);
+    backend.insert(table3, false);
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user",
+            auditInfo);
+    backend.insert(user, false);
+    GroupEntity group =
+        createGroupEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofGroupNamespace(metalakeName),
+            "group",
+            auditInfo);
+    backend.insert(group, false);
+
+    OwnerMetaService.getInstance()
+        .setOwner(table1.nameIdentifier(), table1.type(), user.nameIdentifier(), user.type());
+    OwnerMetaService.getInstance()
+        .setOwner(table2.nameIdentifier(), table2.type(), group.nameIdentifier(), group.type());
+    OwnerMetaService.getInstance()
+        .setOwner(catalog.nameIdentifier(), catalog.type(), user.nameIdentifier(), user.type());
+
+    NameIdentifier missingTable = NameIdentifier.of(tableNamespace, "missing");
+    Map<NameIdentifier, List<Entity>> owners =
+        OwnerMetaService.getInstance()
+            .batchGetOwners(
+                Lists.newArrayList(
+                    table1.nameIdentifier(),
+                    table2.nameIdentifier(),
+                    table3.nameIdentifier(),
+                    missingTable),
+                Entity.EntityType.TABLE);
+    Assertions.assertEquals(4, owners.size());
+    Assertions.assertEquals(1, owners.get(table1.nameIdentifier()).size());
+    Assertions.assertEquals(
+        "user", ((UserEntity) owners.get(table1.nameIdentifier()).get(0)).name());
+    Assertions.assertEquals(1, owners.get(table2.nameIdentifier()).size());
+    Assertions.assertEquals(
+        "group", ((GroupEntity) owners.get(table2.nameIdentifier()).get(0)).name());
+    Assertions.assertTrue(owners.get(table3.nameIdentifier()).isEmpty());
+    Assertions.assertTrue(owners.get(missingTable).isEmpty());
+
+    // The types without a batch query of their ids are supported too.
+    owners =
+        OwnerMetaService.getInstance()
+            .batchGetOwners(
+                Lists.newArrayList(catalog.nameIdentifier()), Entity.EntityType.CATALOG);
+    Assertions.assertEquals(
+        "user", ((UserEntity) owners.get(catalog.nameIdentifier()).get(0)).name());
+  }
 }
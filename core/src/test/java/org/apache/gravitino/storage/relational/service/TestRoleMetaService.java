@@ -110,6 +110,51 @@ class TestRoleMetaService extends TestJDBCBackend {
     Assertions.assertEquals(role1, roleMetaService.getRoleByIdentifier(role1.nameIdentifier()));
   }
 
+  @Test
+  void batchGetRolesByIdentifiers() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            SecurableObjects.ofCatalog(
+                "catalog", Lists.newArrayList(Privileges.UseCatalog.allow())),
+            ImmutableMap.of("k1", "v1"));
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            SecurableObjects.ofMetalake(
+                metalakeName, Lists.newArrayList(Privileges.CreateCatalog.allow())),
+            ImmutableMap.of("k2", "v2"));
+    roleMetaService.insertRole(role1, false);
+    roleMetaService.insertRole(role2, false);
+
+    List<RoleEntity> roles =
+        roleMetaService.batchGetRolesByIdentifiers(
+            Lists.newArrayList(
+                role1.nameIdentifier(),
+                role2.nameIdentifier(),
+                AuthorizationUtils.ofRole(metalakeName, "not_exist"),
+                AuthorizationUtils.ofRole("not_exist_metalake", "role1")));
+    roles.sort(Comparator.comparing(RoleEntity::name));
+    Assertions.assertEquals(Lists.newArrayList(role1, role2), roles);
+  }
+
   @Test
   void testListRoles() throws IOException {
     AuditInfo auditInfo =
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -27,8 +28,10 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -331,6 +334,167 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
     Assertions.assertTrue(retrievedTable6.columns().isEmpty());
   }
 
+  @Test
+  public void testBatchGetTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    ColumnEntity column1 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withComment("comment1")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.integerLiteral(1))
+            .withAuditInfo(auditInfo)
+            .build();
+    ColumnEntity column2 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column2")
+            .withPosition(1)
+            .withComment("comment2")
+            .withDataType(Types.StringType.get())
+            .withNullable(false)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.stringLiteral("1"))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(namespace)
+            .withColumns(Lists.newArrayList(column1, column2))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table1, false);
+
+    // Update column1 and drop column2, so the columns of table1 have several versions
+    ColumnEntity updatedColumn1 =
+        ColumnEntity.builder()
+            .withId(column1.id())
+            .withName(column1.name())
+            .withPosition(column1.position())
+            .withComment("comment1_updated")
+            .withDataType(Types.LongType.get())
+            .withNullable(column1.nullable())
+            .withAutoIncrement(column1.autoIncrement())
+            .withDefaultValue(null)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity updatedTable1 =
+        TableEntity.builder()
+            .withId(table1.id())
+            .withName(table1.name())
+            .withNamespace(namespace)
+            .withColumns(Lists.newArrayList(updatedColumn1))
+            .withAuditInfo(auditInfo)
+            .build();
+    Function<TableEntity, TableEntity> updater = oldTable -> updatedTable1;
+    TableMetaService.getInstance().updateTable(table1.nameIdentifier(), updater);
+
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table2", auditInfo);
+    TableMetaService.getInstance().insertTable(table2, false);
+
+    List<TableEntity> tables =
+        TableMetaService.getInstance()
+            .batchGetTablesByIdentifiers(
+                Lists.newArrayList(
+                    table1.nameIdentifier(),
+                    table2.nameIdentifier(),
+                    NameIdentifier.of(namespace, "not_exist"),
+                    NameIdentifier.of(METALAKE_NAME, catalogName, "not_exist", "table1")));
+    Assertions.assertEquals(2, tables.size());
+
+    Map<String, TableEntity> tablesByName =
+        tables.stream().collect(Collectors.toMap(TableEntity::name, Function.identity()));
+    Assertions.assertEquals(table1.id(), tablesByName.get("table1").id());
+    Assertions.assertEquals(table1.auditInfo(), tablesByName.get("table1").auditInfo());
+    compareTwoColumns(updatedTable1.columns(), tablesByName.get("table1").columns());
+    Assertions.assertEquals(table2.id(), tablesByName.get("table2").id());
+    Assertions.assertTrue(tablesByName.get("table2").columns().isEmpty());
+
+    Assertions.assertTrue(
+        TableMetaService.getInstance().batchGetTablesByIdentifiers(Lists.newArrayList()).isEmpty());
+
+    Set<NameIdentifier> existingIdents =
+        TableMetaService.getInstance()
+            .batchExistTablesByIdentifiers(
+                Lists.newArrayList(
+                    table1.nameIdentifier(),
+                    table2.nameIdentifier(),
+                    NameIdentifier.of(namespace, "not_exist"),
+                    NameIdentifier.of(METALAKE_NAME, catalogName, "not_exist", "table1")));
+    Assertions.assertEquals(
+        Sets.newHashSet(table1.nameIdentifier(), table2.nameIdentifier()), existingIdents);
+    Assertions.assertTrue(
+        TableMetaService.getInstance()
+            .batchExistTablesByIdentifiers(Lists.newArrayList())
+            .isEmpty());
+  }
+
+  @Test
+  public void testBatchInsertTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    ColumnEntity column1 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withComment("comment1")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.integerLiteral(1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(namespace)
+            .withColumns(Lists.newArrayList(column1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table2", auditInfo);
+    TableMetaService.getInstance().batchInsertTables(Lists.newArrayList(table1, table2));
+
+    TableEntity loadedTable1 =
+        TableMetaService.getInstance().getTableByIdentifier(table1.nameIdentifier());
+    Assertions.assertEquals(table1.id(), loadedTable1.id());
+    compareTwoColumns(table1.columns(), loadedTable1.columns());
+    TableEntity loadedTable2 =
+        TableMetaService.getInstance().getTableByIdentifier(table2.nameIdentifier());
+    Assertions.assertEquals(table2.id(), loadedTable2.id());
+    Assertions.assertTrue(loadedTable2.columns().isEmpty());
+
+    // The whole batch fails if any of the tables already exists.
+    TableEntity table3 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table3", auditInfo);
+    TableEntity duplicatedTable2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table2", auditInfo);
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () ->
+            TableMetaService.getInstance()
+                .batchInsertTables(Lists.newArrayList(table3, duplicatedTable2)));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> TableMetaService.getInstance().getTableByIdentifier(table3.nameIdentifier()));
+  }
+
   @Test
   public void testCreateAndDeleteTable() throws IOException {
     String catalogName = "catalog1";
@@ -30,10 +30,13 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -120,6 +123,162 @@ class TestUserMetaService extends TestJDBCBackend {
         Sets.newHashSet(user2.roleNames()), Sets.newHashSet(actualUser.roleNames()));
   }
 
+  @Test
+  void batchGetUsersByIdentifiers() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    UserMetaService userMetaService = UserMetaService.getInstance();
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            "catalog");
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            "catalog");
+    roleMetaService.insertRole(role1, false);
+    roleMetaService.insertRole(role2, false);
+
+    UserEntity user1 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user1",
+            auditInfo);
+    UserEntity user2 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user2",
+            auditInfo,
+            Lists.newArrayList(role1.name(), role2.name()),
+            Lists.newArrayList(role1.id(), role2.id()));
+    UserEntity user3 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user3",
+            auditInfo,
+            Lists.newArrayList(role1.name()),
+            Lists.newArrayList(role1.id()));
+    userMetaService.insertUser(user1, false);
+    userMetaService.insertUser(user2, false);
+    userMetaService.insertUser(user3, false);
+
+    List<UserEntity> users =
+        userMetaService.batchGetUsersByIdentifiers(
+            Lists.newArrayList(
+                user1.nameIdentifier(),
+                user2.nameIdentifier(),
+                user3.nameIdentifier(),
+                AuthorizationUtils.ofUser(metalakeName, "not_exist")));
+    Assertions.assertEquals(3, users.size());
+    for (UserEntity user : users) {
+      UserEntity expectedUser = userMetaService.getUserByIdentifier(user.nameIdentifier());
+      Assertions.assertEquals(expectedUser.id(), user.id());
+      Assertions.assertEquals(
+          Sets.newHashSet(expectedUser.roleNames()), Sets.newHashSet(user.roleNames()));
+      Assertions.assertEquals(
+          Sets.newHashSet(expectedUser.roleIds()), Sets.newHashSet(user.roleIds()));
+    }
+  }
+
+  @Test
+  void listUsersByRoleIdents() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    UserMetaService userMetaService = UserMetaService.getInstance();
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            auditInfo,
+            "catalog");
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            auditInfo,
+            "catalog");
+    RoleEntity role3 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role3",
+            auditInfo,
+            "catalog");
+    roleMetaService.insertRole(role1, false);
+    roleMetaService.insertRole(role2, false);
+    roleMetaService.insertRole(role3, false);
+
+    UserEntity user1 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user1",
+            auditInfo,
+            Lists.newArrayList(role1.name(), role2.name()),
+            Lists.newArrayList(role1.id(), role2.id()));
+    UserEntity user2 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user2",
+            auditInfo,
+            Lists.newArrayList(role1.name()),
+            Lists.newArrayList(role1.id()));
+    userMetaService.insertUser(user1, false);
+    userMetaService.insertUser(user2, false);
+
+    NameIdentifier notExistRole = AuthorizationUtils.ofRole(metalakeName, "not_exist");
+    Map<NameIdentifier, List<UserEntity>> usersByRole =
+        userMetaService.listUsersByRoleIdents(
+            Lists.newArrayList(
+                role1.nameIdentifier(),
+                role2.nameIdentifier(),
+                role3.nameIdentifier(),
+                notExistRole));
+    Assertions.assertEquals(4, usersByRole.size());
+    for (RoleEntity role : Lists.newArrayList(role1, role2, role3)) {
+      List<UserEntity> expectedUsers =
+          userMetaService.listUsersByRoleIdent(role.nameIdentifier());
+      Assertions.assertEquals(
+          expectedUsers.stream().map(UserEntity::id).collect(Collectors.toSet()),
+          usersByRole.get(role.nameIdentifier()).stream()
+              .map(UserEntity::id)
+              .collect(Collectors.toSet()));
+    }
+    Assertions.assertEquals(2, usersByRole.get(role1.nameIdentifier()).size());
+    Assertions.assertTrue(usersByRole.get(role3.nameIdentifier()).isEmpty());
+    Assertions.assertTrue(usersByRole.get(notExistRole).isEmpty());
+  }
+
   @Test
   void testListUsers() throws IOException {
     AuditInfo auditInfo =
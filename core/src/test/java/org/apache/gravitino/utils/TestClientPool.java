@@ -19,9 +19,19 @@
 package org.apache.gravitino.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,12 +78,158 @@ public class TestClientPool {
     assertEquals(2, clientPool.poolSize());
   }
 
+  @Test
+  public void testWaiterIsServedOnRelease() throws Exception {
+    ClientPoolMetricsSource metricsSource = new ClientPoolMetricsSource("test");
+    ClientPoolImplExtension pool =
+        new ClientPoolImplExtension(1, Exception.class, false, 0L, 0L, 0L, metricsSource);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    CountDownLatch holding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Future<ClientMock> holder =
+          executor.submit(
+              () ->
+                  pool.run(
+                      client -> {
+                        holding.countDown();
+                        release.await();
+                        return client;
+                      }));
+      holding.await();
+      Future<ClientMock> waiter = executor.submit(() -> pool.run(client -> client));
+      Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> pool.waitingThreads() == 1);
+      assertEquals(1, pool.activeClients());
+      assertEquals(1L, metricsSource.activeClients().sum());
+
+      release.countDown();
+      assertSame(holder.get(5, TimeUnit.SECONDS), waiter.get(5, TimeUnit.SECONDS));
+      assertEquals(1L, pool.createdClients());
+      assertEquals(0, pool.activeClients());
+      assertEquals(1, pool.idleClients());
+      assertEquals(1L, metricsSource.idleClients().sum());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testAcquireTimeout() throws Exception {
+    ClientPoolImplExtension pool =
+        new ClientPoolImplExtension(1, Exception.class, false, 100L, 0L, 0L, null);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch holding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Future<ClientMock> holder =
+          executor.submit(
+              () ->
+                  pool.run(
+                      client -> {
+                        holding.countDown();
+                        release.await();
+                        return client;
+                      }));
+      holding.await();
+      assertThrows(ClientPoolTimeoutException.class, () -> pool.run(client -> client));
+
+      release.countDown();
+      assertSame(holder.get(5, TimeUnit.SECONDS), pool.run(client -> client));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testEvictIdleClients() throws Exception {
+    ClientPoolImplExtension pool =
+        new ClientPoolImplExtension(2, Exception.class, false, 0L, 10L, 0L, null);
+    ClientMock client = pool.run(c -> c);
+    assertEquals(1, pool.idleClients());
+
+    TimeUnit.MILLISECONDS.sleep(50);
+    pool.evictIdleClients();
+    assertEquals(0, pool.idleClients());
+    assertTrue(client.closed);
+
+    // An expired client is not handed out either.
+    ClientMock another = pool.run(c -> c);
+    TimeUnit.MILLISECONDS.sleep(50);
+    assertNotSame(another, pool.run(c -> c));
+    assertTrue(another.closed);
+    assertEquals(3L, pool.createdClients());
+    pool.close();
+  }
+
+  @Test
+  public void testHealthCheck() throws Exception {
+    ClientPoolImplExtension pool =
+        new ClientPoolImplExtension(1, Exception.class, false, 0L, 0L, 10L, null);
+    ClientMock client = pool.run(c -> c);
+    assertSame(client, pool.run(c -> c));
+
+    client.healthy = false;
+    TimeUnit.MILLISECONDS.sleep(50);
+    ClientMock replaced = pool.run(c -> c);
+    assertNotSame(client, replaced);
+    assertTrue(client.closed);
+    assertEquals(2L, pool.createdClients());
+    pool.close();
+  }
+
+  @Test
+  public void testCloseWithActiveClients() throws Exception {
+    ClientPoolImplExtension pool = new ClientPoolImplExtension(2, Exception.class, true);
+    ClientMock idle = pool.run(c -> c);
+    ClientMock active =
+        pool.run(
+            c -> {
+              // Borrow the idle client, so a second client is created.
+              ClientMock inner = pool.run(c2 -> c2);
+              assertFalse(inner.closed);
+              pool.close();
+              return inner;
+            });
+    assertTrue(idle.closed);
+    assertTrue(active.closed);
+    assertEquals(0, pool.activeClients());
+    assertEquals(0, pool.idleClients());
+    assertThrows(IllegalStateException.class, () -> pool.run(c -> c));
+  }
+
   private static final class ClientPoolImplExtension extends ClientPoolImpl<ClientMock, Exception> {
     private ClientPoolImplExtension(
         int poolSize, Class<? extends Exception> reconnectExc, boolean retryByDefault) {
       super(poolSize, reconnectExc, retryByDefault);
     }
 
+    private ClientPoolImplExtension(
+        int poolSize,
+        Class<? extends Exception> reconnectExc,
+        boolean retryByDefault,
+        long acquireTimeoutMs,
+        long idleTimeoutMs,
+        long healthCheckIntervalMs,
+        ClientPoolMetricsSource metricsSource) {
+      super(
+          poolSize,
+          reconnectExc,
+          retryByDefault,
+          acquireTimeoutMs,
+          idleTimeoutMs,
+          healthCheckIntervalMs,
+          metricsSource);
+    }
+
+    @Override
+    protected boolean isHealthy(ClientMock client) {
+      return client.healthy;
+    }
+
     @Override
     protected ClientMock newClient() {
       return new ClientMock();
@@ -96,11 +252,15 @@ public class TestClientPool {
   }
 
   private static class ClientMock {
+    private volatile boolean healthy = true;
+    private volatile boolean closed = false;
 
     public String performAction(String input) {
       return input;
     }
 
-    public void close() {}
+    public void close() {
+      closed = true;
+    }
   }
 }
@@ -113,7 +113,7 @@ public class HiveBackendProxy implements MethodInterceptor {
     // TODO: we need to close the original client pool and thread pool, or it will cause memory
     //  leak.
     ClientPool<IMetaStoreClient, TException> newClientPool =
-        new IcebergHiveCachedClientPool(target.getConf(), properties);
+        new IcebergHiveCachedClientPool(target.getConf(), properties, target.name());
     m.set(target, newClientPool);
     return newClientPool;
   }
@@ -37,6 +37,11 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
@@ -92,8 +97,22 @@ public class IcebergHiveCachedClientPool
   private final int clientPoolSize;
   private final long evictionInterval;
   private ScheduledExecutorService scheduledExecutorService;
+  @Nullable private final ClientPoolMetricsSource metricsSource;
 
   public IcebergHiveCachedClientPool(Configuration conf, Map<String, String> properties) {
+    this(conf, properties, null);
+  }
+
+  /**
+   * Creates an IcebergHiveCachedClientPool which exports the wait time and the active clients of
+   * its pools. The pools are owned by Iceberg, so the idle and the created clients are not known.
+   *
+   * @param conf The configuration used to initialize the Hive Metastore clients.
+   * @param properties The properties of the catalog.
+   * @param metricsName The name of the pool metrics, or null to export no metrics.
+   */
+  public IcebergHiveCachedClientPool(
+      Configuration conf, Map<String, String> properties, @Nullable String metricsName) {
     this.conf = conf;
     this.clientPoolSize =
         PropertyUtil.propertyAsInt(
@@ -107,6 +126,14 @@ public class IcebergHiveCachedClientPool
             CatalogProperties.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS_DEFAULT);
     this.properties = properties;
     init();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsName != null && metricsSystem != null) {
+      this.metricsSource = new ClientPoolMetricsSource(metricsName);
+      metricsSystem.register(metricsSource);
+    } else {
+      this.metricsSource = null;
+    }
   }
 
   @VisibleForTesting
@@ -153,13 +180,35 @@ public class IcebergHiveCachedClientPool
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action)
       throws TException, InterruptedException {
-    return clientPool().run(action);
+    return clientPool().run(withMetrics(action));
   }
 
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action, boolean retry)
       throws TException, InterruptedException {
-    return clientPool().run(action, retry);
+    return clientPool().run(withMetrics(action), retry);
+  }
+
+  private <R> Action<R, IMetaStoreClient, TException> withMetrics(
+      Action<R, IMetaStoreClient, TException> action) {
+    if (metricsSource == null) {
+      return action;
+    }
+
+    // The action starts once a client is handed out, it may run again after a reconnection.
+    long startNanos = System.nanoTime();
+    AtomicBoolean started = new AtomicBoolean(false);
+    return client -> {
+      if (started.compareAndSet(false, true)) {
+        metricsSource.recordWaitTime(System.nanoTime() - startNanos);
+      }
+      metricsSource.activeClients().increment();
+      try {
+        return action.run(client);
+      } finally {
+        metricsSource.activeClients().decrement();
+      }
+    };
   }
 
   @VisibleForTesting
@@ -262,5 +311,10 @@ public class IcebergHiveCachedClientPool
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
     scheduledExecutorService.shutdownNow();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 }
@@ -383,3 +383,14 @@ CREATE TABLE IF NOT EXISTS `policy_relation_meta` (
     KEY `idx_pid` (`policy_id`),
     KEY `idx_prmid` (`metadata_object_id`)
 ) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `node_id` VARCHAR(64) NOT NULL COMMENT 'id of the server which made the change',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'type of the changed entity',
+    `entity_ident` TEXT NOT NULL COMMENT 'name levels of the changed entity as a json array',
+    `relation_type` VARCHAR(64) DEFAULT NULL COMMENT 'type of the changed relation, null if the entity itself changed',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change created at',
+    PRIMARY KEY (`id`),
+    KEY `idx_ecl_created_at` (`created_at`)
+) ENGINE=InnoDB;
@@ -67,4 +67,15 @@ ALTER TABLE `model_version_info` ADD COLUMN `model_version_uri_name` VARCHAR(256
 ALTER TABLE `model_version_info` DROP INDEX `uk_mid_ver_del`;
 ALTER TABLE `model_version_info` ADD CONSTRAINT `uk_mid_ver_uri_del` UNIQUE (`model_id`, `version`, `model_version_uri_name`, `deleted_at`);
 -- remove the default value for model_version_uri_name
-ALTER TABLE `model_version_info` ALTER COLUMN `model_version_uri_name` DROP DEFAULT;
\ No newline at end of file
+ALTER TABLE `model_version_info` ALTER COLUMN `model_version_uri_name` DROP DEFAULT;
+
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `node_id` VARCHAR(64) NOT NULL COMMENT 'id of the server which made the change',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'type of the changed entity',
+    `entity_ident` TEXT NOT NULL COMMENT 'name levels of the changed entity as a json array',
+    `relation_type` VARCHAR(64) DEFAULT NULL COMMENT 'type of the changed relation, null if the entity itself changed',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change created at',
+    PRIMARY KEY (`id`),
+    KEY `idx_ecl_created_at` (`created_at`)
+) ENGINE=InnoDB;
@@ -668,3 +668,22 @@ COMMENT ON COLUMN policy_relation_meta.audit_info IS 'policy relation audit info
 COMMENT ON COLUMN policy_relation_meta.current_version IS 'policy relation current version';
 COMMENT ON COLUMN policy_relation_meta.last_version IS 'policy relation last version';
 COMMENT ON COLUMN policy_relation_meta.deleted_at IS 'policy relation deleted at';
+
+CREATE TABLE IF NOT EXISTS entity_change_log (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    node_id VARCHAR(64) NOT NULL,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_ident TEXT NOT NULL,
+    relation_type VARCHAR(64) DEFAULT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ecl_created_at ON entity_change_log (created_at);
+COMMENT ON TABLE entity_change_log IS 'entity change log for cache invalidation';
+COMMENT ON COLUMN entity_change_log.id IS 'auto increment id';
+COMMENT ON COLUMN entity_change_log.node_id IS 'id of the server which made the change';
+COMMENT ON COLUMN entity_change_log.entity_type IS 'type of the changed entity';
+COMMENT ON COLUMN entity_change_log.entity_ident IS 'name levels of the changed entity as a json array';
+COMMENT ON COLUMN entity_change_log.relation_type IS 'type of the changed relation, null if the entity itself changed';
+COMMENT ON COLUMN entity_change_log.created_at IS 'change created at';
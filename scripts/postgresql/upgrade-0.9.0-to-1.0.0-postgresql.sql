@@ -104,3 +104,22 @@ ALTER TABLE model_version_info DROP CONSTRAINT model_version_info_model_id_versi
 ALTER TABLE model_version_info ADD CONSTRAINT uk_mid_ver_uri_del UNIQUE (model_id, version, model_version_uri_name, deleted_at);
 -- remove the default value for model_version_uri_name
 ALTER TABLE model_version_info ALTER COLUMN model_version_uri_name DROP DEFAULT;
+
+CREATE TABLE IF NOT EXISTS entity_change_log (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    node_id VARCHAR(64) NOT NULL,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_ident TEXT NOT NULL,
+    relation_type VARCHAR(64) DEFAULT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ecl_created_at ON entity_change_log (created_at);
+COMMENT ON TABLE entity_change_log IS 'entity change log for cache invalidation';
+COMMENT ON COLUMN entity_change_log.id IS 'auto increment id';
+COMMENT ON COLUMN entity_change_log.node_id IS 'id of the server which made the change';
+COMMENT ON COLUMN entity_change_log.entity_type IS 'type of the changed entity';
+COMMENT ON COLUMN entity_change_log.entity_ident IS 'name levels of the changed entity as a json array';
+COMMENT ON COLUMN entity_change_log.relation_type IS 'type of the changed relation, null if the entity itself changed';
+COMMENT ON COLUMN entity_change_log.created_at IS 'change created at';
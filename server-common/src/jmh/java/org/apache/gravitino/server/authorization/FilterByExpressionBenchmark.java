@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization;
+
+import com.google.common.collect.ImmutableMap;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionEvaluator;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for filtering the result of a list tables request with the authorization expression of
+ * {@code TableOperations}, comparing the per-item evaluation with {@link
+ * MetadataFilterHelper#filterByExpression}.
+ *
+ * <p>The authorizer simulates the cost of the entity store: every call consumes the CPU of one
+ * round trip, and a batch call consumes one round trip plus a small cost per object. The principal
+ * has the USE_CATALOG and USE_SCHEMA privileges on the parents and SELECT_TABLE on half of the
+ * tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FilterByExpressionBenchmark {
+
+  private static final String METALAKE = "metalake";
+
+  private static final String LIST_TABLES_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) ||"
+          + "SCHEMA_OWNER_WITH_USE_CATALOG ||"
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA  && (TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)";
+
+  private static final long ROUND_TRIP_TOKENS = 2000;
+
+  private static final long ITEM_TOKENS = 20;
+
+  @Param({"10", "100", "1000"})
+  public int tableCount;
+
+  private NameIdentifier[] tables;
+
+  private Object originalConfig;
+
+  private Object originalAuthorizer;
+
+  @Setup(Level.Trial)
+  public void init() throws IllegalAccessException {
+    this.tables =
+        IntStream.range(0, tableCount)
+            .mapToObj(i -> NameIdentifierUtil.ofTable(METALAKE, "catalog", "schema", "t" + i))
+            .toArray(NameIdentifier[]::new);
+
+    Config config = new Config(false) {};
+    config.set(Configs.ENABLE_AUTHORIZATION, true);
+    this.originalConfig = FieldUtils.readField(GravitinoEnv.getInstance(), "config", true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+
+    GravitinoAuthorizerProvider provider = GravitinoAuthorizerProvider.getInstance();
+    this.originalAuthorizer = FieldUtils.readField(provider, "gravitinoAuthorizer", true);
+    FieldUtils.writeField(provider, "gravitinoAuthorizer", new SimulatedStoreAuthorizer(), true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", originalConfig, true);
+    FieldUtils.writeField(
+        GravitinoAuthorizerProvider.getInstance(), "gravitinoAuthorizer", originalAuthorizer, true);
+  }
+
+  /**
+   * Evaluates the expression for every table, each evaluation calls the authorizer for the table
+   * and all its parents.
+   *
+   * @return The authorized tables.
+   */
+  @Benchmark
+  public NameIdentifier[] benchmarkPerItem() {
+    Predicate<Map<Entity.EntityType, NameIdentifier>> predicate =
+        new AuthorizationExpressionEvaluator(LIST_TABLES_EXPRESSION).newPredicate();
+    return Arrays.stream(tables)
+        .filter(
+            table ->
+                predicate.test(
+                    ImmutableMap.of(
+                        Entity.EntityType.METALAKE,
+                        NameIdentifierUtil.ofMetalake(METALAKE),
+                        Entity.EntityType.CATALOG,
+                        NameIdentifierUtil.getCatalogIdentifier(table),
+                        Entity.EntityType.SCHEMA,
+                        NameIdentifierUtil.getSchemaIdentifier(table),
+                        Entity.EntityType.TABLE,
+                        table)))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  /**
+   * Filters the tables with {@link MetadataFilterHelper#filterByExpression}, which checks the
+   * parents once and the tables in batches.
+   *
+   * @return The authorized tables.
+   */
+  @Benchmark
+  public NameIdentifier[] benchmarkBatch() {
+    return MetadataFilterHelper.filterByExpression(
+        METALAKE, LIST_TABLES_EXPRESSION, Entity.EntityType.TABLE, tables);
+  }
+
+  /** An authorizer which consumes CPU in place of the entity store queries. */
+  private static class SimulatedStoreAuthorizer extends PassThroughAuthorizer {
+
+    @Override
+    public boolean authorize(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege) {
+      Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+      return isGranted(metadataObject, privilege);
+    }
+
+    @Override
+    public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+      Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+      return false;
+    }
+
+    @Override
+    public boolean[] batchAuthorize(
+        Principal principal,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        Privilege.Name privilege) {
+      Blackhole.consumeCPU(ROUND_TRIP_TOKENS + ITEM_TOKENS * metadataObjects.size());
+      boolean[] results = new boolean[metadataObjects.size()];
+      for (int i = 0; i < results.length; i++) {
+        results[i] = isGranted(metadataObjects.get(i), privilege);
+      }
+      return results;
+    }
+
+    @Override
+    public boolean[] batchIsOwner(
+        Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+      Blackhole.consumeCPU(ROUND_TRIP_TOKENS + ITEM_TOKENS * metadataObjects.size());
+      return new boolean[metadataObjects.size()];
+    }
+
+    @Override
+    public boolean isServiceAdmin() {
+      return false;
+    }
+
+    private static boolean isGranted(MetadataObject metadataObject, Privilege.Name privilege) {
+      switch (metadataObject.type()) {
+        case CATALOG:
+          return privilege == Privilege.Name.USE_CATALOG;
+        case SCHEMA:
+          return privilege == Privilege.Name.USE_SCHEMA;
+        case TABLE:
+          return privilege == Privilege.Name.SELECT_TABLE
+              && Integer.parseInt(metadataObject.name().substring(1)) % 2 == 0;
+        default:
+          return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.it;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.EntityStoreFactory;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.catalog.CatalogManager;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.server.authorization.GravitinoAuthorizerProvider;
+import org.apache.gravitino.server.authorization.jcasbin.JcasbinAuthorizer;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.converters.H2ExceptionConverter;
+import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark base class for the authorization of requests with a {@link JcasbinAuthorizer} over an
+ * embedded H2 entity store.
+ *
+ * <p>The store is seeded with one metalake and one catalog holding 10 schemas and 10k tables, 1k
+ * roles and 5k users. Every role has USE_CATALOG on the catalog, USE_SCHEMA on one schema and
+ * SELECT_TABLE on 10 tables of that schema, so every table is granted by exactly one role. Every
+ * user has 2 roles. The benchmarks pick a random user and a random table on every invocation, so
+ * about 2 in 1000 checks of a table privilege are allowed.
+ *
+ * <p>The H2 backend of the relational store is always file based, the database lives in a temporary
+ * directory which is removed after the trial. The schema script is read from {@code
+ * $GRAVITINO_HOME/scripts}, so {@code GRAVITINO_HOME} must point to the source tree or a
+ * distribution when running the benchmarks:
+ *
+ * <pre>{@code
+ * GRAVITINO_HOME=$(pwd) ./gradlew :server-common:jmh
+ * }</pre>
+ *
+ * <p>Seeding takes a while, it happens once per trial of every benchmark method. Both the entity
+ * cache and the decision cache of the authorizer can be turned off with the {@code cacheEnabled}
+ * parameter to measure the cost of the underlying queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public abstract class AbstractAuthorizationBenchmark {
+
+  protected static final String METALAKE = "benchmark_metalake";
+  protected static final String CATALOG = "benchmark_catalog";
+  protected static final int SCHEMA_COUNT = 10;
+  protected static final int TABLE_COUNT = 10_000;
+  protected static final int ROLE_COUNT = 1_000;
+  protected static final int USER_COUNT = 5_000;
+  protected static final int TABLES_PER_ROLE = TABLE_COUNT / ROLE_COUNT;
+  protected static final int ROLES_PER_USER = 2;
+
+  /**
+   * The expression of {@code TableOperations} for loading a table, the most common authorization of
+   * the server.
+   */
+  protected static final String LOAD_TABLE_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) ||"
+          + "SCHEMA_OWNER_WITH_USE_CATALOG ||"
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA  && (TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)";
+
+  private static final String JDBC_STORE_PATH =
+      "/tmp/gravitino_jdbc_authorization_benchmark_"
+          + UUID.randomUUID().toString().replace("-", "");
+  private static final String DB_DIR = JDBC_STORE_PATH + "/testdb";
+
+  private static final RandomIdGenerator GENERATOR = new RandomIdGenerator();
+
+  @Param({"true", "false"})
+  public boolean cacheEnabled;
+
+  protected EntityStore store;
+
+  protected GravitinoAuthorizer authorizer;
+
+  protected NameIdentifier[] tables;
+
+  protected Principal[] users;
+
+  private Object originalConfig;
+
+  private Object originalEntityStore;
+
+  private Object originalCatalogManager;
+
+  private Object originalAuthorizer;
+
+  @Setup(Level.Trial)
+  public final void init() throws Exception {
+    FileUtils.deleteQuietly(new File(JDBC_STORE_PATH));
+    Config config = newConfig();
+    FieldUtils.writeStaticField(
+        SQLExceptionConverterFactory.class, "converter", new H2ExceptionConverter(), true);
+    store = EntityStoreFactory.createEntityStore(config);
+    store.initialize(config);
+    seed();
+
+    // Tables are normalized by the capabilities of their catalog, which is not loaded here.
+    CatalogManager catalogManager = mock(CatalogManager.class);
+    CatalogManager.CatalogWrapper catalogWrapper = mock(CatalogManager.CatalogWrapper.class);
+    when(catalogWrapper.capabilities()).thenReturn(Capability.DEFAULT);
+    when(catalogManager.loadCatalogAndWrap(any())).thenReturn(catalogWrapper);
+
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    originalConfig = FieldUtils.readField(env, "config", true);
+    originalEntityStore = FieldUtils.readField(env, "entityStore", true);
+    originalCatalogManager = FieldUtils.readField(env, "catalogManager", true);
+    FieldUtils.writeField(env, "config", config, true);
+    FieldUtils.writeField(env, "entityStore", store, true);
+    FieldUtils.writeField(env, "catalogManager", catalogManager, true);
+
+    authorizer = new JcasbinAuthorizer();
+    authorizer.initialize();
+    GravitinoAuthorizerProvider provider = GravitinoAuthorizerProvider.getInstance();
+    originalAuthorizer = FieldUtils.readField(provider, "gravitinoAuthorizer", true);
+    FieldUtils.writeField(provider, "gravitinoAuthorizer", authorizer, true);
+  }
+
+  @TearDown(Level.Trial)
+  public void destroy() throws Exception {
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    FieldUtils.writeField(env, "config", originalConfig, true);
+    FieldUtils.writeField(env, "entityStore", originalEntityStore, true);
+    FieldUtils.writeField(env, "catalogManager", originalCatalogManager, true);
+    FieldUtils.writeField(
+        GravitinoAuthorizerProvider.getInstance(), "gravitinoAuthorizer", originalAuthorizer, true);
+
+    try {
+      if (authorizer != null) {
+        authorizer.close();
+      }
+      if (store != null) {
+        store.close();
+      }
+    } finally {
+      FileUtils.deleteQuietly(new File(JDBC_STORE_PATH));
+    }
+  }
+
+  /**
+   * Picks a random table.
+   *
+   * @return The identifier of a seeded table.
+   */
+  protected NameIdentifier randomTable() {
+    return tables[ThreadLocalRandom.current().nextInt(tables.length)];
+  }
+
+  /**
+   * Picks a random user.
+   *
+   * @return The principal of a seeded user.
+   */
+  protected Principal randomUser() {
+    return users[ThreadLocalRandom.current().nextInt(users.length)];
+  }
+
+  /**
+   * Converts a table to a metadata object.
+   *
+   * @param table The identifier of the table.
+   * @return The metadata object of the table.
+   */
+  protected static MetadataObject toMetadataObject(NameIdentifier table) {
+    return MetadataObjects.of(
+        ImmutableList.of(
+            NameIdentifierUtil.getCatalogIdentifier(table).name(),
+            NameIdentifierUtil.getSchemaIdentifier(table).name(),
+            table.name()),
+        MetadataObject.Type.TABLE);
+  }
+
+  private Config newConfig() {
+    Config config = new Config(false) {};
+    config.set(Configs.ENTITY_STORE, Configs.RELATIONAL_ENTITY_STORE);
+    config.set(Configs.ENTITY_RELATIONAL_STORE, Configs.DEFAULT_ENTITY_RELATIONAL_STORE);
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH, DB_DIR);
+    config.set(
+        Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL,
+        String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", DB_DIR));
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER, "org.h2.Driver");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER, "gravitino");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD, "gravitino");
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS, 100);
+    config.set(Configs.CACHE_ENABLED, cacheEnabled);
+    config.set(Configs.ENTITY_ID_CACHE_ENABLED, cacheEnabled);
+
+    config.set(Configs.ENABLE_AUTHORIZATION, true);
+    config.set(Configs.SERVICE_ADMINS, ImmutableList.of("admin"));
+    config.set(Configs.AUTHORIZATION_DECISION_CACHE_ENABLED, cacheEnabled);
+    return config;
+  }
+
+  private void seed() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("admin").withCreateTime(Instant.now()).build();
+    store.put(
+        BaseMetalake.builder()
+            .withId(GENERATOR.nextId())
+            .withName(METALAKE)
+            .withProperties(ImmutableMap.of())
+            .withVersion(SchemaVersion.V_0_1)
+            .withAuditInfo(auditInfo)
+            .build(),
+        true);
+    store.put(
+        CatalogEntity.builder()
+            .withId(GENERATOR.nextId())
+            .withName(CATALOG)
+            .withNamespace(Namespace.of(METALAKE))
+            .withType(Catalog.Type.RELATIONAL)
+            .withProvider("hive")
+            .withProperties(ImmutableMap.of())
+            .withAuditInfo(auditInfo)
+            .build(),
+        true);
+
+    tables = new NameIdentifier[TABLE_COUNT];
+    int tablesPerSchema = TABLE_COUNT / SCHEMA_COUNT;
+    for (int s = 0; s < SCHEMA_COUNT; s++) {
+      String schemaName = schemaName(s);
+      store.put(
+          SchemaEntity.builder()
+              .withId(GENERATOR.nextId())
+              .withName(schemaName)
+              .withNamespace(Namespace.of(METALAKE, CATALOG))
+              .withProperties(ImmutableMap.of())
+              .withAuditInfo(auditInfo)
+              .build(),
+          true);
+      for (int t = s * tablesPerSchema; t < (s + 1) * tablesPerSchema; t++) {
+        TableEntity table =
+            TableEntity.builder()
+                .withId(GENERATOR.nextId())
+                .withName(tableName(t))
+                .withNamespace(Namespace.of(METALAKE, CATALOG, schemaName))
+                .withColumns(Collections.emptyList())
+                .withAuditInfo(auditInfo)
+                .build();
+        store.put(table, true);
+        tables[t] = table.nameIdentifier();
+      }
+    }
+
+    List<RoleEntity> roles = new ArrayList<>(ROLE_COUNT);
+    SecurableObject catalogObject =
+        SecurableObjects.ofCatalog(CATALOG, ImmutableList.of(Privileges.UseCatalog.allow()));
+    for (int r = 0; r < ROLE_COUNT; r++) {
+      int firstTable = r * TABLES_PER_ROLE;
+      SecurableObject schemaObject =
+          SecurableObjects.ofSchema(
+              catalogObject,
+              schemaName(firstTable / tablesPerSchema),
+              ImmutableList.of(Privileges.UseSchema.allow()));
+      List<SecurableObject> securableObjects = new ArrayList<>();
+      securableObjects.add(catalogObject);
+      securableObjects.add(schemaObject);
+      for (int t = firstTable; t < firstTable + TABLES_PER_ROLE; t++) {
+        securableObjects.add(
+            SecurableObjects.ofTable(
+                schemaObject, tableName(t), ImmutableList.of(Privileges.SelectTable.allow())));
+      }
+      RoleEntity role =
+          RoleEntity.builder()
+              .withId(GENERATOR.nextId())
+              .withName("role_" + r)
+              .withNamespace(NamespaceUtil.ofRole(METALAKE))
+              .withSecurableObjects(securableObjects)
+              .withProperties(ImmutableMap.of())
+              .withAuditInfo(auditInfo)
+              .build();
+      store.put(role, true);
+      roles.add(role);
+    }
+
+    users = new Principal[USER_COUNT];
+    for (int u = 0; u < USER_COUNT; u++) {
+      List<String> roleNames = new ArrayList<>(ROLES_PER_USER);
+      List<Long> roleIds = new ArrayList<>(ROLES_PER_USER);
+      for (int i = 0; i < ROLES_PER_USER; i++) {
+        RoleEntity role = roles.get((u + i * (ROLE_COUNT / ROLES_PER_USER)) % ROLE_COUNT);
+        roleNames.add(role.name());
+        roleIds.add(role.id());
+      }
+      String userName = "user_" + u;
+      store.put(
+          UserEntity.builder()
+              .withId(GENERATOR.nextId())
+              .withName(userName)
+              .withNamespace(NamespaceUtil.ofUser(METALAKE))
+              .withRoleNames(roleNames)
+              .withRoleIds(roleIds)
+              .withAuditInfo(auditInfo)
+              .build(),
+          true);
+      users[u] = new UserPrincipal(userName);
+    }
+  }
+
+  private static String schemaName(int index) {
+    return "schema_" + index;
+  }
+
+  private static String tableName(int index) {
+    return "table_" + index;
+  }
+}
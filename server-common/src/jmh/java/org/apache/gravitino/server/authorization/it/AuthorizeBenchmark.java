@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.it;
+
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.server.authorization.jcasbin.JcasbinAuthorizer;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark for a single privilege check of {@link JcasbinAuthorizer}, which loads the user, the id
+ * of the metadata object and the policies of the roles of the user from the entity store unless
+ * the decision is cached.
+ */
+public class AuthorizeBenchmark extends AbstractAuthorizationBenchmark {
+
+  /**
+   * Checks whether a random user can select a random table.
+   *
+   * @return The decision of the authorizer.
+   */
+  @Benchmark
+  public boolean benchmarkAuthorize() {
+    return authorizer.authorize(
+        randomUser(), METALAKE, toMetadataObject(randomTable()), Privilege.Name.SELECT_TABLE);
+  }
+
+  /**
+   * Checks whether a random user owns a random table, which also loads the owner of the table.
+   *
+   * @return The decision of the authorizer.
+   */
+  @Benchmark
+  public boolean benchmarkIsOwner() {
+    return authorizer.isOwner(randomUser(), METALAKE, toMetadataObject(randomTable()));
+  }
+}
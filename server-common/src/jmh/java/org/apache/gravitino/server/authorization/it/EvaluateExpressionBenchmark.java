@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.it;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionEvaluator;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark for {@link AuthorizationExpressionEvaluator#evaluate(Map)} with the expression of
+ * loading a table, as the server authorizes a single request.
+ *
+ * <p>Like a request, every invocation creates the evaluator and runs as a random user, so the
+ * measured time includes {@link PrincipalUtils#doAs}.
+ */
+public class EvaluateExpressionBenchmark extends AbstractAuthorizationBenchmark {
+
+  /**
+   * Evaluates the expression of loading a random table.
+   *
+   * @return The result of the expression.
+   * @throws Exception if the evaluation fails.
+   */
+  @Benchmark
+  public boolean benchmarkEvaluate() throws Exception {
+    NameIdentifier table = randomTable();
+    Map<Entity.EntityType, NameIdentifier> metadataNames =
+        ImmutableMap.of(
+            Entity.EntityType.METALAKE,
+            NameIdentifierUtil.ofMetalake(METALAKE),
+            Entity.EntityType.CATALOG,
+            NameIdentifierUtil.getCatalogIdentifier(table),
+            Entity.EntityType.SCHEMA,
+            NameIdentifierUtil.getSchemaIdentifier(table),
+            Entity.EntityType.TABLE,
+            table);
+    return PrincipalUtils.doAs(
+        randomUser(),
+        () -> new AuthorizationExpressionEvaluator(LOAD_TABLE_EXPRESSION).evaluate(metadataNames));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.it;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.server.authorization.MetadataFilterHelper;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmark for {@link MetadataFilterHelper#filterByExpression} with the expression of loading a
+ * table, as the server filters the result of listing the tables of a schema.
+ *
+ * <p>Every invocation filters {@code tableCount} consecutive tables of a random schema as a random
+ * user.
+ */
+public class FilterTablesBenchmark extends AbstractAuthorizationBenchmark {
+
+  @Param({"100", "1000"})
+  public int tableCount;
+
+  /**
+   * Filters a page of tables of a random schema.
+   *
+   * @return The tables the user can load.
+   * @throws Exception if the filtering fails.
+   */
+  @Benchmark
+  public NameIdentifier[] benchmarkFilterByExpression() throws Exception {
+    int tablesPerSchema = TABLE_COUNT / SCHEMA_COUNT;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int start =
+        random.nextInt(SCHEMA_COUNT) * tablesPerSchema
+            + random.nextInt(tablesPerSchema - tableCount + 1);
+    NameIdentifier[] page = Arrays.copyOfRange(tables, start, start + tableCount);
+    return PrincipalUtils.doAs(
+        randomUser(),
+        () ->
+            MetadataFilterHelper.filterByExpression(
+                METALAKE, LOAD_TABLE_EXPRESSION, Entity.EntityType.TABLE, page));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.it;
+
+import org.apache.gravitino.server.authorization.MetadataIdConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmark for {@link MetadataIdConverter#getID}, which resolves the id of every authorized
+ * metadata object from the entity store.
+ */
+public class GetMetadataIdBenchmark extends AbstractAuthorizationBenchmark {
+
+  /**
+   * Resolves the id of a random table.
+   *
+   * @return The id of the table.
+   */
+  @Benchmark
+  public Long benchmarkGetId() {
+    return MetadataIdConverter.getID(toMetadataObject(randomTable()), METALAKE);
+  }
+}
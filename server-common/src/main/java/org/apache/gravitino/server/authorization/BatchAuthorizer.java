@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+
+/**
+ * A GravitinoAuthorizer which wraps the authorizer of the server to filter one metadata list. It is
+ * created for the current principal and metalake of a request, and must only be used by the
+ * calling thread.
+ *
+ * <p>The first check of a privilege on one of the listed objects checks all the listed objects
+ * with one {@link GravitinoAuthorizer#batchAuthorize} call. The results of all checks are kept, so
+ * the checks of the parents shared by the items, such as the catalog and schema privileges, run
+ * once for the whole list. A parent grant short-circuits the expression of every item, and then
+ * the listed objects are never checked.
+ */
+public class BatchAuthorizer implements GravitinoAuthorizer {
+
+  private final GravitinoAuthorizer delegate;
+
+  private final List<MetadataObject> listedObjects;
+
+  private final Set<MetadataObject> listedObjectSet;
+
+  private final Map<Pair<MetadataObject, String>, Boolean> results = new HashMap<>();
+
+  private final Map<String, Boolean> metalakeUsers = new HashMap<>();
+
+  private Boolean serviceAdmin;
+
+  /**
+   * Creates a BatchAuthorizer.
+   *
+   * @param delegate the authorizer which performs the checks
+   * @param listedObjects the metadata objects of the listed items
+   */
+  public BatchAuthorizer(GravitinoAuthorizer delegate, List<MetadataObject> listedObjects) {
+    this.delegate = delegate;
+    this.listedObjects = ImmutableList.copyOf(listedObjects);
+    this.listedObjectSet = ImmutableSet.copyOf(listedObjects);
+  }
+
+  @Override
+  public void initialize() {
+    // The delegate is initialized by GravitinoAuthorizerProvider.
+  }
+
+  @Override
+  public boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    return check(
+        metadataObject,
+        privilege.name(),
+        () -> delegate.batchAuthorize(principal, metalake, listedObjects, privilege),
+        () -> delegate.authorize(principal, metalake, metadataObject, privilege));
+  }
+
+  @Override
+  public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+    return check(
+        metadataObject,
+        AuthConstants.OWNER,
+        () -> delegate.batchIsOwner(principal, metalake, listedObjects),
+        () -> delegate.isOwner(principal, metalake, metadataObject));
+  }
+
+  @Override
+  public boolean isServiceAdmin() {
+    if (serviceAdmin == null) {
+      serviceAdmin = delegate.isServiceAdmin();
+    }
+    return serviceAdmin;
+  }
+
+  @Override
+  public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+    return delegate.isSelf(type, nameIdentifier);
+  }
+
+  @Override
+  public boolean isMetalakeUser(String metalake) {
+    return metalakeUsers.computeIfAbsent(metalake, delegate::isMetalakeUser);
+  }
+
+  @Override
+  public boolean hasSetOwnerPermission(String metalake, String type, String fullName) {
+    return delegate.hasSetOwnerPermission(metalake, type, fullName);
+  }
+
+  @Override
+  public boolean hasMetadataPrivilegePermission(String metalake, String type, String fullName) {
+    return delegate.hasMetadataPrivilegePermission(metalake, type, fullName);
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(Long roleId) {
+    delegate.handleRolePrivilegeChange(roleId);
+  }
+
+  @Override
+  public void handleUserRoleChange(String metalake, String userName) {
+    delegate.handleUserRoleChange(metalake, userName);
+  }
+
+  @Override
+  public void handleMetadataOwnerChange(
+      String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    delegate.handleMetadataOwnerChange(metalake, oldOwnerId, nameIdentifier, type);
+  }
+
+  @Override
+  public void close() {
+    // The delegate is closed by GravitinoAuthorizerProvider.
+  }
+
+  private boolean check(
+      MetadataObject metadataObject,
+      String privilege,
+      Supplier<boolean[]> batchCheck,
+      BooleanSupplier singleCheck) {
+    Pair<MetadataObject, String> key = Pair.of(metadataObject, privilege);
+    Boolean result = results.get(key);
+    if (result != null) {
+      return result;
+    }
+
+    if (listedObjectSet.contains(metadataObject)) {
+      boolean[] batchResults = batchCheck.get();
+      for (int i = 0; i < batchResults.length; i++) {
+        results.put(Pair.of(listedObjects.get(i), privilege), batchResults[i]);
+      }
+      return results.get(key);
+    }
+
+    result = singleCheck.getAsBoolean();
+    results.put(key, result);
+    return result;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.gravitino.MetadataObject;
+
+/**
+ * An in-memory index from the id of a metadata object to the ids of its ancestors, for example from
+ * a table id to the ids of its schema, catalog and metalake.
+ *
+ * <p>A metadata object keeps its id when it is renamed, it can not be moved to another parent, and
+ * the ids of dropped objects are not reused. So the ancestors of an id never change, and the index
+ * doesn't need to be invalidated. The entries of dropped objects are evicted by the size bound.
+ */
+final class MetadataAncestryIndex {
+  private static final long MAX_ENTRIES = 100_000L;
+
+  private static final MetadataAncestryIndex INSTANCE = new MetadataAncestryIndex(MAX_ENTRIES);
+
+  private final Cache<IndexKey, Map<MetadataObject.Type, Long>> ancestors;
+
+  MetadataAncestryIndex(long maxEntries) {
+    this.ancestors = Caffeine.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  static MetadataAncestryIndex getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the ids of the ancestors of a metadata object.
+   *
+   * @param type The metadata type.
+   * @param id The metadata id.
+   * @return The ids of the ancestors by their types, null if they are not indexed.
+   */
+  Map<MetadataObject.Type, Long> getAncestorIDs(MetadataObject.Type type, long id) {
+    return ancestors.getIfPresent(new IndexKey(type, id));
+  }
+
+  /**
+   * Indexes the ids of the ancestors of a metadata object.
+   *
+   * @param type The metadata type.
+   * @param id The metadata id.
+   * @param ancestorIds The ids of the ancestors by their types.
+   */
+  void put(MetadataObject.Type type, long id, Map<MetadataObject.Type, Long> ancestorIds) {
+    ancestors.put(new IndexKey(type, id), ImmutableMap.copyOf(ancestorIds));
+  }
+
+  long size() {
+    return ancestors.estimatedSize();
+  }
+
+  private static final class IndexKey {
+    private final MetadataObject.Type type;
+    private final long id;
+
+    private IndexKey(MetadataObject.Type type, long id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IndexKey)) {
+        return false;
+      }
+      IndexKey that = (IndexKey) o;
+      return id == that.id && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, id);
+    }
+  }
+}
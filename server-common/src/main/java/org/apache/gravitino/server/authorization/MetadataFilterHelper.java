@@ -19,12 +19,18 @@ package org.apache.gravitino.server.authorization;
 
 import java.security.Principal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
@@ -60,14 +66,15 @@ public class MetadataFilterHelper {
     GravitinoAuthorizer gravitinoAuthorizer =
         GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    return Arrays.stream(metadataList)
-        .filter(
-            metaDataName ->
-                gravitinoAuthorizer.authorize(
-                    currentPrincipal,
-                    metalake,
-                    NameIdentifierUtil.toMetadataObject(metaDataName, entityType),
-                    Privilege.Name.valueOf(privilege)))
+    boolean[] authorized =
+        gravitinoAuthorizer.batchAuthorize(
+            currentPrincipal,
+            metalake,
+            toMetadataObjects(entityType, metadataList),
+            Privilege.Name.valueOf(privilege));
+    return IntStream.range(0, metadataList.length)
+        .filter(i -> authorized[i])
+        .mapToObj(i -> metadataList[i])
         .toArray(NameIdentifier[]::new);
   }
 
@@ -85,18 +92,24 @@ public class MetadataFilterHelper {
       String expression,
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
-    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-        new AuthorizationExpressionEvaluator(expression);
     if (!enableAuthorization()) {
       return nameIdentifiers;
     }
+    // The expression is parsed once and all the items share one OGNL context. The privileges of
+    // the listed items are checked in one batch, and the checks of their parents only once.
+    List<MetadataObject> listedObjects =
+        isMetadataType(entityType)
+            ? toMetadataObjects(entityType, nameIdentifiers)
+            : Collections.emptyList();
+    GravitinoAuthorizer batchAuthorizer =
+        new BatchAuthorizer(
+            GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer(), listedObjects);
+    Predicate<Map<Entity.EntityType, NameIdentifier>> authorizationPredicate =
+        new AuthorizationExpressionEvaluator(expression).newPredicate(batchAuthorizer);
     return Arrays.stream(nameIdentifiers)
         .filter(
-            metaDataName -> {
-              Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
-                  spiltMetadataNames(metalake, entityType, metaDataName);
-              return authorizationExpressionEvaluator.evaluate(nameIdentifierMap);
-            })
+            metaDataName ->
+                authorizationPredicate.test(spiltMetadataNames(metalake, entityType, metaDataName)))
         .toArray(NameIdentifier[]::new);
   }
 
@@ -158,6 +171,18 @@ public class MetadataFilterHelper {
     return nameIdentifierMap;
   }
 
+  private static List<MetadataObject> toMetadataObjects(
+      Entity.EntityType entityType, NameIdentifier[] nameIdentifiers) {
+    return Arrays.stream(nameIdentifiers)
+        .map(nameIdentifier -> NameIdentifierUtil.toMetadataObject(nameIdentifier, entityType))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isMetadataType(Entity.EntityType entityType) {
+    return Arrays.stream(MetadataObject.Type.values())
+        .anyMatch(metadataType -> metadataType.name().equals(entityType.name()));
+  }
+
   private static boolean enableAuthorization() {
     Config config = GravitinoEnv.getInstance().config();
     return config != null && config.get(Configs.ENABLE_AUTHORIZATION);
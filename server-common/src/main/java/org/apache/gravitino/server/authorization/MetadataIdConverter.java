@@ -21,8 +21,14 @@ package org.apache.gravitino.server.authorization;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import org.apache.gravitino.Entity;
@@ -30,6 +36,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.CapabilityHelpers;
 import org.apache.gravitino.catalog.CatalogManager;
@@ -103,16 +110,8 @@ public class MetadataIdConverter {
     EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
     CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
 
-    MetadataObject.Type metadataType = metadataObject.type();
-    NameIdentifier ident =
-        (metadataType != MetadataObject.Type.METALAKE)
-            ? NameIdentifier.of(DOT_PATTERN.split(metalake + "." + metadataObject.fullName()))
-            : NameIdentifier.of(metadataObject.fullName());
-
-    NameIdentifier normalizedIdent =
-        normalizeCaseSensitive(ident, METADATA_SCOPE_MAPPING.get(metadataType), catalogManager);
-
-    Entity.EntityType entityType = getEntityType(metadataType);
+    NameIdentifier normalizedIdent = toNormalizedIdent(metadataObject, metalake, catalogManager);
+    Entity.EntityType entityType = getEntityType(metadataObject.type());
 
     Entity entity;
     try {
@@ -125,6 +124,160 @@ public class MetadataIdConverter {
     return extractIdFromEntity(entity);
   }
 
+  /**
+   * Converts the given metadata objects to metadata ids. The objects of one type are loaded from
+   * the entity store with one batch query instead of one query per object.
+   *
+   * @param metadataObjects The metadata objects to convert.
+   * @param metalake The metalake name.
+   * @return The metadata ids in the order of the metadata objects, null for the objects which don't
+   *     exist.
+   */
+  public static List<Long> getIDs(List<MetadataObject> metadataObjects, String metalake) {
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+
+    List<NameIdentifier> normalizedIdents = new ArrayList<>(metadataObjects.size());
+    Map<Entity.EntityType, List<NameIdentifier>> identsByType =
+        new EnumMap<>(Entity.EntityType.class);
+    for (MetadataObject metadataObject : metadataObjects) {
+      Preconditions.checkArgument(metadataObject != null, "Metadata object cannot be null");
+      NameIdentifier normalizedIdent = toNormalizedIdent(metadataObject, metalake, catalogManager);
+      normalizedIdents.add(normalizedIdent);
+      identsByType
+          .computeIfAbsent(getEntityType(metadataObject.type()), k -> new ArrayList<>())
+          .add(normalizedIdent);
+    }
+
+    // Objects of different types may have the same identifier, so the ids are kept per type.
+    Map<Entity.EntityType, Map<NameIdentifier, Long>> idsByType =
+        new EnumMap<>(Entity.EntityType.class);
+    for (Map.Entry<Entity.EntityType, List<NameIdentifier>> entry : identsByType.entrySet()) {
+      Entity.EntityType entityType = entry.getKey();
+      Map<NameIdentifier, Long> ids = new HashMap<>();
+      if (HasIdentifier.class.isAssignableFrom(ENTITY_CLASS_MAPPING.get(entityType))) {
+        try {
+          for (HasIdentifier entity :
+              entityStore.batchGet(entry.getValue(), entityType, getEntityClass(entityType))) {
+            ids.put(entity.nameIdentifier(), entity.id());
+          }
+        } catch (IOException e) {
+          throw new RuntimeException("failed to load entities from entity store", e);
+        }
+      }
+      idsByType.put(entityType, ids);
+    }
+
+    List<Long> result = new ArrayList<>(metadataObjects.size());
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      Entity.EntityType entityType = getEntityType(metadataObjects.get(i).type());
+      result.add(idsByType.get(entityType).get(normalizedIdents.get(i)));
+    }
+    return result;
+  }
+
+  /**
+   * Converts the metadata objects of one hierarchy, for example the metalake, the catalog, the
+   * schema and the table of a request, to metadata ids. The deepest object is loaded from the
+   * entity store, and the ids of its ancestors are taken from the {@link MetadataAncestryIndex}
+   * once they are indexed, so the other levels don't need to be loaded again.
+   *
+   * @param metadataObjects The metadata objects of the hierarchy, the elements may be null.
+   * @param metalake The metalake name.
+   * @return The metadata ids in the order of the metadata objects, null for the objects which don't
+   *     exist.
+   */
+  public static List<Long> getHierarchyIDs(List<MetadataObject> metadataObjects, String metalake) {
+    MetadataObject deepest = null;
+    for (MetadataObject metadataObject : metadataObjects) {
+      if (metadataObject != null && (deepest == null || depth(metadataObject) > depth(deepest))) {
+        deepest = metadataObject;
+      }
+    }
+
+    Map<MetadataObject, Long> hierarchyIds =
+        deepest == null ? Collections.emptyMap() : getHierarchyIDs(deepest, metalake);
+    List<Long> result = new ArrayList<>(metadataObjects.size());
+    for (MetadataObject metadataObject : metadataObjects) {
+      if (metadataObject == null) {
+        result.add(null);
+      } else if (hierarchyIds.containsKey(metadataObject)) {
+        result.add(hierarchyIds.get(metadataObject));
+      } else {
+        // The object is not an ancestor of the deepest object.
+        result.add(getIDOrNull(metadataObject, metalake));
+      }
+    }
+    return result;
+  }
+
+  private static Map<MetadataObject, Long> getHierarchyIDs(
+      MetadataObject metadataObject, String metalake) {
+    Long id = getIDOrNull(metadataObject, metalake);
+    if (id == null) {
+      return Collections.emptyMap();
+    }
+
+    List<MetadataObject> ancestors = ancestorsOf(metadataObject, metalake);
+    MetadataAncestryIndex index = MetadataAncestryIndex.getInstance();
+    Map<MetadataObject.Type, Long> ancestorIds = index.getAncestorIDs(metadataObject.type(), id);
+    if (ancestorIds == null) {
+      ancestorIds = new EnumMap<>(MetadataObject.Type.class);
+      for (MetadataObject ancestor : ancestors) {
+        ancestorIds.put(ancestor.type(), getIDOrNull(ancestor, metalake));
+      }
+      // An ancestor may be dropped meanwhile, the ids are only indexed if all of them exist.
+      if (!ancestorIds.containsValue(null)) {
+        index.put(metadataObject.type(), id, ancestorIds);
+      }
+    }
+
+    Map<MetadataObject, Long> hierarchyIds = new HashMap<>();
+    hierarchyIds.put(metadataObject, id);
+    for (MetadataObject ancestor : ancestors) {
+      hierarchyIds.put(ancestor, ancestorIds.get(ancestor.type()));
+    }
+    return hierarchyIds;
+  }
+
+  private static List<MetadataObject> ancestorsOf(MetadataObject metadataObject, String metalake) {
+    List<MetadataObject> ancestors = new ArrayList<>();
+    if (metadataObject.type() == MetadataObject.Type.METALAKE) {
+      return ancestors;
+    }
+    MetadataObject parent = metadataObject;
+    while ((parent = MetadataObjects.parent(parent)) != null) {
+      ancestors.add(parent);
+    }
+    ancestors.add(MetadataObjects.of(ImmutableList.of(metalake), MetadataObject.Type.METALAKE));
+    return ancestors;
+  }
+
+  private static int depth(MetadataObject metadataObject) {
+    return metadataObject.type() == MetadataObject.Type.METALAKE
+        ? 0
+        : DOT_PATTERN.split(metadataObject.fullName()).length;
+  }
+
+  private static Long getIDOrNull(MetadataObject metadataObject, String metalake) {
+    try {
+      return getID(metadataObject, metalake);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static NameIdentifier toNormalizedIdent(
+      MetadataObject metadataObject, String metalake, CatalogManager catalogManager) {
+    MetadataObject.Type metadataType = metadataObject.type();
+    NameIdentifier ident =
+        (metadataType != MetadataObject.Type.METALAKE)
+            ? NameIdentifier.of(DOT_PATTERN.split(metalake + "." + metadataObject.fullName()))
+            : NameIdentifier.of(metadataObject.fullName());
+
+    return normalizeCaseSensitive(ident, METADATA_SCOPE_MAPPING.get(metadataType), catalogManager);
+  }
+
   @VisibleForTesting
   static NameIdentifier normalizeCaseSensitive(
       NameIdentifier ident, Capability.Scope scope, CatalogManager catalogManager) {
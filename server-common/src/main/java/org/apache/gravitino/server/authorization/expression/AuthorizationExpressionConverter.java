@@ -17,10 +17,13 @@
 
 package org.apache.gravitino.server.authorization.expression;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.server.authorization.MetadataFilterHelper;
 
@@ -72,6 +75,7 @@ public class AuthorizationExpressionConverter {
         authorizationExpression,
         (expression) -> {
           String replacedExpression = replaceAnyPrivilege(authorizationExpression);
+          replacedExpression = replaceAnyPrivilegeExpressions(replacedExpression);
           replacedExpression = replaceAnyExpressions(replacedExpression);
           Matcher matcher = PATTERN.matcher(replacedExpression);
           StringBuffer result = new StringBuffer();
@@ -102,6 +106,45 @@ public class AuthorizationExpressionConverter {
         });
   }
 
+  /**
+   * Replaces any expression of a privilege with one call of the authorizer, so the levels of the
+   * hierarchy are authorized in one pass. For example, replace ANY(USE_CATALOG, METALAKE, CATALOG)
+   * to authorizer.authorizeAny(principal,METALAKE_NAME,{METALAKE,CATALOG},USE_CATALOG). The any
+   * expressions of OWNER are left to {@link #replaceAnyExpressions(String)}.
+   *
+   * @param expression The original expression
+   * @return The modified expression
+   */
+  public static String replaceAnyPrivilegeExpressions(String expression) {
+    Matcher matcher = ANY_PATTERN.matcher(expression);
+    StringBuffer result = new StringBuffer();
+
+    while (matcher.find()) {
+      String[] parts = matcher.group(1).split(",");
+      String function = parts[0].trim();
+      List<String> scopes =
+          Arrays.stream(parts, 1, parts.length)
+              .map(String::trim)
+              .filter(scope -> !scope.isEmpty())
+              .collect(Collectors.toList());
+      if (scopes.size() < 2
+          || AuthConstants.OWNER.equals(function)
+          || AuthConstants.SELF.equals(function)) {
+        matcher.appendReplacement(result, Matcher.quoteReplacement(matcher.group(0)));
+        continue;
+      }
+
+      String replacement =
+          String.format(
+              "authorizer.authorizeAny(principal,METALAKE_NAME,{%s},"
+                  + "@org.apache.gravitino.authorization.Privilege$Name@%s)",
+              String.join(",", scopes), function);
+      matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+    }
+    matcher.appendTail(result);
+    return result.toString();
+  }
+
   /**
    * Replaces any expression. For example, replace ANY(OWNER, METALAKE, CATALOG) to METALAKE::OWNER
    * || CATALOG::OWNER.
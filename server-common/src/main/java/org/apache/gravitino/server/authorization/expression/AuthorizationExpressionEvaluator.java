@@ -17,12 +17,15 @@
 
 package org.apache.gravitino.server.authorization.expression;
 
+import com.google.common.collect.Maps;
 import java.security.Principal;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -37,8 +40,37 @@ import org.apache.gravitino.utils.PrincipalUtils;
 /** Evaluate the runtime result of the AuthorizationExpression. */
 public class AuthorizationExpressionEvaluator {
 
+  /**
+   * The PARSED_EXPRESSION_CACHE caches the parsed trees of OGNL expressions, so an expression is
+   * parsed once instead of on every evaluation. Parsed trees hold no evaluation state and can be
+   * shared by threads.
+   */
+  private static final Map<String, Object> PARSED_EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+  /** The names of the context variables of the metadata objects, only for metadata types. */
+  private static final Map<Entity.EntityType, String> METADATA_OBJECT_VARIABLES;
+
+  /** The names of the context variables of the metadata name identifiers. */
+  private static final Map<Entity.EntityType, String> NAME_IDENT_VARIABLES;
+
+  static {
+    Map<Entity.EntityType, String> metadataObjectVariables = new EnumMap<>(Entity.EntityType.class);
+    Map<Entity.EntityType, String> nameIdentVariables = new EnumMap<>(Entity.EntityType.class);
+    for (Entity.EntityType type : Entity.EntityType.values()) {
+      if (Arrays.stream(MetadataObject.Type.values())
+          .anyMatch(metadataType -> metadataType.name().equals(type.name()))) {
+        metadataObjectVariables.put(type, type.name());
+      }
+      nameIdentVariables.put(type, type.name() + "_NAME_IDENT");
+    }
+    METADATA_OBJECT_VARIABLES = Maps.immutableEnumMap(metadataObjectVariables);
+    NAME_IDENT_VARIABLES = Maps.immutableEnumMap(nameIdentVariables);
+  }
+
   private final String ognlAuthorizationExpression;
 
+  private final Object parsedOgnlExpression;
+
   /**
    * Use {@link AuthorizationExpressionConverter} to convert the authorization expression into an
    * OGNL expression, and then call {@link GravitinoAuthorizer} to perform permission verification.
@@ -48,6 +80,9 @@ public class AuthorizationExpressionEvaluator {
   public AuthorizationExpressionEvaluator(String expression) {
     this.ognlAuthorizationExpression =
         AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+    this.parsedOgnlExpression =
+        PARSED_EXPRESSION_CACHE.computeIfAbsent(
+            ognlAuthorizationExpression, AuthorizationExpressionEvaluator::parseOgnlExpression);
   }
 
   /**
@@ -58,7 +93,7 @@ public class AuthorizationExpressionEvaluator {
    * @return authorization result
    */
   public boolean evaluate(Map<Entity.EntityType, NameIdentifier> metadataNames) {
-    return evaluate(metadataNames, new HashMap<>());
+    return evaluate(metadataNames, Collections.emptyMap());
   }
 
   /**
@@ -71,35 +106,84 @@ public class AuthorizationExpressionEvaluator {
    */
   public boolean evaluate(
       Map<Entity.EntityType, NameIdentifier> metadataNames, Map<String, Object> pathParams) {
-    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    GravitinoAuthorizer gravitinoAuthorizer =
-        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
-    OgnlContext ognlContext = Ognl.createDefaultContext(null);
-    ognlContext.put("principal", currentPrincipal);
-    ognlContext.put("authorizer", gravitinoAuthorizer);
-    ognlContext.putAll(pathParams);
+    return evaluate(metadataNames, createOgnlContext(pathParams));
+  }
+
+  /**
+   * Creates a predicate which evaluates the expression for the current principal, to authorize
+   * every item of a metadata list. All the evaluations of the predicate share one OGNL context, so
+   * the predicate must only be used by the calling thread.
+   *
+   * @return a predicate from the metadata names of an item to its authorization result
+   */
+  public Predicate<Map<Entity.EntityType, NameIdentifier>> newPredicate() {
+    return newPredicate(GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer());
+  }
+
+  /**
+   * Creates a predicate like {@link #newPredicate()}, which calls the given authorizer instead of
+   * the authorizer of the server.
+   *
+   * @param gravitinoAuthorizer the authorizer called by the expression
+   * @return a predicate from the metadata names of an item to its authorization result
+   */
+  public Predicate<Map<Entity.EntityType, NameIdentifier>> newPredicate(
+      GravitinoAuthorizer gravitinoAuthorizer) {
+    OgnlContext ognlContext = createOgnlContext(Collections.emptyMap(), gravitinoAuthorizer);
+    return metadataNames -> evaluate(metadataNames, ognlContext);
+  }
+
+  private boolean evaluate(
+      Map<Entity.EntityType, NameIdentifier> metadataNames, OgnlContext ognlContext) {
     metadataNames.forEach(
         (type, entityNameIdent) -> {
-          if (isMetadataType(type)) {
+          String metadataObjectVariable = METADATA_OBJECT_VARIABLES.get(type);
+          if (metadataObjectVariable != null) {
             MetadataObject metadataObject =
                 NameIdentifierUtil.toMetadataObject(entityNameIdent, type);
-            ognlContext.put(type.name(), metadataObject);
+            ognlContext.put(metadataObjectVariable, metadataObject);
           }
-          ognlContext.put(type.name() + "_NAME_IDENT", entityNameIdent);
+          ognlContext.put(NAME_IDENT_VARIABLES.get(type), entityNameIdent);
         });
     NameIdentifier nameIdentifier = metadataNames.get(Entity.EntityType.METALAKE);
     ognlContext.put(
         "METALAKE_NAME", Optional.ofNullable(nameIdentifier).map(NameIdentifier::name).orElse(""));
     try {
-      Object value = Ognl.getValue(ognlAuthorizationExpression, ognlContext);
+      Object value = Ognl.getValue(parsedOgnlExpression, ognlContext, ognlContext);
       return (boolean) value;
     } catch (OgnlException e) {
       throw new RuntimeException("ognl evaluate error", e);
+    } finally {
+      // Don't leak the metadata of this evaluation into the next one using the same context.
+      for (Entity.EntityType type : metadataNames.keySet()) {
+        ognlContext.remove(NAME_IDENT_VARIABLES.get(type));
+        if (METADATA_OBJECT_VARIABLES.containsKey(type)) {
+          ognlContext.remove(METADATA_OBJECT_VARIABLES.get(type));
+        }
+      }
     }
   }
 
-  private static boolean isMetadataType(Entity.EntityType type) {
-    return Arrays.stream(MetadataObject.Type.values())
-        .anyMatch(e -> Objects.equals(e.name(), type.name()));
+  private static OgnlContext createOgnlContext(Map<String, Object> pathParams) {
+    return createOgnlContext(
+        pathParams, GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer());
+  }
+
+  private static OgnlContext createOgnlContext(
+      Map<String, Object> pathParams, GravitinoAuthorizer gravitinoAuthorizer) {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    OgnlContext ognlContext = Ognl.createDefaultContext(null);
+    ognlContext.put("principal", currentPrincipal);
+    ognlContext.put("authorizer", gravitinoAuthorizer);
+    ognlContext.putAll(pathParams);
+    return ognlContext;
+  }
+
+  private static Object parseOgnlExpression(String ognlExpression) {
+    try {
+      return Ognl.parseExpression(ognlExpression);
+    } catch (OgnlException e) {
+      throw new IllegalArgumentException("Invalid ognl expression: " + ognlExpression, e);
+    }
   }
 }
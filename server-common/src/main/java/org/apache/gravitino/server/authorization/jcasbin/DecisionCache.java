@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.apache.gravitino.MetadataObject;
+
+/**
+ * A bounded cache of the decisions of {@link JcasbinAuthorizer}, keyed by the user id, the metadata
+ * type, the metadata id and the privilege. A repeated check of a user on the same object doesn't
+ * load the roles of the user and the owners of the object again.
+ *
+ * <p>The decisions are invalidated when the privileges of a role, the roles of a user or the owner
+ * of an object change. A decision computed while such an invalidation happened is not kept, so it
+ * can not outlive the change.
+ */
+final class DecisionCache {
+
+  // Bumped on every invalidation, decisions are only kept if it didn't change meanwhile.
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Cache<DecisionKey, Boolean> cache;
+
+  DecisionCache(long maxEntries, long expireTimeMs) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxEntries).recordStats();
+    if (expireTimeMs > 0) {
+      builder.expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS);
+    }
+    this.cache = builder.build();
+  }
+
+  /**
+   * Gets the cached decision, or makes the decision with the loader and caches it.
+   *
+   * @param userId The user id.
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   * @param privilege The privilege, or OWNER.
+   * @param loader Makes the decision if it is not cached.
+   * @return The decision.
+   */
+  boolean get(
+      long userId,
+      MetadataObject.Type metadataType,
+      long metadataId,
+      String privilege,
+      BooleanSupplier loader) {
+    DecisionKey key = new DecisionKey(userId, metadataType, metadataId, privilege);
+    Boolean cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long startGeneration = generation.get();
+    boolean decision = loader.getAsBoolean();
+    cache.put(key, decision);
+    // An invalidation happened while deciding, the decision may already be stale.
+    if (generation.get() != startGeneration) {
+      cache.invalidate(key);
+    }
+    return decision;
+  }
+
+  /**
+   * Invalidates the decisions of the given users.
+   *
+   * @param userIds The user ids.
+   */
+  void invalidateUsers(Set<Long> userIds) {
+    generation.incrementAndGet();
+    if (!userIds.isEmpty()) {
+      cache.asMap().keySet().removeIf(key -> userIds.contains(key.userId));
+    }
+  }
+
+  /**
+   * Invalidates the decisions of all users on the given metadata object.
+   *
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   */
+  void invalidateMetadata(MetadataObject.Type metadataType, long metadataId) {
+    generation.incrementAndGet();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(key -> key.metadataId == metadataId && key.metadataType == metadataType);
+  }
+
+  long size() {
+    return cache.estimatedSize();
+  }
+
+  CacheStats stats() {
+    return cache.stats();
+  }
+
+  private static final class DecisionKey {
+    private final long userId;
+    private final MetadataObject.Type metadataType;
+    private final long metadataId;
+    private final String privilege;
+
+    private DecisionKey(
+        long userId, MetadataObject.Type metadataType, long metadataId, String privilege) {
+      this.userId = userId;
+      this.metadataType = metadataType;
+      this.metadataId = metadataId;
+      this.privilege = privilege;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey that = (DecisionKey) o;
+      return userId == that.userId
+          && metadataId == that.metadataId
+          && metadataType == that.metadataType
+          && privilege.equals(that.privilege);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, metadataType, metadataId, privilege);
+    }
+  }
+}
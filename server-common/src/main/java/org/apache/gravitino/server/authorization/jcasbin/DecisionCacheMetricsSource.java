@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+class DecisionCacheMetricsSource extends MetricsSource {
+
+  DecisionCacheMetricsSource(DecisionCache decisionCache) {
+    super(MetricsSource.AUTHORIZATION_DECISION_CACHE_METRIC_NAME);
+    registerGauge(
+        MetricNames.AUTHORIZATION_DECISION_CACHE_HIT_COUNT,
+        (Gauge<Long>) () -> decisionCache.stats().hitCount());
+    registerGauge(
+        MetricNames.AUTHORIZATION_DECISION_CACHE_MISS_COUNT,
+        (Gauge<Long>) () -> decisionCache.stats().missCount());
+    registerGauge(
+        MetricNames.AUTHORIZATION_DECISION_CACHE_HIT_RATE,
+        (Gauge<Double>) () -> decisionCache.stats().hitRate());
+    registerGauge(
+        MetricNames.AUTHORIZATION_DECISION_CACHE_EVICTION_COUNT,
+        (Gauge<Long>) () -> decisionCache.stats().evictionCount());
+    registerGauge(MetricNames.AUTHORIZATION_DECISION_CACHE_SIZE, (Gauge<Long>) decisionCache::size);
+  }
+}
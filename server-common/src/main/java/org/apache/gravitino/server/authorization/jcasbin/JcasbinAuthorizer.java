@@ -17,18 +17,24 @@
 
 package org.apache.gravitino.server.authorization.jcasbin;
 
-import com.google.common.base.Preconditions;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import org.apache.commons.io.IOUtils;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -38,30 +44,35 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
-import org.casbin.jcasbin.main.Enforcer;
-import org.casbin.jcasbin.main.SyncedEnforcer;
-import org.casbin.jcasbin.model.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** The Jcasbin implementation of GravitinoAuthorizer. */
+/**
+ * The Jcasbin implementation of GravitinoAuthorizer. The policies are evaluated with the semantics
+ * of the jcasbin model in {@code jcasbin_model.conf} by a {@link PolicyEvaluator}, which doesn't
+ * lock on the request path.
+ */
 public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   private static final Logger LOG = LoggerFactory.getLogger(JcasbinAuthorizer.class);
 
-  /** Jcasbin enforcer is used for metadata authorization. */
-  private Enforcer enforcer;
+  /** PolicyEvaluator is used for metadata authorization. */
+  private final PolicyEvaluator policyEvaluator = new PolicyEvaluator();
 
   private final Set<String> serviceAdmins = ConcurrentHashMap.newKeySet();
 
@@ -71,24 +82,51 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
    */
   private Set<Long> loadedRoles = ConcurrentHashMap.newKeySet();
 
+  /** decisionCache caches the decisions of users, it is null if the cache is disabled. */
+  private DecisionCache decisionCache;
+
+  private DecisionCacheMetricsSource decisionCacheMetricsSource;
+
+  /** preloadThread loads the policies of all the roles at startup, it is null if disabled. */
+  private Thread preloadThread;
+
+  private volatile boolean ready = true;
+
+  /**
+   * roleChangeEpoch counts the changes of the roles and their users, the preload doesn't assign the
+   * roles it listed before a change. It is guarded by roleChangeLock.
+   */
+  private final Object roleChangeLock = new Object();
+
+  private long roleChangeEpoch;
+
   @Override
   public void initialize() {
-    try (InputStream modelStream =
-        JcasbinAuthorizer.class.getResourceAsStream("/jcasbin_model.conf")) {
-      Preconditions.checkNotNull(modelStream, "Jcasbin model file can not found.");
-      String modelData = IOUtils.toString(modelStream, StandardCharsets.UTF_8);
-      Model model = new Model();
-      model.loadModelFromText(modelData);
-      enforcer = new SyncedEnforcer(model, new GravitinoAdapter());
-      Config config = GravitinoEnv.getInstance().config();
-      if (config != null) {
-        serviceAdmins.addAll(config.get(Configs.SERVICE_ADMINS));
+    Config config = GravitinoEnv.getInstance().config();
+    if (config != null) {
+      serviceAdmins.addAll(config.get(Configs.SERVICE_ADMINS));
+      if (config.get(Configs.AUTHORIZATION_DECISION_CACHE_ENABLED)) {
+        decisionCache =
+            new DecisionCache(
+                config.get(Configs.AUTHORIZATION_DECISION_CACHE_MAX_ENTRIES),
+                config.get(Configs.AUTHORIZATION_DECISION_CACHE_EXPIRATION_TIME));
+        MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+        if (metricsSystem != null) {
+          decisionCacheMetricsSource = new DecisionCacheMetricsSource(decisionCache);
+          metricsSystem.register(decisionCacheMetricsSource);
+        }
+      }
+      if (config.get(Configs.AUTHORIZATION_POLICY_PRELOAD_ENABLED)) {
+        startPreload(config.get(Configs.AUTHORIZATION_POLICY_PRELOAD_PAGE_SIZE));
       }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
     }
   }
 
+  @Override
+  public boolean isReady() {
+    return ready;
+  }
+
   @Override
   public boolean authorize(
       Principal principal,
@@ -103,6 +141,64 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return authorizeInternal(principal, metalake, metadataObject, AuthConstants.OWNER);
   }
 
+  @Override
+  public boolean[] batchAuthorize(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    return batchAuthorizeInternal(principal, metalake, metadataObjects, privilege.name());
+  }
+
+  @Override
+  public boolean[] batchIsOwner(
+      Principal principal, String metalake, List<MetadataObject> metadataObjects) {
+    return batchAuthorizeInternal(principal, metalake, metadataObjects, AuthConstants.OWNER);
+  }
+
+  @Override
+  public boolean authorizeAny(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    // The user and the ids of all the levels are loaded once, the ids of the ancestors are taken
+    // from the ancestry index.
+    String username = principal.getName();
+    Long userId;
+    List<Long> metadataIds;
+    try {
+      userId = getUserEntity(username, metalake).id();
+      metadataIds = MetadataIdConverter.getHierarchyIDs(metadataObjects, metalake);
+    } catch (Exception e) {
+      LOG.debug("Can not get entity id", e);
+      return false;
+    }
+
+    AtomicBoolean rolesLoaded = new AtomicBoolean();
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      Long metadataId = metadataIds.get(i);
+      if (metadataId == null) {
+        continue;
+      }
+      boolean allowed =
+          decide(
+              userId,
+              metadataObject,
+              metadataId,
+              privilege.name(),
+              () -> {
+                loadRolePrivilegeOnce(metalake, username, userId, rolesLoaded);
+                return authorizeByPolicy(userId, metadataObject, metadataId, privilege.name());
+              });
+      if (allowed) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public boolean isServiceAdmin() {
     return GravitinoEnv.getInstance()
@@ -146,7 +242,7 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
         UserEntity userEntity = getUserEntity(currentUserName, metalake);
         Long userId = userEntity.id();
         loadRolePrivilege(metalake, currentUserName, userId);
-        return enforcer.hasRoleForUser(String.valueOf(userId), String.valueOf(roleId));
+        return policyEvaluator.hasRoleForUser(userId, roleId);
       } catch (Exception e) {
         LOG.warn("can not get user id or role id.", e);
         return false;
@@ -219,8 +315,31 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
   @Override
   public void handleRolePrivilegeChange(Long roleId) {
-    loadedRoles.remove(roleId);
-    enforcer.deleteRole(String.valueOf(roleId));
+    Set<Long> affectedUsers;
+    synchronized (roleChangeLock) {
+      roleChangeEpoch++;
+      affectedUsers = policyEvaluator.usersOfRole(roleId);
+      loadedRoles.remove(roleId);
+      policyEvaluator.deleteRole(roleId);
+    }
+    if (decisionCache != null) {
+      decisionCache.invalidateUsers(affectedUsers);
+    }
+  }
+
+  @Override
+  public void handleUserRoleChange(String metalake, String userName) {
+    synchronized (roleChangeLock) {
+      roleChangeEpoch++;
+    }
+    if (decisionCache == null) {
+      return;
+    }
+    try {
+      decisionCache.invalidateUsers(ImmutableSet.of(getUserEntity(userName, metalake).id()));
+    } catch (Exception e) {
+      LOG.warn("Can not get user {} in metalake {}", userName, metalake, e);
+    }
   }
 
   @Override
@@ -228,18 +347,28 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
     MetadataObject metadataObject = NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
     Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
-    ImmutableList<String> policy =
-        ImmutableList.of(
-            String.valueOf(oldOwnerId),
-            String.valueOf(metadataObject.type()),
-            String.valueOf(metadataId),
-            AuthConstants.OWNER,
-            "allow");
-    enforcer.removePolicy(policy);
+    if (oldOwnerId != null) {
+      policyEvaluator.removeUserPolicy(
+          oldOwnerId,
+          PolicyEvaluator.Policy.allow(metadataObject.type(), metadataId, AuthConstants.OWNER));
+    }
+    if (decisionCache != null) {
+      decisionCache.invalidateMetadata(metadataObject.type(), metadataId);
+    }
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (preloadThread != null) {
+      preloadThread.interrupt();
+      preloadThread = null;
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (decisionCacheMetricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(decisionCacheMetricsSource);
+    }
+    decisionCacheMetricsSource = null;
+  }
 
   private boolean authorizeInternal(
       Principal principal, String metalake, MetadataObject metadataObject, String privilege) {
@@ -247,13 +376,92 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return loadPrivilegeAndAuthorize(username, metalake, metadataObject, privilege);
   }
 
-  private boolean authorizeByJcasbin(
+  private boolean[] batchAuthorizeInternal(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      String privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    if (metadataObjects.isEmpty()) {
+      return results;
+    }
+
+    // The user and the metadata ids are loaded once for the whole list.
+    String username = principal.getName();
+    Long userId;
+    List<Long> metadataIds;
+    try {
+      userId = getUserEntity(username, metalake).id();
+      metadataIds = MetadataIdConverter.getIDs(metadataObjects, metalake);
+    } catch (Exception e) {
+      LOG.debug("Can not get entity id", e);
+      return results;
+    }
+
+    // The roles and the owners are loaded once, and only if a decision isn't cached.
+    AtomicBoolean rolesLoaded = new AtomicBoolean();
+    AtomicBoolean ownersLoaded = new AtomicBoolean();
+    for (int i = 0; i < results.length; i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      Long metadataId = metadataIds.get(i);
+      if (metadataId == null) {
+        continue;
+      }
+      results[i] =
+          decide(
+              userId,
+              metadataObject,
+              metadataId,
+              privilege,
+              () -> {
+                loadRolePrivilegeOnce(metalake, username, userId, rolesLoaded);
+                // The owner policies only match OWNER requests, see the matchers of the jcasbin
+                // model.
+                if (AuthConstants.OWNER.equals(privilege)) {
+                  loadOwnerPoliciesOnce(metalake, metadataObjects, metadataIds, ownersLoaded);
+                }
+                return authorizeByPolicy(userId, metadataObject, metadataId, privilege);
+              });
+    }
+    return results;
+  }
+
+  private void loadRolePrivilegeOnce(
+      String metalake, String username, Long userId, AtomicBoolean rolesLoaded) {
+    if (rolesLoaded.compareAndSet(false, true)) {
+      try {
+        loadRolePrivilege(metalake, username, userId);
+      } catch (Exception e) {
+        LOG.error(e.getMessage(), e);
+      }
+    }
+  }
+
+  private void loadOwnerPoliciesOnce(
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      List<Long> metadataIds,
+      AtomicBoolean ownersLoaded) {
+    if (ownersLoaded.compareAndSet(false, true)) {
+      loadOwnerPolicies(metalake, metadataObjects, metadataIds);
+    }
+  }
+
+  private boolean decide(
+      Long userId,
+      MetadataObject metadataObject,
+      Long metadataId,
+      String privilege,
+      BooleanSupplier loader) {
+    if (decisionCache == null) {
+      return loader.getAsBoolean();
+    }
+    return decisionCache.get(userId, metadataObject.type(), metadataId, privilege, loader);
+  }
+
+  private boolean authorizeByPolicy(
       Long userId, MetadataObject metadataObject, Long metadataId, String privilege) {
-    return enforcer.enforce(
-        String.valueOf(userId),
-        String.valueOf(metadataObject.type()),
-        String.valueOf(metadataId),
-        privilege);
+    return policyEvaluator.enforce(userId, metadataObject.type(), metadataId, privilege);
   }
 
   private boolean loadPrivilegeAndAuthorize(
@@ -268,8 +476,15 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       LOG.debug("Can not get entity id", e);
       return false;
     }
-    loadPrivilege(metalake, username, userId, metadataObject, metadataId);
-    return authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+    return decide(
+        userId,
+        metadataObject,
+        metadataId,
+        privilege,
+        () -> {
+          loadPrivilege(metalake, username, userId, metadataObject, metadataId);
+          return authorizeByPolicy(userId, metadataObject, metadataId, privilege);
+        });
   }
 
   private static UserEntity getUserEntity(String username, String metalake) throws IOException {
@@ -307,22 +522,124 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
                 userNameIdentifier,
                 Entity.EntityType.USER);
 
+    loadRolePolicies(entityStore, metalake, entities);
+
+    // The roles are assigned after their policies are loaded, and also when another user already
+    // loaded them.
     for (RoleEntity role : entities) {
+      if (!policyEvaluator.hasRoleForUser(userId, role.id())) {
+        policyEvaluator.addRoleForUser(userId, role.id());
+      }
+    }
+  }
+
+  private void loadRolePolicies(EntityStore entityStore, String metalake, List<RoleEntity> entities)
+      throws IOException {
+    List<NameIdentifier> roleIdents =
+        entities.stream()
+            .filter(role -> !loadedRoles.contains(role.id()))
+            .map(role -> NameIdentifierUtil.ofRole(metalake, role.name()))
+            .collect(Collectors.toList());
+    if (roleIdents.isEmpty()) {
+      return;
+    }
+
+    // Load the full roles with their securable objects in one batch instead of one by one.
+    List<RoleEntity> roles =
+        entityStore.batchGet(roleIdents, Entity.EntityType.ROLE, RoleEntity.class);
+    for (RoleEntity role : roles) {
       Long roleId = role.id();
-      role =
-          entityStore.get(
-              NameIdentifierUtil.ofRole(metalake, role.name()),
-              Entity.EntityType.ROLE,
-              RoleEntity.class);
       if (loadedRoles.contains(roleId)) {
         continue;
       }
-      enforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
       loadPolicyByRoleEntity(role);
       loadedRoles.add(roleId);
     }
   }
 
+  private void startPreload(int pageSize) {
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    ready = false;
+    preloadThread =
+        new Thread(
+            () -> {
+              try {
+                preloadPolicies(entityStore, pageSize);
+              } catch (Exception e) {
+                // The policies which are not preloaded are still loaded by the first request.
+                LOG.warn("Failed to preload the authorization policies", e);
+              } finally {
+                ready = true;
+              }
+            },
+            "jcasbin-policy-preload");
+    preloadThread.setDaemon(true);
+    preloadThread.start();
+  }
+
+  /**
+   * Loads the policies of all the roles page by page, and assigns the roles to all the users. The
+   * requests served meanwhile load what they need on demand, as they do without the preload. If a
+   * role or the roles of a user change after the users are listed, the listed roles may be stale,
+   * so they are not assigned and the users load their roles on demand instead.
+   */
+  @VisibleForTesting
+  void preloadPolicies(EntityStore entityStore, int pageSize) throws IOException {
+    long startTime = System.currentTimeMillis();
+    List<BaseMetalake> metalakes =
+        entityStore.list(Namespace.empty(), BaseMetalake.class, Entity.EntityType.METALAKE);
+    for (BaseMetalake metalake : metalakes) {
+      String metalakeName = metalake.name();
+      List<RoleEntity> roles =
+          entityStore.list(
+              NamespaceUtil.ofRole(metalakeName), RoleEntity.class, Entity.EntityType.ROLE);
+      for (List<RoleEntity> page : Lists.partition(roles, pageSize)) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        loadRolePolicies(entityStore, metalakeName, page);
+      }
+
+      // The users are listed with their role ids, so the roles are assigned without a query for
+      // each user.
+      long epoch;
+      synchronized (roleChangeLock) {
+        epoch = roleChangeEpoch;
+      }
+      List<UserEntity> users =
+          entityStore.list(
+              NamespaceUtil.ofUser(metalakeName), UserEntity.class, Entity.EntityType.USER, true);
+      assignPreloadedRoles(metalakeName, users, epoch);
+    }
+    LOG.info(
+        "Preloaded the policies of {} roles in {} ms",
+        loadedRoles.size(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  private void assignPreloadedRoles(String metalake, List<UserEntity> users, long epoch) {
+    // The roles are assigned under the lock, so a change either happens before and skips the
+    // assignment, or happens after and removes the assigned roles.
+    synchronized (roleChangeLock) {
+      if (epoch != roleChangeEpoch) {
+        LOG.info(
+            "The roles changed while preloading metalake {}, the users load their roles on demand",
+            metalake);
+        return;
+      }
+      for (UserEntity user : users) {
+        if (user.roleIds() == null) {
+          continue;
+        }
+        for (Long roleId : user.roleIds()) {
+          if (!policyEvaluator.hasRoleForUser(user.id(), roleId)) {
+            policyEvaluator.addRoleForUser(user.id(), roleId);
+          }
+        }
+      }
+    }
+  }
+
   private void loadOwnerPolicy(String metalake, MetadataObject metadataObject, Long metadataId) {
     try {
       NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
@@ -337,14 +654,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       for (Entity ownerEntity : owners) {
         if (ownerEntity instanceof UserEntity) {
           UserEntity user = (UserEntity) ownerEntity;
-          ImmutableList<String> policy =
-              ImmutableList.of(
-                  String.valueOf(user.id()),
-                  String.valueOf(metadataObject.type()),
-                  String.valueOf(metadataId),
-                  AuthConstants.OWNER,
-                  "allow");
-          enforcer.addPolicy(policy);
+          policyEvaluator.addUserPolicy(
+              user.id(),
+              PolicyEvaluator.Policy.allow(metadataObject.type(), metadataId, AuthConstants.OWNER));
         }
       }
     } catch (IOException e) {
@@ -352,20 +664,72 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     }
   }
 
+  private void loadOwnerPolicies(
+      String metalake, List<MetadataObject> metadataObjects, List<Long> metadataIds) {
+    // The owners of the objects of one type are listed together.
+    Map<Entity.EntityType, Map<NameIdentifier, Integer>> indexesByType =
+        new EnumMap<>(Entity.EntityType.class);
+    for (int i = 0; i < metadataObjects.size(); i++) {
+      if (metadataIds.get(i) == null) {
+        continue;
+      }
+      MetadataObject metadataObject = metadataObjects.get(i);
+      indexesByType
+          .computeIfAbsent(
+              Entity.EntityType.valueOf(metadataObject.type().name()), k -> new LinkedHashMap<>())
+          .put(MetadataObjectUtil.toEntityIdent(metalake, metadataObject), i);
+    }
+
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    for (Map.Entry<Entity.EntityType, Map<NameIdentifier, Integer>> entry :
+        indexesByType.entrySet()) {
+      Map<NameIdentifier, Integer> indexes = entry.getValue();
+      try {
+        Map<NameIdentifier, ? extends List<? extends Entity>> owners =
+            entityStore
+                .relationOperations()
+                .batchListEntitiesByRelation(
+                    SupportsRelationOperations.Type.OWNER_REL,
+                    new ArrayList<>(indexes.keySet()),
+                    entry.getKey());
+        owners.forEach(
+            (entityIdent, ownerEntities) -> {
+              Integer index = indexes.get(entityIdent);
+              if (index == null) {
+                return;
+              }
+              MetadataObject metadataObject = metadataObjects.get(index);
+              for (Entity ownerEntity : ownerEntities) {
+                if (ownerEntity instanceof UserEntity) {
+                  policyEvaluator.addUserPolicy(
+                      ((UserEntity) ownerEntity).id(),
+                      PolicyEvaluator.Policy.allow(
+                          metadataObject.type(), metadataIds.get(index), AuthConstants.OWNER));
+                }
+              }
+            });
+      } catch (IOException e) {
+        LOG.warn("Can not load metadata owners", e);
+      }
+    }
+  }
+
   private void loadPolicyByRoleEntity(RoleEntity roleEntity) {
     String metalake = NameIdentifierUtil.getMetalake(roleEntity.nameIdentifier());
     List<SecurableObject> securableObjects = roleEntity.securableObjects();
 
+    // All the policies of the role are replaced at once, requests see either none or all of them.
+    List<PolicyEvaluator.Policy> policies = new ArrayList<>();
     for (SecurableObject securableObject : securableObjects) {
+      long metadataId = MetadataIdConverter.getID(securableObject, metalake);
       for (Privilege privilege : securableObject.privileges()) {
-        Privilege.Condition condition = privilege.condition();
-        enforcer.addPolicy(
-            String.valueOf(roleEntity.id()),
-            securableObject.type().name(),
-            String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
-            privilege.name().name().toUpperCase(),
-            condition.name().toLowerCase());
+        String privilegeName = privilege.name().name().toUpperCase();
+        policies.add(
+            privilege.condition() == Privilege.Condition.ALLOW
+                ? PolicyEvaluator.Policy.allow(securableObject.type(), metadataId, privilegeName)
+                : PolicyEvaluator.Policy.deny(securableObject.type(), metadataId, privilegeName));
       }
     }
+    policyEvaluator.setRolePolicies(roleEntity.id(), policies);
   }
 }
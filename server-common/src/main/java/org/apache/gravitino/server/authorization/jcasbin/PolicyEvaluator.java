@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.MetadataObject;
+
+/**
+ * PolicyEvaluator decides the requests of users with the semantics of the jcasbin model in {@code
+ * jcasbin_model.conf}: a user has a privilege on a metadata object if a policy of the user or of
+ * one of its roles allows it, and no such policy denies it.
+ *
+ * <p>Requests don't take any lock. The policies of a role are an immutable index keyed by the
+ * metadata type, the metadata id and the privilege, which is replaced as a whole when the role is
+ * loaded, so a request never sees a part of a role, such as its allow policies without its deny
+ * policies. The roles of a user are an immutable set which is replaced in the same way. The
+ * policies of users, which are the ownerships, are independent and added one by one.
+ */
+final class PolicyEvaluator {
+
+  private static final int ALLOW = 1;
+
+  private static final int DENY = 1 << 1;
+
+  private final Map<Long, Map<PolicyKey, Integer>> rolePolicies = new ConcurrentHashMap<>();
+
+  private final Map<Long, Map<PolicyKey, Integer>> userPolicies = new ConcurrentHashMap<>();
+
+  private final Map<Long, Set<Long>> userRoles = new ConcurrentHashMap<>();
+
+  /**
+   * Decides whether the user has the privilege on the metadata object.
+   *
+   * @param userId The user id.
+   * @param metadataType The metadata type.
+   * @param metadataId The metadata id.
+   * @param privilege The privilege, or OWNER.
+   * @return true if a policy allows the request and no policy denies it.
+   */
+  boolean enforce(
+      long userId, MetadataObject.Type metadataType, long metadataId, String privilege) {
+    PolicyKey key = new PolicyKey(metadataType, metadataId, privilege);
+    int effects = effectsOf(userPolicies.get(userId), key);
+    for (Long roleId : userRoles.getOrDefault(userId, ImmutableSet.of())) {
+      effects |= effectsOf(rolePolicies.get(roleId), key);
+      if ((effects & DENY) != 0) {
+        return false;
+      }
+    }
+    return effects == ALLOW;
+  }
+
+  /**
+   * Replaces all the policies of the role.
+   *
+   * @param roleId The role id.
+   * @param policies The policies of the role.
+   */
+  void setRolePolicies(long roleId, Collection<Policy> policies) {
+    Map<PolicyKey, Integer> index = new HashMap<>();
+    for (Policy policy : policies) {
+      index.merge(policy.key, policy.effect, (a, b) -> a | b);
+    }
+    rolePolicies.put(roleId, ImmutableMap.copyOf(index));
+  }
+
+  /**
+   * Adds a policy of the user, for example an ownership.
+   *
+   * @param userId The user id.
+   * @param policy The policy.
+   */
+  void addUserPolicy(long userId, Policy policy) {
+    userPolicies
+        .computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
+        .merge(policy.key, policy.effect, (a, b) -> a | b);
+  }
+
+  /**
+   * Removes a policy of the user.
+   *
+   * @param userId The user id.
+   * @param policy The policy.
+   */
+  void removeUserPolicy(long userId, Policy policy) {
+    Map<PolicyKey, Integer> policies = userPolicies.get(userId);
+    if (policies != null) {
+      policies.computeIfPresent(
+          policy.key,
+          (key, effects) -> (effects & ~policy.effect) == 0 ? null : effects & ~policy.effect);
+    }
+  }
+
+  /**
+   * Assigns the role to the user.
+   *
+   * @param userId The user id.
+   * @param roleId The role id.
+   */
+  void addRoleForUser(long userId, long roleId) {
+    userRoles.compute(
+        userId,
+        (k, roles) ->
+            roles == null
+                ? ImmutableSet.of(roleId)
+                : ImmutableSet.<Long>builder().addAll(roles).add(roleId).build());
+  }
+
+  /**
+   * Determines whether the role is assigned to the user.
+   *
+   * @param userId The user id.
+   * @param roleId The role id.
+   * @return true if the role is assigned to the user.
+   */
+  boolean hasRoleForUser(long userId, long roleId) {
+    return userRoles.getOrDefault(userId, ImmutableSet.of()).contains(roleId);
+  }
+
+  /**
+   * Gets the users which the role is assigned to.
+   *
+   * @param roleId The role id.
+   * @return The user ids.
+   */
+  Set<Long> usersOfRole(long roleId) {
+    return userRoles.entrySet().stream()
+        .filter(entry -> entry.getValue().contains(roleId))
+        .map(Map.Entry::getKey)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  /**
+   * Deletes the policies of the role and unassigns it from all users.
+   *
+   * @param roleId The role id.
+   */
+  void deleteRole(long roleId) {
+    rolePolicies.remove(roleId);
+    userRoles.replaceAll(
+        (userId, roles) ->
+            roles.contains(roleId)
+                ? roles.stream().filter(id -> id != roleId).collect(ImmutableSet.toImmutableSet())
+                : roles);
+  }
+
+  private static int effectsOf(Map<PolicyKey, Integer> policies, PolicyKey key) {
+    if (policies == null) {
+      return 0;
+    }
+    Integer effects = policies.get(key);
+    return effects == null ? 0 : effects;
+  }
+
+  /** A policy which allows or denies a privilege on a metadata object. */
+  static final class Policy {
+    private final PolicyKey key;
+    private final int effect;
+
+    private Policy(PolicyKey key, int effect) {
+      this.key = key;
+      this.effect = effect;
+    }
+
+    static Policy allow(MetadataObject.Type metadataType, long metadataId, String privilege) {
+      return new Policy(new PolicyKey(metadataType, metadataId, privilege), ALLOW);
+    }
+
+    static Policy deny(MetadataObject.Type metadataType, long metadataId, String privilege) {
+      return new Policy(new PolicyKey(metadataType, metadataId, privilege), DENY);
+    }
+  }
+
+  private static final class PolicyKey {
+    private final MetadataObject.Type metadataType;
+    private final long metadataId;
+    private final String privilege;
+
+    private PolicyKey(MetadataObject.Type metadataType, long metadataId, String privilege) {
+      this.metadataType = metadataType;
+      this.metadataId = metadataId;
+      this.privilege = privilege;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PolicyKey)) {
+        return false;
+      }
+      PolicyKey that = (PolicyKey) o;
+      return metadataId == that.metadataId
+          && metadataType == that.metadataType
+          && privilege.equals(that.privilege);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(metadataType, metadataId, privilege);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import java.security.Principal;
+import java.util.List;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.Privilege;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link BatchAuthorizer} */
+public class TestBatchAuthorizer {
+
+  private static final Principal PRINCIPAL = new UserPrincipal("tester");
+
+  private static final String METALAKE = "testMetalake";
+
+  private static final MetadataObject CATALOG =
+      MetadataObjects.of(ImmutableList.of("testCatalog"), MetadataObject.Type.CATALOG);
+
+  private static final List<MetadataObject> SCHEMAS =
+      ImmutableList.of(
+          MetadataObjects.of(
+              ImmutableList.of("testCatalog", "testSchema"), MetadataObject.Type.SCHEMA),
+          MetadataObjects.of(
+              ImmutableList.of("testCatalog", "testSchema2"), MetadataObject.Type.SCHEMA));
+
+  @Test
+  public void testListedObjectsAreAuthorizedInOneBatch() {
+    MockGravitinoAuthorizer delegate = spy(new MockGravitinoAuthorizer());
+    BatchAuthorizer authorizer = new BatchAuthorizer(delegate, SCHEMAS);
+
+    Assertions.assertTrue(
+        authorizer.authorize(PRINCIPAL, METALAKE, SCHEMAS.get(0), Privilege.Name.USE_SCHEMA));
+    Assertions.assertFalse(
+        authorizer.authorize(PRINCIPAL, METALAKE, SCHEMAS.get(1), Privilege.Name.USE_SCHEMA));
+
+    verify(delegate, times(1))
+        .batchAuthorize(PRINCIPAL, METALAKE, SCHEMAS, Privilege.Name.USE_SCHEMA);
+    // The default batchAuthorize of the mock calls authorize once for every listed object.
+    verify(delegate, times(2)).authorize(any(), any(), any(), any());
+
+    // Another privilege is another batch.
+    Assertions.assertFalse(
+        authorizer.authorize(PRINCIPAL, METALAKE, SCHEMAS.get(1), Privilege.Name.CREATE_TABLE));
+    verify(delegate, times(1))
+        .batchAuthorize(PRINCIPAL, METALAKE, SCHEMAS, Privilege.Name.CREATE_TABLE);
+  }
+
+  @Test
+  public void testParentIsAuthorizedOnce() {
+    MockGravitinoAuthorizer delegate = spy(new MockGravitinoAuthorizer());
+    BatchAuthorizer authorizer = new BatchAuthorizer(delegate, SCHEMAS);
+
+    for (int i = 0; i < SCHEMAS.size(); i++) {
+      Assertions.assertTrue(
+          authorizer.authorize(PRINCIPAL, METALAKE, CATALOG, Privilege.Name.USE_CATALOG));
+    }
+
+    verify(delegate, times(1)).authorize(PRINCIPAL, METALAKE, CATALOG, Privilege.Name.USE_CATALOG);
+    verify(delegate, never()).batchAuthorize(any(), any(), anyList(), any());
+  }
+
+  @Test
+  public void testOwnerAndServiceAdmin() {
+    MockGravitinoAuthorizer delegate = spy(new MockGravitinoAuthorizer());
+    BatchAuthorizer authorizer = new BatchAuthorizer(delegate, SCHEMAS);
+
+    for (MetadataObject schema : SCHEMAS) {
+      Assertions.assertFalse(authorizer.isOwner(PRINCIPAL, METALAKE, schema));
+      Assertions.assertFalse(authorizer.isServiceAdmin());
+      Assertions.assertTrue(authorizer.isMetalakeUser(METALAKE));
+    }
+
+    verify(delegate, times(1)).batchIsOwner(PRINCIPAL, METALAKE, SCHEMAS);
+    verify(delegate, times(1)).isServiceAdmin();
+    verify(delegate, times(1)).isMetalakeUser(eq(METALAKE));
+  }
+}
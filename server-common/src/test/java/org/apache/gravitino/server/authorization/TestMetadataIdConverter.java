@@ -29,6 +29,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -190,6 +192,132 @@ public class TestMetadataIdConverter {
     }
   }
 
+  @Test
+  void testBatchConvert() throws IOException, IllegalAccessException {
+    CatalogManager mockCatalogManager = mock(CatalogManager.class);
+    Object originalCatalogManager =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "catalogManager", true);
+    Object originalEntityStore =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "entityStore", true);
+
+    FieldUtils.writeDeclaredField(
+        GravitinoEnv.getInstance(), "catalogManager", mockCatalogManager, true);
+    FieldUtils.writeDeclaredField(GravitinoEnv.getInstance(), "entityStore", mockStore, true);
+
+    NameIdentifier missingIdent = NameIdentifier.of("metalake", "catalog", "schema", "missing");
+    when(mockStore.batchGet(
+            ImmutableList.of(ident4, missingIdent), Entity.EntityType.TABLE, TableEntity.class))
+        .thenReturn(ImmutableList.of(entity4));
+    when(mockStore.batchGet(ImmutableList.of(ident3), Entity.EntityType.SCHEMA, SchemaEntity.class))
+        .thenReturn(ImmutableList.of(entity3));
+
+    try (MockedStatic<MetadataIdConverter> mockedStatic =
+        mockStatic(MetadataIdConverter.class, CALLS_REAL_METHODS)) {
+      mockedStatic
+          .when(
+              () ->
+                  MetadataIdConverter.normalizeCaseSensitive(
+                      eq(ident3), eq(Capability.Scope.SCHEMA), eq(mockCatalogManager)))
+          .thenReturn(ident3);
+      mockedStatic
+          .when(
+              () ->
+                  MetadataIdConverter.normalizeCaseSensitive(
+                      eq(ident4), eq(Capability.Scope.TABLE), eq(mockCatalogManager)))
+          .thenReturn(ident4);
+      mockedStatic
+          .when(
+              () ->
+                  MetadataIdConverter.normalizeCaseSensitive(
+                      eq(missingIdent), eq(Capability.Scope.TABLE), eq(mockCatalogManager)))
+          .thenReturn(missingIdent);
+
+      List<Long> ids =
+          MetadataIdConverter.getIDs(
+              ImmutableList.of(
+                  MetadataObjects.of(
+                      ImmutableList.of("catalog", "schema", "missing"), MetadataObject.Type.TABLE),
+                  MetadataObjects.of(
+                      ImmutableList.of("catalog", "schema"), MetadataObject.Type.SCHEMA),
+                  MetadataObjects.of(
+                      ImmutableList.of("catalog", "schema", "table"), MetadataObject.Type.TABLE)),
+              "metalake");
+
+      Assertions.assertEquals(Arrays.asList(null, 3L, 4L), ids);
+    } finally {
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "catalogManager", originalCatalogManager, true);
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "entityStore", originalEntityStore, true);
+    }
+  }
+
+  @Test
+  void testHierarchyConvert() throws IOException, IllegalAccessException {
+    CatalogManager mockCatalogManager = mock(CatalogManager.class);
+    Object originalCatalogManager =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "catalogManager", true);
+    Object originalEntityStore =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "entityStore", true);
+
+    FieldUtils.writeDeclaredField(
+        GravitinoEnv.getInstance(), "catalogManager", mockCatalogManager, true);
+    FieldUtils.writeDeclaredField(GravitinoEnv.getInstance(), "entityStore", mockStore, true);
+
+    List<MetadataObject> hierarchy =
+        Arrays.asList(
+            MetadataObjects.of(ImmutableList.of("metalake"), MetadataObject.Type.METALAKE),
+            MetadataObjects.of(ImmutableList.of("catalog"), MetadataObject.Type.CATALOG),
+            MetadataObjects.of(ImmutableList.of("catalog", "schema"), MetadataObject.Type.SCHEMA),
+            MetadataObjects.of(
+                ImmutableList.of("catalog", "schema", "model"), MetadataObject.Type.MODEL),
+            null);
+
+    try (MockedStatic<MetadataIdConverter> mockedStatic =
+        mockStatic(MetadataIdConverter.class, CALLS_REAL_METHODS)) {
+      mockedStatic
+          .when(
+              () ->
+                  MetadataIdConverter.normalizeCaseSensitive(
+                      eq(ident3), eq(Capability.Scope.SCHEMA), eq(mockCatalogManager)))
+          .thenReturn(ident3);
+      mockedStatic
+          .when(
+              () ->
+                  MetadataIdConverter.normalizeCaseSensitive(
+                      eq(ident5), eq(Capability.Scope.MODEL), eq(mockCatalogManager)))
+          .thenReturn(ident5);
+
+      Assertions.assertEquals(
+          Arrays.asList(1L, 2L, 3L, 5L, null),
+          MetadataIdConverter.getHierarchyIDs(hierarchy, "metalake"));
+
+      // The ids of the ancestors are indexed, only the model is loaded again.
+      EntityStore modelOnlyStore = mock(EntityStore.class);
+      when(modelOnlyStore.get(ident5, Entity.EntityType.MODEL, ModelEntity.class))
+          .thenReturn(entity5);
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "entityStore", modelOnlyStore, true);
+      Assertions.assertEquals(
+          Arrays.asList(1L, 2L, 3L, 5L, null),
+          MetadataIdConverter.getHierarchyIDs(hierarchy, "metalake"));
+      Assertions.assertEquals(
+          ImmutableMap.of(
+              MetadataObject.Type.METALAKE,
+              1L,
+              MetadataObject.Type.CATALOG,
+              2L,
+              MetadataObject.Type.SCHEMA,
+              3L),
+          MetadataAncestryIndex.getInstance().getAncestorIDs(MetadataObject.Type.MODEL, 5L));
+    } finally {
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "catalogManager", originalCatalogManager, true);
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "entityStore", originalEntityStore, true);
+    }
+  }
+
   private void initTestNameIdentifier() {
     ident1 = NameIdentifier.of("metalake");
     ident2 = NameIdentifier.of("metalake", "catalog");
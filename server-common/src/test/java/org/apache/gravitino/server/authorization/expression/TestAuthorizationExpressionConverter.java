@@ -98,6 +98,23 @@ public class TestAuthorizationExpressionConverter {
         useCatalogOgnExpression);
   }
 
+  @Test
+  public void testConvertToOgnlWithAnyPrivilegeExpression() {
+    String expression = "ANY(OWNER, METALAKE, CATALOG) || ANY_USE_CATALOG && CATALOG::OWNER";
+    Assertions.assertEquals(
+        "authorizer.isOwner(principal,METALAKE_NAME,METALAKE) "
+            + "|| authorizer.isOwner(principal,METALAKE_NAME,CATALOG) "
+            + "|| (authorizer.authorizeAny(principal,METALAKE_NAME,{METALAKE,CATALOG},"
+            + "@org.apache.gravitino.authorization.Privilege$Name@USE_CATALOG)) "
+            + "&& authorizer.isOwner(principal,METALAKE_NAME,CATALOG)",
+        AuthorizationExpressionConverter.convertToOgnlExpression(expression));
+
+    // An any expression with one level is left to be a single check.
+    Assertions.assertEquals(
+        "ANY(USE_SCHEMA, SCHEMA)",
+        AuthorizationExpressionConverter.replaceAnyPrivilegeExpressions("ANY(USE_SCHEMA, SCHEMA)"));
+  }
+
   @Test
   public void testReplaseAnyExpression() {
     Assertions.assertEquals(
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.UserPrincipal;
@@ -97,4 +98,49 @@ public class TestAuthorizationExpressionEvaluator {
       Assertions.assertTrue(authorizationExpressionEvaluator.evaluate(metadataNames));
     }
   }
+
+  @Test
+  public void testPredicate() {
+    String expression = "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA && TABLE::SELECT_TABLE";
+    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
+        new AuthorizationExpressionEvaluator(expression);
+    try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
+        MockedStatic<GravitinoAuthorizerProvider> mockStatic =
+            mockStatic(GravitinoAuthorizerProvider.class)) {
+      principalUtilsMocked
+          .when(PrincipalUtils::getCurrentPrincipal)
+          .thenReturn(new UserPrincipal("tester"));
+      GravitinoAuthorizerProvider mockedProvider = mock(GravitinoAuthorizerProvider.class);
+      mockStatic.when(GravitinoAuthorizerProvider::getInstance).thenReturn(mockedProvider);
+      when(mockedProvider.getGravitinoAuthorizer()).thenReturn(new MockGravitinoAuthorizer());
+
+      // The items share one context, the result of an item must not depend on the previous one.
+      Predicate<Map<Entity.EntityType, NameIdentifier>> predicate =
+          authorizationExpressionEvaluator.newPredicate();
+      Assertions.assertTrue(predicate.test(tableMetadataNames("testSchema", "testTable")));
+      Assertions.assertFalse(predicate.test(tableMetadataNames("testSchema", "otherTable")));
+      Assertions.assertFalse(predicate.test(tableMetadataNames("otherSchema", "testTable")));
+      Assertions.assertTrue(predicate.test(tableMetadataNames("testSchema", "testTable")));
+
+      // Evaluators of the same expression share its parsed tree, but not their contexts.
+      Assertions.assertTrue(
+          new AuthorizationExpressionEvaluator(expression)
+              .evaluate(tableMetadataNames("testSchema", "testTable")));
+    }
+  }
+
+  private static Map<Entity.EntityType, NameIdentifier> tableMetadataNames(
+      String schema, String table) {
+    Map<Entity.EntityType, NameIdentifier> metadataNames = new HashMap<>();
+    metadataNames.put(Entity.EntityType.METALAKE, NameIdentifierUtil.ofMetalake("testMetalake"));
+    metadataNames.put(
+        Entity.EntityType.CATALOG, NameIdentifierUtil.ofCatalog("testMetalake", "testCatalog"));
+    metadataNames.put(
+        Entity.EntityType.SCHEMA,
+        NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", schema));
+    metadataNames.put(
+        Entity.EntityType.TABLE,
+        NameIdentifierUtil.ofTable("testMetalake", "testCatalog", schema, table));
+    return metadataNames;
+  }
 }
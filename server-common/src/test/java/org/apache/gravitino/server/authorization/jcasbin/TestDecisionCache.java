@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.MetadataObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestDecisionCache {
+  private static final MetadataObject.Type TABLE = MetadataObject.Type.TABLE;
+  private static final MetadataObject.Type SCHEMA = MetadataObject.Type.SCHEMA;
+  private static final String SELECT = "SELECT_TABLE";
+  private static final String MODIFY = "MODIFY_TABLE";
+  private static final String OWNER = "OWNER";
+
+  @Test
+  void testCachedDecision() {
+    DecisionCache cache = new DecisionCache(100, 0);
+    AtomicInteger loads = new AtomicInteger();
+    Assertions.assertTrue(cache.get(1L, TABLE, 2L, SELECT, () -> count(loads, true)));
+    Assertions.assertTrue(cache.get(1L, TABLE, 2L, SELECT, () -> count(loads, false)));
+    Assertions.assertFalse(cache.get(1L, TABLE, 2L, MODIFY, () -> count(loads, false)));
+    Assertions.assertFalse(cache.get(1L, SCHEMA, 2L, SELECT, () -> count(loads, false)));
+    Assertions.assertEquals(3, loads.get());
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertEquals(1, cache.stats().hitCount());
+  }
+
+  @Test
+  void testInvalidateUsers() {
+    DecisionCache cache = new DecisionCache(100, 0);
+    cache.get(1L, TABLE, 2L, SELECT, () -> true);
+    cache.get(3L, TABLE, 2L, SELECT, () -> true);
+
+    cache.invalidateUsers(ImmutableSet.of(1L));
+    Assertions.assertFalse(cache.get(1L, TABLE, 2L, SELECT, () -> false));
+    Assertions.assertTrue(cache.get(3L, TABLE, 2L, SELECT, () -> false));
+  }
+
+  @Test
+  void testInvalidateMetadata() {
+    DecisionCache cache = new DecisionCache(100, 0);
+    cache.get(1L, TABLE, 2L, OWNER, () -> true);
+    cache.get(3L, TABLE, 2L, SELECT, () -> true);
+    cache.get(1L, SCHEMA, 2L, OWNER, () -> true);
+
+    cache.invalidateMetadata(TABLE, 2L);
+    Assertions.assertFalse(cache.get(1L, TABLE, 2L, OWNER, () -> false));
+    Assertions.assertFalse(cache.get(3L, TABLE, 2L, SELECT, () -> false));
+    Assertions.assertTrue(cache.get(1L, SCHEMA, 2L, OWNER, () -> false));
+  }
+
+  @Test
+  void testInvalidateWhileDeciding() {
+    // The role is revoked after the policies were read but before the decision is cached.
+    DecisionCache cache = new DecisionCache(100, 0);
+    boolean decision =
+        cache.get(
+            1L,
+            TABLE,
+            2L,
+            SELECT,
+            () -> {
+              cache.invalidateUsers(ImmutableSet.of(1L));
+              return true;
+            });
+    Assertions.assertTrue(decision);
+    Assertions.assertFalse(cache.get(1L, TABLE, 2L, SELECT, () -> false));
+  }
+
+  private static boolean count(AtomicInteger loads, boolean value) {
+    loads.incrementAndGet();
+    return value;
+  }
+}
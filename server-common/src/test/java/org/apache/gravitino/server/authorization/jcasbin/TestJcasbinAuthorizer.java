@@ -18,12 +18,15 @@
 package org.apache.gravitino.server.authorization.jcasbin;
 
 import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -32,6 +35,7 @@ import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
@@ -111,6 +115,12 @@ public class TestJcasbinAuthorizer {
         .thenReturn(CATALOG_ID);
     when(gravitinoEnv.entityStore()).thenReturn(entityStore);
     when(entityStore.relationOperations()).thenReturn(supportsRelationOperations);
+    // Roles are loaded in a batch, which gets them one by one from the mocked store.
+    when(entityStore.batchGet(any(), eq(Entity.EntityType.ROLE), eq(RoleEntity.class)))
+        .thenCallRealMethod();
+    // So are the owners.
+    when(supportsRelationOperations.batchListEntitiesByRelation(any(), any(), any()))
+        .thenCallRealMethod();
     when(entityStore.get(
             eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
             eq(Entity.EntityType.USER),
@@ -226,6 +236,246 @@ public class TestJcasbinAuthorizer {
     jcasbinAuthorizer.handleMetadataOwnerChange(
         METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
     assertFalse(doAuthorizeOwner(currentPrincipal));
+
+    // The object had no user owner before, the owner is loaded again on the next request.
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(ImmutableList.of(getUserEntity()));
+    jcasbinAuthorizer.handleMetadataOwnerChange(
+        METALAKE, null, catalogIdent, Entity.EntityType.CATALOG);
+    assertTrue(doAuthorizeOwner(currentPrincipal));
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(new ArrayList<>());
+    jcasbinAuthorizer.handleMetadataOwnerChange(
+        METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
+  }
+
+  @Test
+  public void testBatchAuthorize() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    jcasbinAuthorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    // The second catalog doesn't exist, so its id can't be resolved.
+    List<MetadataObject> catalogs =
+        ImmutableList.of(
+            MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG),
+            MetadataObjects.of(null, "missingCatalog", MetadataObject.Type.CATALOG));
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(eq(catalogs), eq(METALAKE)))
+        .thenReturn(Arrays.asList(CATALOG_ID, null));
+
+    assertArrayEquals(
+        new boolean[] {true, false},
+        jcasbinAuthorizer.batchAuthorize(currentPrincipal, METALAKE, catalogs, USE_CATALOG));
+    assertArrayEquals(
+        new boolean[] {false, false},
+        jcasbinAuthorizer.batchIsOwner(currentPrincipal, METALAKE, catalogs));
+
+    // The owners of all the objects are loaded together.
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, "testCatalog");
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(ImmutableList.of(getUserEntity()));
+    clearInvocations(supportsRelationOperations);
+    assertArrayEquals(
+        new boolean[] {true, false},
+        jcasbinAuthorizer.batchIsOwner(currentPrincipal, METALAKE, catalogs));
+    verify(supportsRelationOperations)
+        .batchListEntitiesByRelation(
+            SupportsRelationOperations.Type.OWNER_REL,
+            ImmutableList.of(catalogIdent),
+            Entity.EntityType.CATALOG);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(new ArrayList<>());
+    jcasbinAuthorizer.handleMetadataOwnerChange(
+        METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
+  }
+
+  @Test
+  public void testAuthorizeAny() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    jcasbinAuthorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    // USE_CATALOG is granted on the catalog, not on the metalake.
+    List<MetadataObject> levels =
+        ImmutableList.of(
+            MetadataObjects.of(null, METALAKE, MetadataObject.Type.METALAKE),
+            MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG));
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getHierarchyIDs(eq(levels), eq(METALAKE)))
+        .thenReturn(Arrays.asList(1L, CATALOG_ID));
+    assertTrue(jcasbinAuthorizer.authorizeAny(currentPrincipal, METALAKE, levels, USE_CATALOG));
+
+    // The catalog doesn't exist, so its id can't be resolved.
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getHierarchyIDs(eq(levels), eq(METALAKE)))
+        .thenReturn(Arrays.asList(1L, null));
+    assertFalse(jcasbinAuthorizer.authorizeAny(currentPrincipal, METALAKE, levels, USE_CATALOG));
+  }
+
+  @Test
+  public void testPreloadPolicies() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    BaseMetalake metalake =
+        entityStore.get(
+            NameIdentifierUtil.ofMetalake(METALAKE),
+            Entity.EntityType.METALAKE,
+            BaseMetalake.class);
+    when(entityStore.list(
+            eq(Namespace.empty()), eq(BaseMetalake.class), eq(Entity.EntityType.METALAKE)))
+        .thenReturn(ImmutableList.of(metalake));
+    when(entityStore.list(
+            eq(NamespaceUtil.ofRole(METALAKE)), eq(RoleEntity.class), eq(Entity.EntityType.ROLE)))
+        .thenReturn(
+            ImmutableList.of(getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of())));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    UserEntity user =
+        UserEntity.builder()
+            .withId(USER_ID)
+            .withName(USERNAME)
+            .withRoleIds(ImmutableList.of(ALLOW_ROLE_ID))
+            .withAuditInfo(AuditInfo.EMPTY)
+            .build();
+    when(entityStore.list(
+            eq(NamespaceUtil.ofUser(METALAKE)),
+            eq(UserEntity.class),
+            eq(Entity.EntityType.USER),
+            eq(true)))
+        .thenReturn(ImmutableList.of(user));
+    // The roles of the user are not loaded on demand, so only the preload can allow the request.
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of());
+
+    try (JcasbinAuthorizer authorizer = new JcasbinAuthorizer()) {
+      authorizer.initialize();
+      assertTrue(authorizer.isReady());
+      // The static mocks are only visible to this thread, so the preload is not run in the
+      // background here.
+      authorizer.preloadPolicies(entityStore, 1);
+      assertTrue(
+          authorizer.authorize(
+              currentPrincipal,
+              METALAKE,
+              MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG),
+              USE_CATALOG));
+    }
+  }
+
+  @Test
+  public void testRevokeDuringPreload() throws IOException {
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    BaseMetalake metalake =
+        entityStore.get(
+            NameIdentifierUtil.ofMetalake(METALAKE),
+            Entity.EntityType.METALAKE,
+            BaseMetalake.class);
+    when(entityStore.list(
+            eq(Namespace.empty()), eq(BaseMetalake.class), eq(Entity.EntityType.METALAKE)))
+        .thenReturn(ImmutableList.of(metalake));
+    when(entityStore.list(
+            eq(NamespaceUtil.ofRole(METALAKE)), eq(RoleEntity.class), eq(Entity.EntityType.ROLE)))
+        .thenReturn(
+            ImmutableList.of(getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of())));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    // The user is listed with the role, and the role is revoked from the user before it's assigned.
+    UserEntity user =
+        UserEntity.builder()
+            .withId(USER_ID)
+            .withName(USERNAME)
+            .withRoleIds(ImmutableList.of(ALLOW_ROLE_ID))
+            .withAuditInfo(AuditInfo.EMPTY)
+            .build();
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of());
+    // Another user still has the role, and loads its policies again after the revoke.
+    String otherUsername = "otherTester";
+    UserEntity otherUser =
+        UserEntity.builder()
+            .withId(6L)
+            .withName(otherUsername)
+            .withAuditInfo(AuditInfo.EMPTY)
+            .build();
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofUser(METALAKE, otherUsername)),
+            eq(Entity.EntityType.USER),
+            eq(UserEntity.class)))
+        .thenReturn(otherUser);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, otherUsername)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+
+    MetadataObject catalog = MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG);
+    try (JcasbinAuthorizer authorizer = new JcasbinAuthorizer()) {
+      authorizer.initialize();
+      when(entityStore.list(
+              eq(NamespaceUtil.ofUser(METALAKE)),
+              eq(UserEntity.class),
+              eq(Entity.EntityType.USER),
+              eq(true)))
+          .thenAnswer(
+              invocation -> {
+                authorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+                authorizer.handleUserRoleChange(METALAKE, USERNAME);
+                return ImmutableList.of(user);
+              });
+      authorizer.preloadPolicies(entityStore, 1);
+
+      assertTrue(
+          authorizer.authorize(new UserPrincipal(otherUsername), METALAKE, catalog, USE_CATALOG));
+      assertFalse(
+          authorizer.authorize(new UserPrincipal(USERNAME), METALAKE, catalog, USE_CATALOG));
+    }
   }
 
   private boolean doAuthorize(Principal currentPrincipal) {
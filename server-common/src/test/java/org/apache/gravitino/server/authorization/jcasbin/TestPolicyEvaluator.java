@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.io.IOUtils;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.Privilege;
+import org.casbin.jcasbin.main.Enforcer;
+import org.casbin.jcasbin.model.Model;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential test of {@link PolicyEvaluator}, which applies the same random changes to it and to
+ * a jcasbin enforcer with {@code jcasbin_model.conf}, and compares their decisions.
+ */
+public class TestPolicyEvaluator {
+
+  private static final long[] USERS = {1L, 2L, 3L};
+
+  private static final long[] ROLES = {101L, 102L, 103L, 104L};
+
+  private static final MetadataObject.Type[] TYPES = {
+    MetadataObject.Type.CATALOG, MetadataObject.Type.SCHEMA, MetadataObject.Type.TABLE
+  };
+
+  private static final long[] METADATA_IDS = {1001L, 1002L, 1003L};
+
+  private static final String[] PRIVILEGES = {
+    Privilege.Name.USE_CATALOG.name(),
+    Privilege.Name.USE_SCHEMA.name(),
+    Privilege.Name.SELECT_TABLE.name(),
+    AuthConstants.OWNER
+  };
+
+  private PolicyEvaluator policyEvaluator;
+
+  private Enforcer enforcer;
+
+  @BeforeEach
+  public void init() throws IOException {
+    try (InputStream modelStream =
+        TestPolicyEvaluator.class.getResourceAsStream("/jcasbin_model.conf")) {
+      Assertions.assertNotNull(modelStream);
+      Model model = new Model();
+      model.loadModelFromText(IOUtils.toString(modelStream, StandardCharsets.UTF_8));
+      enforcer = new Enforcer(model);
+    }
+    policyEvaluator = new PolicyEvaluator();
+  }
+
+  @Test
+  public void testAllowAndDeny() {
+    policyEvaluator.setRolePolicies(
+        101L,
+        ImmutableList.of(
+            PolicyEvaluator.Policy.allow(MetadataObject.Type.CATALOG, 1001L, "USE_CATALOG"),
+            PolicyEvaluator.Policy.allow(MetadataObject.Type.CATALOG, 1002L, "USE_CATALOG")));
+    policyEvaluator.setRolePolicies(
+        102L,
+        ImmutableList.of(
+            PolicyEvaluator.Policy.deny(MetadataObject.Type.CATALOG, 1002L, "USE_CATALOG")));
+    policyEvaluator.addRoleForUser(1L, 101L);
+    Assertions.assertTrue(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1001L, "USE_CATALOG"));
+    Assertions.assertTrue(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1002L, "USE_CATALOG"));
+    Assertions.assertFalse(
+        policyEvaluator.enforce(1L, MetadataObject.Type.SCHEMA, 1001L, "USE_CATALOG"));
+    Assertions.assertFalse(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1001L, "USE_SCHEMA"));
+    Assertions.assertFalse(
+        policyEvaluator.enforce(2L, MetadataObject.Type.CATALOG, 1001L, "USE_CATALOG"));
+
+    // A deny of any role wins over the allows of the others.
+    policyEvaluator.addRoleForUser(1L, 102L);
+    Assertions.assertTrue(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1001L, "USE_CATALOG"));
+    Assertions.assertFalse(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1002L, "USE_CATALOG"));
+
+    policyEvaluator.deleteRole(102L);
+    Assertions.assertFalse(policyEvaluator.hasRoleForUser(1L, 102L));
+    Assertions.assertTrue(
+        policyEvaluator.enforce(1L, MetadataObject.Type.CATALOG, 1002L, "USE_CATALOG"));
+
+    // The owner policies belong to the user itself.
+    PolicyEvaluator.Policy owner =
+        PolicyEvaluator.Policy.allow(MetadataObject.Type.TABLE, 1003L, AuthConstants.OWNER);
+    policyEvaluator.addUserPolicy(2L, owner);
+    Assertions.assertTrue(
+        policyEvaluator.enforce(2L, MetadataObject.Type.TABLE, 1003L, AuthConstants.OWNER));
+    Assertions.assertFalse(
+        policyEvaluator.enforce(1L, MetadataObject.Type.TABLE, 1003L, AuthConstants.OWNER));
+    policyEvaluator.removeUserPolicy(2L, owner);
+    Assertions.assertFalse(
+        policyEvaluator.enforce(2L, MetadataObject.Type.TABLE, 1003L, AuthConstants.OWNER));
+  }
+
+  @Test
+  public void testSameDecisionsAsJcasbin() {
+    Random random = new Random(20251017L);
+    for (int step = 0; step < 2000; step++) {
+      applyRandomChange(random);
+      for (int i = 0; i < 20; i++) {
+        assertSameDecision(
+            pick(random, USERS),
+            TYPES[random.nextInt(TYPES.length)],
+            pick(random, METADATA_IDS),
+            PRIVILEGES[random.nextInt(PRIVILEGES.length)]);
+      }
+    }
+
+    for (long user : USERS) {
+      for (long role : ROLES) {
+        Assertions.assertEquals(
+            enforcer.hasRoleForUser(String.valueOf(user), String.valueOf(role)),
+            policyEvaluator.hasRoleForUser(user, role));
+      }
+      for (MetadataObject.Type type : TYPES) {
+        for (long metadataId : METADATA_IDS) {
+          for (String privilege : PRIVILEGES) {
+            assertSameDecision(user, type, metadataId, privilege);
+          }
+        }
+      }
+    }
+  }
+
+  private void applyRandomChange(Random random) {
+    switch (random.nextInt(5)) {
+      case 0:
+        long roleId = pick(random, ROLES);
+        List<PolicyEvaluator.Policy> policies = new ArrayList<>();
+        enforcer.removeFilteredPolicy(0, String.valueOf(roleId));
+        for (int i = random.nextInt(6); i > 0; i--) {
+          MetadataObject.Type type = TYPES[random.nextInt(TYPES.length)];
+          long metadataId = pick(random, METADATA_IDS);
+          String privilege = PRIVILEGES[random.nextInt(PRIVILEGES.length - 1)];
+          boolean allow = random.nextInt(4) != 0;
+          policies.add(
+              allow
+                  ? PolicyEvaluator.Policy.allow(type, metadataId, privilege)
+                  : PolicyEvaluator.Policy.deny(type, metadataId, privilege));
+          enforcer.addPolicy(
+              String.valueOf(roleId),
+              type.name(),
+              String.valueOf(metadataId),
+              privilege,
+              allow ? "allow" : "deny");
+        }
+        policyEvaluator.setRolePolicies(roleId, policies);
+        break;
+      case 1:
+        long userId = pick(random, USERS);
+        long assignedRoleId = pick(random, ROLES);
+        enforcer.addRoleForUser(String.valueOf(userId), String.valueOf(assignedRoleId));
+        policyEvaluator.addRoleForUser(userId, assignedRoleId);
+        break;
+      case 2:
+        long deletedRoleId = pick(random, ROLES);
+        enforcer.deleteRole(String.valueOf(deletedRoleId));
+        policyEvaluator.deleteRole(deletedRoleId);
+        break;
+      default:
+        long ownerId = pick(random, USERS);
+        MetadataObject.Type type = TYPES[random.nextInt(TYPES.length)];
+        long metadataId = pick(random, METADATA_IDS);
+        List<String> policy =
+            ImmutableList.of(
+                String.valueOf(ownerId),
+                type.name(),
+                String.valueOf(metadataId),
+                AuthConstants.OWNER,
+                "allow");
+        PolicyEvaluator.Policy ownerPolicy =
+            PolicyEvaluator.Policy.allow(type, metadataId, AuthConstants.OWNER);
+        if (random.nextBoolean()) {
+          enforcer.addPolicy(policy);
+          policyEvaluator.addUserPolicy(ownerId, ownerPolicy);
+        } else {
+          enforcer.removePolicy(policy);
+          policyEvaluator.removeUserPolicy(ownerId, ownerPolicy);
+        }
+        break;
+    }
+  }
+
+  private void assertSameDecision(
+      long userId, MetadataObject.Type type, long metadataId, String privilege) {
+    Assertions.assertEquals(
+        enforcer.enforce(
+            String.valueOf(userId), type.name(), String.valueOf(metadataId), privilege),
+        policyEvaluator.enforce(userId, type, metadataId, privilege),
+        String.format("user %d, %s %d, %s", userId, type, metadataId, privilege));
+  }
+
+  private static long pick(Random random, long[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.function.BooleanSupplier;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the health checks of the server for load balancers. {@code /health/live} succeeds as long
+ * as the server answers, {@code /health/ready} returns 503 until the server is ready to serve
+ * requests without a slow start, for example while the authorizer preloads its policies.
+ */
+public class HealthServlet extends HttpServlet {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HealthServlet.class);
+
+  static final String LIVE_PATH = "/live";
+
+  static final String READY_PATH = "/ready";
+
+  private final BooleanSupplier readiness;
+
+  public HealthServlet(BooleanSupplier readiness) {
+    this.readiness = readiness;
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest req, HttpServletResponse res)
+      throws IllegalStateException, IOException {
+    String path = req.getPathInfo();
+    boolean up;
+    if (LIVE_PATH.equals(path)) {
+      up = true;
+    } else if (READY_PATH.equals(path)) {
+      up = readiness.getAsBoolean();
+    } else {
+      res.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    res.setStatus(up ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    try (PrintWriter writer = res.getWriter()) {
+      res.setContentType("application/json;charset=utf-8");
+      writer.write(
+          ObjectMapperProvider.objectMapper()
+              .writeValueAsString(ImmutableMap.of("status", up ? "UP" : "DOWN")));
+    } catch (IllegalStateException exception) {
+      LOG.error("Illegal state occurred when calling getWriter()");
+    } catch (IOException exception) {
+      LOG.error("Failed to perform IO");
+    }
+  }
+}
@@ -47,6 +47,7 @@ import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.server.web.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +73,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("limit") @DefaultValue("0") int limit) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -85,6 +89,11 @@ public class PartitionOperations {
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            // Without the paging parameters, all the partitions are listed in one response.
+            if (filter != null || pageToken != null || limit > 0) {
+              return listPartitionPage(
+                  tableIdent, verbose, filter, pageToken, limit > 0 ? limit : Integer.MAX_VALUE);
+            }
             if (verbose) {
               Partition[] partitions = dispatcher.listPartitions(tableIdent);
               Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
@@ -114,6 +123,24 @@ public class PartitionOperations {
     }
   }
 
+  private Response listPartitionPage(
+      NameIdentifier tableIdent, boolean verbose, String filter, String pageToken, int limit) {
+    if (verbose) {
+      PartitionPage<Partition> page =
+          dispatcher.listPartitions(tableIdent, filter, pageToken, limit);
+      LOG.info("List a page of {} partitions in table {}", page.items().size(), tableIdent);
+      return Utils.ok(
+          new PartitionListResponse(
+              toDTOs(page.items().toArray(new Partition[0])), page.nextPageToken()));
+    }
+
+    PartitionPage<String> page =
+        dispatcher.listPartitionNames(tableIdent, filter, pageToken, limit);
+    LOG.info("List a page of {} partition names in table {}", page.items().size(), tableIdent);
+    return Utils.ok(
+        new PartitionNameListResponse(page.items().toArray(new String[0]), page.nextPageToken()));
+  }
+
   @GET
   @Path("{partition}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -167,6 +167,36 @@ public class SchemaOperations {
     }
   }
 
+  @POST
+  @Path("/{schema}/refresh")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "refresh-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "refresh-schema", absolute = true)
+  @AuthorizationExpression(
+      expression = loadSchemaAuthorizationExpression,
+      accessMetadataType = MetadataObject.Type.SCHEMA)
+  public Response refreshSchema(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+    LOG.info("Received refresh schema request for schema: {}.{}.{}", metalake, catalog, schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
+            Schema s = dispatcher.refreshSchema(ident);
+            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
+            LOG.info("Schema refreshed: {}.{}.{}", metalake, catalog, s.name());
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleSchemaException(OperationType.LOAD, schema, catalog, e);
+    }
+  }
+
   @PUT
   @Path("/{schema}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -23,6 +23,9 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -41,11 +44,13 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
@@ -86,13 +91,23 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+    LOG.info(
+        "Received list table {} request for schema: {}.{}.{}",
+        verbose ? "infos" : "names",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
+            if (verbose) {
+              return listTablesInfo(metalake, tableNS);
+            }
+
             NameIdentifier[] idents = dispatcher.listTables(tableNS);
             idents =
                 MetadataFilterHelper.filterByExpression(
@@ -108,6 +123,27 @@ public class TableOperations {
     }
   }
 
+  private Response listTablesInfo(String metalake, Namespace tableNS) {
+    Table[] tables = dispatcher.listTablesInfo(tableNS);
+    NameIdentifier[] idents =
+        Arrays.stream(tables)
+            .map(t -> NameIdentifier.of(tableNS, t.name()))
+            .toArray(NameIdentifier[]::new);
+    Set<String> allowedNames =
+        Arrays.stream(
+                MetadataFilterHelper.filterByExpression(
+                    metalake, loadTableAuthorizationExpression, Entity.EntityType.TABLE, idents))
+            .map(NameIdentifier::name)
+            .collect(Collectors.toSet());
+    TableDTO[] tableDTOs =
+        Arrays.stream(tables)
+            .filter(t -> allowedNames.contains(t.name()))
+            .map(DTOConverters::toDTO)
+            .toArray(TableDTO[]::new);
+    LOG.info("List {} table infos under schema: {}", tableDTOs.length, tableNS);
+    return Utils.ok(new TableListResponse(tableDTOs));
+  }
+
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
@@ -189,6 +225,40 @@ public class TableOperations {
     }
   }
 
+  @POST
+  @Path("{table}/refresh")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "refresh-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "refresh-table", absolute = true)
+  @AuthorizationExpression(
+      expression =
+          "ANY(OWNER, METALAKE, CATALOG) || "
+              + "SCHEMA_OWNER_WITH_USE_CATALOG || "
+              + "ANY_USE_CATALOG && ANY_USE_SCHEMA  && (TABLE::OWNER || ANY_SELECT_TABLE|| ANY_MODIFY_TABLE)",
+      accessMetadataType = MetadataObject.Type.TABLE)
+  public Response refreshTable(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @PathParam("table") @AuthorizationMetadata(type = Entity.EntityType.TABLE) String table) {
+    LOG.info(
+        "Received refresh table request for table: {}.{}.{}.{}", metalake, catalog, schema, table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+            Table t = dispatcher.refreshTable(ident);
+            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
+            LOG.info("Table refreshed: {}.{}.{}.{}", metalake, catalog, schema, table);
+            return response;
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e);
+    }
+  }
+
   @PUT
   @Path("{table}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+public class TestHealthServlet {
+
+  @Test
+  public void testReadiness() throws Exception {
+    AtomicBoolean ready = new AtomicBoolean(false);
+    HealthServlet healthServlet = new HealthServlet(ready::get);
+    healthServlet.init();
+
+    HttpServletResponse res = doGet(healthServlet, "/ready");
+    verify(res).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    verify(res.getWriter()).write("{\"status\":\"DOWN\"}");
+
+    // The server is alive even if it's not ready.
+    res = doGet(healthServlet, "/live");
+    verify(res).setStatus(HttpServletResponse.SC_OK);
+    verify(res.getWriter()).write("{\"status\":\"UP\"}");
+
+    ready.set(true);
+    res = doGet(healthServlet, "/ready");
+    verify(res).setStatus(HttpServletResponse.SC_OK);
+    verify(res.getWriter()).write("{\"status\":\"UP\"}");
+
+    res = doGet(healthServlet, "/unknown");
+    verify(res).sendError(HttpServletResponse.SC_NOT_FOUND);
+    healthServlet.destroy();
+  }
+
+  private static HttpServletResponse doGet(HealthServlet healthServlet, String path)
+      throws Exception {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getPathInfo()).thenReturn(path);
+    HttpServletResponse res = mock(HttpServletResponse.class);
+    PrintWriter writer = mock(PrintWriter.class);
+    when(res.getWriter()).thenReturn(writer);
+    healthServlet.doGet(req, res);
+    return res;
+  }
+}
@@ -18,14 +18,18 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
@@ -53,6 +57,7 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.partitions.PartitionPage;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rest.RESTUtils;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
@@ -104,6 +109,7 @@ public class TestPartitionOperations extends JerseyTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -174,6 +180,39 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionPages() {
+    when(dispatcher.listPartitionNames(any(), eq("col1=v1"), isNull(), eq(1)))
+        .thenReturn(PartitionPage.of(ImmutableList.of(partitionNames[0]), partitionNames[0]));
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "col1=v1")
+            .queryParam("limit", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse nameListResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[0]}, nameListResp.partitionNames());
+    Assertions.assertEquals(partitionNames[0], nameListResp.nextPageToken());
+
+    // The last page has no next page token.
+    when(dispatcher.listPartitions(any(), isNull(), eq(partitionNames[0]), eq(Integer.MAX_VALUE)))
+        .thenReturn(PartitionPage.of(ImmutableList.of(partition2), null));
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("details", "true")
+            .queryParam("pageToken", partitionNames[0])
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionListResponse listResp = resp.readEntity(PartitionListResponse.class);
+    Assertions.assertArrayEquals(
+        new Partition[] {DTOConverters.toDTO(partition2)}, listResp.getPartitions());
+    Assertions.assertNull(listResp.getNextPageToken());
+  }
+
   @Test
   public void testListPartitions() {
     when(dispatcher.listPartitions(any())).thenReturn(partitions);